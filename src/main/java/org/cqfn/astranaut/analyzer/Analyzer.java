@@ -23,13 +23,22 @@
  */
 package org.cqfn.astranaut.analyzer;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import org.cqfn.astranaut.core.utils.Pair;
 import org.cqfn.astranaut.dsl.AbstractNodeDescriptor;
 import org.cqfn.astranaut.dsl.ChildDescriptorExt;
 import org.cqfn.astranaut.dsl.NodeDescriptor;
+import org.cqfn.astranaut.dsl.ConversionRule;
 import org.cqfn.astranaut.dsl.NonAbstractNodeDescriptor;
+import org.cqfn.astranaut.dsl.OperatorDescriptor;
+import org.cqfn.astranaut.dsl.OperatorTableDescriptor;
 import org.cqfn.astranaut.dsl.Program;
 import org.cqfn.astranaut.dsl.RegularNodeDescriptor;
 import org.cqfn.astranaut.dsl.ResultingSubtreeDescriptor;
@@ -78,12 +87,9 @@ public class Analyzer {
             final List<TransformationDescriptor> conversions =
                 this.program.getTransformationDescriptorsByLanguage(language);
             this.checkTransformationRules(conversions);
+            this.checkOperatorTables(this.program.getConversionRulesByLanguage(language));
         }
-        for (final Rule rule : this.program.getAllRules()) {
-            if (rule instanceof NonAbstractNodeDescriptor) {
-                Analyzer.addTagsToBaseNodes((NodeDescriptor) rule);
-            }
-        }
+        Analyzer.addTagsToBaseNodes(this.program.getAllRules());
     }
 
     /**
@@ -94,23 +100,27 @@ public class Analyzer {
      */
     private void linkNodes(final Map<String, NodeDescriptor> descriptors)
         throws BaseException {
+        final List<Pair<NodeDescriptor, AbstractNodeDescriptor>> links = new ArrayList<>(0);
         for (final Map.Entry<String, NodeDescriptor> entry : descriptors.entrySet()) {
             final NodeDescriptor descriptor = entry.getValue();
             if (descriptor instanceof AbstractNodeDescriptor) {
-                this.linkAbstractNode((AbstractNodeDescriptor) descriptor);
+                this.linkAbstractNode((AbstractNodeDescriptor) descriptor, links);
             } else if (descriptor instanceof RegularNodeDescriptor) {
                 this.linkRegularNode((RegularNodeDescriptor) descriptor);
             }
         }
+        NodeDescriptor.addBaseDescriptors(links);
     }
 
     /**
-     * Links abstract nodes to their subtypes and base descriptors.
+     * Collects links of abstract nodes to their subtypes and base descriptors.
      * @param descriptor The abstract node descriptor to process
+     * @param links List where links are collected, the key is a node and the value is
+     *  its base descriptor
      * @throws BaseException If the base node or subtype is not defined
      */
-    private void linkAbstractNode(final AbstractNodeDescriptor descriptor)
-        throws BaseException {
+    private void linkAbstractNode(final AbstractNodeDescriptor descriptor,
+        final List<Pair<NodeDescriptor, AbstractNodeDescriptor>> links) throws BaseException {
         for (final String subtype : descriptor.getSubtypes()) {
             final NodeDescriptor subdescr =
                 this.program.getNodeDescriptorByNameAndLanguage(subtype, descriptor.getLanguage());
@@ -127,9 +137,9 @@ public class Analyzer {
             final boolean alien = !subdescr.getLanguage().equals(descriptor.getLanguage());
             final boolean revert = alien && subdescr instanceof AbstractNodeDescriptor;
             if (revert) {
-                descriptor.addBaseDescriptor((AbstractNodeDescriptor) subdescr);
+                links.add(new Pair<>(descriptor, (AbstractNodeDescriptor) subdescr));
             } else {
-                subdescr.addBaseDescriptor(descriptor);
+                links.add(new Pair<>(subdescr, descriptor));
             }
         }
     }
@@ -163,17 +173,48 @@ public class Analyzer {
     }
 
     /**
-     * Recursively adds tags to the base nodes of the given descriptor.
-     *  For each base node descriptor, it merges the tags from the current descriptor
-     *  and then recursively calls this method for the base node.
-     * @param descriptor The node descriptor whose tags will be added to its base nodes.
+     * Adds tags to the base nodes. Each abstract node gets the tags merged from all nodes
+     *  that inherit from it, so the nodes are processed in topological order, from
+     *  descendants to bases, and every node passes its tags to its direct bases exactly once,
+     *  after its own tags are final. Abstract nodes that have no non-abstract descendants
+     *  get no tags.
+     * @param rules All rules of the program
      */
-    private static void addTagsToBaseNodes(final NodeDescriptor descriptor) {
-        final List<AbstractNodeDescriptor> bases = descriptor.getBaseDescriptors();
-        final Map<String, ChildDescriptorExt> tags = descriptor.getTags();
-        for (final AbstractNodeDescriptor base : bases) {
-            base.mergeTags(tags);
-            Analyzer.addTagsToBaseNodes(base);
+    private static void addTagsToBaseNodes(final List<Rule> rules) {
+        final Map<NodeDescriptor, Integer> subtypes = new HashMap<>();
+        for (final Rule rule : rules) {
+            if (rule instanceof NodeDescriptor) {
+                for (final AbstractNodeDescriptor base
+                    : ((NodeDescriptor) rule).getBaseDescriptors()) {
+                    subtypes.merge(base, 1, Integer::sum);
+                }
+            }
+        }
+        final Deque<NodeDescriptor> queue = new ArrayDeque<>();
+        final Set<NodeDescriptor> tagged = new HashSet<>();
+        for (final Rule rule : rules) {
+            if (rule instanceof NodeDescriptor && !subtypes.containsKey(rule)) {
+                queue.add((NodeDescriptor) rule);
+            }
+            if (rule instanceof NonAbstractNodeDescriptor) {
+                tagged.add((NodeDescriptor) rule);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final NodeDescriptor descriptor = queue.poll();
+            final boolean merge = tagged.contains(descriptor);
+            final Map<String, ChildDescriptorExt> tags = descriptor.getTags();
+            for (final AbstractNodeDescriptor base : descriptor.getBaseDescriptors()) {
+                if (merge) {
+                    base.mergeTags(tags);
+                    tagged.add(base);
+                }
+                final int count = subtypes.get(base) - 1;
+                subtypes.put(base, count);
+                if (count == 0) {
+                    queue.add(base);
+                }
+            }
         }
     }
 
@@ -181,13 +222,14 @@ public class Analyzer {
      * Validates a list of transformation descriptors to ensure their right-hand sides are
      *  well-formed. For each descriptor, if the right-hand side is a resulting subtree,
      *  it recursively checks that the type of each node exists in the program and is properly
-     *  defined for the descriptor's language.
+     *  defined for the descriptor's language. Types the rule is scoped to must also be defined.
      * @param descriptors The list of transformation descriptors to validate.
-     * @throws BaseException If any resulting node refers to an undefined type.
+     * @throws BaseException If any resulting node or scope refers to an undefined type.
      */
     private void checkTransformationRules(final List<TransformationDescriptor> descriptors)
         throws BaseException {
         for (final TransformationDescriptor descriptor : descriptors) {
+            this.checkScope(descriptor);
             final RightSideItem right = descriptor.getRight();
             if (right instanceof ResultingSubtreeDescriptor) {
                 this.checkResultingDescriptor(descriptor, (ResultingSubtreeDescriptor) right);
@@ -195,6 +237,69 @@ public class Analyzer {
         }
     }
 
+    /**
+     * Validates the scope of a transformation descriptor, that is, checks that each type
+     *  the rule is restricted to is defined for the descriptor's language.
+     * @param descriptor The transformation descriptor
+     * @throws BaseException If the scope refers to an undefined type
+     */
+    private void checkScope(final TransformationDescriptor descriptor) throws BaseException {
+        for (final String name : descriptor.getScope()) {
+            final NodeDescriptor rule =
+                this.program.getNodeDescriptorByNameAndLanguage(name, descriptor.getLanguage());
+            if (rule == null) {
+                throw new CommonAnalyzerException(
+                    this.locations.get(descriptor),
+                    String.format(
+                        "The rule is scoped to type '%s' which is not defined",
+                        name
+                    )
+                );
+            }
+        }
+    }
+
+    /**
+     * Validates operator tables, that is, checks that the operand type and the types
+     *  of all resulting nodes are defined for the language of the table.
+     * @param rules The list of conversion rules, only operator tables are checked
+     * @throws BaseException If any operand or resulting node refers to an undefined type
+     */
+    private void checkOperatorTables(final List<ConversionRule> rules) throws BaseException {
+        for (final ConversionRule rule : rules) {
+            if (rule instanceof OperatorTableDescriptor) {
+                final OperatorTableDescriptor table = (OperatorTableDescriptor) rule;
+                this.checkOperatorTableType(table, table.getOperand(), "operand");
+                for (final OperatorDescriptor operator : table.getOperators()) {
+                    this.checkOperatorTableType(table, operator.getResult(), "resulting node");
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that a type referenced by an operator table is defined.
+     * @param table The operator table
+     * @param name Name of the type
+     * @param role What the type is used for, for the error message
+     * @throws BaseException If the type is not defined
+     */
+    private void checkOperatorTableType(final OperatorTableDescriptor table, final String name,
+        final String role) throws BaseException {
+        final NodeDescriptor rule =
+            this.program.getNodeDescriptorByNameAndLanguage(name, table.getLanguage());
+        if (rule == null) {
+            throw new CommonAnalyzerException(
+                this.locations.get(table),
+                String.format(
+                    "The %s is of type '%s' which is not defined",
+                    role,
+                    name
+                )
+            );
+        }
+    }
+
     /**
      * Recursively validates a resulting subtree descriptor to ensure all node types are defined.
      *  This method checks whether the specified resulting node type is defined in the program
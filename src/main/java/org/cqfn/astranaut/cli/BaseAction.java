@@ -26,18 +26,36 @@ package org.cqfn.astranaut.cli;
 import guru.nidi.graphviz.engine.GraphvizException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import org.cqfn.astranaut.core.base.Provider;
 import org.cqfn.astranaut.core.base.Tree;
 import org.cqfn.astranaut.core.utils.FilesWriter;
-import org.cqfn.astranaut.core.utils.JsonSerializer;
 import org.cqfn.astranaut.core.utils.TreeVisualizer;
 import org.cqfn.astranaut.core.utils.visualizer.WrongFileExtension;
 import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryTreeReader;
+import org.cqfn.astranaut.io.BinaryTreeWriter;
+import org.cqfn.astranaut.io.JsonTreeReader;
+import org.cqfn.astranaut.io.JsonTreeWriter;
+import org.cqfn.astranaut.io.MalformedInput;
 
 /**
  * Basic methods that are suitable for any action.
  * @since 1.0.0
  */
 class BaseAction {
+    /**
+     * The file name that stands for the standard input or output.
+     */
+    private static final String STDIO = "-";
+
     /**
      * Writes a file.
      * @param file File
@@ -52,13 +70,53 @@ class BaseAction {
         }
     }
 
+    /**
+     * Reads the source tree, either from a JSON file or from a file in the compact
+     *  binary format, depending on the file extension and the options. Both formats
+     *  are read as a stream, without loading the whole file into memory.
+     * @param provider Provider of factories that create nodes
+     * @param options The transformation options including file paths
+     * @return Tree
+     * @throws BaseException If the tree cannot be read
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    protected Tree readTree(final Provider provider, final TransformerArguments options)
+        throws BaseException {
+        final String path = options.getSourceFilePath();
+        final Tree tree;
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            if (BaseAction.isBinaryTreeFile(path, options)) {
+                tree = new BinaryTreeReader(channel, provider).read();
+            } else {
+                tree = new JsonTreeReader(
+                    new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8),
+                    provider
+                ).read();
+            }
+        } catch (final IOException ignored) {
+            throw new CommonCliException(
+                String.format("Can't read source tree from '%s'", path)
+            );
+        } catch (final MalformedInput exception) {
+            throw new CommonCliException(
+                String.format(
+                    "Can't read source tree from '%s': %s",
+                    path,
+                    exception.getErrorMessage()
+                )
+            );
+        }
+        return tree;
+    }
+
     /**
      * Writes the transformation result to a JSON file and/or an image file,
      * based on the provided options.
      * <p>
      *     If the resulting tree path is specified in the options, the method attempts to serialize
-     *     the tree to a JSON file. If serialization fails, a {@link CannotWriteFile}
-     *     exception is thrown.
+     *     the tree to a JSON file, or to a file in the compact binary format if the file
+     *     extension or the options say so. The path {@code -} stands for the standard output.
+     *     If serialization fails, a {@link CannotWriteFile} exception is thrown.
      * </p>
      * <p>
      *     If the resulting image path is specified, the method attempts to generate
@@ -74,11 +132,24 @@ class BaseAction {
     protected void writeTransformationResult(final Tree tree, final TransformerArguments options)
         throws BaseException {
         this.getClass();
-        if (!options.getResultingTreePath().isEmpty()) {
-            final JsonSerializer serializer = new JsonSerializer(tree);
-            final boolean flag = serializer.serializeToFile(options.getResultingTreePath());
-            if (!flag) {
-                throw new CannotWriteFile(options.getResultingTreePath());
+        final String path = options.getResultingTreePath();
+        if (BaseAction.STDIO.equals(path)) {
+            try {
+                BaseAction.writeTree(tree, Channels.newChannel(System.out), options);
+                System.out.flush();
+            } catch (final IOException ignored) {
+                throw new CannotWriteFile("stdout");
+            }
+        } else if (!path.isEmpty()) {
+            try (FileChannel channel = FileChannel.open(
+                Paths.get(path),
+                StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING
+            )) {
+                BaseAction.writeTree(tree, channel, options);
+            } catch (final IOException ignored) {
+                throw new CannotWriteFile(path);
             }
         }
         if (!options.getResultingImagePath().isEmpty()) {
@@ -93,6 +164,38 @@ class BaseAction {
         }
     }
 
+    /**
+     * Writes a tree to a channel, in the compact binary format or in JSON format
+     *  (indented or compact), depending on the file extension and the options.
+     * @param tree The tree to be written
+     * @param channel Channel
+     * @param options The transformation output options
+     * @throws IOException If the channel can't be written
+     */
+    static void writeTree(final Tree tree, final WritableByteChannel channel,
+        final TransformerArguments options) throws IOException {
+        if (BaseAction.isBinaryTreeFile(options.getResultingTreePath(), options)) {
+            new BinaryTreeWriter(channel).write(tree);
+        } else {
+            new JsonTreeWriter(channel, !options.isCompact()).write(tree);
+        }
+    }
+
+    /**
+     * Checks whether a tree file is in the compact binary format. Files with
+     *  the {@code .atree} extension are always binary, files with the {@code .json} extension
+     *  are never binary, other files are binary if the {@code --binary} option is specified.
+     * @param path Path to the file
+     * @param options The transformation options
+     * @return Checking result
+     */
+    private static boolean isBinaryTreeFile(final String path,
+        final TransformerArguments options) {
+        final String lowercase = path.toLowerCase(Locale.ENGLISH);
+        return lowercase.endsWith(".atree")
+            || !lowercase.endsWith(".json") && options.isBinary();
+    }
+
     /**
      * Exception 'Cannot write file'.
      * @since 1.0.0
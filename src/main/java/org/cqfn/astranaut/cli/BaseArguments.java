@@ -47,7 +47,7 @@ class BaseArguments {
                 break;
             }
             value = iterator.next();
-            if (value.charAt(0) == '-') {
+            if (value.charAt(0) == '-' && !"-".equals(value)) {
                 break;
             }
             oops = false;
@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryInput;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.io.MalformedInput;
+
+/**
+ * Thin client that sends a {@code parse} or {@code transform} request to the server
+ *  and saves the resulting tree to a file or prints it to the standard output.
+ *  The request is preceded by the token of the server, read from the token file.
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.PreserveStackTrace")
+final class Client {
+    /**
+     * Private constructor.
+     */
+    private Client() {
+    }
+
+    /**
+     * Parses command line parameters, sends the request and saves the result.
+     * @param args Command line parameters: the name of the action, the file containing
+     *  the DSL program and the options of the action
+     * @throws BaseException If the request can't be sent or performed, or the result
+     *  can't be saved
+     */
+    static void send(final List<String> args) throws BaseException {
+        final ClientArguments options = new ClientArguments();
+        options.parse(args);
+        final byte[] result = Client.request(options);
+        final String path = options.getResultingTreePath();
+        if (path.isEmpty() || "-".equals(path)) {
+            try {
+                System.out.write(result);
+                System.out.flush();
+            } catch (final IOException ignored) {
+                throw new BaseAction.CannotWriteFile("stdout");
+            }
+        } else {
+            try (OutputStream stream = Files.newOutputStream(Paths.get(path))) {
+                stream.write(result);
+            } catch (final IOException ignored) {
+                throw new BaseAction.CannotWriteFile(path);
+            }
+        }
+    }
+
+    /**
+     * Sends the request to the server and receives the response.
+     * @param options Parsed command line parameters
+     * @return Resulting tree
+     * @throws BaseException If the request can't be sent or performed
+     */
+    private static byte[] request(final ClientArguments options) throws BaseException {
+        final String token;
+        try {
+            token = ServerToken.read(options.getTokenFolder(), options.getPort());
+        } catch (final IOException ignored) {
+            throw new CommonCliException(
+                String.format(
+                    "Can't read the token of the server on port %d from '%s'",
+                    options.getPort(),
+                    options.getTokenFolder()
+                )
+            );
+        }
+        final byte[] result;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), options.getPort())) {
+            final BinaryOutput output = new BinaryOutput(
+                Channels.newChannel(socket.getOutputStream())
+            );
+            output.writeString(token);
+            output.writeString(options.getAction());
+            output.writeString(options.getProgram());
+            final List<String> forwarded = options.getForwardedArguments();
+            output.writeVarInt(forwarded.size());
+            for (final String arg : forwarded) {
+                output.writeString(arg);
+            }
+            output.flush();
+            final BinaryInput input = new BinaryInput(
+                Channels.newChannel(socket.getInputStream())
+            );
+            if (input.readByte() != Server.SUCCESS) {
+                throw new CommonCliException(input.readString());
+            }
+            result = input.readBytes();
+        } catch (final IOException | MalformedInput ignored) {
+            throw new CommonCliException(
+                String.format(
+                    "Can't get a response from the server on port %d",
+                    options.getPort()
+                )
+            );
+        }
+        return result;
+    }
+}
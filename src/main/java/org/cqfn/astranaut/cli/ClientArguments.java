@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Parses command line arguments for the client of the server. Paths to input files
+ *  are made absolute, since the server may run in another working directory.
+ * @since 1.0.0
+ */
+public final class ClientArguments extends BaseArguments {
+    /**
+     * Name of the action to be performed by the server.
+     */
+    private String action;
+
+    /**
+     * Absolute path to the file containing the DSL program.
+     */
+    private String program;
+
+    /**
+     * Port of the server on the loopback interface.
+     */
+    private int port;
+
+    /**
+     * The name of the file into which the resulting tree is saved.
+     */
+    private String tree;
+
+    /**
+     * Folder containing the token file of the server.
+     */
+    private Path token;
+
+    /**
+     * Arguments of the action that are forwarded to the server.
+     */
+    private final List<String> forwarded;
+
+    /**
+     * Constructor.
+     */
+    public ClientArguments() {
+        this.action = "";
+        this.program = "";
+        this.port = ServerArguments.DEFAULT_PORT;
+        this.tree = "";
+        this.token = ServerToken.getDefaultFolder();
+        this.forwarded = new ArrayList<>(8);
+    }
+
+    /**
+     * Parses command line parameters: the name of the action, the file containing the DSL
+     *  program, and then the options of the action.
+     * @param args List of parameters
+     * @throws CliException If parsing failed
+     */
+    public void parse(final List<String> args) throws CliException {
+        if (args.size() < 2) {
+            throw new CommonCliException(
+                "An action and a file with a DSL program are expected"
+            );
+        }
+        this.action = args.get(0);
+        this.program = ClientArguments.toAbsolutePath(args.get(1));
+        final Iterator<String> iterator = args.subList(2, args.size()).iterator();
+        while (iterator.hasNext()) {
+            final String arg = iterator.next();
+            switch (arg) {
+                case "--port":
+                    this.port = ServerArguments.parsePort(this.parseString(arg, iterator));
+                    break;
+                case "--token-dir":
+                    this.token = Paths.get(this.parseString(arg, iterator));
+                    break;
+                case "--source":
+                case "-s":
+                case "--tokens":
+                case "-k":
+                    this.forwarded.add(arg);
+                    this.forwarded.add(
+                        ClientArguments.toAbsolutePath(this.parseString(arg, iterator))
+                    );
+                    break;
+                case "--ast":
+                case "-t":
+                    this.tree = this.parseString(arg, iterator);
+                    this.forwarded.add(arg);
+                    this.forwarded.add(this.tree);
+                    break;
+                default:
+                    this.forwarded.add(arg);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the action to be performed by the server.
+     * @return Action name
+     */
+    public String getAction() {
+        return this.action;
+    }
+
+    /**
+     * Returns the absolute path to the file containing the DSL program.
+     * @return File name
+     */
+    public String getProgram() {
+        return this.program;
+    }
+
+    /**
+     * Returns the port of the server on the loopback interface.
+     * @return Port number
+     */
+    public int getPort() {
+        return this.port;
+    }
+
+    /**
+     * Returns the folder containing the token file of the server.
+     * @return Path to the folder
+     */
+    public Path getTokenFolder() {
+        return this.token;
+    }
+
+    /**
+     * Returns the name of the file into which the resulting tree is saved.
+     * @return File name, or an empty string or {@code -} for the standard output
+     */
+    public String getResultingTreePath() {
+        return this.tree;
+    }
+
+    /**
+     * Returns the arguments of the action that are forwarded to the server.
+     * @return List of arguments
+     */
+    public List<String> getForwardedArguments() {
+        return Collections.unmodifiableList(this.forwarded);
+    }
+
+    /**
+     * Converts a path to an absolute one.
+     * @param path Path
+     * @return Absolute path
+     */
+    private static String toAbsolutePath(final String path) {
+        return Paths.get(path).toAbsolutePath().toString();
+    }
+}
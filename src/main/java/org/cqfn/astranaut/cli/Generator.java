@@ -28,6 +28,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -36,17 +37,25 @@ import java.util.Map;
 import java.util.Set;
 import org.cqfn.astranaut.codegen.java.CompilationUnit;
 import org.cqfn.astranaut.codegen.java.Context;
+import org.cqfn.astranaut.codegen.java.DispatchingTransformerGenerator;
 import org.cqfn.astranaut.codegen.java.FactoryGenerator;
+import org.cqfn.astranaut.codegen.java.KindedNodeGenerator;
 import org.cqfn.astranaut.codegen.java.Klass;
 import org.cqfn.astranaut.codegen.java.LeftSideGenerationContext;
 import org.cqfn.astranaut.codegen.java.License;
+import org.cqfn.astranaut.codegen.java.NodeClasses;
 import org.cqfn.astranaut.codegen.java.Package;
 import org.cqfn.astranaut.codegen.java.PackageInfo;
 import org.cqfn.astranaut.codegen.java.ProviderGenerator;
 import org.cqfn.astranaut.codegen.java.RuleGenerator;
 import org.cqfn.astranaut.codegen.java.TransformerGenerator;
+import org.cqfn.astranaut.codegen.java.VisitorGenerator;
+import org.cqfn.astranaut.dsl.ConversionRule;
+import org.cqfn.astranaut.dsl.DispatchTableDescriptor;
 import org.cqfn.astranaut.dsl.LeftSideItem;
 import org.cqfn.astranaut.dsl.NodeDescriptor;
+import org.cqfn.astranaut.dsl.OperatorDescriptor;
+import org.cqfn.astranaut.dsl.OperatorTableDescriptor;
 import org.cqfn.astranaut.dsl.Program;
 import org.cqfn.astranaut.dsl.TransformationDescriptor;
 import org.cqfn.astranaut.exceptions.BaseException;
@@ -86,6 +95,11 @@ public final class Generator extends BaseAction {
      */
     private TransformerGenerator transformers;
 
+    /**
+     * Classes and interfaces generated for node descriptors.
+     */
+    private NodeClasses classes;
+
     /**
      * Constructor.
      * @param options Parsed command line options.
@@ -124,6 +138,7 @@ public final class Generator extends BaseAction {
                 )
             );
         }
+        this.classes = new NodeClasses(program, this.basepkg);
         final Map<String, Klass> matchers = this.generateMatchersIfAny(program);
         this.factories = new FactoryGenerator(program);
         this.transformers = new TransformerGenerator(program);
@@ -151,6 +166,25 @@ public final class Generator extends BaseAction {
             new File(this.root.toString(), provider.getFileName()),
             provider.generateJavaCode()
         );
+        if (!this.classes.isEmpty()) {
+            final CompilationUnit marker = new KindedNodeGenerator().createUnit(context);
+            this.writeFile(
+                new File(this.root.toString(), marker.getFileName()),
+                marker.generateJavaCode()
+            );
+        }
+        if (!program.getAllConversionRules().isEmpty()) {
+            final DispatchingTransformerGenerator base = new DispatchingTransformerGenerator(
+                program.getAllTransformationDescriptors().stream()
+                    .anyMatch(TransformationDescriptor::isScoped)
+            );
+            for (final CompilationUnit unit : base.createUnits(context)) {
+                this.writeFile(
+                    new File(this.root.toString(), unit.getFileName()),
+                    unit.generateJavaCode()
+                );
+            }
+        }
     }
 
     /**
@@ -180,9 +214,13 @@ public final class Generator extends BaseAction {
         cct.setLicense(this.license);
         cct.setPackage(pkg);
         cct.setVersion(this.options.getVersion());
+        cct.setNodeClasses(this.classes);
         final Context context = cct.createContext();
         final CompilationUnit factory = this.factories.createUnit(language, context);
         this.writeFile(new File(folder, factory.getFileName()), factory.generateJavaCode());
+        for (final CompilationUnit unit : new VisitorGenerator().createUnits(language, context)) {
+            this.writeFile(new File(folder, unit.getFileName()), unit.generateJavaCode());
+        }
         for (final NodeDescriptor rule : program.getNodeDescriptorsByLanguage(language).values()) {
             final RuleGenerator generator = rule.createGenerator();
             final Set<CompilationUnit> units = generator.createUnits(context);
@@ -193,17 +231,17 @@ public final class Generator extends BaseAction {
     }
 
     /**
-     * Generates matchers if there are transformation descriptors in the given program.
-     *  This method retrieves all transformation descriptors from the program and,
+     * Generates matchers if there are conversion rules in the given program.
+     *  This method retrieves all conversion rules from the program and,
      *  if any exist, invokes {@link #generateMatchers(List)} to generate the matchers.
-     *  If no transformation descriptors are found, an empty map is returned.
-     * @param program The program containing transformation descriptors
+     *  If no conversion rules are found, an empty map is returned.
+     * @param program The program containing conversion rules
      * @return A map of matcher classes mapped to their textual representations.
      *  If no matchers are generated, returns an empty map
      * @throws BaseException If an error occurs during matcher generation
      */
     private Map<String, Klass> generateMatchersIfAny(final Program program) throws BaseException {
-        final List<TransformationDescriptor> rules = program.getAllTransformationDescriptors();
+        final List<ConversionRule> rules = program.getAllConversionRules();
         final Map<String, Klass> matchers;
         if (rules.isEmpty()) {
             matchers = Collections.emptyMap();
@@ -214,12 +252,12 @@ public final class Generator extends BaseAction {
     }
 
     /**
-     * Generates matcher classes based on the given transformation descriptors.
-     * @param rules The list of transformation descriptors for which matchers are generated
+     * Generates matcher classes based on the given conversion rules.
+     * @param rules The list of conversion rules for which matchers are generated
      * @return A map of matcher classes mapped to their textual representations
      * @throws BaseException If an error occurs during file writing or matcher generation
      */
-    private Map<String, Klass> generateMatchers(final List<TransformationDescriptor> rules)
+    private Map<String, Klass> generateMatchers(final List<ConversionRule> rules)
         throws BaseException {
         final Package pkg = this.basepkg.getSubpackage("common.matchers");
         final File folder = this.root.resolve("common/matchers").toFile();
@@ -231,9 +269,9 @@ public final class Generator extends BaseAction {
         );
         info.setVersion(this.options.getVersion());
         this.writeFile(new File(folder, "package-info.java"), info.generateJavaCode());
-        final LeftSideGenerationContext context = new LeftSideGenerationContext();
-        for (final TransformationDescriptor rule : rules) {
-            for (final LeftSideItem item : rule.getLeft()) {
+        final LeftSideGenerationContext context = new LeftSideGenerationContext(this.classes);
+        for (final ConversionRule rule : rules) {
+            for (final LeftSideItem item : Generator.getPatterns(rule)) {
                 item.generateMatcher(context);
             }
         }
@@ -264,8 +302,7 @@ public final class Generator extends BaseAction {
      */
     private void generateTransformationsIfAny(final Program program, final String language,
         final Map<String, Klass> matchers) throws BaseException {
-        final List<TransformationDescriptor> rules =
-            program.getTransformationDescriptorsByLanguage(language);
+        final List<ConversionRule> rules = program.getConversionRulesByLanguage(language);
         if (!rules.isEmpty()) {
             this.generateTransformations(rules, language, matchers);
         }
@@ -279,7 +316,7 @@ public final class Generator extends BaseAction {
      * @throws BaseException If files cannot be generated
      */
     private void generateTransformations(
-        final List<TransformationDescriptor> rules, final String language,
+        final List<ConversionRule> rules, final String language,
         final Map<String, Klass> matchers) throws BaseException {
         final Package pkg = this.basepkg.getSubpackage(language, "rules");
         final File folder = this.root.resolve(String.format("%s/rules", language)).toFile();
@@ -302,13 +339,14 @@ public final class Generator extends BaseAction {
         cct.setPackage(pkg);
         cct.setVersion(this.options.getVersion());
         cct.setMatchers(matchers);
+        cct.setNodeClasses(this.classes);
         final Context context = cct.createContext();
         final CompilationUnit transformer = this.transformers.createUnit(language, context);
         this.writeFile(
             new File(folder, transformer.getFileName()),
             transformer.generateJavaCode()
         );
-        for (final TransformationDescriptor rule : rules) {
+        for (final ConversionRule rule : rules) {
             final RuleGenerator generator = rule.createGenerator();
             final Set<CompilationUnit> units = generator.createUnits(context);
             for (final CompilationUnit unit : units) {
@@ -316,4 +354,29 @@ public final class Generator extends BaseAction {
             }
         }
     }
+
+    /**
+     * Returns the patterns of a conversion rule for which matchers are needed.
+     * @param rule Conversion rule
+     * @return List of left side items
+     */
+    private static List<LeftSideItem> getPatterns(final ConversionRule rule) {
+        final List<LeftSideItem> list;
+        if (rule instanceof TransformationDescriptor) {
+            list = ((TransformationDescriptor) rule).getLeft();
+        } else if (rule instanceof DispatchTableDescriptor) {
+            list = new ArrayList<>(0);
+            for (final TransformationDescriptor member
+                : ((DispatchTableDescriptor) rule).getRules()) {
+                list.addAll(member.getLeft());
+            }
+        } else {
+            list = new ArrayList<>(0);
+            for (final OperatorDescriptor operator
+                : ((OperatorTableDescriptor) rule).getOperators()) {
+                list.add(operator.getPattern());
+            }
+        }
+        return list;
+    }
 }
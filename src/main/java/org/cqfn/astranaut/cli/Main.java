@@ -24,10 +24,15 @@
 package org.cqfn.astranaut.cli;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.cqfn.astranaut.analyzer.Analyzer;
 import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.dsl.RuleFusion;
+import org.cqfn.astranaut.dsl.RuleGrouping;
 import org.cqfn.astranaut.exceptions.BaseException;
 import org.cqfn.astranaut.parser.DslReader;
 import org.cqfn.astranaut.parser.ProgramParser;
@@ -77,25 +82,105 @@ public final class Main {
         if (args.length == 0) {
             throw new CommonCliException("Parameters are not specified");
         }
+        final List<String> rest = Arrays.asList(args).subList(1, args.length);
+        if (args[0].equals("serve")) {
+            Server.launch(rest);
+        } else if (args[0].equals("client")) {
+            Client.send(rest);
+        } else {
+            Main.perform(args[0], rest);
+        }
+    }
+
+    /**
+     * Reads, parses and analyzes a DSL program, and then prepares its rules for interpretation.
+     * @param path Path to the file with the DSL program
+     * @param fusion Flag indicating that chained rules are fused
+     * @param cache Flag indicating that the parsed program is taken from the on-disk cache
+     *  if it is there and is put there otherwise
+     * @return Program
+     * @throws BaseException If the program can't be read or contains errors
+     */
+    static Program loadProgram(final String path, final boolean fusion, final boolean cache)
+        throws BaseException {
+        return Main.loadProgram(path, fusion, cache, new TreeSet<>());
+    }
+
+    /**
+     * Reads, parses and analyzes a DSL program, prepares its rules for interpretation
+     *  and collects the names of the files the program is built from.
+     * @param path Path to the file with the DSL program
+     * @param fusion Flag indicating that chained rules are fused
+     * @param cache Flag indicating that the parsed program is taken from the on-disk cache
+     *  if it is there and is put there otherwise
+     * @param files Set to which the absolute names of all files the program is built from
+     *  (the main file and the imported ones) are added
+     * @return Program
+     * @throws BaseException If the program can't be read or contains errors
+     */
+    static Program loadProgram(final String path, final boolean fusion, final boolean cache,
+        final Set<String> files) throws BaseException {
+        final Program program;
+        if (cache) {
+            program = new ProgramStore(ProgramStore.getDefaultFolder()).load(path, files);
+        } else {
+            final DslReader reader = new DslReader();
+            reader.readFile(path);
+            program = Main.parseProgram(reader);
+            files.addAll(reader.getFiles());
+        }
+        final Program fused;
+        if (fusion) {
+            fused = new RuleFusion(program).apply();
+        } else {
+            fused = program;
+        }
+        return new RuleGrouping(fused).apply();
+    }
+
+    /**
+     * Parses and analyzes a DSL program.
+     * @param reader Reader of the file with the DSL program
+     * @return Analyzed program
+     * @throws BaseException If the program contains errors
+     */
+    static Program parseProgram(final DslReader reader) throws BaseException {
+        final ProgramParser parser = new ProgramParser();
+        final Program program = parser.parse(reader);
+        final Analyzer analyzer = new Analyzer(program, parser.getLocations());
+        analyzer.analyze();
+        return program;
+    }
+
+    /**
+     * Performs an action that requires a DSL program.
+     * @param name Name of the action
+     * @param args Arguments of the action, starting with the file with the DSL program
+     * @throws BaseException An exception that occurred while the action was performed
+     */
+    private static void perform(final String name, final List<String> args)
+        throws BaseException {
         final Action action;
-        if (args[0].equals("generate")) {
+        if (name.equals("generate")) {
             action = new Generate();
-        } else if (args[0].equals("parse")) {
+        } else if (name.equals("parse")) {
             action = Parse.INSTANCE;
-        } else if (args[0].equals("transform")) {
+        } else if (name.equals("transform")) {
             action = Transform.INSTANCE;
+        } else if (name.equals("convert")) {
+            action = Convert.INSTANCE;
         } else {
-            throw new CommonCliException(String.format("Unknown action: '%s'", args[0]));
+            throw new CommonCliException(String.format("Unknown action: '%s'", name));
         }
-        if (args.length < 2) {
+        if (args.isEmpty()) {
             throw new CommonCliException("A file with a DSL program is not specified");
         }
-        final DslReader reader = new DslReader();
-        reader.readFile(args[1]);
-        final ProgramParser parser = new ProgramParser();
-        final Program program = parser.parse(reader);
-        final Analyzer analyzer = new Analyzer(program, parser.getLocations());
-        analyzer.analyze();
-        action.perform(program, Arrays.asList(args).subList(2, args.length));
+        final List<String> options = args.subList(1, args.size());
+        final Program program = Main.loadProgram(
+            args.get(0),
+            !options.contains("--no-fusion"),
+            !options.contains("--no-cache")
+        );
+        action.perform(program, options);
     }
 }
@@ -23,17 +23,32 @@
  */
 package org.cqfn.astranaut.cli;
 
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
+import java.util.Locale;
+import org.cqfn.astranaut.core.base.Provider;
 import org.cqfn.astranaut.core.base.Transformer;
 import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.core.utils.FilesReader;
 import org.cqfn.astranaut.core.utils.parsing.FileSource;
 import org.cqfn.astranaut.dsl.Program;
 import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryTokenReader;
+import org.cqfn.astranaut.io.JsonLinesTokenReader;
+import org.cqfn.astranaut.io.TokenReader;
+import org.cqfn.astranaut.io.TokenStream;
 
 /**
  * Parses source code using the described rules.
  * @since 1.0.0
  */
+@SuppressWarnings("PMD.PreserveStackTrace")
 public final class Parse extends BaseAction implements Action {
     /**
      * The instance.
@@ -50,10 +65,70 @@ public final class Parse extends BaseAction implements Action {
     public void perform(final Program program, final List<String> args) throws BaseException {
         final TransformerArguments options = new TransformerArguments();
         options.parse(args);
-        final FileSource source = new FileSource(options.getSourceFilePath());
-        final Tree before = source.parseIntoTree();
+        final Tree before = Parse.createTree(program, options);
         final Transformer transformer = program.getTransformer(options.getLanguage());
         final Tree after = transformer.transform(before);
         this.writeTransformationResult(after, options);
     }
+
+    /**
+     * Creates the initial (degenerate) tree to be transformed: either a tree with one leaf node
+     *  per character of the source text, or a tree with one leaf node per token if tokens
+     *  produced by an external lexer are specified.
+     * @param provider Provider of factories that create nodes
+     * @param options Command line options
+     * @return Tree
+     * @throws BaseException If the source text or the tokens can't be read
+     */
+    static Tree createTree(final Provider provider, final TransformerArguments options)
+        throws BaseException {
+        final Tree tree;
+        if (options.getTokensFilePath().isEmpty()) {
+            final FileSource source = new FileSource(options.getSourceFilePath());
+            tree = source.parseIntoTree();
+        } else {
+            tree = Parse.parseTokens(provider, options);
+        }
+        return tree;
+    }
+
+    /**
+     * Reads tokens produced by an external lexer and turns them into a tree.
+     *  Files with the {@code .jsonl} or {@code .json} extension are read in the JSON-lines
+     *  format, other files are read in the binary token format.
+     * @param provider Provider of factories that create nodes
+     * @param options Command line options
+     * @return Tree with one leaf node per token
+     * @throws BaseException If the tokens or the source text can't be read
+     */
+    private static Tree parseTokens(final Provider provider, final TransformerArguments options)
+        throws BaseException {
+        final String path = options.getTokensFilePath();
+        String text = null;
+        if (!options.getSourceFilePath().isEmpty()) {
+            text = new FilesReader(options.getSourceFilePath()).readAsString(
+                (FilesReader.CustomExceptionCreator<BaseException>) () -> new CommonCliException(
+                    String.format("Can't read source text from '%s'", options.getSourceFilePath())
+                )
+            );
+        }
+        final String lowercase = path.toLowerCase(Locale.ENGLISH);
+        final Tree tree;
+        try (FileChannel channel = FileChannel.open(Paths.get(path), StandardOpenOption.READ)) {
+            final TokenReader reader;
+            if (lowercase.endsWith(".jsonl") || lowercase.endsWith(".json")) {
+                reader = new JsonLinesTokenReader(
+                    new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8)
+                );
+            } else {
+                reader = new BinaryTokenReader(channel);
+            }
+            tree = new TokenStream(reader, text).parseIntoTree(
+                provider.getFactory(options.getLanguage())
+            );
+        } catch (final IOException ignored) {
+            throw new CommonCliException(String.format("Can't read tokens from '%s'", path));
+        }
+        return tree;
+    }
 }
@@ -0,0 +1,298 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cqfn.astranaut.core.base.Provider;
+import org.cqfn.astranaut.core.base.Transformer;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.io.BinaryInput;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.io.BinaryTreeReader;
+import org.cqfn.astranaut.io.BinaryTreeWriter;
+import org.cqfn.astranaut.io.JsonTreeReader;
+import org.cqfn.astranaut.io.JsonTreeWriter;
+import org.cqfn.astranaut.io.MalformedInput;
+
+/**
+ * Transforms a stream of trees: reads records from the input, transforms each of them
+ *  with the same transformer and writes the results to the output in the order of the input.
+ *  Records are either lines containing a tree in JSON format, or frames containing a tree
+ *  in the compact binary format (the length of the frame as a variable-length integer
+ *  followed by the bytes). Reading, transforming and writing run in parallel: one thread reads
+ *  records, a pool of threads decodes, transforms and encodes them, and the calling thread
+ *  writes the results. A record that can't be decoded produces an error line
+ *  ({@code {"error":"..."}}) or an error frame (the signature {@code AERR} followed by
+ *  the message as a string), so the output always has one result per record.
+ * @since 1.0.0
+ */
+final class Pipeline {
+    /**
+     * Signature of error frames in the compact binary format.
+     */
+    static final String ERROR_SIGNATURE = "AERR";
+
+    /**
+     * Maximum number of records being processed at the same time, per thread.
+     */
+    private static final int RECORDS_PER_THREAD = 4;
+
+    /**
+     * Size of the output buffer for records in JSON format.
+     */
+    private static final int BUFFER_SIZE = 65_536;
+
+    /**
+     * Marker of the end of the input.
+     */
+    private static final Future<byte[]> END = CompletableFuture.completedFuture(null);
+
+    /**
+     * Provider of factories that create nodes.
+     */
+    private final Provider provider;
+
+    /**
+     * Transformer.
+     */
+    private final Transformer transformer;
+
+    /**
+     * Flag indicating that records are in the compact binary format.
+     */
+    private final boolean binary;
+
+    /**
+     * Number of threads that transform trees.
+     */
+    private final int threads;
+
+    /**
+     * Exception thrown while reading the input, if any.
+     */
+    private volatile IOException failure;
+
+    /**
+     * Constructor.
+     * @param provider Provider of factories that create nodes
+     * @param transformer Transformer
+     * @param binary Flag indicating that records are in the compact binary format
+     * @param threads Number of threads that transform trees
+     */
+    Pipeline(final Provider provider, final Transformer transformer, final boolean binary,
+        final int threads) {
+        this.provider = new SynchronizedProvider(provider);
+        this.transformer = transformer;
+        this.binary = binary;
+        this.threads = threads;
+    }
+
+    /**
+     * Transforms all records of the input and writes the results to the output.
+     *  Neither the input nor the output is closed.
+     * @param input Input stream
+     * @param output Output stream
+     * @throws IOException If the input can't be read or the output can't be written
+     */
+    void run(final InputStream input, final OutputStream output) throws IOException {
+        final ExecutorService pool = Executors.newFixedThreadPool(this.threads);
+        final BlockingQueue<Future<byte[]>> queue =
+            new ArrayBlockingQueue<>(this.threads * Pipeline.RECORDS_PER_THREAD);
+        final Thread reader = new Thread(() -> this.readRecords(input, pool, queue));
+        reader.setDaemon(true);
+        reader.start();
+        try {
+            this.writeResults(queue, output);
+        } finally {
+            pool.shutdownNow();
+        }
+        if (this.failure != null) {
+            throw this.failure;
+        }
+    }
+
+    /**
+     * Reads records from the input and submits them to the pool. Futures of the results are
+     *  put into the queue in the order of the input, the end marker is put last.
+     * @param input Input stream
+     * @param pool Pool of threads that transform trees
+     * @param queue Queue of results
+     */
+    private void readRecords(final InputStream input, final ExecutorService pool,
+        final BlockingQueue<Future<byte[]>> queue) {
+        try {
+            try {
+                if (this.binary) {
+                    final BinaryInput frames = new BinaryInput(Channels.newChannel(input));
+                    while (frames.hasMore()) {
+                        final byte[] frame = frames.readBytes();
+                        queue.put(pool.submit(() -> this.processFrame(frame)));
+                    }
+                } else {
+                    final BufferedReader lines = new BufferedReader(
+                        new InputStreamReader(input, StandardCharsets.UTF_8)
+                    );
+                    String line = lines.readLine();
+                    while (line != null) {
+                        final String record = line;
+                        if (!record.trim().isEmpty()) {
+                            queue.put(pool.submit(() -> this.processLine(record)));
+                        }
+                        line = lines.readLine();
+                    }
+                }
+            } catch (final IOException exception) {
+                this.failure = exception;
+            } catch (final MalformedInput exception) {
+                this.failure = new IOException(exception.getErrorMessage());
+            }
+            queue.put(Pipeline.END);
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Takes results from the queue in the order of the input and writes them to the output.
+     * @param queue Queue of results
+     * @param output Output stream
+     * @throws IOException If the output can't be written
+     */
+    private void writeResults(final BlockingQueue<Future<byte[]>> queue,
+        final OutputStream output) throws IOException {
+        final BinaryOutput frames = new BinaryOutput(Channels.newChannel(output));
+        final OutputStream lines = new BufferedOutputStream(output, Pipeline.BUFFER_SIZE);
+        try {
+            Future<byte[]> future = queue.take();
+            while (future != Pipeline.END) {
+                byte[] result;
+                try {
+                    result = future.get();
+                } catch (final ExecutionException exception) {
+                    result = this.createError(String.valueOf(exception.getCause()));
+                }
+                if (this.binary) {
+                    frames.writeBytes(result);
+                } else {
+                    lines.write(result);
+                    lines.write('\n');
+                }
+                if (queue.isEmpty()) {
+                    frames.flush();
+                    lines.flush();
+                }
+                future = queue.take();
+            }
+        } catch (final InterruptedException ignored) {
+            Thread.currentThread().interrupt();
+        }
+        frames.flush();
+        lines.flush();
+    }
+
+    /**
+     * Transforms a tree stored in JSON format.
+     * @param line JSON code of the tree
+     * @return JSON code of the transformed tree, or an error record
+     * @throws IOException If the tree can't be encoded
+     */
+    private byte[] processLine(final String line) throws IOException {
+        byte[] result;
+        try {
+            final Tree tree = new JsonTreeReader(new StringReader(line), this.provider).read();
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream(line.length());
+            new JsonTreeWriter(Channels.newChannel(stream), false)
+                .write(this.transformer.transform(tree));
+            result = stream.toByteArray();
+        } catch (final MalformedInput exception) {
+            result = this.createError(exception.getErrorMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Transforms a tree stored in the compact binary format.
+     * @param frame Bytes of the tree
+     * @return Bytes of the transformed tree, or an error record
+     * @throws IOException If the tree can't be encoded
+     */
+    private byte[] processFrame(final byte[] frame) throws IOException {
+        byte[] result;
+        try {
+            final Tree tree = new BinaryTreeReader(
+                Channels.newChannel(new ByteArrayInputStream(frame)),
+                this.provider
+            ).read();
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream(frame.length);
+            new BinaryTreeWriter(Channels.newChannel(stream))
+                .write(this.transformer.transform(tree));
+            result = stream.toByteArray();
+        } catch (final MalformedInput exception) {
+            result = this.createError(exception.getErrorMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Creates a record reporting that a tree could not be processed.
+     * @param message Error message
+     * @return Error line in JSON format, or an error frame in the compact binary format
+     * @throws IOException If the frame can't be encoded
+     */
+    private byte[] createError(final String message) throws IOException {
+        final byte[] result;
+        if (this.binary) {
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream(message.length() + 8);
+            final BinaryOutput output = new BinaryOutput(Channels.newChannel(stream));
+            for (final char chr : Pipeline.ERROR_SIGNATURE.toCharArray()) {
+                output.writeByte(chr);
+            }
+            output.writeString(message);
+            output.flush();
+            result = stream.toByteArray();
+        } else {
+            result = String.format("{\"error\":\"%s\"}", JsonTreeWriter.escape(message))
+                .getBytes(StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.File;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import org.cqfn.astranaut.core.base.Provider;
+import org.cqfn.astranaut.exceptions.BaseException;
+
+/**
+ * Cache of DSL programs loaded by the server. A program is loaded once and then reused
+ *  until the modification time of its file or of any file it imports changes.
+ *  The map only holds a task per program: the task is put into the map under its lock,
+ *  but runs after the lock is released, in the thread that requested the program first.
+ *  Other threads requesting the same program wait for that task, while requests that use
+ *  other programs are not blocked by a long reload. A failed load is not kept and is
+ *  repeated at the next request.
+ * @since 1.0.0
+ */
+final class ProgramCache {
+    /**
+     * Flag indicating that chained rules are fused.
+     */
+    private final boolean fusion;
+
+    /**
+     * Flag indicating that the on-disk cache of parsed programs is used.
+     */
+    private final boolean store;
+
+    /**
+     * Tasks that load programs, by absolute path.
+     */
+    private final ConcurrentMap<String, FutureTask<Entry>> entries;
+
+    /**
+     * Constructor.
+     * @param fusion Flag indicating that chained rules are fused
+     * @param store Flag indicating that the on-disk cache of parsed programs is used
+     */
+    ProgramCache(final boolean fusion, final boolean store) {
+        this.fusion = fusion;
+        this.store = store;
+        this.entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns a program, loading it if it has not been loaded yet or if some of its files
+     *  have been modified since then.
+     * @param path Path to the file with the DSL program
+     * @return Provider of factories and transformers that can be shared by several threads
+     * @throws BaseException If the program can't be read or contains errors
+     */
+    Provider get(final String path) throws BaseException {
+        final String absolute = Paths.get(path).toAbsolutePath().toString();
+        FutureTask<Entry> task = this.entries.get(absolute);
+        if (task == null || ProgramCache.isOutdated(task)) {
+            final FutureTask<Entry> created = new FutureTask<>(() -> this.load(absolute));
+            task = this.entries.compute(
+                absolute,
+                (key, current) -> ProgramCache.select(current, created)
+            );
+            if (task == created) {
+                created.run();
+            }
+        }
+        return ProgramCache.await(task).provider;
+    }
+
+    /**
+     * Loads a program.
+     * @param absolute Absolute path to the file with the DSL program
+     * @return Loaded program
+     * @throws BaseException If the program can't be read or contains errors
+     */
+    private Entry load(final String absolute) throws BaseException {
+        final Set<String> files = new TreeSet<>();
+        files.add(absolute);
+        final Provider provider = new SynchronizedProvider(
+            Main.loadProgram(absolute, this.fusion, this.store, files)
+        );
+        return new Entry(files, provider);
+    }
+
+    /**
+     * Selects the task to be kept in the map: the current one, unless another thread
+     *  has not yet replaced an outdated or failed task.
+     * @param current Task that is in the map, or {@code null}
+     * @param created New task, not yet started
+     * @return Selected task
+     */
+    private static FutureTask<Entry> select(final FutureTask<Entry> current,
+        final FutureTask<Entry> created) {
+        final FutureTask<Entry> result;
+        if (current == null || ProgramCache.isOutdated(current)) {
+            result = created;
+        } else {
+            result = current;
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether a task has finished and its program must be loaded again,
+     *  either because the load failed or because some of the files have been modified.
+     *  A task that is still running is never outdated.
+     * @param task Task
+     * @return Checking result
+     */
+    private static boolean isOutdated(final FutureTask<Entry> task) {
+        boolean result = false;
+        if (task.isDone()) {
+            try {
+                result = task.get().isOutdated();
+            } catch (final ExecutionException ignored) {
+                result = true;
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+                result = true;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Waits until a task has loaded a program.
+     * @param task Task
+     * @return Loaded program
+     * @throws BaseException If the program can't be read or contains errors
+     */
+    private static Entry await(final FutureTask<Entry> task) throws BaseException {
+        try {
+            return task.get();
+        } catch (final ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof BaseException) {
+                throw (BaseException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Loaded program.
+     * @since 1.0.0
+     */
+    private static final class Entry {
+        /**
+         * Modification times of the files the program is built from, at the moment
+         *  the program was loaded.
+         */
+        private final Map<String, Long> modified;
+
+        /**
+         * Program.
+         */
+        private final Provider provider;
+
+        /**
+         * Constructor.
+         * @param files Absolute names of the files the program is built from
+         * @param provider Program
+         */
+        private Entry(final Set<String> files, final Provider provider) {
+            this.modified = new TreeMap<>();
+            for (final String file : files) {
+                this.modified.put(file, new File(file).lastModified());
+            }
+            this.provider = provider;
+        }
+
+        /**
+         * Checks whether some of the files the program is built from have been modified
+         *  or deleted since the program was loaded.
+         * @return Checking result
+         */
+        private boolean isOutdated() {
+            boolean result = false;
+            final Iterator<Map.Entry<String, Long>> iterator = this.modified.entrySet().iterator();
+            while (!result && iterator.hasNext()) {
+                final Map.Entry<String, Long> file = iterator.next();
+                result = new File(file.getKey()).lastModified() != file.getValue();
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.dsl.BinaryProgramReader;
+import org.cqfn.astranaut.dsl.BinaryProgramWriter;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryInput;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.io.MalformedInput;
+import org.cqfn.astranaut.parser.DslReader;
+
+/**
+ * On-disk cache of parsed DSL programs. An entry is named after the hash of the absolute
+ *  name and the content of the main DSL file, and contains the hashes of all files read
+ *  while parsing (the main file and the imported ones) followed by the parsed program
+ *  in the compact binary format. An entry is used only if all the files are unchanged
+ *  and the entry is in the current version of the format, otherwise the program is parsed
+ *  again and the entry is replaced. A program loaded from the cache is analyzed again
+ *  to restore the links between its rules; if the analyzer finds errors, the entry
+ *  is dropped and the program is parsed again, so that the errors have line numbers.
+ *  The folder and the entries must belong to the current user and must not be writable
+ *  by others, otherwise the entries are ignored.
+ * @since 1.0.0
+ */
+final class ProgramStore {
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ProgramStore.class.getName());
+
+    /**
+     * Extension of cache entries.
+     */
+    private static final String EXTENSION = ".aprg";
+
+    /**
+     * Folder containing cache entries.
+     */
+    private final Path folder;
+
+    /**
+     * Constructor.
+     * @param folder Folder containing cache entries, created when the first entry is written
+     */
+    ProgramStore(final Path folder) {
+        this.folder = folder;
+    }
+
+    /**
+     * Returns the default folder containing cache entries. The folder belongs to the current
+     *  user: {@code $XDG_CACHE_HOME/astranaut} or, if the variable is not set,
+     *  {@code ~/.cache/astranaut}.
+     * @return Folder in the cache directory of the user
+     */
+    static Path getDefaultFolder() {
+        final String xdg = System.getenv("XDG_CACHE_HOME");
+        final Path base;
+        if (xdg != null && !xdg.isEmpty() && Paths.get(xdg).isAbsolute()) {
+            base = Paths.get(xdg);
+        } else {
+            base = Paths.get(System.getProperty("user.home"), ".cache");
+        }
+        return base.resolve("astranaut");
+    }
+
+    /**
+     * Loads a program from the cache, or parses it and stores the result in the cache.
+     * @param path Path to the file with the DSL program
+     * @return Analyzed program
+     * @throws BaseException If the program can't be read or contains errors
+     */
+    Program load(final String path) throws BaseException {
+        return this.load(path, new TreeSet<>());
+    }
+
+    /**
+     * Loads a program from the cache, or parses it and stores the result in the cache,
+     *  and collects the names of the files the program is built from.
+     * @param path Path to the file with the DSL program
+     * @param files Set to which the absolute names of all files the program is built from
+     *  (the main file and the imported ones) are added
+     * @return Analyzed program
+     * @throws BaseException If the program can't be read or contains errors
+     */
+    Program load(final String path, final Set<String> files) throws BaseException {
+        final Path absolute = Paths.get(path).toAbsolutePath();
+        final byte[] code = ProgramStore.readFile(absolute);
+        Path entry = null;
+        Program program = null;
+        if (code != null) {
+            final MessageDigest digest = ProgramStore.createDigest();
+            digest.update(absolute.toString().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(code);
+            entry = this.folder.resolve(
+                ProgramStore.toHexString(digest.digest()).concat(ProgramStore.EXTENSION)
+            );
+            program = this.readEntry(entry, files);
+        }
+        if (program != null && !ProgramStore.analyze(program)) {
+            LOGGER.log(
+                Level.WARNING,
+                String.format(
+                    "The program from the cache entry '%s' contains errors, it is parsed again",
+                    entry
+                )
+            );
+            ProgramStore.deleteQuietly(entry);
+            program = null;
+        }
+        if (program == null) {
+            final DslReader reader = new DslReader();
+            reader.readFile(path);
+            program = Main.parseProgram(reader);
+            files.addAll(reader.getFiles());
+            if (entry != null) {
+                this.writeEntry(entry, program, reader.getFiles());
+            }
+        }
+        return program;
+    }
+
+    /**
+     * Analyzes a program loaded from the cache to restore the links between its rules.
+     *  Locations of the rules are not stored in the cache, so if the analyzer finds errors,
+     *  the program must be parsed again from the source to report them with line numbers.
+     * @param program Program that is not analyzed yet
+     * @return Result, {@code true} if the program contains no errors
+     */
+    private static boolean analyze(final Program program) {
+        boolean result = true;
+        try {
+            new Analyzer(program, Collections.emptyMap()).analyze();
+        } catch (final BaseException ignored) {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Reads a cache entry.
+     * @param entry Path to the entry
+     * @param files Set to which the names of the files the program was built from are added
+     *  if the entry is used
+     * @return Program that is not analyzed yet, or {@code null} if the entry does not exist,
+     *  is malformed or some of the files it was built from have changed
+     */
+    private Program readEntry(final Path entry, final Set<String> files) {
+        Program program = null;
+        if (Files.isRegularFile(entry, LinkOption.NOFOLLOW_LINKS)
+            && !(ProgramStore.isTrusted(this.folder) && ProgramStore.isTrusted(entry))) {
+            LOGGER.log(
+                Level.WARNING,
+                String.format("The cache entry '%s' is ignored as it is not trusted", entry)
+            );
+        } else if (Files.isRegularFile(entry, LinkOption.NOFOLLOW_LINKS)) {
+            try (FileChannel channel = FileChannel.open(entry, StandardOpenOption.READ)) {
+                final BinaryInput input = new BinaryInput(channel);
+                final int count = input.readVarInt();
+                final List<String> names = new ArrayList<>(count);
+                boolean valid = true;
+                for (int index = 0; index < count; index = index + 1) {
+                    final String name = input.readString();
+                    final byte[] expected = input.readBytes();
+                    valid = valid
+                        && Arrays.equals(expected, ProgramStore.hashFile(Paths.get(name)));
+                    names.add(name);
+                }
+                if (valid) {
+                    program = new BinaryProgramReader(input).read();
+                    files.addAll(names);
+                }
+            } catch (final IOException | MalformedInput ignored) {
+                LOGGER.log(Level.WARNING, String.format("Can't read the cache entry '%s'", entry));
+            }
+        }
+        return program;
+    }
+
+    /**
+     * Writes a cache entry. The entry is written to a temporary file first and then
+     *  moved, so that concurrent processes never read a partially written entry.
+     *  Failures are logged and otherwise ignored, since the cache is optional.
+     * @param entry Path to the entry
+     * @param program Program
+     * @param files Absolute names of all files read while parsing the program
+     */
+    private void writeEntry(final Path entry, final Program program, final Set<String> files) {
+        Path temp = null;
+        try {
+            ProgramStore.createFolder(this.folder);
+            if (!ProgramStore.isTrusted(this.folder)) {
+                throw new IOException("The cache folder is not trusted");
+            }
+            temp = Files.createTempFile(this.folder, "program", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                final BinaryOutput output = new BinaryOutput(channel);
+                output.writeVarInt(files.size());
+                for (final String file : files) {
+                    output.writeString(file);
+                    output.writeBytes(ProgramStore.hashFile(Paths.get(file)));
+                }
+                new BinaryProgramWriter(output).write(program);
+                output.flush();
+            }
+            Files.move(
+                temp,
+                entry,
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } catch (final IOException ignored) {
+            LOGGER.log(Level.WARNING, String.format("Can't write the cache entry '%s'", entry));
+            ProgramStore.deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Creates a folder private to the current user if it does not exist. On POSIX systems,
+     *  the folder is accessible only to its owner.
+     * @param folder Path to the folder
+     * @throws IOException If the folder can't be created
+     */
+    static void createFolder(final Path folder) throws IOException {
+        if (!Files.isDirectory(folder, LinkOption.NOFOLLOW_LINKS)) {
+            final Path parent = folder.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try {
+                if (ProgramStore.isPosix(folder)) {
+                    Files.createDirectory(
+                        folder,
+                        PosixFilePermissions.asFileAttribute(
+                            PosixFilePermissions.fromString("rwx------")
+                        )
+                    );
+                } else {
+                    Files.createDirectory(folder);
+                }
+            } catch (final FileAlreadyExistsException ignored) {
+                LOGGER.log(Level.FINE, "The folder was created by another process");
+            }
+        }
+    }
+
+    /**
+     * Checks whether a file or a folder can be trusted, that is, it is owned
+     *  by the current user and, on POSIX systems, can't be modified by other users.
+     *  Cache entries contain Java code of literals that is copied into generated sources,
+     *  so entries planted by other users must never be used.
+     * @param path Path to the file or the folder
+     * @return Checking result
+     */
+    static boolean isTrusted(final Path path) {
+        boolean result;
+        try {
+            final UserPrincipal user = path.getFileSystem().getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+            result = user.equals(Files.getOwner(path, LinkOption.NOFOLLOW_LINKS));
+            if (result && ProgramStore.isPosix(path)) {
+                final Set<PosixFilePermission> permissions =
+                    Files.getPosixFilePermissions(path, LinkOption.NOFOLLOW_LINKS);
+                result = !permissions.contains(PosixFilePermission.GROUP_WRITE)
+                    && !permissions.contains(PosixFilePermission.OTHERS_WRITE);
+            }
+        } catch (final IOException | UnsupportedOperationException ignored) {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the file system of a path supports POSIX file permissions.
+     * @param path Path
+     * @return Checking result
+     */
+    static boolean isPosix(final Path path) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    /**
+     * Computes the hash of the content of a file.
+     * @param file Path to the file
+     * @return Hash, or an empty array if the file can't be read
+     */
+    private static byte[] hashFile(final Path file) {
+        final byte[] content = ProgramStore.readFile(file);
+        final byte[] hash;
+        if (content == null) {
+            hash = new byte[0];
+        } else {
+            hash = ProgramStore.createDigest().digest(content);
+        }
+        return hash;
+    }
+
+    /**
+     * Reads the content of a file.
+     * @param file Path to the file
+     * @return Content or {@code null} if the file can't be read
+     */
+    private static byte[] readFile(final Path file) {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(file);
+        } catch (final IOException ignored) {
+            content = null;
+        }
+        return content;
+    }
+
+    /**
+     * Creates an object computing SHA-256 hashes.
+     * @return Message digest
+     */
+    private static MessageDigest createDigest() {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(exception);
+        }
+        return digest;
+    }
+
+    /**
+     * Converts an array of bytes to a string of hexadecimal digits.
+     * @param bytes Array of bytes
+     * @return String of hexadecimal digits
+     */
+    private static String toHexString(final byte[] bytes) {
+        final StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (final byte value : bytes) {
+            builder.append(String.format("%02x", value & 0xff));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Deletes a file, ignoring errors.
+     * @param file Path to the file, may be {@code null}
+     */
+    private static void deleteQuietly(final Path file) {
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException ignored) {
+                LOGGER.log(Level.WARNING, String.format("Can't delete '%s'", file));
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cqfn.astranaut.core.base.Provider;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryInput;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.io.MalformedInput;
+
+/**
+ * Long-running server that keeps DSL programs loaded and performs {@code parse}
+ *  and {@code transform} requests sent over a socket on the loopback interface.
+ *  Each connection is served by its own thread and may carry several requests.
+ *  A connection starts with the token of the server (see {@link ServerToken}); if the token
+ *  is wrong, the server responds with an error and closes the connection. A request is
+ *  the name of the action, the path to the DSL program, the number of arguments and
+ *  the arguments (strings, see {@link BinaryOutput}). A response
+ *  is a status byte followed either by the resulting tree (as bytes, in the format chosen
+ *  by the arguments) or by an error message (as a string).
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.PreserveStackTrace")
+final class Server extends BaseAction {
+    /**
+     * Status of a successful response.
+     */
+    static final int SUCCESS = 0;
+
+    /**
+     * Status of a failed response.
+     */
+    static final int FAILURE = 1;
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(Server.class.getName());
+
+    /**
+     * Cache of loaded programs.
+     */
+    private final ProgramCache cache;
+
+    /**
+     * Server socket.
+     */
+    private final ServerSocket socket;
+
+    /**
+     * Pool of threads serving connections.
+     */
+    private final ExecutorService pool;
+
+    /**
+     * Folder containing the token file.
+     */
+    private final Path folder;
+
+    /**
+     * Token that clients must send to be served.
+     */
+    private final String token;
+
+    /**
+     * Constructor.
+     * @param cache Cache of loaded programs
+     * @param port Port on the loopback interface, 0 for any free port
+     * @param folder Folder where the token file is saved
+     * @throws IOException If the socket can't be opened or the token can't be saved
+     */
+    Server(final ProgramCache cache, final int port, final Path folder) throws IOException {
+        this.cache = cache;
+        this.socket = new ServerSocket(port, 0, InetAddress.getLoopbackAddress());
+        this.pool = Executors.newCachedThreadPool();
+        this.folder = folder;
+        try {
+            this.token = ServerToken.create(folder, this.socket.getLocalPort());
+        } catch (final IOException exception) {
+            this.socket.close();
+            throw exception;
+        }
+    }
+
+    /**
+     * Parses command line parameters, loads DSL programs and starts the server.
+     *  The server keeps running after this method returns.
+     * @param args Command line parameters
+     * @throws BaseException If the parameters are wrong, some program can't be loaded
+     *  or the socket can't be opened
+     */
+    static void launch(final List<String> args) throws BaseException {
+        final ServerArguments options = new ServerArguments();
+        options.parse(args);
+        final ProgramCache cache = new ProgramCache(
+            options.isFusionEnabled(),
+            options.isCacheEnabled()
+        );
+        for (final String file : options.getFiles()) {
+            cache.get(file);
+        }
+        final Server server;
+        try {
+            server = new Server(cache, options.getPort(), options.getTokenFolder());
+        } catch (final IOException ignored) {
+            throw new CommonCliException(
+                String.format(
+                    "Can't listen on port %d or save the token to '%s'",
+                    options.getPort(),
+                    options.getTokenFolder()
+                )
+            );
+        }
+        server.start();
+        LOGGER.log(Level.INFO, String.format("Listening on port %d", server.getPort()));
+    }
+
+    /**
+     * Returns the port the server listens on.
+     * @return Port number
+     */
+    int getPort() {
+        return this.socket.getLocalPort();
+    }
+
+    /**
+     * Starts accepting connections in a separate thread.
+     */
+    void start() {
+        new Thread(this::accept).start();
+    }
+
+    /**
+     * Stops the server: deletes the token file, closes the socket and interrupts threads
+     *  serving connections.
+     */
+    void stop() {
+        ServerToken.delete(this.folder, this.getPort());
+        try {
+            this.socket.close();
+        } catch (final IOException ignored) {
+            LOGGER.log(Level.WARNING, "Can't close the server socket");
+        }
+        this.pool.shutdownNow();
+    }
+
+    /**
+     * Performs a request.
+     * @param action Name of the action, {@code parse} or {@code transform}
+     * @param program Path to the file containing the DSL program
+     * @param args Arguments of the action
+     * @return Resulting tree, encoded as specified by the arguments
+     * @throws BaseException If the request can't be performed
+     */
+    byte[] perform(final String action, final String program, final List<String> args)
+        throws BaseException {
+        final Provider provider = this.cache.get(program);
+        final TransformerArguments options = new TransformerArguments();
+        options.parse(args);
+        final Tree before;
+        if ("parse".equals(action)) {
+            before = Parse.createTree(provider, options);
+        } else if ("transform".equals(action)) {
+            before = this.readTree(provider, options);
+        } else {
+            throw new CommonCliException(String.format("Unknown action: '%s'", action));
+        }
+        final Tree after = provider.getTransformer(options.getLanguage()).transform(before);
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        try {
+            BaseAction.writeTree(after, Channels.newChannel(stream), options);
+        } catch (final IOException ignored) {
+            throw new CommonCliException("Can't encode the resulting tree");
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * Accepts connections until the socket is closed.
+     */
+    private void accept() {
+        try {
+            while (!this.socket.isClosed()) {
+                final Socket connection = this.socket.accept();
+                this.pool.execute(() -> this.serve(connection));
+            }
+        } catch (final IOException ignored) {
+            LOGGER.log(Level.INFO, "The server is stopped");
+        }
+    }
+
+    /**
+     * Serves a connection: checks the token, then reads requests and writes responses
+     *  until the client closes the connection.
+     * @param connection Connection
+     */
+    private void serve(final Socket connection) {
+        try (Socket client = connection) {
+            final BinaryInput input = new BinaryInput(
+                Channels.newChannel(client.getInputStream())
+            );
+            final BinaryOutput output = new BinaryOutput(
+                Channels.newChannel(client.getOutputStream())
+            );
+            if (this.authenticate(input)) {
+                this.process(input, output);
+            } else {
+                output.writeByte(Server.FAILURE);
+                output.writeString("Authentication failed");
+                output.flush();
+            }
+        } catch (final IOException | MalformedInput ignored) {
+            if (!this.socket.isClosed()) {
+                LOGGER.log(Level.WARNING, "A connection is broken");
+            }
+        }
+    }
+
+    /**
+     * Reads the token sent by the client and compares it with the token of the server.
+     *  The token is read byte by byte after checking its length, so that an unauthenticated
+     *  client can't make the server allocate a huge buffer.
+     * @param input Input of the connection
+     * @return Checking result, {@code true} if the token is correct
+     * @throws IOException If the connection is broken
+     * @throws MalformedInput If the token is malformed
+     */
+    private boolean authenticate(final BinaryInput input) throws IOException, MalformedInput {
+        final int length = input.readVarInt();
+        boolean result = length == this.token.length();
+        if (result) {
+            final byte[] bytes = new byte[length];
+            for (int index = 0; index < length; index = index + 1) {
+                bytes[index] = (byte) input.readByte();
+            }
+            result = ServerToken.matches(
+                this.token,
+                new String(bytes, StandardCharsets.UTF_8)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Reads requests and writes responses until the client closes the connection.
+     * @param input Input of the connection
+     * @param output Output of the connection
+     * @throws IOException If the connection is broken
+     * @throws MalformedInput If a request is malformed
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void process(final BinaryInput input, final BinaryOutput output)
+        throws IOException, MalformedInput {
+        while (input.hasMore()) {
+            final String action = input.readString();
+            final String program = input.readString();
+            final int count = input.readVarInt();
+            final List<String> args = new ArrayList<>(count);
+            for (int index = 0; index < count; index = index + 1) {
+                args.add(input.readString());
+            }
+            try {
+                final byte[] result = this.perform(action, program, args);
+                output.writeByte(Server.SUCCESS);
+                output.writeBytes(result);
+            } catch (final BaseException exception) {
+                output.writeByte(Server.FAILURE);
+                output.writeString(exception.getErrorMessage());
+            } catch (final RuntimeException exception) {
+                LOGGER.log(Level.SEVERE, "The request can't be performed", exception);
+                output.writeByte(Server.FAILURE);
+                output.writeString(String.format("Internal error: %s", exception));
+            }
+            output.flush();
+        }
+    }
+}
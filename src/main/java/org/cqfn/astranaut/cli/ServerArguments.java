@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Parses command line arguments for the server and its client.
+ * @since 1.0.0
+ */
+public final class ServerArguments extends BaseArguments {
+    /**
+     * Default port.
+     */
+    public static final int DEFAULT_PORT = 7357;
+
+    /**
+     * Files containing DSL programs to be loaded at startup.
+     */
+    private final List<String> files;
+
+    /**
+     * Port on the loopback interface.
+     */
+    private int port;
+
+    /**
+     * Flag indicating that chained rules are fused.
+     */
+    private boolean fusion;
+
+    /**
+     * Flag indicating that the on-disk cache of parsed programs is used.
+     */
+    private boolean cache;
+
+    /**
+     * Folder where the token file is saved.
+     */
+    private Path token;
+
+    /**
+     * Constructor.
+     */
+    public ServerArguments() {
+        this.files = new ArrayList<>(1);
+        this.port = ServerArguments.DEFAULT_PORT;
+        this.fusion = true;
+        this.cache = true;
+        this.token = ServerToken.getDefaultFolder();
+    }
+
+    /**
+     * Parses command line parameters. Parameters that are not options are names of files
+     *  containing DSL programs.
+     * @param args List of parameters
+     * @throws CliException If parsing failed
+     */
+    public void parse(final List<String> args) throws CliException {
+        final Iterator<String> iterator = args.iterator();
+        while (iterator.hasNext()) {
+            final String arg = iterator.next();
+            switch (arg) {
+                case "--port":
+                    this.port = ServerArguments.parsePort(this.parseString(arg, iterator));
+                    break;
+                case "--no-fusion":
+                    this.fusion = false;
+                    break;
+                case "--no-cache":
+                    this.cache = false;
+                    break;
+                case "--token-dir":
+                    this.token = Paths.get(this.parseString(arg, iterator));
+                    break;
+                default:
+                    if (arg.charAt(0) == '-') {
+                        throw new CommonCliException(
+                            String.format("Unknown option: '%s'", arg)
+                        );
+                    }
+                    this.files.add(arg);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Returns the list of files containing DSL programs to be loaded at startup.
+     * @return List of file names
+     */
+    public List<String> getFiles() {
+        return Collections.unmodifiableList(this.files);
+    }
+
+    /**
+     * Returns the port on the loopback interface.
+     * @return Port number
+     */
+    public int getPort() {
+        return this.port;
+    }
+
+    /**
+     * Returns the flag indicating that chained rules are fused.
+     * @return Flag
+     */
+    public boolean isFusionEnabled() {
+        return this.fusion;
+    }
+
+    /**
+     * Returns the flag indicating that the on-disk cache of parsed programs is used.
+     * @return Flag
+     */
+    public boolean isCacheEnabled() {
+        return this.cache;
+    }
+
+    /**
+     * Returns the folder where the token file is saved.
+     * @return Path to the folder
+     */
+    public Path getTokenFolder() {
+        return this.token;
+    }
+
+    /**
+     * Parses a port number.
+     * @param value Value of the parameter
+     * @return Port number
+     * @throws CliException If the value is not a valid port number
+     */
+    static int parsePort(final String value) throws CliException {
+        int result;
+        try {
+            result = Integer.parseInt(value);
+        } catch (final NumberFormatException ignored) {
+            result = -1;
+        }
+        if (result < 0 || result > 65_535) {
+            throw new CommonCliException(String.format("Invalid port number: '%s'", value));
+        }
+        return result;
+    }
+}
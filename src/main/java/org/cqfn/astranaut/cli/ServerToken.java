@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shared secret that authenticates clients of the server. The server generates a random
+ *  token at startup and saves it to a file readable only by the current user; a client reads
+ *  the file and sends the token at the beginning of the connection. Since other users can't
+ *  read the file, they can't send requests to the server, even though the socket is open to
+ *  every process on the host.
+ * @since 1.0.0
+ */
+final class ServerToken {
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ServerToken.class.getName());
+
+    /**
+     * Number of random bytes in a token.
+     */
+    private static final int LENGTH = 32;
+
+    /**
+     * Source of random numbers.
+     */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /**
+     * Private constructor.
+     */
+    private ServerToken() {
+    }
+
+    /**
+     * Returns the default folder containing token files. The folder belongs to the current
+     *  user: {@code $XDG_RUNTIME_DIR/astranaut} or, if the variable is not set, the folder
+     *  of the program cache.
+     * @return Folder in the runtime directory of the user
+     */
+    static Path getDefaultFolder() {
+        final String xdg = System.getenv("XDG_RUNTIME_DIR");
+        final Path folder;
+        if (xdg != null && !xdg.isEmpty() && Paths.get(xdg).isAbsolute()) {
+            folder = Paths.get(xdg, "astranaut");
+        } else {
+            folder = ProgramStore.getDefaultFolder();
+        }
+        return folder;
+    }
+
+    /**
+     * Returns the path to the file containing the token of the server listening on a port.
+     * @param folder Folder containing token files
+     * @param port Port number
+     * @return Path to the file
+     */
+    static Path getFile(final Path folder, final int port) {
+        return folder.resolve(String.format("server-%d.token", port));
+    }
+
+    /**
+     * Generates a new token and saves it to a file readable only by the current user.
+     *  The token is written to a temporary file first and then moved, so that clients
+     *  never read a partially written token.
+     * @param folder Folder containing token files, created if it does not exist
+     * @param port Port number of the server
+     * @return Token
+     * @throws IOException If the token can't be saved
+     */
+    static String create(final Path folder, final int port) throws IOException {
+        ProgramStore.createFolder(folder);
+        if (!ProgramStore.isTrusted(folder)) {
+            throw new IOException("The folder of token files is not trusted");
+        }
+        final byte[] bytes = new byte[ServerToken.LENGTH];
+        ServerToken.RANDOM.nextBytes(bytes);
+        final StringBuilder builder = new StringBuilder(ServerToken.LENGTH * 2);
+        for (final byte value : bytes) {
+            builder.append(String.format("%02x", value & 0xff));
+        }
+        final String token = builder.toString();
+        final Path temp;
+        if (ProgramStore.isPosix(folder)) {
+            temp = Files.createTempFile(
+                folder,
+                "server",
+                ".tmp",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))
+            );
+        } else {
+            temp = Files.createTempFile(folder, "server", ".tmp");
+        }
+        try {
+            Files.write(temp, token.getBytes(StandardCharsets.UTF_8));
+            Files.move(
+                temp,
+                ServerToken.getFile(folder, port),
+                StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return token;
+    }
+
+    /**
+     * Reads the token of the server listening on a port.
+     * @param folder Folder containing token files
+     * @param port Port number of the server
+     * @return Token
+     * @throws IOException If the file can't be read or is not trusted
+     */
+    static String read(final Path folder, final int port) throws IOException {
+        final Path file = ServerToken.getFile(folder, port);
+        if (!Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)
+            || !ProgramStore.isTrusted(folder) || !ProgramStore.isTrusted(file)) {
+            throw new IOException("The token file is missing or not trusted");
+        }
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Deletes the token file of the server listening on a port, ignoring errors.
+     * @param folder Folder containing token files
+     * @param port Port number of the server
+     */
+    static void delete(final Path folder, final int port) {
+        final Path file = ServerToken.getFile(folder, port);
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+            LOGGER.log(Level.WARNING, String.format("Can't delete '%s'", file));
+        }
+    }
+
+    /**
+     * Compares a received token with the expected one in constant time.
+     * @param expected Expected token
+     * @param received Received token
+     * @return Comparison result
+     */
+    static boolean matches(final String expected, final String received) {
+        return MessageDigest.isEqual(
+            expected.getBytes(StandardCharsets.UTF_8),
+            received.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+}
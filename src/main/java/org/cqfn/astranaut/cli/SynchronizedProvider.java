@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Provider;
+import org.cqfn.astranaut.core.base.Transformer;
+
+/**
+ * Provider that can be shared by several threads. The original provider (a program)
+ *  creates factories lazily and caches them in a plain map, so requests are serialized.
+ *  Transformers are created once per language and then reused.
+ * @since 1.0.0
+ */
+final class SynchronizedProvider implements Provider {
+    /**
+     * Original provider.
+     */
+    private final Provider provider;
+
+    /**
+     * Transformers that have already been created, by language.
+     */
+    private final Map<String, Transformer> transformers;
+
+    /**
+     * Constructor.
+     * @param provider Original provider
+     */
+    SynchronizedProvider(final Provider provider) {
+        this.provider = provider;
+        this.transformers = new HashMap<>();
+    }
+
+    @Override
+    public synchronized Factory getFactory(final String language) {
+        return this.provider.getFactory(language);
+    }
+
+    @Override
+    public synchronized Transformer getTransformer(final String language) {
+        return this.transformers.computeIfAbsent(language, this.provider::getTransformer);
+    }
+}
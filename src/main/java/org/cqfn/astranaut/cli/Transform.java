@@ -23,11 +23,10 @@
  */
 package org.cqfn.astranaut.cli;
 
+import java.io.IOException;
 import java.util.List;
 import org.cqfn.astranaut.core.base.Transformer;
 import org.cqfn.astranaut.core.base.Tree;
-import org.cqfn.astranaut.core.utils.FilesReader;
-import org.cqfn.astranaut.core.utils.JsonDeserializer;
 import org.cqfn.astranaut.dsl.Program;
 import org.cqfn.astranaut.exceptions.BaseException;
 
@@ -52,19 +51,25 @@ public final class Transform extends BaseAction implements Action {
     public void perform(final Program program, final List<String> args) throws BaseException {
         final TransformerArguments options = new TransformerArguments();
         options.parse(args);
-        final String source = new FilesReader(options.getSourceFilePath())
-            .readAsString(
-                (FilesReader.CustomExceptionCreator<BaseException>) () -> new CommonCliException(
-                    String.format(
-                        "Can't read source tree from '%s'",
-                        options.getSourceFilePath()
-                    )
-                )
-            );
-        final JsonDeserializer deserializer = new JsonDeserializer(source, program);
-        final Tree before = deserializer.convert();
         final Transformer transformer = program.getTransformer(options.getLanguage());
-        final Tree after = transformer.transform(before);
-        this.writeTransformationResult(after, options);
+        if (options.isPipe()) {
+            final Pipeline pipeline = new Pipeline(
+                program,
+                transformer,
+                options.isBinary(),
+                Runtime.getRuntime().availableProcessors()
+            );
+            try {
+                pipeline.run(System.in, System.out);
+            } catch (final IOException exception) {
+                throw new CommonCliException(
+                    String.format("Can't process the stream of trees: %s", exception.getMessage())
+                );
+            }
+        } else {
+            final Tree before = this.readTree(program, options);
+            final Tree after = transformer.transform(before);
+            this.writeTransformationResult(after, options);
+        }
     }
 }
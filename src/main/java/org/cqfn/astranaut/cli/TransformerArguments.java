@@ -36,6 +36,11 @@ public final class TransformerArguments extends BaseArguments {
      */
     private String source;
 
+    /**
+     * The name of the file containing tokens produced by an external lexer.
+     */
+    private String tokens;
+
     /**
      * Name of the programming language for which the transformation is performed
      *  (if the rule set has a division into programming languages).
@@ -43,7 +48,8 @@ public final class TransformerArguments extends BaseArguments {
     private String language;
 
     /**
-     * The name of the file into which the resulting tree is saved.
+     * The name of the file into which the resulting tree is saved
+     *  ({@code -} for the standard output).
      */
     private String tree;
 
@@ -52,11 +58,28 @@ public final class TransformerArguments extends BaseArguments {
      */
     private String image;
 
+    /**
+     * Flag indicating that tree files with unknown extensions are in the binary format.
+     */
+    private boolean binary;
+
+    /**
+     * Flag indicating that the resulting tree is written as compact JSON, without indentation.
+     */
+    private boolean compact;
+
+    /**
+     * Flag indicating that a stream of trees is read from the standard input and the results
+     *  are written to the standard output.
+     */
+    private boolean pipe;
+
     /**
      * Constructor.
      */
     public TransformerArguments() {
         this.source = "";
+        this.tokens = "";
         this.language = "common";
         this.tree = "";
         this.image = "";
@@ -76,6 +99,10 @@ public final class TransformerArguments extends BaseArguments {
                 case "-s":
                     this.source = this.parseString(arg, iterator);
                     break;
+                case "--tokens":
+                case "-k":
+                    this.tokens = this.parseString(arg, iterator);
+                    break;
                 case "--language":
                 case "-l":
                     this.language = this.parseString(arg, iterator);
@@ -88,6 +115,18 @@ public final class TransformerArguments extends BaseArguments {
                 case "-i":
                     this.image = this.parseString(arg, iterator);
                     break;
+                case "--binary":
+                case "-b":
+                    this.binary = true;
+                    break;
+                case "--compact":
+                case "-c":
+                    this.compact = true;
+                    break;
+                case "--pipe":
+                case "-p":
+                    this.pipe = true;
+                    break;
                 default:
                     break;
             }
@@ -102,6 +141,14 @@ public final class TransformerArguments extends BaseArguments {
         return this.source;
     }
 
+    /**
+     * Returns the name of the file containing tokens produced by an external lexer.
+     * @return File name or an empty string if tokens are not used
+     */
+    public String getTokensFilePath() {
+        return this.tokens;
+    }
+
     /**
      * Returns the name of the programming language for which the transformation is performed.
      * @return Language name
@@ -125,4 +172,31 @@ public final class TransformerArguments extends BaseArguments {
     public String getResultingImagePath() {
         return this.image;
     }
+
+    /**
+     * Returns the flag indicating that tree files with unknown extensions
+     *  (neither {@code .json} nor {@code .atree}) are in the binary format.
+     * @return Flag
+     */
+    public boolean isBinary() {
+        return this.binary;
+    }
+
+    /**
+     * Returns the flag indicating that the resulting tree is written as compact JSON,
+     *  without indentation.
+     * @return Flag
+     */
+    public boolean isCompact() {
+        return this.compact;
+    }
+
+    /**
+     * Returns the flag indicating that a stream of trees is read from the standard input
+     *  and the results are written to the standard output.
+     * @return Flag
+     */
+    public boolean isPipe() {
+        return this.pipe;
+    }
 }
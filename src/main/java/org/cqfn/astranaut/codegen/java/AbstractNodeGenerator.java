@@ -62,8 +62,11 @@ public final class AbstractNodeGenerator extends RuleGenerator {
         final Interface iface = new Interface(name, brief);
         iface.makePublic();
         final List<AbstractNodeDescriptor> bases = this.rule.getBaseDescriptors();
+        final NodeClasses classes = context.getNodeClasses();
         boolean node = false;
-        if (bases.isEmpty()) {
+        if (bases.isEmpty() && !classes.isEmpty()) {
+            iface.setExtendsList(NodeClasses.MARKER);
+        } else if (bases.isEmpty()) {
             node = true;
             iface.setExtendsList(Strings.TYPE_NODE);
         } else {
@@ -83,6 +86,8 @@ public final class AbstractNodeGenerator extends RuleGenerator {
         if (node) {
             final String base = "org.cqfn.astranaut.core.base.";
             unit.addImport(base.concat(Strings.TYPE_NODE));
+        } else if (bases.isEmpty()) {
+            unit.addImport(classes.getMarker());
         }
         this.resolveDependencies(unit, context);
         return Collections.singleton(unit);
@@ -23,7 +23,9 @@
  */
 package org.cqfn.astranaut.codegen.java;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import org.cqfn.astranaut.core.utils.Pair;
 import org.cqfn.astranaut.exceptions.BaseException;
@@ -131,7 +133,39 @@ public abstract  class BaseMethod implements Entity {
         for (final String line : this.getBody().split("\n")) {
             offset = BaseMethod.splitLine(line, list, offset);
         }
-        return BaseMethod.fixLinesThatAreTooLong(list, indent);
+        return BaseMethod.fixLinesThatAreTooLong(BaseMethod.indentCaseBodies(list), indent);
+    }
+
+    /**
+     * Indents the statements that follow {@code case} and {@code default} labels
+     *  of {@code switch} statements one level deeper than the labels themselves.
+     * @param list List of indented lines
+     * @return List of lines with fixed indentation
+     */
+    private static List<Pair<String, Integer>> indentCaseBodies(
+        final List<Pair<String, Integer>> list) {
+        final List<Pair<String, Integer>> result = new ArrayList<>(list.size());
+        final Deque<Integer> labels = new ArrayDeque<>();
+        for (final Pair<String, Integer> line : list) {
+            final String code = line.getKey();
+            final int offset = line.getValue();
+            while (!labels.isEmpty() && offset < labels.peek()) {
+                labels.pop();
+            }
+            final boolean label = code.startsWith("case ") && code.endsWith(":")
+                || "default:".equals(code);
+            if (label && (labels.isEmpty() || labels.peek() != offset)) {
+                labels.push(offset);
+            }
+            int extra = 0;
+            for (final int level : labels) {
+                if (level < offset || level == offset && !label) {
+                    extra = extra + 1;
+                }
+            }
+            result.add(new Pair<>(code, offset + extra));
+        }
+        return result;
     }
 
     /**
@@ -148,7 +182,7 @@ public abstract  class BaseMethod implements Entity {
         String tail = line.trim();
         while (!tail.isEmpty()) {
             int extra = 0;
-            if (tail.charAt(0) == '.') {
+            if (tail.charAt(0) == '.' || tail.startsWith("+ ")) {
                 extra = 1;
             }
             int index = tail.indexOf('{');
@@ -37,6 +37,14 @@ interface ConditionGenerator {
      */
     List<String> generate();
 
+    /**
+     * Generates the source code for cheap checks that are performed before any storage
+     *  for extracted nodes and data is created.
+     * @param guards Generator of checks
+     * @return Lines of generated code, possibly none
+     */
+    List<String> generateGuards(GuardGenerator guards);
+
     /**
      * Returns Set of matchers used in the condition.
      * @return Set of matchers used in the condition (at least one)
@@ -73,6 +73,17 @@ public final class Constructor extends BaseMethod {
         this.args.add(new Pair<>(type, identifier));
     }
 
+    /**
+     * Adds an argument to the constructor.
+     * @param type Type of the argument
+     * @param identifier Name of the argument
+     * @param brief Brief description of the argument
+     */
+    public void addArgument(final String type, final String identifier, final String brief) {
+        this.addArgument(type, identifier);
+        this.doc.addParameter(identifier, brief);
+    }
+
     /**
      * Sets the body of the constructor.
      * @param text Method body source code
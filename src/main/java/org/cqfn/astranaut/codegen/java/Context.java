@@ -51,6 +51,11 @@ public final class Context {
      */
     private Map<String, Klass> matchers;
 
+    /**
+     * Classes and interfaces generated for node descriptors.
+     */
+    private NodeClasses classes;
+
     /**
      * Labels for converters.
      */
@@ -95,6 +100,15 @@ public final class Context {
         return this.matchers;
     }
 
+    /**
+     * Returns classes and interfaces generated for node descriptors.
+     * If they were not explicitly set, returns an empty collection.
+     * @return Collection of classes and interfaces
+     */
+    public NodeClasses getNodeClasses() {
+        return this.classes;
+    }
+
     /**
      * Returns the next unique converter name ('Converter0', 'Converter1', and so on).
      * @return Unique converter name
@@ -131,6 +145,11 @@ public final class Context {
          */
         private Map<String, Klass> matchers = Collections.emptyMap();
 
+        /**
+         * Classes and interfaces generated for node descriptors.
+         */
+        private NodeClasses classes = new NodeClasses();
+
         /**
          * Sets the license.
          * @param object License
@@ -163,6 +182,14 @@ public final class Context {
             this.matchers = collection;
         }
 
+        /**
+         * Sets the classes and interfaces generated for node descriptors.
+         * @param collection Collection of classes and interfaces
+         */
+        public void setNodeClasses(final NodeClasses collection) {
+            this.classes = collection;
+        }
+
         /**
          * Constructs a context from the specified data.
          * @return Context object
@@ -176,6 +203,7 @@ public final class Context {
             ctx.pkg = this.pkg;
             ctx.version = this.version;
             ctx.matchers = this.matchers;
+            ctx.classes = this.classes;
             return ctx;
         }
     }
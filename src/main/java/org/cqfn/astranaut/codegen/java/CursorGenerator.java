@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.Arrays;
+import java.util.List;
+import org.cqfn.astranaut.dsl.PatternMatchingMode;
+
+/**
+ * Generates code that matches consecutive nodes with pattern items by moving an integer
+ *  cursor named {@code position} that must not reach the limit named {@code size}.
+ *  A repeated item is matched in a loop, an optional item moves the cursor only if matched,
+ *  a mismatch of any other item interrupts the enclosing {@code do ... while (false)} block.
+ *  Thus, the generated code allocates nothing and inspects each node at most once.
+ * @since 1.0.0
+ */
+final class CursorGenerator {
+    /**
+     * Java expression that returns the node the cursor points to.
+     */
+    private final String node;
+
+    /**
+     * Constructor.
+     * @param node Java expression that returns the node the cursor points to
+     */
+    CursorGenerator(final String node) {
+        this.node = node;
+    }
+
+    /**
+     * Generates code that matches the next node (or nodes) with a left side item.
+     * @param mode Matching mode of the item
+     * @param matcher Name of the matcher class generated for the item
+     * @param code List with lines of generated source code
+     */
+    void generateStep(final PatternMatchingMode mode, final String matcher,
+        final List<String> code) {
+        final String condition = String.format(
+            "position < size && %s.INSTANCE.match(%s, extracted)",
+            matcher,
+            this.node
+        );
+        if (mode == PatternMatchingMode.OPTIONAL) {
+            code.addAll(
+                Arrays.asList(
+                    String.format("if (%s) {", condition),
+                    "position = position + 1;",
+                    "}"
+                )
+            );
+        } else if (mode == PatternMatchingMode.REPEATED) {
+            code.addAll(
+                Arrays.asList(
+                    String.format("while (%s) {", condition),
+                    "position = position + 1;",
+                    "}"
+                )
+            );
+        } else {
+            code.addAll(
+                Arrays.asList(
+                    String.format(
+                        "if (position == size || !%s.INSTANCE.match(%s, extracted)) {",
+                        matcher,
+                        this.node
+                    ),
+                    "break;",
+                    "}",
+                    "position = position + 1;"
+                )
+            );
+        }
+    }
+
+    /**
+     * Generates code that extracts the next node into an untyped hole.
+     * @param number Number of the hole
+     * @param code List with lines of generated source code
+     */
+    void generateHole(final int number, final List<String> code) {
+        code.addAll(
+            Arrays.asList(
+                "if (position == size) {",
+                "break;",
+                "}",
+                String.format("extracted.addNode(%d, %s);", number, this.node),
+                "position = position + 1;"
+            )
+        );
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.cqfn.astranaut.dsl.DispatchTableDescriptor;
+import org.cqfn.astranaut.dsl.Rule;
+import org.cqfn.astranaut.dsl.TransformationDescriptor;
+
+/**
+ * Generates the converter described by the dispatch table. The converter selects one
+ *  of the combined rules using a string {@code switch} on the data of the node,
+ *  and each combined rule is generated as a separate class that is not registered
+ *  as a converter by itself.
+ * @since 1.0.0
+ */
+public final class DispatchTableGenerator extends RuleGenerator {
+    /**
+     * Dispatch table.
+     */
+    private final DispatchTableDescriptor rule;
+
+    /**
+     * Constructor.
+     * @param rule The dispatch table from which the source code is generated
+     */
+    public DispatchTableGenerator(final DispatchTableDescriptor rule) {
+        this.rule = rule;
+    }
+
+    @Override
+    public Rule getRule() {
+        return this.rule;
+    }
+
+    @Override
+    public Set<CompilationUnit> createUnits(final Context context) {
+        final Klass klass = new Klass(
+            context.getNextConverterName(),
+            String.format(
+                "Converter that selects one of the rules for '%s' nodes by their data",
+                this.rule.getType()
+            )
+        );
+        klass.makePublic();
+        klass.makeFinal();
+        klass.setVersion(context.getVersion());
+        klass.setImplementsList("Converter");
+        final Field instance = new Field("Converter", "INSTANCE", "The instance");
+        instance.makePublic();
+        instance.makeStatic();
+        instance.makeFinal(String.format("new %s()", klass.getName()));
+        klass.addField(instance);
+        final Constructor ctor = klass.createConstructor();
+        ctor.makePrivate();
+        final Set<CompilationUnit> units = new LinkedHashSet<>();
+        final List<String> names = new ArrayList<>(this.rule.getRules().size());
+        for (final TransformationDescriptor member : this.rule.getRules()) {
+            final String name = String.format("Case%d%s", names.size(), klass.getName());
+            names.add(name);
+            units.addAll(new TransformationGenerator(member, name).createUnits(context));
+        }
+        this.createConvertMethod(klass, names);
+        this.createGetMinConsumedMethod(klass);
+        this.createIsRightToLeftMethod(klass);
+        final CompilationUnit unit = new CompilationUnit(
+            context.getLicense(),
+            context.getPackage(),
+            klass
+        );
+        unit.addImport("java.util.List");
+        unit.addImport("java.util.Optional");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.ConversionResult");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.Converter");
+        unit.addImport("org.cqfn.astranaut.core.base.Factory");
+        unit.addImport("org.cqfn.astranaut.core.base.Node");
+        units.add(unit);
+        return units;
+    }
+
+    /**
+     * Creates a "convert" method.
+     * @param klass The class to which the method will be added
+     * @param names Names of classes implementing the combined rules
+     */
+    private void createConvertMethod(final Klass klass, final List<String> names) {
+        final Method method = new Method(
+            "Optional<ConversionResult>",
+            "convert"
+        );
+        method.makePublic();
+        method.addArgument(Strings.TYPE_NODE_LIST, "list");
+        method.addArgument(Strings.TYPE_INT, "index");
+        method.addArgument(Strings.TYPE_FACTORY, "factory");
+        final List<String> code = new ArrayList<>(16);
+        code.add("Optional<ConversionResult> result = Optional.empty();");
+        code.add("if (index < list.size()) {");
+        code.add("switch (list.get(index).getData()) {");
+        for (int index = 0; index < names.size(); index = index + 1) {
+            code.add(
+                String.format("case %s:", this.rule.getKeys().get(index).toJavaCode())
+            );
+            code.add(
+                String.format(
+                    "result = %s.INSTANCE.convert(list, index, factory);",
+                    names.get(index)
+                )
+            );
+            code.add("break;");
+        }
+        code.add("default:");
+        code.add("break;");
+        code.add("}");
+        code.add("}");
+        code.add("return result;");
+        method.setBody(String.join("\n", code));
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a "getMinConsumed" method.
+     * @param klass The class to which the method will be added
+     */
+    private void createGetMinConsumedMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_INT,
+            "getMinConsumed"
+        );
+        method.makePublic();
+        method.setBody(String.format("return %d;", this.rule.getMinConsumed()));
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a "isRightToLeft" method if needed.
+     * @param klass The class to which the method will be added
+     */
+    private void createIsRightToLeftMethod(final Klass klass) {
+        if (this.rule.isRightToLeft()) {
+            final Method method = new Method(
+                Strings.TYPE_BOOLEAN,
+                "isRightToLeft"
+            );
+            method.makePublic();
+            method.setBody("return true;");
+            klass.addMethod(method);
+        }
+    }
+}
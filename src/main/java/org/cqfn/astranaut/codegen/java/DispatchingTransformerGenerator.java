@@ -0,0 +1,455 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates the base class of transformers that try only the converters that can start
+ *  at the type of the node at the current position of the child list, and, if there are
+ *  scoped rules, the interface of converters restricted to child lists of specific parent
+ *  node types.
+ * @since 1.0.0
+ */
+public final class DispatchingTransformerGenerator {
+    /**
+     * Name of the generated interface.
+     */
+    private static final String IFACE = "ScopedConverter";
+
+    /**
+     * Name of the generated transformer class.
+     */
+    private static final String CLASS = "DispatchingTransformer";
+
+    /**
+     * Type of the list of converters.
+     */
+    private static final String CONVERTERS = "List<Converter>";
+
+    /**
+     * Type of the flags of converters.
+     */
+    private static final String FLAGS = "boolean[]";
+
+    /**
+     * Type of the list of flags of converters.
+     */
+    private static final String FLAGS_LIST = "List<boolean[]>";
+
+    /**
+     * Name of the argument containing the list of children.
+     */
+    private static final String CHILDREN = "children";
+
+    /**
+     * Name of the argument containing the list of flags of converters.
+     */
+    private static final String CANDIDATES = "candidates";
+
+    /**
+     * Flag indicating that some of the rules are scoped.
+     */
+    private final boolean scoped;
+
+    /**
+     * Constructor.
+     * @param scoped Flag indicating that some of the rules are scoped, that is, the transformer
+     *  must know the parent node while rewriting children
+     */
+    public DispatchingTransformerGenerator(final boolean scoped) {
+        this.scoped = scoped;
+    }
+
+    /**
+     * Creates compilation units that contain the transformer and, if needed, the interface.
+     * @param context Data required to generate Java source code
+     * @return Compilation units
+     */
+    public List<CompilationUnit> createUnits(final Context context) {
+        final List<CompilationUnit> units = new ArrayList<>(2);
+        if (this.scoped) {
+            units.add(DispatchingTransformerGenerator.createInterface(context));
+        }
+        units.add(this.createTransformer(context));
+        return units;
+    }
+
+    /**
+     * Creates compilation unit that contains the interface of scoped converters.
+     * @param context Data required to generate Java source code
+     * @return Compilation unit
+     */
+    private static CompilationUnit createInterface(final Context context) {
+        final Interface iface = new Interface(
+            DispatchingTransformerGenerator.IFACE,
+            "Converter that is applied only to child lists of specific parent node types"
+        );
+        iface.makePublic();
+        iface.setVersion(context.getVersion());
+        iface.setExtendsList("Converter");
+        final MethodSignature method = new MethodSignature(
+            Strings.TYPE_INT,
+            "getScopeStart",
+            "Returns the first position of the child list to which the converter may be applied"
+        );
+        method.addArgument(
+            Strings.TYPE_NODE,
+            "parent",
+            "Node whose children are rewritten, or {@code null} if it is unknown"
+        );
+        method.addArgument(Strings.TYPE_NODE_LIST, "list", "Child list");
+        method.setReturnsDescription(
+            "Index of the first position, greater than the size of the list if there is none"
+        );
+        iface.addMethodSignature(method);
+        final CompilationUnit unit = new CompilationUnit(
+            context.getLicense(),
+            context.getPackage(),
+            iface
+        );
+        unit.addImport("java.util.List");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.Converter");
+        unit.addImport("org.cqfn.astranaut.core.base.Node");
+        return unit;
+    }
+
+    /**
+     * Creates compilation unit that contains the base class of transformers.
+     * @param context Data required to generate Java source code
+     * @return Compilation unit
+     */
+    private CompilationUnit createTransformer(final Context context) {
+        final Klass klass = new Klass(
+            DispatchingTransformerGenerator.CLASS,
+            "Transformer that tries only the converters that can start at the type of the node"
+                .concat(" at the current position of the child list")
+        );
+        klass.makePublic();
+        klass.makeAbstract();
+        klass.setVersion(context.getVersion());
+        klass.setImplementsList("Transformer");
+        final Field converters = new Field(
+            DispatchingTransformerGenerator.CONVERTERS,
+            "converters",
+            "Converters"
+        );
+        converters.makePrivate();
+        converters.makeFinal("");
+        klass.addField(converters);
+        final Field factory = new Field(Strings.TYPE_FACTORY, "factory", "Factory");
+        factory.makePrivate();
+        factory.makeFinal("");
+        klass.addField(factory);
+        final Constructor ctor = klass.createConstructor();
+        ctor.makeProtected();
+        ctor.addArgument(DispatchingTransformerGenerator.CONVERTERS, "converters", "Converters");
+        ctor.addArgument(
+            Strings.TYPE_FACTORY,
+            "factory",
+            "Factory that creates resulting nodes"
+        );
+        ctor.setBody("this.converters = converters;\nthis.factory = factory;");
+        final Method transform = new Method("Tree", "transform");
+        transform.makePublic();
+        transform.addArgument("Tree", "tree");
+        transform.setBody("return new Tree(this.transformNode(tree.getRoot()));");
+        klass.addMethod(transform);
+        DispatchingTransformerGenerator.createGetCandidatesMethod(klass);
+        DispatchingTransformerGenerator.createSelectMethod(klass);
+        this.createTransformNodeMethod(klass);
+        this.createConvertOnceMethod(klass);
+        if (this.scoped) {
+            DispatchingTransformerGenerator.createGetScopeStartMethod(klass);
+        }
+        DispatchingTransformerGenerator.createReplaceMethod(klass);
+        final CompilationUnit unit = new CompilationUnit(
+            context.getLicense(),
+            context.getPackage(),
+            klass
+        );
+        unit.addImport("java.util.ArrayList");
+        unit.addImport("java.util.List");
+        unit.addImport("java.util.Optional");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.ConversionResult");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.Converter");
+        unit.addImport("org.cqfn.astranaut.core.base.Builder");
+        unit.addImport("org.cqfn.astranaut.core.base.Factory");
+        unit.addImport("org.cqfn.astranaut.core.base.Node");
+        unit.addImport("org.cqfn.astranaut.core.base.NullNode");
+        unit.addImport("org.cqfn.astranaut.core.base.Transformer");
+        unit.addImport("org.cqfn.astranaut.core.base.Tree");
+        return unit;
+    }
+
+    /**
+     * Creates an abstract method that returns flags of the converters that can start
+     *  at the specified node. It is implemented by transformers of languages.
+     * @param klass The class to which the method will be added
+     */
+    private static void createGetCandidatesMethod(final Klass klass) {
+        final Method method = new Method(
+            DispatchingTransformerGenerator.FLAGS,
+            "getCandidates",
+            "Returns flags of the converters that can start at the specified node"
+        );
+        method.makeProtected();
+        method.makeAbstract();
+        method.addArgument(Strings.TYPE_NODE, "node", "Node");
+        method.setReturnsDescription(
+            "Flags indexed by numbers of converters, {@code true} if the converter must be tried"
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that creates flags of converters from their numbers.
+     * @param klass The class to which the method will be added
+     */
+    private static void createSelectMethod(final Klass klass) {
+        final Method method = new Method(
+            DispatchingTransformerGenerator.FLAGS,
+            "select",
+            "Creates flags of converters from their numbers"
+        );
+        method.makeProtected();
+        method.makeStatic();
+        method.addArgument(Strings.TYPE_INT, "count", "Total number of converters");
+        method.addArgument("int...", "numbers", "Numbers of converters to be tried");
+        method.setReturnsDescription("Flags indexed by numbers of converters");
+        method.setBody(
+            String.join(
+                "\n",
+                "final boolean[] flags = new boolean[count];",
+                "for (final int number : numbers) {",
+                "flags[number] = true;",
+                "}",
+                "return flags;"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that transforms a node: first its descendants,
+     *  and then the list of its children.
+     * @param klass The class to which the method will be added
+     */
+    private void createTransformNodeMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_NODE,
+            "transformNode",
+            "Transforms the node: first its descendants, and then the list of its children"
+        );
+        method.makePrivate();
+        method.addArgument(Strings.TYPE_NODE, "node", "Node to be transformed");
+        method.setReturnsDescription("Transformed node or the same node if nothing has changed");
+        final String loop;
+        if (this.scoped) {
+            loop = "while (this.convertOnce(node, children, candidates)) {";
+        } else {
+            loop = "while (this.convertOnce(children, candidates)) {";
+        }
+        method.setBody(
+            String.join(
+                "\n",
+                "final int count = node.getChildCount();",
+                "final List<Node> children = new ArrayList<>(count);",
+                "final List<boolean[]> candidates = new ArrayList<>(count);",
+                "boolean changed = false;",
+                "for (int index = 0; index < count; index = index + 1) {",
+                "final Node child = node.getChild(index);",
+                "final Node transformed = this.transformNode(child);",
+                "children.add(transformed);",
+                "candidates.add(this.getCandidates(transformed));",
+                "changed = changed || transformed != child;",
+                "}",
+                loop,
+                "changed = true;",
+                "}",
+                "Node result = node;",
+                "if (changed) {",
+                "final Builder builder = node.getType().createBuilder();",
+                "builder.setFragment(node.getFragment());",
+                "boolean valid = builder.setData(node.getData());",
+                "valid = valid && builder.setChildrenList(children) && builder.isValid();",
+                "if (valid) {",
+                "result = builder.createNode();",
+                "}",
+                "}",
+                "return result;"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that applies the first converter that matches some position
+     *  of the child list. Converters are tried in the order they are declared, but only
+     *  at the positions where they can start, according to the flags of candidates that
+     *  are kept for each node of the list. Other converters are not called at all.
+     * @param klass The class to which the method will be added
+     */
+    private void createConvertOnceMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_BOOLEAN,
+            "convertOnce",
+            "Applies the first converter that matches some position of the child list"
+        );
+        method.makePrivate();
+        final String start;
+        final String condition;
+        if (this.scoped) {
+            method.addArgument(Strings.TYPE_NODE, "parent", "Node whose children are rewritten");
+            start = "final int start = DispatchingTransformer.getScopeStart("
+                .concat("converter, parent, children);\n");
+            condition = "if (candidates.get(index)[rule] && index >= start) {";
+        } else {
+            start = "";
+            condition = "if (candidates.get(index)[rule]) {";
+        }
+        method.addArgument(
+            Strings.TYPE_NODE_LIST,
+            DispatchingTransformerGenerator.CHILDREN,
+            "List of children, modified in place"
+        );
+        method.addArgument(
+            DispatchingTransformerGenerator.FLAGS_LIST,
+            DispatchingTransformerGenerator.CANDIDATES,
+            "Flags of converters for each child, modified in place"
+        );
+        method.setReturnsDescription("Conversion result, {@code true} if the list has changed");
+        method.setBody(
+            String.join(
+                "\n",
+                "final int size = children.size();",
+                "final int count = this.converters.size();",
+                "boolean converted = false;",
+                "for (int rule = 0; !converted && rule < count; rule = rule + 1) {",
+                "final Converter converter = this.converters.get(rule);",
+                start.concat("for (int step = 0; !converted && step < size; step = step + 1) {"),
+                "final int index;",
+                "if (converter.isRightToLeft()) {",
+                "index = size - 1 - step;",
+                "} else {",
+                "index = step;",
+                "}",
+                condition,
+                "final Optional<ConversionResult> result ="
+                    .concat(" converter.convert(children, index, this.factory);"),
+                "converted = this.replace(children, candidates, index, result);",
+                "}",
+                "}",
+                "}",
+                "return converted;"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that returns the first position of the child list to which
+     *  the converter may be applied.
+     * @param klass The class to which the method will be added
+     */
+    private static void createGetScopeStartMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_INT,
+            "getScopeStart",
+            "Returns the first position of the child list to which the converter may be applied"
+        );
+        method.makePrivate();
+        method.makeStatic();
+        method.addArgument("Converter", "converter", "Converter");
+        method.addArgument(Strings.TYPE_NODE, "parent", "Node whose children are rewritten");
+        method.addArgument(
+            Strings.TYPE_NODE_LIST,
+            DispatchingTransformerGenerator.CHILDREN,
+            "List"
+        );
+        method.setReturnsDescription("Index of the first position");
+        method.setBody(
+            String.join(
+                "\n",
+                "int start = 0;",
+                "if (converter instanceof ScopedConverter) {",
+                "start = ((ScopedConverter) converter).getScopeStart(parent, children);",
+                "}",
+                "return start;"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that replaces the consumed nodes of the list with the resulting node,
+     *  and the flags of converters of the consumed nodes with the flags for that node.
+     * @param klass The class to which the method will be added
+     */
+    private static void createReplaceMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_BOOLEAN,
+            "replace",
+            "Replaces the consumed nodes of the list with the resulting node"
+        );
+        method.makePrivate();
+        method.addArgument(
+            Strings.TYPE_NODE_LIST,
+            DispatchingTransformerGenerator.CHILDREN,
+            "List of children, modified in place"
+        );
+        method.addArgument(
+            DispatchingTransformerGenerator.FLAGS_LIST,
+            DispatchingTransformerGenerator.CANDIDATES,
+            "Flags of converters for each child, modified in place"
+        );
+        method.addArgument(Strings.TYPE_INT, "index", "Index of the first consumed node");
+        method.addArgument(
+            "Optional<ConversionResult>",
+            "conversion",
+            "Result of the conversion, may be empty"
+        );
+        method.setReturnsDescription("Replacement result, {@code true} if the list has changed");
+        method.setBody(
+            String.join(
+                "\n",
+                "final boolean replaced = conversion.isPresent();",
+                "if (replaced) {",
+                "final ConversionResult result = conversion.get();",
+                "final int end = index + result.getConsumed();",
+                "children.subList(index, end).clear();",
+                "candidates.subList(index, end).clear();",
+                "final Node node = result.getNode();",
+                "if (node != NullNode.INSTANCE) {",
+                "children.add(index, node);",
+                "candidates.add(index, this.getCandidates(node));",
+                "}",
+                "}",
+                "return replaced;"
+            )
+        );
+        klass.addMethod(method);
+    }
+}
@@ -23,10 +23,10 @@
  */
 package org.cqfn.astranaut.codegen.java;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.TreeMap;
 import org.cqfn.astranaut.dsl.AbstractNodeDescriptor;
 import org.cqfn.astranaut.dsl.NodeDescriptor;
@@ -70,10 +70,9 @@ public final class FactoryGenerator {
         klass.makePublic();
         klass.makeFinal();
         klass.setVersion(context.getVersion());
-        klass.setSuperclass("DefaultFactory");
+        klass.setImplementsList("Factory");
         final Constructor ctor = klass.createConstructor();
         ctor.makePrivate();
-        ctor.setBody(String.format("super(%s.createMapOfTypes());", classname));
         final Field instance = new Field(
             "Factory",
             "INSTANCE",
@@ -84,15 +83,17 @@ public final class FactoryGenerator {
         instance.makeFinal(String.format("new %s()", classname));
         klass.addField(instance);
         FactoryGenerator.createMapOfProperties(language, klass);
-        final Set<NodeDescriptor> dependencies =
-            this.createFunctionReturnsMapOfTypes(language, klass);
+        final List<NodeDescriptor> dependencies = this.getSupportedTypes(language);
+        FactoryGenerator.createGetTypeMethod(dependencies, klass);
+        FactoryGenerator.createCreateBuilderMethod(dependencies, klass);
         final CompilationUnit unit = new CompilationUnit(
             context.getLicense(),
             context.getPackage(),
             klass
         );
         unit.addImport("java.util.Map");
-        unit.addImport("org.cqfn.astranaut.core.base.DefaultFactory");
+        unit.addImport("org.cqfn.astranaut.core.base.Builder");
+        unit.addImport("org.cqfn.astranaut.core.base.DraftNode");
         unit.addImport("org.cqfn.astranaut.core.base.Factory");
         unit.addImport("org.cqfn.astranaut.core.base.Type");
         unit.addImport("org.cqfn.astranaut.core.utils.MapUtils");
@@ -138,24 +139,12 @@ public final class FactoryGenerator {
     }
 
     /**
-     * Creates a function that creates a map of types.
+     * Collects the descriptors of non-abstract nodes whose types are supported by the factory,
+     *  that is, nodes of the language itself and nodes of the 'common' language.
      * @param language Language for which the factory is generated
-     * @param klass The class to which to add the function
-     * @return Dependencies Set of descriptors to be imported
+     * @return Descriptors sorted by type name
      */
-    private Set<NodeDescriptor> createFunctionReturnsMapOfTypes(final String language,
-        final Klass klass) {
-        final Set<NodeDescriptor> dependencies = new HashSet<>();
-        final Method method = new Method(
-            "Map<String, Type>",
-            "createMapOfTypes",
-            "Returns collection of types supported by this factory"
-        );
-        method.setReturnsDescription("All types supported by this factory, by name");
-        method.makePrivate();
-        method.makeStatic();
-        final StringBuilder builder = new StringBuilder(128);
-        builder.append("return new MapUtils<String, Type>()");
+    private List<NodeDescriptor> getSupportedTypes(final String language) {
         final Map<String, NodeDescriptor> rules;
         if (language.equals("common")) {
             rules = this.program.getNodeDescriptorsByLanguage(language);
@@ -165,21 +154,70 @@ public final class FactoryGenerator {
                 this.program.getNodeDescriptorsByLanguage("common");
             rules.putAll(common);
         }
-        for (final Map.Entry<String, NodeDescriptor> entry : rules.entrySet()) {
-            final NodeDescriptor rule = entry.getValue();
+        final List<NodeDescriptor> list = new ArrayList<>(rules.size());
+        for (final NodeDescriptor rule : rules.values()) {
             if (!(rule instanceof AbstractNodeDescriptor)) {
-                builder
-                    .append(".put(")
-                    .append(rule.getName())
-                    .append(".NAME, ")
-                    .append(rule.getName())
-                    .append(".TYPE)");
-                dependencies.add(rule);
+                list.add(rule);
             }
         }
-        builder.append(".make();");
-        method.setBody(builder.toString());
+        return list;
+    }
+
+    /**
+     * Creates the 'getType' method. The type is selected by a {@code switch} on its name,
+     *  so the class of a node is not loaded until its type is requested.
+     * @param rules Descriptors of the supported nodes
+     * @param klass The class to which to add the method
+     */
+    private static void createGetTypeMethod(final List<NodeDescriptor> rules,
+        final Klass klass) {
+        final List<String> code = new ArrayList<>(rules.size() * 3 + 8);
+        code.add("final Type type;");
+        code.add("switch (name) {");
+        for (final NodeDescriptor rule : rules) {
+            code.add(String.format("case \"%s\":", rule.getName()));
+            code.add(String.format("type = %s.TYPE;", rule.getName()));
+            code.add("break;");
+        }
+        code.add("default:");
+        code.add("type = null;");
+        code.add("break;");
+        code.add("}");
+        code.add("return type;");
+        final Method method = new Method("Type", "getType");
+        method.makePublic();
+        method.addArgument("String", "name");
+        method.setBody(String.join("\n", code));
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates the 'createBuilder' method. The builder is selected by a {@code switch}
+     *  on the type name, for unknown types a builder of draft nodes is returned.
+     * @param rules Descriptors of the supported nodes
+     * @param klass The class to which to add the method
+     */
+    private static void createCreateBuilderMethod(final List<NodeDescriptor> rules,
+        final Klass klass) {
+        final List<String> code = new ArrayList<>(rules.size() * 3 + 12);
+        code.add("final Builder builder;");
+        code.add("switch (name) {");
+        for (final NodeDescriptor rule : rules) {
+            code.add(String.format("case \"%s\":", rule.getName()));
+            code.add(String.format("builder = new %s.Constructor();", rule.getName()));
+            code.add("break;");
+        }
+        code.add("default:");
+        code.add("final DraftNode.Constructor draft = new DraftNode.Constructor();");
+        code.add("draft.setName(name);");
+        code.add("builder = draft;");
+        code.add("break;");
+        code.add("}");
+        code.add("return builder;");
+        final Method method = new Method("Builder", "createBuilder");
+        method.makePublic();
+        method.addArgument("String", "name");
+        method.setBody(String.join("\n", code));
         klass.addMethod(method);
-        return dependencies;
     }
 }
@@ -0,0 +1,155 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.cqfn.astranaut.dsl.LeftSideItem;
+import org.cqfn.astranaut.dsl.PatternDescriptor;
+import org.cqfn.astranaut.dsl.StaticString;
+import org.cqfn.astranaut.dsl.SymbolDescriptor;
+import org.cqfn.astranaut.dsl.TypedHole;
+import org.cqfn.astranaut.parser.SymbolToken;
+
+/**
+ * Generates cheap checks of node types, child counts and static data that are performed
+ *  before any storage for extracted nodes and data is created.
+ *  Such a check fails exactly when the corresponding matcher would fail,
+ *  so most unsuccessful conversion attempts end without allocations.
+ * @since 1.0.0
+ */
+final class GuardGenerator {
+    /**
+     * Classes and interfaces generated for node descriptors.
+     */
+    private final NodeClasses classes;
+
+    /**
+     * Names of classes used in the generated checks.
+     */
+    private final Set<String> imports;
+
+    /**
+     * Constructor.
+     * @param classes Classes and interfaces generated for node descriptors
+     */
+    GuardGenerator(final NodeClasses classes) {
+        this.classes = classes;
+        this.imports = new TreeSet<>();
+    }
+
+    /**
+     * Returns the names of classes used in the generated checks, which are to be imported.
+     * @return Set of full class names
+     */
+    Set<String> getImports() {
+        return this.imports;
+    }
+
+    /**
+     * Composes a Java expression that is {@code true} if the node can not be matched
+     *  to the item. Negated items and logical expressions are not checked in advance,
+     *  the number of children is checked only if it is fixed by the pattern.
+     * @param item Left side item
+     * @param node Java expression that returns the node
+     * @return Java boolean expression or empty string if the item can not be checked cheaply
+     */
+    String composeRejection(final LeftSideItem item, final String node) {
+        final List<String> list = new ArrayList<>(3);
+        if (item instanceof PatternDescriptor && !item.isNegationFlagSet()) {
+            final PatternDescriptor pattern = (PatternDescriptor) item;
+            list.add(this.composeTypeRejection(node, pattern.getType()));
+            if (!pattern.hasOptionalOrRepeated()) {
+                list.add(
+                    String.format(
+                        "%s.getChildCount() != %d",
+                        node,
+                        pattern.getChildren().size()
+                    )
+                );
+            }
+            if (pattern.getData() instanceof StaticString) {
+                list.add(
+                    "!".concat(
+                        this.classes.composeDataCheck(
+                            node,
+                            pattern.getType(),
+                            (StaticString) pattern.getData(),
+                            this.imports
+                        )
+                    )
+                );
+            }
+        } else if (item instanceof TypedHole && !item.isNegationFlagSet()) {
+            list.add(this.composeTypeRejection(node, ((TypedHole) item).getType()));
+        } else if (item instanceof SymbolDescriptor && !item.isNegationFlagSet()) {
+            list.add(this.composeTypeRejection(node, "Char"));
+            final SymbolDescriptor symbol = (SymbolDescriptor) item;
+            if (symbol.getToken() instanceof SymbolToken) {
+                list.add(
+                    String.format(
+                        "!%s.getData().equals(%s)",
+                        node,
+                        symbol.getToken().toQuotedString('\"')
+                    )
+                );
+            }
+        }
+        return String.join(" || ", list);
+    }
+
+    /**
+     * Generates a check that interrupts the matching if the node can not be matched
+     *  to the item.
+     * @param item Left side item
+     * @param offset Offset of the node relative to the current index
+     * @param code List with lines of generated source code
+     */
+    void generate(final LeftSideItem item, final int offset, final List<String> code) {
+        final String node;
+        if (offset > 0) {
+            node = String.format("list.get(%d + index)", offset);
+        } else {
+            node = "list.get(index)";
+        }
+        final String condition = this.composeRejection(item, node);
+        if (!condition.isEmpty()) {
+            code.add(String.format("if (%s) {", condition));
+            code.add("    break;");
+            code.add("}");
+        }
+    }
+
+    /**
+     * Composes a Java expression that is {@code true} if the node does not belong to a type.
+     * @param node Java expression that returns the node
+     * @param type Name of the type
+     * @return Java boolean expression
+     */
+    private String composeTypeRejection(final String node, final String type) {
+        return "!".concat(this.classes.composeTypeCheck(node, type, this.imports));
+    }
+}
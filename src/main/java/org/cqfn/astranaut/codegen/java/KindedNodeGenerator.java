@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+/**
+ * Generates the interface implemented by all generated nodes, which provides the kind
+ *  of a node, i.e. the number of its type.
+ * @since 1.0.0
+ */
+public final class KindedNodeGenerator {
+    /**
+     * Creates compilation unit that contains the interface.
+     * @param context Data required to generate Java source code
+     * @return Compilation unit
+     */
+    public CompilationUnit createUnit(final Context context) {
+        final Interface iface = new Interface(
+            NodeClasses.MARKER,
+            "Node whose type is generated from the DSL description and is identified by a number"
+        );
+        iface.makePublic();
+        iface.setVersion(context.getVersion());
+        iface.setExtendsList(Strings.TYPE_NODE);
+        final MethodSignature method = new MethodSignature(
+            Strings.TYPE_INT,
+            "getKind",
+            "Returns the number of the node type, unique within the generated code"
+        );
+        method.setReturnsDescription("Kind of the node");
+        iface.addMethodSignature(method);
+        final CompilationUnit unit = new CompilationUnit(
+            context.getLicense(),
+            context.getPackage(),
+            iface
+        );
+        unit.addImport("org.cqfn.astranaut.core.base.Node");
+        return unit;
+    }
+}
@@ -74,6 +74,11 @@ public final class Klass implements ClassOrInterface {
      */
     private boolean fin;
 
+    /**
+     * Flag indicating that the generated class is abstract.
+     */
+    private boolean abs;
+
     /**
      * The name of the superclass from which this class inherits.
      */
@@ -183,6 +188,13 @@ public final class Klass implements ClassOrInterface {
         this.fin = true;
     }
 
+    /**
+     * Makes the class abstract.
+     */
+    public void makeAbstract() {
+        this.abs = true;
+    }
+
     /**
      * Sets the name of the superclass from which this class inherits.
      * @param classname Class name
@@ -281,6 +293,9 @@ public final class Klass implements ClassOrInterface {
         } else if (this.pvt) {
             header.append("private ");
         }
+        if (this.abs) {
+            header.append("abstract ");
+        }
         if (this.stat) {
             header.append("static ");
         }
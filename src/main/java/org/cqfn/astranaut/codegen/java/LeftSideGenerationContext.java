@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import org.cqfn.astranaut.dsl.StaticString;
 
 /**
  * All that is needed to generate a set of matchers from a set of rules.
@@ -50,13 +51,27 @@ public final class LeftSideGenerationContext {
      */
     private final Map<Klass, Set<String>> imports;
 
+    /**
+     * Classes and interfaces generated for node descriptors.
+     */
+    private final NodeClasses classes;
+
     /**
      * Constructor.
      */
     public LeftSideGenerationContext() {
+        this(new NodeClasses());
+    }
+
+    /**
+     * Constructor.
+     * @param classes Classes and interfaces generated for node descriptors
+     */
+    public LeftSideGenerationContext(final NodeClasses classes) {
         this.matchers = new TreeMap<>();
         this.labels = new NumberedLabelGenerator("Matcher");
         this.imports = new HashMap<>();
+        this.classes = classes;
     }
 
     /**
@@ -93,4 +108,41 @@ public final class LeftSideGenerationContext {
     public Set<String> getImports(final Klass klass) {
         return this.imports.getOrDefault(klass, Collections.emptySet());
     }
+
+    /**
+     * Composes a Java expression that checks whether a node belongs to a type,
+     *  and adds the classes used in the expression to the imports of the matcher.
+     * @param klass Matcher class
+     * @param node Java expression that returns the node
+     * @param type Name of the type
+     * @return Java boolean expression
+     */
+    public String composeTypeCheck(final Klass klass, final String node, final String type) {
+        final Set<String> names = new TreeSet<>();
+        final String check = this.classes.composeTypeCheck(node, type, names);
+        for (final String name : names) {
+            this.addImport(klass, name);
+        }
+        return check;
+    }
+
+    /**
+     * Composes a Java expression that checks whether the data of a node is equal
+     *  to static data, and adds the classes used in the expression to the imports
+     *  of the matcher.
+     * @param klass Matcher class
+     * @param node Java expression that returns the node
+     * @param type Name of the type
+     * @param data Static data
+     * @return Java boolean expression
+     */
+    public String composeDataCheck(final Klass klass, final String node, final String type,
+        final StaticString data) {
+        final Set<String> names = new TreeSet<>();
+        final String check = this.classes.composeDataCheck(node, type, data, names);
+        for (final String name : names) {
+            this.addImport(klass, name);
+        }
+        return check;
+    }
 }
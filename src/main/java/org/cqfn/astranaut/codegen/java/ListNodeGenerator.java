@@ -41,9 +41,9 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
     private final ListNodeDescriptor rule;
 
     /**
-     * Java type of node list.
+     * Java type of array of child nodes.
      */
-    private final String ltype;
+    private final String atype;
 
     /**
      * Constructor.
@@ -51,7 +51,7 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
      */
     public ListNodeGenerator(final ListNodeDescriptor rule) {
         this.rule = rule;
-        this.ltype = String.format("List<%s>", this.rule.getChildType());
+        this.atype = String.format("%s[]", this.rule.getChildType());
     }
 
     @Override
@@ -63,12 +63,13 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
     public void createSpecificEntitiesInNodeClass(final Klass klass) {
         final String type = this.rule.getChildType();
         final Field children = new Field(
-            this.ltype,
+            this.atype,
             "children",
-            "List of child nodes"
+            "Array of child nodes"
         );
         children.makePrivate();
         klass.addField(children);
+        this.createChildrenListGetter(klass);
         final Method getter = new Method(
             type,
             String.format("get%s", type),
@@ -76,7 +77,7 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
         );
         getter.makePublic();
         getter.addArgument(Strings.TYPE_INT, "index", "Child index");
-        getter.setBody("return this.children.get(index);");
+        getter.setBody("return this.children[index];");
         getter.setReturnsDescription("Child node");
         klass.addMethod(getter);
     }
@@ -88,12 +89,12 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
 
     @Override
     public String getChildCountGetterBody() {
-        return "return this.children.size();";
+        return "return this.children.length;";
     }
 
     @Override
     public String getChildGetterBody() {
-        return "return this.children.get(index);";
+        return "return this.children[index];";
     }
 
     @Override
@@ -104,11 +105,16 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
 
     @Override
     public void createSpecificEntitiesInBuilderClass(final Klass klass) {
-        this.needCollectionsClass();
+        final String type = this.rule.getChildType();
+        final Field empty = new Field(this.atype, "EMPTY", "Empty array of child nodes");
+        empty.makePrivate();
+        empty.makeStatic();
+        empty.makeFinal(String.format("new %s[0]", type));
+        klass.addField(empty);
         final Field children = new Field(
-            this.ltype,
+            this.atype,
             "children",
-            "List of child nodes"
+            "Array of child nodes"
         );
         children.makePrivate();
         klass.addField(children);
@@ -119,7 +125,7 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
                 "\n",
                 Arrays.asList(
                     "this.fragment = EmptyFragment.INSTANCE;",
-                    "this.children = Collections.emptyList();"
+                    String.format("this.children = %s.EMPTY;", klass.getName())
                 )
             )
         );
@@ -132,25 +138,23 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
 
     @Override
     public String getChildrenListSetterBody() {
-        this.needArrayListClass();
         final String type = this.rule.getChildType();
         final List<String> lines = new ArrayList<>(16);
-        lines.add(
-            String.format(
-                "final %s temp = new ArrayList<>(list.size());",
-               this.ltype
-            )
-        );
-        lines.add("boolean result = true;");
+        lines.add(String.format("final %s temp = new %s[list.size()];", this.atype, type));
+        lines.add("int count = 0;");
         lines.add("for (final Node node: list) {");
-        lines.add(String.format("if (node instanceof %s) {", type));
-        lines.add(String.format("temp.add((%s) node);", type));
-        lines.add("} else {");
-        lines.add("result = false;");
+        lines.add(String.format("if (!(node instanceof %s)) {", type));
         lines.add("break;");
         lines.add("}");
+        lines.add(String.format("temp[count] = (%s) node;", type));
+        lines.add("count = count + 1;");
         lines.add("}");
+        lines.add("final boolean result = count == temp.length;");
+        lines.add("if (result) {");
         lines.add("this.children = temp;");
+        lines.add("} else {");
+        lines.add("this.children = Arrays.copyOf(temp, count);");
+        lines.add("}");
         lines.add("return result;");
         return String.join("\n", lines);
     }
@@ -162,6 +166,11 @@ public final class ListNodeGenerator extends NonAbstractNodeGenerator {
 
     @Override
     public void fillNodeCreator(final List<String> lines) {
-        lines.add("node.children = Collections.unmodifiableList(this.children);");
+        lines.add("node.children = this.children;");
+    }
+
+    @Override
+    public boolean fillStaticFactory(final Method method, final List<String> lines) {
+        return false;
     }
 }
@@ -61,6 +61,15 @@ public final class LiteralGenerator extends NonAbstractNodeGenerator {
         );
         value.makePrivate();
         klass.addField(value);
+        if (this.isSerializedDataCached()) {
+            final Field text = new Field(
+                Strings.TYPE_STRING,
+                "text",
+                "Value of the node converted to a string, is computed on the first request"
+            );
+            text.makePrivate();
+            klass.addField(text);
+        }
         this.needCollectionsClass();
         final Method getter = new Method(
             this.rule.getDataType(),
@@ -74,6 +83,9 @@ public final class LiteralGenerator extends NonAbstractNodeGenerator {
             getter.suppressWarning("PMD.BooleanGetMethodName");
         }
         klass.addMethod(getter);
+        if (LiteralValues.isComparable(this.rule)) {
+            this.createValueChecker(klass);
+        }
         final Method list = new Method(Strings.TYPE_NODE_LIST, "getChildrenList");
         list.makePublic();
         list.setBody("return Collections.emptyList();");
@@ -86,10 +98,15 @@ public final class LiteralGenerator extends NonAbstractNodeGenerator {
         final String body;
         if (serializer.isEmpty()) {
             body = "return this.data;";
+        } else if (this.isSerializedDataCached()) {
+            body = String.format(
+                "if (this.text == null) {\nthis.text = %s;\n}\nreturn this.text;",
+                serializer.replace("#", "this.data")
+            );
         } else {
             body = String.format(
                 "return %s;",
-                this.rule.getSerializer().replace("#", "this.data")
+                serializer.replace("#", "this.data")
             );
         }
         return body;
@@ -186,4 +203,56 @@ public final class LiteralGenerator extends NonAbstractNodeGenerator {
     public void fillNodeCreator(final List<String> lines) {
         lines.add("node.data = this.data;");
     }
+
+    @Override
+    public boolean fillStaticFactory(final Method method, final List<String> lines) {
+        method.addArgument(this.rule.getDataType(), "value", "Value of the node");
+        lines.add("node.data = value;");
+        return true;
+    }
+
+    /**
+     * Checks whether the node caches its data converted to a string. The data is cached
+     *  only if it is converted by a serializer and the value can't be changed after
+     *  the node is created, that is, the value has a primitive type or is a string.
+     * @return Checking result
+     */
+    private boolean isSerializedDataCached() {
+        final String type = this.rule.getDataType();
+        return !this.rule.getSerializer().isEmpty()
+            && (LiteralDescriptor.PRIMITIVES.containsKey(type) || type.equals(Strings.TYPE_STRING));
+    }
+
+    /**
+     * Creates the static 'hasValue()' method, which compares the data of a node with
+     *  a value in native form. Generated converters use it to check static data
+     *  of literals without converting the data of each node to a string.
+     * @param klass Class describing the node
+     */
+    private void createValueChecker(final Klass klass) {
+        final String name = this.rule.getName();
+        final Method method = new Method(
+            Strings.TYPE_BOOLEAN,
+            "hasValue",
+            "Checks whether the node contains the specified value"
+        );
+        method.makePublic();
+        method.makeStatic();
+        method.addArgument(Strings.TYPE_NODE, "node", "Node to be checked");
+        method.addArgument(this.rule.getDataType(), "value", "Expected value");
+        method.setReturnsDescription("Checking result");
+        method.setBody(
+            String.join(
+                "\n",
+                "final boolean result;",
+                String.format("if (node instanceof %s) {", name),
+                String.format("result = ((%s) node).data == value;", name),
+                "} else {",
+                "result = node.getData().equals(String.valueOf(value));",
+                "}",
+                "return result;"
+            )
+        );
+        klass.addMethod(method);
+    }
 }
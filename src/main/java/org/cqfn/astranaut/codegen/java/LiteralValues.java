@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.cqfn.astranaut.dsl.LiteralDescriptor;
+import org.cqfn.astranaut.dsl.StaticString;
+
+/**
+ * Converts static data of literals into values of their native types when the source code
+ *  of converters is generated, so that the converters compare and create literals
+ *  without converting values to strings and back.
+ * @since 1.0.0
+ */
+final class LiteralValues {
+    /**
+     * Primitive types whose values are compared in native form.
+     */
+    private static final Set<String> COMPARABLE = new HashSet<>(
+        Arrays.asList("byte", "short", "int", "long", "char", "boolean")
+    );
+
+    /**
+     * Private constructor.
+     */
+    private LiteralValues() {
+    }
+
+    /**
+     * Checks whether the data of a literal can be compared with a value in native form,
+     *  that is, the literal stores a value of an integer, a character or a boolean type
+     *  and converts it to and from a string in the default way.
+     * @param literal Descriptor of the literal
+     * @return Checking result
+     */
+    public static boolean isComparable(final LiteralDescriptor literal) {
+        return literal.hasDefaultConversions()
+            && LiteralValues.COMPARABLE.contains(literal.getDataType());
+    }
+
+    /**
+     * Checks whether the value of one literal can be passed to another literal as is,
+     *  without converting it to a string and back.
+     * @param first Descriptor of the literal that contains the value
+     * @param second Descriptor of the literal that receives the value
+     * @return Checking result
+     */
+    public static boolean areCompatible(final LiteralDescriptor first,
+        final LiteralDescriptor second) {
+        return first.getDataType().equals(second.getDataType())
+            && LiteralValues.hasTrivialConversions(first)
+            && LiteralValues.hasTrivialConversions(second);
+    }
+
+    /**
+     * Composes Java code of the value that a literal gets when the static data
+     *  is assigned to it.
+     * @param literal Descriptor of the literal
+     * @param data Static data
+     * @return Java code or an empty string if the value is unknown at generation time
+     */
+    public static String toJavaCode(final LiteralDescriptor literal, final StaticString data) {
+        final String code;
+        if (literal.getDataType().equals(Strings.TYPE_STRING)
+            && literal.getParser().isEmpty()) {
+            code = data.toJavaCode();
+        } else if (LiteralValues.isComparable(literal)) {
+            code = LiteralValues.convert(literal.getDataType(), data.getValue())[0];
+        } else {
+            code = "";
+        }
+        return code;
+    }
+
+    /**
+     * Composes Java code of the value that a literal has when its data is equal
+     *  to the static data. Unlike {@link LiteralValues#toJavaCode}, the value
+     *  must be converted back exactly to the same string.
+     * @param literal Descriptor of the literal
+     * @param data Static data
+     * @return Java code or an empty string if there is no such value
+     */
+    public static String toExactJavaCode(final LiteralDescriptor literal,
+        final StaticString data) {
+        String code = "";
+        if (LiteralValues.isComparable(literal)) {
+            final String[] value = LiteralValues.convert(literal.getDataType(), data.getValue());
+            if (value[1].equals(data.getValue())) {
+                code = value[0];
+            }
+        }
+        return code;
+    }
+
+    /**
+     * Checks whether a literal stores its value as is or converts it
+     *  to and from a string in the default way.
+     * @param literal Descriptor of the literal
+     * @return Checking result
+     */
+    private static boolean hasTrivialConversions(final LiteralDescriptor literal) {
+        return literal.hasDefaultConversions()
+            || literal.getDataType().equals(Strings.TYPE_STRING)
+            && literal.getSerializer().isEmpty() && literal.getParser().isEmpty();
+    }
+
+    /**
+     * Converts a string into a value of a primitive type in the same way as the default
+     *  parser of a literal does.
+     * @param type Primitive type
+     * @param text String to be converted
+     * @return Pair of strings: Java code of the value and the value converted back to a string,
+     *  or a pair of empty strings if the string can't be converted
+     */
+    private static String[] convert(final String type, final String text) {
+        String[] result = {"", ""};
+        try {
+            if (type.equals("byte")) {
+                final byte value = Byte.parseByte(text);
+                result = new String[] {String.format("(byte) %d", value), String.valueOf(value)};
+            } else if (type.equals("short")) {
+                final short value = Short.parseShort(text);
+                result = new String[] {String.format("(short) %d", value), String.valueOf(value)};
+            } else if (type.equals(Strings.TYPE_INT)) {
+                final int value = Integer.parseInt(text);
+                result = new String[] {String.valueOf(value), String.valueOf(value)};
+            } else if (type.equals("long")) {
+                final long value = Long.parseLong(text);
+                result = new String[] {String.format("%dL", value), String.valueOf(value)};
+            } else if (type.equals("char") && !text.isEmpty()) {
+                final char value = text.charAt(0);
+                final String code;
+                if (value < 128 && Character.isLetterOrDigit(value)) {
+                    code = String.format("'%c'", value);
+                } else {
+                    code = String.format("(char) %d", (int) value);
+                }
+                result = new String[] {code, String.valueOf(value)};
+            } else if (type.equals(Strings.TYPE_BOOLEAN)) {
+                final boolean value = Boolean.parseBoolean(text);
+                result = new String[] {String.valueOf(value), String.valueOf(value)};
+            }
+        } catch (final NumberFormatException ignored) {
+            result = new String[] {"", ""};
+        }
+        return result;
+    }
+}
@@ -118,6 +118,9 @@ final class LongLineBreaker {
 
     /**
      * Tries to split the line by logical AND (`&&`) or OR (`||`) operator.
+     * The line is split by AND operators first, and if this is not enough,
+     *  then by OR operators. Parts between AND operators that are still too long
+     *  are also split by OR operators.
      * If successful, adds split parts and updates internal state accordingly.
      *
      * @param lines Output list of line parts with indentation
@@ -132,12 +135,7 @@ final class LongLineBreaker {
             index = this.tail.indexOf(oper);
         }
         while (!result && index > 0) {
-            lines.add(
-                new Pair<>(
-                    this.tail.substring(0, index).trim(),
-                    this.offset + this.bias
-                )
-            );
+            this.addOperands(this.tail.substring(0, index).trim(), lines);
             this.tail = this.tail.substring(index).trim();
             this.bias = 1;
             if (SourceCodeBuilder.tryOn(this.indent + this.offset + 1, this.tail)) {
@@ -145,10 +143,34 @@ final class LongLineBreaker {
                 result = true;
             }
             index = this.tail.indexOf(oper, 2);
+            if (index <= 0 && "&&".equals(oper)) {
+                oper = "||";
+                index = this.tail.indexOf(oper, 2);
+            }
         }
         return result;
     }
 
+    /**
+     * Adds operands of a logical AND operator to the list of line parts.
+     * If they do not fit on one line, they are split by OR (`||`) operators.
+     *
+     * @param operands Source code containing the operands
+     * @param lines Output list of line parts with indentation
+     */
+    private void addOperands(final String operands, final List<Pair<String, Integer>> lines) {
+        String rest = operands;
+        int index = rest.indexOf("||", 2);
+        while (index > 0
+            && !SourceCodeBuilder.tryOn(this.indent + this.offset + this.bias, rest)) {
+            lines.add(new Pair<>(rest.substring(0, index).trim(), this.offset + this.bias));
+            rest = rest.substring(index).trim();
+            this.bias = 1;
+            index = rest.indexOf("||", 2);
+        }
+        lines.add(new Pair<>(rest, this.offset + this.bias));
+    }
+
     /**
      * Tries to split the line by method call chaining (`).`).
      * If successful, adds split parts and updates internal state accordingly.
@@ -68,6 +68,11 @@ public final class Method extends BaseMethod {
      */
     private boolean fin;
 
+    /**
+     * Flag indicating that the generated method is abstract, i.e. has no body.
+     */
+    private boolean abs;
+
     /**
      * List of method arguments (where key is type, value is name).
      */
@@ -133,6 +138,13 @@ public final class Method extends BaseMethod {
         this.fin = true;
     }
 
+    /**
+     * Makes the method abstract. Such a method has no body.
+     */
+    public void makeAbstract() {
+        this.abs = true;
+    }
+
     /**
      * Adds an argument to the method.
      * @param type Type of the argument
@@ -198,8 +210,10 @@ public final class Method extends BaseMethod {
             code.add(indent, "@Override");
         }
         this.composeHeader(indent, code);
-        this.buildBody(indent + 1, code);
-        code.add(indent, "}");
+        if (!this.abs) {
+            this.buildBody(indent + 1, code);
+            code.add(indent, "}");
+        }
     }
 
     @Override
@@ -223,6 +237,9 @@ public final class Method extends BaseMethod {
         } else if (this.isPrivate()) {
             builder.append("private ");
         }
+        if (this.abs) {
+            builder.append("abstract ");
+        }
         if (this.stat) {
             builder.append("static ");
         }
@@ -230,24 +247,39 @@ public final class Method extends BaseMethod {
             builder.append("final ");
         }
         builder.append(this.ret).append(' ').append(this.name).append('(');
+        final String ending;
+        if (this.abs) {
+            ending = ");";
+        } else {
+            ending = ") {";
+        }
         boolean flag = false;
         int offset = 0;
         String header = builder.toString();
-        for (final Pair<String, String> arg : this.args) {
+        for (int index = 0; index < this.args.size(); index = index + 1) {
+            final Pair<String, String> arg = this.args.get(index);
             if (flag) {
                 header = header.concat(", ");
             }
             flag = true;
-            final String argstr = String.format("final %s %s", arg.getKey(), arg.getValue());
-            final String bigger = header.concat(argstr);
+            final String argstr;
+            if (this.abs) {
+                argstr = String.format("%s %s", arg.getKey(), arg.getValue());
+            } else {
+                argstr = String.format("final %s %s", arg.getKey(), arg.getValue());
+            }
+            String bigger = header.concat(argstr);
+            if (index == this.args.size() - 1) {
+                bigger = bigger.concat(ending);
+            }
             if (SourceCodeBuilder.tryOn(indent + offset, bigger)) {
-                header = bigger;
+                header = header.concat(argstr);
             } else {
                 code.add(indent + offset, header.trim());
                 header = argstr;
                 offset = 1;
             }
         }
-        code.add(indent + offset, header.concat(") {"));
+        code.add(indent + offset, header.concat(ending));
     }
 }
@@ -0,0 +1,334 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.cqfn.astranaut.dsl.LiteralDescriptor;
+import org.cqfn.astranaut.dsl.NodeDescriptor;
+import org.cqfn.astranaut.dsl.NonAbstractNodeDescriptor;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.dsl.RegularNodeDescriptor;
+import org.cqfn.astranaut.dsl.StaticString;
+
+/**
+ * Java classes and interfaces generated for the node descriptors of a program.
+ *  Each class describing a non-abstract node gets a number (kind) that is unique
+ *  within the program, so generated code can select node types using {@code switch}
+ *  and check types of nodes using {@code instanceof} instead of comparing strings.
+ * @since 1.0.0
+ */
+public final class NodeClasses {
+    /**
+     * Name of the interface implemented by all generated nodes.
+     */
+    public static final String MARKER = "KindedNode";
+
+    /**
+     * Names that can not be imported into generated matchers and converters
+     *  because the generated code already uses them.
+     */
+    private static final Set<String> RESERVED = new HashSet<>(
+        Arrays.asList(
+            "Builder", "Character", "ConversionResult", "Converter", "DummyNode", "EmptyFragment",
+            "Extracted", "Factory", "Fragment", "List", "Matcher", "Node", "NullNode", "Object",
+            "Optional", "ScopedConverter", "String", NodeClasses.MARKER
+        )
+    );
+
+    /**
+     * Full names of generated classes and interfaces mapped to names of types.
+     */
+    private final Map<String, List<String>> classes;
+
+    /**
+     * Node descriptors mapped to names of types.
+     */
+    private final Map<String, List<NodeDescriptor>> descriptors;
+
+    /**
+     * Kinds of non-abstract nodes.
+     */
+    private final Map<NodeDescriptor, Integer> kinds;
+
+    /**
+     * Full name of the interface implemented by all generated nodes.
+     */
+    private final String marker;
+
+    /**
+     * Program implemented in DSL, or {@code null} if the collection is empty.
+     */
+    private final Program program;
+
+    /**
+     * Root package of the generated code, or {@code null} if the collection is empty.
+     */
+    private final Package root;
+
+    /**
+     * Constructor that creates an empty collection, so all types are checked by name.
+     */
+    public NodeClasses() {
+        this.classes = Collections.emptyMap();
+        this.descriptors = Collections.emptyMap();
+        this.kinds = Collections.emptyMap();
+        this.marker = NodeClasses.MARKER;
+        this.program = null;
+        this.root = null;
+    }
+
+    /**
+     * Constructor.
+     * @param program Program implemented in DSL
+     * @param root Root package of the generated code
+     */
+    public NodeClasses(final Program program, final Package root) {
+        this.classes = new TreeMap<>();
+        this.descriptors = new TreeMap<>();
+        this.kinds = new LinkedHashMap<>();
+        this.marker = String.format("%s.%s", root, NodeClasses.MARKER);
+        this.program = program;
+        this.root = root;
+        final List<String> languages = new ArrayList<>(program.getAllLanguages());
+        if (languages.remove("common")) {
+            languages.add(0, "common");
+        }
+        int kind = 0;
+        for (final String language : languages) {
+            final Package pkg = root.getSubpackage(language, "nodes");
+            for (final NodeDescriptor descriptor
+                : program.getNodeDescriptorsByLanguage(language).values()) {
+                this.classes.computeIfAbsent(descriptor.getName(), key -> new ArrayList<>(1))
+                    .add(String.format("%s.%s", pkg, descriptor.getName()));
+                this.descriptors.computeIfAbsent(descriptor.getName(), key -> new ArrayList<>(1))
+                    .add(descriptor);
+                if (descriptor instanceof NonAbstractNodeDescriptor) {
+                    this.kinds.put(descriptor, kind);
+                    kind = kind + 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether there are no generated classes in the collection.
+     * @return Checking result, {@code true} if the collection is empty
+     */
+    public boolean isEmpty() {
+        return this.classes.isEmpty();
+    }
+
+    /**
+     * Returns the full name of the interface implemented by all generated nodes.
+     * @return Full name of the interface
+     */
+    public String getMarker() {
+        return this.marker;
+    }
+
+    /**
+     * Returns the kind of nodes described by a non-abstract node descriptor.
+     * @param descriptor Descriptor
+     * @return Kind of the node or -1 if the descriptor does not belong to the program
+     */
+    public int getKind(final NodeDescriptor descriptor) {
+        return this.kinds.getOrDefault(descriptor, -1);
+    }
+
+    /**
+     * Returns descriptors of all non-abstract nodes mapped to their kinds.
+     * @return Map of descriptors, sorted by kind
+     */
+    public Map<NodeDescriptor, Integer> getKinds() {
+        return Collections.unmodifiableMap(this.kinds);
+    }
+
+    /**
+     * Finds the descriptor of a regular node by the name of its type, as it is resolved
+     *  in the rules of the specified language.
+     * @param type Name of the type
+     * @param language Language of the rule
+     * @return Node descriptor or {@code null} if the type does not describe a regular node
+     */
+    public RegularNodeDescriptor findRegularNode(final String type, final String language) {
+        RegularNodeDescriptor result = null;
+        final NodeDescriptor descriptor = this.findDescriptor(type, language);
+        if (descriptor instanceof RegularNodeDescriptor) {
+            result = (RegularNodeDescriptor) descriptor;
+        }
+        return result;
+    }
+
+    /**
+     * Finds the descriptor of a literal by the name of its type, as it is resolved
+     *  in the rules of the specified language.
+     * @param type Name of the type
+     * @param language Language of the rule
+     * @return Node descriptor or {@code null} if the type does not describe a literal
+     */
+    public LiteralDescriptor findLiteral(final String type, final String language) {
+        LiteralDescriptor result = null;
+        final NodeDescriptor descriptor = this.findDescriptor(type, language);
+        if (descriptor instanceof LiteralDescriptor) {
+            result = (LiteralDescriptor) descriptor;
+        }
+        return result;
+    }
+
+    /**
+     * Composes the name by which the class generated for a node descriptor is referred to
+     *  in generated matchers and converters. The simple name is used if it is unambiguous,
+     *  otherwise the full name.
+     * @param type Name of the type
+     * @param language Language in which the type name is resolved
+     * @param imports Set to which the names of classes to be imported are added
+     * @return Name of the class or interface, or {@code null} if the type is not described
+     */
+    public String composeClassName(final String type, final String language,
+        final Set<String> imports) {
+        String result = null;
+        final NodeDescriptor descriptor = this.findDescriptor(type, language);
+        if (descriptor != null) {
+            result = String.format(
+                "%s.%s",
+                this.root.getSubpackage(descriptor.getLanguage(), "nodes"),
+                type
+            );
+            if (NodeClasses.canBeImported(type, this.classes.get(type))) {
+                imports.add(result);
+                result = type;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Composes a Java expression that checks whether a node belongs to a type.
+     *  Generated nodes are checked using {@code instanceof}, and the type name
+     *  is compared only for nodes that were created in some other way.
+     * @param node Java expression that returns the node
+     * @param type Name of the type
+     * @param imports Set to which the names of classes to be imported are added
+     * @return Java boolean expression, enclosed in parentheses if it is compound
+     */
+    public String composeTypeCheck(final String node, final String type,
+        final Set<String> imports) {
+        final List<String> names = this.classes.get(type);
+        final String check;
+        if (names == null) {
+            check = String.format("%s.belongsToGroup(\"%s\")", node, type);
+        } else {
+            final StringBuilder builder = new StringBuilder(128);
+            builder.append('(');
+            for (final String name : names) {
+                String shortened = name;
+                if (NodeClasses.canBeImported(type, names)) {
+                    imports.add(name);
+                    shortened = type;
+                }
+                builder.append(node).append(" instanceof ").append(shortened).append(" || ");
+            }
+            imports.add(this.marker);
+            builder
+                .append("!(")
+                .append(node)
+                .append(" instanceof ")
+                .append(NodeClasses.MARKER)
+                .append(") && ")
+                .append(node)
+                .append(".belongsToGroup(\"")
+                .append(type)
+                .append("\"))");
+            check = builder.toString();
+        }
+        return check;
+    }
+
+    /**
+     * Composes a Java expression that checks whether the data of a node is equal
+     *  to static data. If the type describes a single literal that stores integers,
+     *  characters or booleans, the data is compared in native form,
+     *  otherwise as a string.
+     * @param node Java expression that returns the node
+     * @param type Name of the type
+     * @param data Static data
+     * @param imports Set to which the names of classes to be imported are added
+     * @return Java boolean expression
+     */
+    public String composeDataCheck(final String node, final String type,
+        final StaticString data, final Set<String> imports) {
+        final List<NodeDescriptor> list = this.descriptors.get(type);
+        String value = "";
+        if (list != null && list.size() == 1 && list.get(0) instanceof LiteralDescriptor) {
+            value = LiteralValues.toExactJavaCode((LiteralDescriptor) list.get(0), data);
+        }
+        final String check;
+        if (value.isEmpty()) {
+            check = String.format("%s.getData().equals(%s)", node, data.toJavaCode());
+        } else {
+            final List<String> names = this.classes.get(type);
+            String name = names.get(0);
+            if (NodeClasses.canBeImported(type, names)) {
+                imports.add(name);
+                name = type;
+            }
+            check = String.format("%s.hasValue(%s, %s)", name, node, value);
+        }
+        return check;
+    }
+
+    /**
+     * Finds a node descriptor by the name of its type, as it is resolved
+     *  in the rules of the specified language.
+     * @param type Name of the type
+     * @param language Language of the rule
+     * @return Node descriptor or {@code null} if the type is not described
+     */
+    private NodeDescriptor findDescriptor(final String type, final String language) {
+        NodeDescriptor result = null;
+        if (this.program != null) {
+            result = this.program.getNodeDescriptorByNameAndLanguage(type, language);
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the class generated for a type can be referred to by its simple name.
+     * @param type Name of the type
+     * @param names Full names of classes generated for types with this name
+     * @return Checking result
+     */
+    private static boolean canBeImported(final String type, final List<String> names) {
+        return names.size() == 1 && !NodeClasses.RESERVED.contains(type)
+            && !type.matches("(Matcher|Converter)\\d+");
+    }
+}
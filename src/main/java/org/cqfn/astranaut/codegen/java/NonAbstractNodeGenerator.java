@@ -43,24 +43,12 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
      */
     private boolean collections;
 
-    /**
-     * Flag indicating that the 'java.util.ArrayList' class should be included
-     *  in the generated code.
-     */
-    private boolean arraylist;
-
     /**
      * Flag indicating that the 'java.util.Arrays' class should be included
      *  in the generated code.
      */
     private boolean arrays;
 
-    /**
-     * Flag indicating that the 'org.cqfn.astranaut.core.utils.ListUtils' class should be included
-     *  in the generated code.
-     */
-    private boolean listutils;
-
     /**
      * Flag indicating that a non-trivial validator has been generated.
      */
@@ -88,7 +76,11 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
         final Constructor ctor = klass.createConstructor();
         ctor.makePrivate();
         final List<AbstractNodeDescriptor> bases = this.getRule().getBaseDescriptors();
-        if (bases.isEmpty()) {
+        final NodeClasses classes = context.getNodeClasses();
+        final int kind = classes.getKind(this.getRule());
+        if (bases.isEmpty() && kind >= 0) {
+            klass.setImplementsList(NodeClasses.MARKER);
+        } else if (bases.isEmpty()) {
             klass.setImplementsList(Strings.TYPE_NODE);
         } else {
             klass.setImplementsList(
@@ -100,7 +92,7 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
         klass.setVersion(context.getVersion());
         klass.addNested(this.createTypeClass(context));
         klass.addNested(this.createBuilderClass(context));
-        this.fillNodeClass(klass);
+        this.fillNodeClass(klass, kind);
         final CompilationUnit unit = new CompilationUnit(
             context.getLicense(),
             context.getPackage(),
@@ -111,15 +103,9 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
         if (this.collections) {
             unit.addImport("java.util.Collections");
         }
-        if (this.arraylist) {
-            unit.addImport("java.util.ArrayList");
-        }
         if (this.arrays) {
             unit.addImport("java.util.Arrays");
         }
-        if (this.listutils) {
-            unit.addImport("org.cqfn.astranaut.core.utils.ListUtils");
-        }
         if (this.allocator) {
             unit.addImport("org.cqfn.astranaut.core.algorithms.NodeAllocator");
         }
@@ -132,6 +118,9 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
         if (this.chldecr) {
             unit.addImport(base.concat(Strings.TYPE_CHLD_DESCR));
         }
+        if (bases.isEmpty() && kind >= 0) {
+            unit.addImport(classes.getMarker());
+        }
         this.resolveDependencies(unit, context);
         return Collections.singleton(unit);
     }
@@ -204,19 +193,20 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
     public abstract void fillNodeCreator(List<String> lines);
 
     /**
-     * Sets the flag indicating that the 'java.util.Collections' class
-     *  should be included in the generated code.
+     * Adds arguments to the static 'of()' method that creates a node without a builder,
+     *  and fills its body after the lines creating the node and setting its fragment.
+     * @param method Description of the method
+     * @param lines List of where to write source code lines
+     * @return {@code true} if the method can be created for this node
      */
-    protected void needCollectionsClass() {
-        this.collections = true;
-    }
+    public abstract boolean fillStaticFactory(Method method, List<String> lines);
 
     /**
-     * Sets the flag indicating that the 'java.util.ArrayList' class
+     * Sets the flag indicating that the 'java.util.Collections' class
      *  should be included in the generated code.
      */
-    protected void needArrayListClass() {
-        this.arraylist = true;
+    protected void needCollectionsClass() {
+        this.collections = true;
     }
 
     /**
@@ -227,14 +217,6 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
         this.arrays = true;
     }
 
-    /**
-     * Sets the flag indicating that the 'org.cqfn.astranaut.core.utils.ListUtils' class
-     *  should be included in the generated code.
-     */
-    protected void needListUtilsClass() {
-        this.listutils = true;
-    }
-
     /**
      * Sets a flag indicating that a non-trivial validator has been generated.
      */
@@ -258,16 +240,84 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
         this.allocator = true;
     }
 
+    /**
+     * Creates the 'getChildrenList()' method for a node that stores its children in
+     *  an array. The method returns a read-only list backed by the array, which is created
+     *  on the first request and then reused, because the array never changes
+     *  after the node is created.
+     * @param klass Class describing the node
+     */
+    protected void createChildrenListGetter(final Klass klass) {
+        this.needCollectionsClass();
+        this.needArraysClass();
+        final Field field = new Field(
+            Strings.TYPE_NODE_LIST,
+            "childrenList",
+            "List of child nodes backed by the array, is created on the first request"
+        );
+        field.makePrivate();
+        klass.addField(field);
+        final Method list = new Method(Strings.TYPE_NODE_LIST, "getChildrenList");
+        list.makePublic();
+        list.setBody(
+            String.join(
+                "\n",
+                "if (this.childrenList == null) {",
+                "this.childrenList = Collections.unmodifiableList(Arrays.asList(this.children));",
+                "}",
+                "return this.childrenList;"
+            )
+        );
+        klass.addMethod(list);
+    }
+
     /**
      * Fills the class describing the node with fields and methods.
      * @param klass Class describing the node
+     * @param kind Kind of the node or -1 if the node has no kind
      */
-    private void fillNodeClass(final Klass klass) {
+    private void fillNodeClass(final Klass klass, final int kind) {
         NonAbstractNodeGenerator.createFragmentFieldAndGetter(klass);
         this.createTypeFieldAndGetter(klass);
+        if (kind >= 0) {
+            this.createKindFieldAndGetter(klass, kind);
+            this.createAcceptMethod(klass);
+        }
         this.createDataGetter(klass);
         this.createChildrenFieldAndGetter(klass);
         this.createSpecificEntitiesInNodeClass(klass);
+        this.createStaticFactory(klass);
+    }
+
+    /**
+     * Creates the static 'of()' method, which creates a node directly from its fragment
+     *  and typed children. Unlike the builder, the method does not check the children,
+     *  so it is used by generated converters after they have checked them.
+     * @param klass Class describing the node
+     */
+    private void createStaticFactory(final Klass klass) {
+        final String name = this.getRule().getName();
+        final Method method = new Method(
+            name,
+            "of",
+            "Creates a node without a builder, the arguments are not checked"
+        );
+        method.makePublic();
+        method.makeStatic();
+        method.addArgument(
+            Strings.TYPE_FRAGMENT,
+            "fragment",
+            "Fragment of source code that is associated with the node"
+        );
+        method.setReturnsDescription("New node");
+        final List<String> lines = new ArrayList<>(16);
+        lines.add(String.format("final %s node = new %s();", name, name));
+        lines.add("node.fragment = fragment;");
+        if (this.fillStaticFactory(method, lines)) {
+            lines.add("return node;");
+            method.setBody(String.join("\n", lines));
+            klass.addMethod(method);
+        }
     }
 
     /**
@@ -310,6 +360,49 @@ public abstract class NonAbstractNodeGenerator extends RuleGenerator {
         klass.addMethod(getter);
     }
 
+    /**
+     * Creates a field and a method related to the kind of the node.
+     * @param klass Class describing the node
+     * @param kind Kind of the node
+     */
+    private void createKindFieldAndGetter(final Klass klass, final int kind) {
+        final Field field = new Field(Strings.TYPE_INT, "KIND", "Kind of the node");
+        field.makePublic();
+        field.makeStatic();
+        field.makeFinal(String.valueOf(kind));
+        klass.addField(field);
+        final Method getter = new Method(Strings.TYPE_INT, "getKind");
+        getter.makePublic();
+        getter.setBody(String.format("return %s.KIND;", this.getRule().getName()));
+        klass.addMethod(getter);
+    }
+
+    /**
+     * Creates the 'accept()' method, which passes the node to the visitor of its language.
+     * @param klass Class describing the node
+     */
+    private void createAcceptMethod(final Klass klass) {
+        final NodeDescriptor rule = this.getRule();
+        final Method method = new Method(
+            Strings.TYPE_VOID,
+            "accept",
+            "Passes the node to the visitor"
+        );
+        method.makePublic();
+        method.addArgument(
+            VisitorGenerator.getVisitorName(rule.getLanguage()),
+            "visitor",
+            "Visitor that processes the node"
+        );
+        method.setBody(
+            String.format(
+                "visitor.%s(this);",
+                VisitorGenerator.getVisitMethodName(rule.getName())
+            )
+        );
+        klass.addMethod(method);
+    }
+
     /**
      * Creates the 'getData()' method.
      * @param klass Class describing the node
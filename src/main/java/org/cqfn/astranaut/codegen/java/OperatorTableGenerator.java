@@ -0,0 +1,363 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.cqfn.astranaut.dsl.OperatorDescriptor;
+import org.cqfn.astranaut.dsl.OperatorTableDescriptor;
+import org.cqfn.astranaut.dsl.Rule;
+
+/**
+ * Generates the converter described by the operator table. The converter builds a tree
+ *  from a chain of operands and operators in one pass, using an operand stack
+ *  and an operator stack (precedence climbing). A chain that ends with an operator
+ *  without the right operand is reduced only as far as it does not depend on that operand.
+ * @since 1.0.0
+ */
+public final class OperatorTableGenerator extends RuleGenerator {
+    /**
+     * Operator table.
+     */
+    private final OperatorTableDescriptor rule;
+
+    /**
+     * Constructor.
+     * @param rule The operator table from which the source code is generated
+     */
+    public OperatorTableGenerator(final OperatorTableDescriptor rule) {
+        this.rule = rule;
+    }
+
+    @Override
+    public Rule getRule() {
+        return this.rule;
+    }
+
+    @Override
+    public Set<CompilationUnit> createUnits(final Context context) {
+        final Klass klass = new Klass(
+            context.getNextConverterName(),
+            String.format(
+                "Converter implementing the rule '%s'",
+                this.rule.toString()
+            )
+        );
+        klass.makePublic();
+        klass.makeFinal();
+        klass.setVersion(context.getVersion());
+        klass.setImplementsList("Converter");
+        final Field instance = new Field("Converter", "INSTANCE", "The instance");
+        instance.makePublic();
+        instance.makeStatic();
+        instance.makeFinal(String.format("new %s()", klass.getName()));
+        klass.addField(instance);
+        final Set<String> matchers = this.createTableFields(context, klass);
+        final Constructor ctor = klass.createConstructor();
+        ctor.makePrivate();
+        this.createConvertMethod(klass);
+        this.createGetMinConsumedMethod(klass);
+        OperatorTableGenerator.createFindOperatorMethod(klass);
+        OperatorTableGenerator.createPrecedesMethod(klass);
+        OperatorTableGenerator.createReduceMethod(klass);
+        final CompilationUnit unit = new CompilationUnit(
+            context.getLicense(),
+            context.getPackage(),
+            klass
+        );
+        unit.addImport("java.util.Arrays");
+        unit.addImport("java.util.Deque");
+        unit.addImport("java.util.LinkedList");
+        unit.addImport("java.util.List");
+        unit.addImport("java.util.Optional");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.ConversionResult");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.Converter");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.Extracted");
+        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.Matcher");
+        unit.addImport("org.cqfn.astranaut.core.base.Builder");
+        unit.addImport("org.cqfn.astranaut.core.base.Factory");
+        unit.addImport("org.cqfn.astranaut.core.base.Fragment");
+        unit.addImport("org.cqfn.astranaut.core.base.Node");
+        final Package mpkg = context.getPackage().getParent().getParent()
+            .getSubpackage("common", "matchers");
+        for (final String matcher : matchers) {
+            unit.addImport(String.format("%s.%s", mpkg, matcher));
+        }
+        return Collections.singleton(unit);
+    }
+
+    /**
+     * Creates static fields that describe the operators: matchers, precedence, associativity
+     *  and types of resulting nodes. The index of an operator is the same in all the lists.
+     * @param context Context
+     * @param klass The class to which the fields will be added
+     * @return Matcher names that were used for the rule
+     */
+    private Set<String> createTableFields(final Context context, final Klass klass) {
+        final List<OperatorDescriptor> operators = this.rule.getOperators();
+        final Set<String> matchers = new TreeSet<>();
+        final List<String> patterns = new ArrayList<>(operators.size());
+        final List<String> precedence = new ArrayList<>(operators.size());
+        final List<String> right = new ArrayList<>(operators.size());
+        final List<String> results = new ArrayList<>(operators.size());
+        for (final OperatorDescriptor operator : operators) {
+            final String matcher = context.getMatchers()
+                .get(operator.getPattern().toString(false)).getName();
+            matchers.add(matcher);
+            patterns.add(String.format("%s.INSTANCE", matcher));
+            precedence.add(String.valueOf(operator.getPrecedence()));
+            right.add(String.valueOf(operator.isRightAssociative()));
+            results.add(String.format("\"%s\"", operator.getResult()));
+        }
+        OperatorTableGenerator.addListField(
+            klass, "Matcher", "OPERATORS", "Matchers that recognize the operators", patterns
+        );
+        OperatorTableGenerator.addListField(
+            klass, "Integer", "PRECEDENCE",
+            "Precedence of the operators, a greater value binds tighter", precedence
+        );
+        OperatorTableGenerator.addListField(
+            klass, "Boolean", "RIGHT",
+            "Flags indicating that the operators are right-associative", right
+        );
+        OperatorTableGenerator.addListField(
+            klass, "String", "RESULTS", "Types of the nodes created for the operators", results
+        );
+        return matchers;
+    }
+
+    /**
+     * Adds a private static field initialized by a list of values.
+     * @param klass The class to which the field will be added
+     * @param type Type of the list elements
+     * @param name Name of the field
+     * @param brief Brief description of the field
+     * @param values Values as source code
+     */
+    private static void addListField(final Klass klass, final String type, final String name,
+        final String brief, final List<String> values) {
+        final Field field = new Field(String.format("List<%s>", type), name, brief);
+        field.makePrivate();
+        field.makeStatic();
+        field.makeFinal(String.format("Arrays.asList(%s)", String.join(", ", values)));
+        klass.addField(field);
+    }
+
+    /**
+     * Creates a "convert" method.
+     * @param klass The class to which the method will be added
+     */
+    private void createConvertMethod(final Klass klass) {
+        final Method method = new Method(
+            "Optional<ConversionResult>",
+            "convert"
+        );
+        method.makePublic();
+        method.addArgument(Strings.TYPE_NODE_LIST, "list");
+        method.addArgument(Strings.TYPE_INT, "index");
+        method.addArgument(Strings.TYPE_FACTORY, "factory");
+        final String name = klass.getName();
+        final String operand = this.rule.getOperand();
+        method.setBody(
+            String.join(
+                "\n",
+                "Optional<ConversionResult> result = Optional.empty();",
+                "do {",
+                String.format(
+                    "if (index + %d > list.size() || !list.get(index).belongsToGroup(\"%s\")) {",
+                    this.rule.getMinConsumed(),
+                    operand
+                ),
+                "break;",
+                "}",
+                "final Deque<Node> operands = new LinkedList<>();",
+                "final Deque<Integer> operators = new LinkedList<>();",
+                "operands.push(list.get(index));",
+                "int position = index + 1;",
+                "boolean valid = true;",
+                "int dangling = -1;",
+                "while (valid && position < list.size()) {",
+                String.format("final int operator = %s.findOperator(list.get(position));", name),
+                "if (operator < 0) {",
+                "break;",
+                "}",
+                "final boolean last = position + 1 == list.size();",
+                String.format(
+                    "if (last || !list.get(position + 1).belongsToGroup(\"%s\")) {",
+                    operand
+                ),
+                "dangling = operator;",
+                "break;",
+                "}",
+                String.format("while (valid && %s.precedes(operators, operator)) {", name),
+                String.format("valid = %s.reduce(operands, operators, factory);", name),
+                "}",
+                "operators.push(operator);",
+                "operands.push(list.get(position + 1));",
+                "position = position + 2;",
+                "}",
+                String.format(
+                    "while (valid && !operators.isEmpty() && (dangling < 0 || %s)) {",
+                    String.format("%s.precedes(operators, dangling)", name)
+                ),
+                String.format("valid = %s.reduce(operands, operators, factory);", name),
+                "}",
+                "if (!valid || !operators.isEmpty() || position == index + 1) {",
+                "break;",
+                "}",
+                "result = Optional.of(new ConversionResult(operands.pop(), position - index));",
+                "} while (false);",
+                "return result;"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a "getMinConsumed" method.
+     * @param klass The class to which the method will be added
+     */
+    private void createGetMinConsumedMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_INT,
+            "getMinConsumed"
+        );
+        method.makePublic();
+        method.setBody(String.format("return %d;", this.rule.getMinConsumed()));
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that finds the operator matching a node.
+     * @param klass The class to which the method will be added
+     */
+    private static void createFindOperatorMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_INT,
+            "findOperator",
+            "Finds the operator whose pattern matches the node"
+        );
+        method.makePrivate();
+        method.makeStatic();
+        method.addArgument(Strings.TYPE_NODE, "node", "Node");
+        method.setReturnsDescription("Index of the operator or -1 if the node is not an operator");
+        final String name = klass.getName();
+        method.setBody(
+            String.join(
+                "\n",
+                "int result = -1;",
+                String.format("final int count = %s.OPERATORS.size();", name),
+                "for (int index = 0; result < 0 && index < count; index = index + 1) {",
+                String.format(
+                    "if (%s.OPERATORS.get(index).match(node, new Extracted())) {",
+                    name
+                ),
+                "result = index;",
+                "}",
+                "}",
+                "return result;"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that checks whether the operator on the top of the stack
+     *  must be applied before the next operator is pushed.
+     * @param klass The class to which the method will be added
+     */
+    private static void createPrecedesMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_BOOLEAN,
+            "precedes",
+            "Checks whether the operator on the top of the stack must be applied first"
+        );
+        method.makePrivate();
+        method.makeStatic();
+        method.addArgument("Deque<Integer>", "operators", "Stack of operators");
+        method.addArgument(Strings.TYPE_INT, "next", "Operator that follows");
+        method.setReturnsDescription(
+            "Checking result, {@code true} if the operator on the top is applied first"
+        );
+        final String name = klass.getName();
+        method.setBody(
+            String.join(
+                "\n",
+                "boolean result = false;",
+                "if (!operators.isEmpty()) {",
+                String.format("final int top = %s.PRECEDENCE.get(operators.peek());", name),
+                String.format("final int current = %s.PRECEDENCE.get(next);", name),
+                String.format(
+                    "result = top > current || top == current && !%s.RIGHT.get(next);",
+                    name
+                ),
+                "}",
+                "return result;"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that applies the operator on the top of the stack
+     *  to the two topmost operands.
+     * @param klass The class to which the method will be added
+     */
+    private static void createReduceMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_BOOLEAN,
+            "reduce",
+            "Applies the operator on the top of the stack to the two topmost operands"
+        );
+        method.makePrivate();
+        method.makeStatic();
+        method.addArgument("Deque<Node>", "operands", "Stack of operands");
+        method.addArgument("Deque<Integer>", "operators", "Stack of operators");
+        method.addArgument(Strings.TYPE_FACTORY, "factory", "Factory for creating nodes");
+        method.setReturnsDescription("Result, {@code true} if the resulting node was created");
+        method.setBody(
+            String.join(
+                "\n",
+                "final Node right = operands.pop();",
+                "final Node left = operands.pop();",
+                "final List<Node> children = Arrays.asList(left, right);",
+                String.format(
+                    "final String type = %s.RESULTS.get(operators.pop());",
+                    klass.getName()
+                ),
+                "final Builder builder = factory.createBuilder(type);",
+                "builder.setFragment(Fragment.fromNodes(children));",
+                "final boolean result = builder.setChildrenList(children) && builder.isValid();",
+                "if (result) {",
+                "operands.push(builder.createNode());",
+                "}",
+                "return result;"
+            )
+        );
+        klass.addMethod(method);
+    }
+}
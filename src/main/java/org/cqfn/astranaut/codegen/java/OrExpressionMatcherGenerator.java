@@ -23,8 +23,15 @@
  */
 package org.cqfn.astranaut.codegen.java;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import org.cqfn.astranaut.dsl.LeftSideItem;
 import org.cqfn.astranaut.dsl.OrExpression;
+import org.cqfn.astranaut.dsl.PatternDescriptor;
+import org.cqfn.astranaut.dsl.StaticString;
 
 /**
  * Generates a matcher class for matching OR expression.
@@ -72,14 +79,26 @@ public final class OrExpressionMatcherGenerator extends LeftSideItemGenerator {
         if (this.expression.isNegationFlagSet()) {
             builder.append("!(");
         }
+        final NameGenerator names = new NameGenerator();
         boolean flag = false;
-        for (final LeftSideItem item : this.expression.getItems()) {
+        for (final List<LeftSideItem> group : this.expression.getGroupedItems()) {
             if (flag) {
                 builder.append(" || ");
             }
             flag = true;
-            final Klass matcher = item.generateMatcher(context);
-            builder.append(matcher.getName()).append(".INSTANCE.match(node, extracted)");
+            if (group.size() == 1) {
+                final Klass matcher = group.get(0).generateMatcher(context);
+                builder.append(matcher.getName()).append(".INSTANCE.match(node, extracted)");
+            } else {
+                final Method checker =
+                    OrExpressionMatcherGenerator.generateDataChecker(names.nextName(), group);
+                klass.addMethod(checker);
+                final String type = ((PatternDescriptor) group.get(0)).getType();
+                builder.append(context.composeTypeCheck(klass, "node", type))
+                    .append(" && node.getChildCount() == 0 && ")
+                    .append(klass.getName()).append('.').append(checker.getName())
+                    .append("(node.getData())");
+            }
         }
         if (this.expression.isNegationFlagSet()) {
             builder.append(')');
@@ -87,4 +106,49 @@ public final class OrExpressionMatcherGenerator extends LeftSideItemGenerator {
         builder.append(';');
         method.setBody(builder.toString());
     }
+
+    /**
+     * Generates a method that checks the data of a node against the static data
+     *  of a group of patterns, using a string switch.
+     * @param name Name of the checker
+     * @param group Patterns that differ only by static data
+     * @return Generated method
+     */
+    private static Method generateDataChecker(final String name,
+        final List<LeftSideItem> group) {
+        final Method method = new Method(
+            Strings.TYPE_BOOLEAN,
+            "check".concat(name.substring(0, 1).toUpperCase(Locale.ENGLISH))
+                .concat(name.substring(1)),
+            String.format(
+                "Checks whether the data of a node matches one of the patterns of type '%s'",
+                ((PatternDescriptor) group.get(0)).getType()
+            )
+        );
+        method.makePrivate();
+        method.makeStatic();
+        method.addArgument(Strings.TYPE_STRING, "data", "Data of the node");
+        method.setReturnsDescription("Checking result, {@code true} if the data matches");
+        final Set<String> labels = new LinkedHashSet<>();
+        for (final LeftSideItem item : group) {
+            labels.add(
+                String.format(
+                    "case %s:",
+                    ((StaticString) ((PatternDescriptor) item).getData()).toJavaCode()
+                )
+            );
+        }
+        final List<String> code = new ArrayList<>(labels.size() + 8);
+        code.add("boolean result = false;");
+        code.add("switch (data) {");
+        code.addAll(labels);
+        code.add("result = true;");
+        code.add("break;");
+        code.add("default:");
+        code.add("break;");
+        code.add("}");
+        code.add("return result;");
+        method.setBody(String.join("\n", code));
+        return method;
+    }
 }
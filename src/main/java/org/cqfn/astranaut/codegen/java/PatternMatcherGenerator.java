@@ -26,12 +26,10 @@ package org.cqfn.astranaut.codegen.java;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Locale;
 import org.cqfn.astranaut.core.utils.Pair;
 import org.cqfn.astranaut.dsl.LeftSideItem;
 import org.cqfn.astranaut.dsl.PatternDescriptor;
 import org.cqfn.astranaut.dsl.PatternItem;
-import org.cqfn.astranaut.dsl.PatternMatchingMode;
 import org.cqfn.astranaut.dsl.StaticString;
 import org.cqfn.astranaut.dsl.UntypedHole;
 
@@ -123,7 +121,7 @@ public final class PatternMatcherGenerator extends LeftSideItemGenerator {
                     Arrays.asList(
                         String.format(
                             "final boolean matches = %s;",
-                            this.composeCondition(context)
+                            this.composeCondition(klass, context)
                         ),
                         "if (matches) {"
                     )
@@ -153,7 +151,7 @@ public final class PatternMatcherGenerator extends LeftSideItemGenerator {
             method.setBody(
                 String.format(
                     "return %s;",
-                    this.composeCondition(context)
+                    this.composeCondition(klass, context)
                 )
             );
         } while (false);
@@ -161,19 +159,23 @@ public final class PatternMatcherGenerator extends LeftSideItemGenerator {
 
     /**
      * Composes a chain of conditions that check if a pattern has matched.
+     * @param klass The class to which the {@code match} method will be added
      * @param context Generation context
      * @return Java boolean expression
      */
-    private String composeCondition(final LeftSideGenerationContext context) {
+    private String composeCondition(final Klass klass,
+        final LeftSideGenerationContext context) {
         final List<String> list = new ArrayList<>(1);
-        list.add(String.format("node.belongsToGroup(\"%s\")", this.pattern.getType()));
+        list.add(context.composeTypeCheck(klass, "node", this.pattern.getType()));
         final List<PatternItem> children = this.pattern.getChildren();
         list.add(String.format("node.getChildCount() == %d", children.size()));
         if (this.pattern.getData() instanceof StaticString) {
             list.add(
-                String.format(
-                    "node.getData().equals(%s)",
-                    ((StaticString) this.pattern.getData()).toJavaCode()
+                context.composeDataCheck(
+                    klass,
+                    "node",
+                    this.pattern.getType(),
+                    (StaticString) this.pattern.getData()
                 )
             );
         }
@@ -207,52 +209,48 @@ public final class PatternMatcherGenerator extends LeftSideItemGenerator {
      */
     private String generateBodyWithComplexCondition(final Klass klass,
         final LeftSideGenerationContext context) {
-        context.addImport(klass, "java.util.Deque");
-        context.addImport(klass, "java.util.LinkedList");
         final List<String> code = new ArrayList<>(8);
-        code.add("boolean matches;");
-        code.add("final Deque<Node> queue = new LinkedList<>(node.getChildrenList());");
+        code.add("boolean matches = false;");
         code.add("do {");
-        final List<Pair<String, Boolean>> checkers = this.generateCheckers(klass, context);
-        int count = 0;
-        int first = -1;
-        for (int index = 0; index < checkers.size(); index = index + 1) {
-            final Pair<String, Boolean> pair = checkers.get(index);
-            if (pair.getValue()) {
-                if (first < 0) {
-                    first = index;
-                }
-                count = count + 1;
-            }
-        }
-        int rest = count;
-        for (int index = 0; index < checkers.size(); index = index + 1) {
-            final Pair<String, Boolean> pair = checkers.get(index);
-            if (!pair.getValue()) {
-                code.add(
-                    String.format("%s.%s(queue, extracted);", klass.getName(), pair.getKey())
-                );
-                continue;
-            }
-            code.add(
-                String.format(
-                    "matches = %s.%s(queue, extracted);",
-                    klass.getName(),
-                    pair.getKey()
+        final List<String> rejection = new ArrayList<>(2);
+        rejection.add(
+            "!".concat(context.composeTypeCheck(klass, "node", this.pattern.getType()))
+        );
+        if (this.pattern.getData() instanceof StaticString) {
+            rejection.add(
+                "!".concat(
+                    context.composeDataCheck(
+                        klass,
+                        "node",
+                        this.pattern.getType(),
+                        (StaticString) this.pattern.getData()
+                    )
                 )
             );
-            if (rest < 3) {
-                code.addAll(
-                    Arrays.asList(
-                        "if (!matches) {",
-                        "    break;",
-                        "}"
-                    )
+        }
+        code.addAll(
+            Arrays.asList(
+                String.format("if (%s) {", String.join(" || ", rejection)),
+                "break;",
+                "}",
+                "final int size = node.getChildCount();",
+                "int position = 0;"
+            )
+        );
+        final CursorGenerator cursor = new CursorGenerator("node.getChild(position)");
+        for (final PatternItem child : this.pattern.getChildren()) {
+            if (child instanceof UntypedHole) {
+                cursor.generateHole(((UntypedHole) child).getNumber(), code);
+            } else {
+                final LeftSideItem item = (LeftSideItem) child;
+                cursor.generateStep(
+                    item.getMatchingMode(),
+                    item.generateMatcher(context).getName(),
+                    code
                 );
             }
-            rest = rest - 1;
         }
-        code.add("    matches = queue.isEmpty();");
+        code.add("matches = position == size;");
         code.add("} while (false);");
         String negative = "";
         if (this.pattern.isNegationFlagSet()) {
@@ -263,8 +261,8 @@ public final class PatternMatcherGenerator extends LeftSideItemGenerator {
                 Arrays.asList(
                     String.format("if (%smatches) {", negative),
                     String.format(
-                        "extracted.addData(%s.HOLE_NUMBER, node.getData());",
-                        klass.getName()
+                        "extracted.addData(%d, node.getData());",
+                        ((UntypedHole) this.pattern.getData()).getNumber()
                     ),
                     "}"
                 )
@@ -273,201 +271,4 @@ public final class PatternMatcherGenerator extends LeftSideItemGenerator {
         code.add(String.format("return %smatches;", negative));
         return String.join("\n", code);
     }
-
-    /**
-     * Generates checkers, that is, functions that take the next node and check it with a matcher.
-     *  A complex condition consists of consecutive calls of such checkers.
-     * @param klass The class to which checkers methods will be added
-     * @param context Generation context
-     * @return List of generated checkers, specifying for each checker whether the checker
-     *  returns a boolean value
-     */
-    private List<Pair<String, Boolean>> generateCheckers(final Klass klass,
-        final LeftSideGenerationContext context) {
-        final List<PatternItem> children = this.pattern.getChildren();
-        final List<Pair<String, Boolean>> checkers = new ArrayList<>(children.size());
-        final NameGenerator names = new NameGenerator();
-        for (int index = 0; index < children.size(); index = index + 1) {
-            final String name = names.nextName();
-            final PatternItem child = children.get(index);
-            if (child instanceof UntypedHole) {
-                final Pair<Method, Boolean> checker =
-                    PatternMatcherGenerator.generateCheckerForUntypedHole(
-                        name,
-                        (UntypedHole) child,
-                        index
-                    );
-                checkers.add(new Pair<>(checker.getKey().getName(), checker.getValue()));
-                klass.addMethod(checker.getKey());
-                continue;
-            }
-            final LeftSideItem item = (LeftSideItem) child;
-            final PatternMatchingMode mode = item.getMatchingMode();
-            final Method method = PatternMatcherGenerator.generateCheckerMethod(
-                name,
-                mode == PatternMatchingMode.NORMAL,
-                child
-            );
-            checkers.add(new Pair<>(method.getName(), mode == PatternMatchingMode.NORMAL));
-            final Klass matcher = item.generateMatcher(context);
-            if (mode == PatternMatchingMode.NORMAL) {
-                PatternMatcherGenerator.generateCheckerForNormalPattern(
-                    method,
-                    matcher.getName(),
-                    index
-                );
-            } else if (mode == PatternMatchingMode.OPTIONAL) {
-                PatternMatcherGenerator.generateCheckerForOptionalPattern(
-                    method,
-                    matcher.getName()
-                );
-            } else {
-                PatternMatcherGenerator.generateCheckerForRepeatedPattern(
-                    method,
-                    matcher.getName()
-                );
-            }
-            klass.addMethod(method);
-        }
-        return checkers;
-    }
-
-    /**
-     * Generates a checker method with or without a return value.
-     * @param name Method name
-     * @param ret Is there a return value
-     * @param item Pattern item
-     * @return Generated method
-     */
-    private static Method generateCheckerMethod(final String name, final boolean ret,
-        final PatternItem item) {
-        final String type;
-        if (ret) {
-            type = Strings.TYPE_BOOLEAN;
-        } else {
-            type = Strings.TYPE_VOID;
-        }
-        final Method method = new Method(
-            type,
-            "check".concat(name.substring(0, 1).toUpperCase(Locale.ENGLISH))
-                .concat(name.substring(1)),
-            String.format(
-                "Matches a node with the pattern '%s'",
-                item.toString()
-            )
-        );
-        method.makePrivate();
-        method.makeStatic();
-        method.addArgument("Deque<Node>", "queue", "Node queue");
-        method.addArgument(
-            "Extracted",
-            "extracted",
-            "Extracted nodes and data"
-        );
-        if (ret) {
-            method.setReturnsDescription(
-                "Matching result, {@code true} if the next node is matched to the pattern"
-            );
-        }
-        return method;
-    }
-
-    /**
-     * Generates a checker for an untyped hole.
-     * @param name The checker name
-     * @param hole Untyped hole
-     * @param index Index of the pattern
-     * @return Checker method and flag whether the checker returns a value
-     */
-    private static Pair<Method, Boolean> generateCheckerForUntypedHole(final String name,
-        final UntypedHole hole, final int index) {
-        final Method method = PatternMatcherGenerator.generateCheckerMethod(
-            name,
-            index > 0,
-            hole
-        );
-        if (index == 0) {
-            method.setBody(
-                String.format("extracted.addNode(%d, queue.poll());", hole.getNumber())
-            );
-        } else {
-            final List<String> code = Arrays.asList(
-                "boolean result = false;",
-                "if (!queue.isEmpty()) {",
-                String.format("extracted.addNode(%d, queue.poll());", hole.getNumber()),
-                "    result = true;",
-                "}",
-                "return result;"
-            );
-            method.setBody(String.join("\n", code));
-        }
-        return new Pair<>(method, index > 0);
-    }
-
-    /**
-     * Generates a checker for a “normal” pattern (not repetitive or optional).
-     * @param method Checker method
-     * @param matcher Matcher used inside the checker
-     * @param index Index of the pattern
-     */
-    private static void generateCheckerForNormalPattern(final Method method, final String matcher,
-        final int index) {
-        final List<String> code;
-        if (index == 0) {
-            code = Arrays.asList(
-                "final Node node = queue.poll();",
-                String.format("return %s.INSTANCE.match(node, extracted);", matcher)
-            );
-        } else {
-            code = Arrays.asList(
-                "boolean result = false;",
-                "if (!queue.isEmpty()) {",
-                "    final Node node = queue.poll();",
-                String.format("result = %s.INSTANCE.match(node, extracted);", matcher),
-                "}",
-                "return result;"
-            );
-        }
-        method.setBody(String.join("\n", code));
-    }
-
-    /**
-     * Generates a checker for an optional pattern.
-     * @param method Checker method
-     * @param matcher Matcher used inside the checker
-     */
-    private static void generateCheckerForOptionalPattern(final Method method,
-        final String matcher) {
-        final List<String> code = Arrays.asList(
-            "if (queue.isEmpty()) {",
-            "    return;",
-            "}",
-            "final Node node = queue.poll();",
-            String.format("final boolean matched = %s.INSTANCE.match(node, extracted);", matcher),
-            "if (!matched) {",
-            "    queue.addFirst(node);",
-            "}"
-        );
-        method.setBody(String.join("\n", code));
-    }
-
-    /**
-     * Generates a checker for a repeating pattern.
-     * @param method Checker method
-     * @param matcher Matcher used inside the checker
-     */
-    private static void generateCheckerForRepeatedPattern(final Method method,
-        final String matcher) {
-        final List<String> code = Arrays.asList(
-            "while (!queue.isEmpty()) {",
-            "    final Node node = queue.poll();",
-            String.format("final boolean matched = %s.INSTANCE.match(node, extracted);", matcher),
-            "    if (!matched) {",
-            "        queue.addFirst(node);",
-            "        break;",
-            "    }",
-            "}"
-        );
-        method.setBody(String.join("\n", code));
-    }
 }
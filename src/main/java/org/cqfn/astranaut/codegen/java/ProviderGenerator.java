@@ -23,7 +23,8 @@
  */
 package org.cqfn.astranaut.codegen.java;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import org.cqfn.astranaut.dsl.Program;
 
@@ -61,8 +62,7 @@ public class ProviderGenerator {
         klass.setImplementsList("org.cqfn.astranaut.core.base.Provider");
         final Constructor ctor = klass.createConstructor();
         ctor.makePrivate();
-        ProviderGenerator.createGetFactoryMethod(klass);
-        this.createMapOfFactories(context, klass);
+        this.createGetFactoryMethod(context, klass);
         this.createGetTransformerMethod(context, klass);
         final CompilationUnit unit = new CompilationUnit(
             context.getLicense(),
@@ -71,11 +71,9 @@ public class ProviderGenerator {
         );
         ProviderGenerator.createOtherStaticFields(klass);
         unit.addImport("java.util.Locale");
-        unit.addImport("java.util.Map");
         unit.addImport("org.cqfn.astranaut.core.base.Factory");
         unit.addImport("org.cqfn.astranaut.core.base.DefaultFactory");
         unit.addImport("org.cqfn.astranaut.core.base.Transformer");
-        unit.addImport("org.cqfn.astranaut.core.utils.MapUtils");
         return unit;
     }
 
@@ -105,60 +103,42 @@ public class ProviderGenerator {
     }
 
     /**
-     * Creates the 'getFactory' method.
+     * Creates the 'getFactory' method. The factory is selected by a {@code switch}
+     *  on the language name, so factories are not loaded until they are requested.
+     * @param context Data required to generate Java source code
      * @param klass The class in which the method is created
      */
-    private static void createGetFactoryMethod(final Klass klass) {
+    private void createGetFactoryMethod(final Context context, final Klass klass) {
+        final Package root = context.getPackage();
+        final List<String> code = new ArrayList<>(16);
+        code.add("final Factory factory;");
+        code.add("switch (language.toLowerCase(Locale.ENGLISH)) {");
+        for (final String language : this.program.getAllLanguages()) {
+            code.add(String.format("case \"%s\":", language));
+            code.add(
+                String.format(
+                    "factory = %s.%sFactory.INSTANCE;",
+                    root.getSubpackage(language, "nodes").toString(),
+                    ProviderGenerator.capitalize(language)
+                )
+            );
+            code.add("break;");
+        }
+        code.add("default:");
+        code.add("factory = DefaultFactory.EMPTY;");
+        code.add("break;");
+        code.add("}");
+        code.add("return factory;");
         final Method method = new Method("Factory", "getFactory");
         method.makePublic();
         method.addArgument("String", "language");
-        method.setBody(
-            String.join(
-                "\n",
-                Arrays.asList(
-                    "final String lowercase = language.toLowerCase(Locale.ENGLISH);",
-                    "return Provider.FACTORIES.getOrDefault(lowercase, DefaultFactory.EMPTY);"
-                )
-            )
-        );
+        method.setBody(String.join("\n", code));
         klass.addMethod(method);
     }
 
     /**
-     * Creates a collection that contains factories supported by this provider.
-     * @param context Data required to generate Java source code
-     * @param klass The class to which to add the field
-     */
-    private void createMapOfFactories(final Context context, final Klass klass) {
-        final Field field = new Field(
-            "Map<String, Factory>",
-            "FACTORIES",
-            "Collection of factories supported by this provider"
-        );
-        field.makePrivate();
-        field.makeStatic();
-        final Package root = context.getPackage();
-        final StringBuilder builder = new StringBuilder(128);
-        builder.append("new MapUtils<String, Factory>()");
-        for (final String language : this.program.getAllLanguages()) {
-            final Package pkg = root.getSubpackage(language, "nodes");
-            builder
-                .append(".put(\"")
-                .append(language)
-                .append("\", ")
-                .append(pkg.toString())
-                .append('.')
-                .append(language.substring(0, 1).toUpperCase(Locale.ENGLISH))
-                .append(language.substring(1))
-                .append("Factory.INSTANCE)");
-        }
-        builder.append(".make()");
-        field.makeFinal(builder.toString());
-        klass.addField(field);
-    }
-
-    /**
-     * Creates the 'getTransformer' method.
+     * Creates the 'getTransformer' method. As with factories, the transformer
+     *  is selected by a {@code switch} on the language name.
      * @param context Data required to generate Java source code
      * @param klass The class in which the method is created
      */
@@ -166,48 +146,44 @@ public class ProviderGenerator {
         final Method method = new Method("Transformer", "getTransformer");
         method.makePublic();
         method.addArgument("String", "language");
-        if (this.program.getAllTransformationDescriptors().isEmpty()) {
+        if (this.program.getAllConversionRules().isEmpty()) {
             method.setBody(
                 "return Provider.DEF_TRANS;"
             );
         } else {
-            final Field field = new Field(
-                "Map<String, Transformer>",
-                "TRANSFORMERS",
-                "Collection of transformers supported by this provider"
-            );
-            field.makePrivate();
-            field.makeStatic();
             final Package root = context.getPackage();
-            final StringBuilder builder = new StringBuilder(128);
-            builder.append("new MapUtils<String, Transformer>()");
+            final List<String> code = new ArrayList<>(16);
+            code.add("final Transformer transformer;");
+            code.add("switch (language.toLowerCase(Locale.ENGLISH)) {");
             for (final String language : this.program.getAllLanguages()) {
-                if (!this.program.getTransformationDescriptorsByLanguage(language).isEmpty()) {
-                    final Package pkg = root.getSubpackage(language, "rules");
-                    builder
-                        .append(".put(\"")
-                        .append(language)
-                        .append("\", ")
-                        .append(pkg.toString())
-                        .append('.')
-                        .append(language.substring(0, 1).toUpperCase(Locale.ENGLISH))
-                        .append(language.substring(1))
-                        .append("Transformer.INSTANCE)");
+                if (!this.program.getConversionRulesByLanguage(language).isEmpty()) {
+                    code.add(String.format("case \"%s\":", language));
+                    code.add(
+                        String.format(
+                            "transformer = %s.%sTransformer.INSTANCE;",
+                            root.getSubpackage(language, "rules").toString(),
+                            ProviderGenerator.capitalize(language)
+                        )
+                    );
+                    code.add("break;");
                 }
             }
-            builder.append(".make()");
-            field.makeFinal(builder.toString());
-            klass.addField(field);
-            method.setBody(
-                String.join(
-                    "\n",
-                    Arrays.asList(
-                        "final String lowercase = language.toLowerCase(Locale.ENGLISH);",
-                        "return Provider.TRANSFORMERS.getOrDefault(lowercase, Provider.DEF_TRANS);"
-                    )
-                )
-            );
+            code.add("default:");
+            code.add("transformer = Provider.DEF_TRANS;");
+            code.add("break;");
+            code.add("}");
+            code.add("return transformer;");
+            method.setBody(String.join("\n", code));
         }
         klass.addMethod(method);
     }
+
+    /**
+     * Converts the first letter of the language name to upper case.
+     * @param language Language name
+     * @return Capitalized name
+     */
+    private static String capitalize(final String language) {
+        return language.substring(0, 1).toUpperCase(Locale.ENGLISH).concat(language.substring(1));
+    }
 }
@@ -24,8 +24,11 @@
 package org.cqfn.astranaut.codegen.java;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import org.cqfn.astranaut.dsl.ChildDescriptorExt;
 import org.cqfn.astranaut.dsl.NodeDescriptor;
 import org.cqfn.astranaut.dsl.RegularNodeDescriptor;
@@ -36,6 +39,13 @@ import org.cqfn.astranaut.dsl.RegularNodeDescriptor;
  * @since 1.0.0
  */
 public final class RegularNodeGenerator extends NonAbstractNodeGenerator {
+    /**
+     * Names of local variables of the methods that create nodes.
+     */
+    private static final Set<String> LOCALS = new HashSet<>(
+        Arrays.asList("count", "fragment", "node", "nodes")
+    );
+
     /**
      * Descriptor on the basis of which the source code will be built.
      */
@@ -62,23 +72,23 @@ public final class RegularNodeGenerator extends NonAbstractNodeGenerator {
 
     @Override
     public void createSpecificEntitiesInNodeClass(final Klass klass) {
-        final Method list = new Method(Strings.TYPE_NODE_LIST, "getChildrenList");
-        list.makePublic();
         if (this.rule.getExtChildTypes().isEmpty()) {
             this.needCollectionsClass();
+            final Method list = new Method(Strings.TYPE_NODE_LIST, "getChildrenList");
+            list.makePublic();
             list.setBody("return Collections.emptyList();");
+            klass.addMethod(list);
         } else {
-            list.setBody("return this.children;");
             this.createFieldsWithGettersForTaggedChildren(klass);
             final Field children = new Field(
-                Strings.TYPE_NODE_LIST,
+                "Node[]",
                 "children",
-                "List of child nodes"
+                "Array of child nodes"
             );
             children.makePrivate();
             klass.addField(children);
+            this.createChildrenListGetter(klass);
         }
-        klass.addMethod(list);
     }
 
     @Override
@@ -92,7 +102,7 @@ public final class RegularNodeGenerator extends NonAbstractNodeGenerator {
         if (this.names.length == 0) {
             body = "return 0;";
         } else {
-            body = "return this.children.size();";
+            body = "return this.children.length;";
         }
         return body;
     }
@@ -103,7 +113,7 @@ public final class RegularNodeGenerator extends NonAbstractNodeGenerator {
         if (this.names.length == 0) {
             body = "throw new IndexOutOfBoundsException();";
         } else {
-            body = "return this.children.get(index);";
+            body = "return this.children[index];";
         }
         return body;
     }
@@ -236,42 +246,100 @@ public final class RegularNodeGenerator extends NonAbstractNodeGenerator {
 
     @Override
     public void fillNodeCreator(final List<String> lines) {
+        this.fillChildren(lines, "this.");
+    }
+
+    @Override
+    public boolean fillStaticFactory(final Method method, final List<String> lines) {
+        final boolean result = RegularNodeGenerator.hasStaticFactory(this.rule);
+        if (result) {
+            final List<ChildDescriptorExt> children = this.rule.getExtChildTypes();
+            for (int index = 0; index < children.size(); index = index + 1) {
+                final ChildDescriptorExt descriptor = children.get(index);
+                final String brief;
+                if (descriptor.isOptional()) {
+                    brief = "Optional child node, may be {@code null}";
+                } else {
+                    brief = "Child node, can't be {@code null}";
+                }
+                method.addArgument(descriptor.getType(), this.names[index], brief);
+            }
+            this.fillChildren(lines, "");
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the static 'of()' method is generated for a regular node.
+     *  The method is not generated if the names of its arguments, which are derived
+     *  from the tags of the children, conflict with the names of its local variables.
+     * @param rule Descriptor of the regular node
+     * @return Checking result
+     */
+    public static boolean hasStaticFactory(final RegularNodeDescriptor rule) {
+        final String[] names = RegularNodeGenerator.generateVariableNames(rule);
+        boolean result = true;
+        for (int index = 0; result && index < names.length; index = index + 1) {
+            result = !RegularNodeGenerator.LOCALS.contains(names[index]);
+        }
+        return result;
+    }
+
+    /**
+     * Generates the code that sets the tagged children and the array of children
+     *  of a created node.
+     * @param lines List of where to write source code lines
+     * @param source Prefix of the names of variables that store child nodes
+     */
+    private void fillChildren(final List<String> lines, final String source) {
         final List<ChildDescriptorExt> children = this.rule.getExtChildTypes();
         for (int index = 0; index < children.size(); index = index + 1) {
             final ChildDescriptorExt descriptor = children.get(index);
             if (!descriptor.getTag().isEmpty()) {
                 lines.add(
                     String.format(
-                        "node.%s = this.%s;",
+                        "node.%s = %s%s;",
                         this.names[index],
+                        source,
                         this.names[index]
                     )
                 );
             }
         }
-        if (this.names.length == 1 && !children.get(0).isOptional()) {
-            this.needCollectionsClass();
-            lines.add(
-                String.format(
-                    "node.children = Collections.singletonList(this.%s);",
-                    this.names[0]
-                )
-            );
-        } else if (this.names.length > 0) {
-            this.needListUtilsClass();
-            final StringBuilder builder = new StringBuilder();
+        boolean optional = false;
+        for (final ChildDescriptorExt descriptor : children) {
+            optional = optional || descriptor.isOptional();
+        }
+        if (optional) {
+            this.needArraysClass();
+            lines.add(String.format("final Node[] nodes = new Node[%d];", this.names.length));
+            lines.add("int count = 0;");
             for (int index = 0; index < this.names.length; index = index + 1) {
-                if (index > 0) {
-                    builder.append(", ");
+                final boolean check = children.get(index).isOptional();
+                if (check) {
+                    lines.add(
+                        String.format("if (%s%s != null) {", source, this.names[index])
+                    );
+                }
+                lines.add(String.format("nodes[count] = %s%s;", source, this.names[index]));
+                lines.add("count = count + 1;");
+                if (check) {
+                    lines.add("}");
                 }
-                builder.append("this.").append(this.names[index]);
             }
-            lines.add(
-                String.format(
-                    "node.children = new ListUtils<Node>().add(%s).make();",
-                    builder.toString()
-                )
-            );
+            lines.add("node.children = Arrays.copyOf(nodes, count);");
+        } else if (this.names.length > 0) {
+            lines.add(String.format("node.children = new Node[%d];", this.names.length));
+            for (int index = 0; index < this.names.length; index = index + 1) {
+                lines.add(
+                    String.format(
+                        "node.children[%d] = %s%s;",
+                        index,
+                        source,
+                        this.names[index]
+                    )
+                );
+            }
         }
     }
 
@@ -29,7 +29,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import org.cqfn.astranaut.dsl.LeftSideItem;
-import org.cqfn.astranaut.dsl.ResultingSubtreeDescriptor;
 import org.cqfn.astranaut.dsl.TransformationDescriptor;
 
 /**
@@ -66,7 +65,7 @@ final class RepeatedNodeConditionGenerator implements ConditionGenerator  {
     @Override
     public List<String> generate() {
         final List<String> code = new ArrayList<>(8);
-        final LeftSideItem item = this.rule.getLeft().get(0);
+        final LeftSideItem item = this.rule.getMatchedItems().get(0);
         final String matcher = this.context.getMatchers().get(item.toString(false)).getName();
         this.matchers = Collections.singleton(matcher);
         code.addAll(
@@ -84,9 +83,21 @@ final class RepeatedNodeConditionGenerator implements ConditionGenerator  {
                 "}"
             )
         );
-        if (this.rule.getRight() instanceof ResultingSubtreeDescriptor) {
-            code.add(
-                "final Fragment fragment = Fragment.fromNodes(list.subList(index, index + consumed));"
+        return code;
+    }
+
+    @Override
+    public List<String> generateGuards(final GuardGenerator guards) {
+        final LeftSideItem item = this.rule.getMatchedItems().get(0);
+        final String condition = guards.composeRejection(item, "list.get(index)");
+        final List<String> code;
+        if (condition.isEmpty()) {
+            code = Collections.emptyList();
+        } else {
+            code = Arrays.asList(
+                String.format("if (index == list.size() || %s) {", condition),
+                "    break;",
+                "}"
             );
         }
         return code;
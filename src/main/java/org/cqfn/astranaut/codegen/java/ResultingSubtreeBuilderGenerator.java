@@ -28,6 +28,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import org.cqfn.astranaut.dsl.LiteralDescriptor;
+import org.cqfn.astranaut.dsl.RegularNodeDescriptor;
 import org.cqfn.astranaut.dsl.ResultingSubtreeDescriptor;
 import org.cqfn.astranaut.dsl.RightSideItem;
 import org.cqfn.astranaut.dsl.StaticString;
@@ -44,6 +48,17 @@ final class ResultingSubtreeBuilderGenerator {
      */
     private static final String BREAK = "break;";
 
+    /**
+     * Maximum number of children of a node created by the static 'of()' method.
+     */
+    private static final int MAX_CHILDREN = 8;
+
+    /**
+     * Maximum length of a call of the static 'of()' method, so that it fits
+     *  on one line of generated code.
+     */
+    private static final int MAX_CALL_LENGTH = 76;
+
     /**
      * Parent generator.
      */
@@ -64,6 +79,21 @@ final class ResultingSubtreeBuilderGenerator {
      */
     private final TransformationGeneratorFlags flags;
 
+    /**
+     * Classes and interfaces generated for node descriptors.
+     */
+    private final NodeClasses classes;
+
+    /**
+     * Language of the transformation rule.
+     */
+    private final String language;
+
+    /**
+     * Names of classes used in the generated code, which are to be imported.
+     */
+    private final Set<String> imports;
+
     /**
      * Flag that indicates whether the 'extracted' parameter needs to be passed.
      */
@@ -75,12 +105,36 @@ final class ResultingSubtreeBuilderGenerator {
      * @param names Method name generator
      * @param flags Various flags that are set during source code generation
      *  by the transformation rule
+     * @param classes Classes and interfaces generated for node descriptors
+     * @param language Language of the transformation rule
+     * @checkstyle ParameterNumberCheck (3 lines)
      */
     ResultingSubtreeBuilderGenerator(final Klass klass, final NameGenerator names,
-        final TransformationGeneratorFlags flags) {
+        final TransformationGeneratorFlags flags, final NodeClasses classes,
+        final String language) {
+        this(klass, names, flags, classes, language, new TreeSet<>());
+    }
+
+    /**
+     * Constructor.
+     * @param klass Class in which the method is generated
+     * @param names Method name generator
+     * @param flags Various flags that are set during source code generation
+     *  by the transformation rule
+     * @param classes Classes and interfaces generated for node descriptors
+     * @param language Language of the transformation rule
+     * @param imports Names of classes used in the generated code
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private ResultingSubtreeBuilderGenerator(final Klass klass, final NameGenerator names,
+        final TransformationGeneratorFlags flags, final NodeClasses classes,
+        final String language, final Set<String> imports) {
         this.klass = klass;
         this.names = names;
         this.flags = flags;
+        this.classes = classes;
+        this.language = language;
+        this.imports = imports;
     }
 
     /**
@@ -92,6 +146,14 @@ final class ResultingSubtreeBuilderGenerator {
         return this.extracted;
     }
 
+    /**
+     * Returns the names of classes used in the generated code, which are to be imported.
+     * @return Set of full class names
+     */
+    Set<String> getImports() {
+        return this.imports;
+    }
+
     /**
      * Generates a method that builds the resulting node (subtree) based on the right part
      *  of the transformation rule.
@@ -121,10 +183,56 @@ final class ResultingSubtreeBuilderGenerator {
             "Factory for creating nodes"
         );
         method.setReturnsDescription("Created node");
+        final List<String> children = this.generateChildren(descriptor);
+        final List<String> direct = this.generateDirectCreation(descriptor);
+        final List<String> code = new ArrayList<>(16);
+        if (direct.isEmpty()) {
+            code.add("Node result = DummyNode.INSTANCE;");
+            code.addAll(this.generateBuilding(descriptor, children));
+            code.add("return result;");
+        } else if (children.isEmpty()) {
+            code.add(String.format("return %s;", direct.get(0)));
+        } else {
+            code.add("Node result = DummyNode.INSTANCE;");
+            code.addAll(children);
+            code.addAll(direct.subList(0, direct.size() - 1));
+            code.add(String.format("result = %s;", direct.get(direct.size() - 1)));
+            code.add("} else {");
+            code.addAll(this.generateBuilding(descriptor, Collections.emptyList()));
+            code.add("}");
+            code.add("return result;");
+        }
+        if (this.parent == null) {
+            method.addArgument(
+                Strings.TYPE_FRAGMENT,
+                "fragment",
+                "Code fragment that is covered by the node being created"
+            );
+        }
+        if (this.extracted) {
+            method.addArgument(
+                "Extracted",
+                "extracted",
+                "Extracted nodes and data"
+            );
+        }
+        method.setBody(String.join("\n", code));
+        return method;
+    }
+
+    /**
+     * Generates code that creates the node using a builder obtained from the factory.
+     * @param descriptor Descriptor of the node
+     * @param children Code lines that compose the list of children of the node,
+     *  empty if the list is already composed or the node has no children
+     * @return List of code lines
+     */
+    private List<String> generateBuilding(final ResultingSubtreeDescriptor descriptor,
+        final List<String> children) {
+        this.flags.needBuilder();
         final List<String> code = new ArrayList<>(16);
         code.addAll(
             Arrays.asList(
-                "Node result = DummyNode.INSTANCE;",
                 String.format(
                     "final Builder builder = factory.createBuilder(\"%s\");",
                     descriptor.getType()
@@ -156,7 +264,16 @@ final class ResultingSubtreeBuilderGenerator {
                 )
             );
         }
-        code.addAll(this.generateChildren(descriptor));
+        code.addAll(children);
+        if (!descriptor.getChildren().isEmpty()) {
+            code.addAll(
+                Arrays.asList(
+                    "if (!builder.setChildrenList(children)) {",
+                    ResultingSubtreeBuilderGenerator.BREAK,
+                    "}"
+                )
+            );
+        }
         code.addAll(
             Arrays.asList(
                 "if (!builder.isValid()) {",
@@ -165,29 +282,148 @@ final class ResultingSubtreeBuilderGenerator {
             )
         );
         if (this.parent == null) {
-            method.addArgument(
-                Strings.TYPE_FRAGMENT,
-                "fragment",
-                "Code fragment that is covered by the node being created"
-            );
             code.add("builder.setFragment(fragment);");
         }
         code.addAll(
             Arrays.asList(
                 "    result = builder.createNode();",
-                "} while (false);",
-                "return result;"
+                "} while (false);"
             )
         );
-        if (this.extracted) {
-            method.addArgument(
-                "Extracted",
-                "extracted",
-                "Extracted nodes and data"
+        return code;
+    }
+
+    /**
+     * Generates code that creates the node directly, using the static 'of()' method
+     *  of the generated node class, if it is possible.
+     * @param descriptor Descriptor of the node
+     * @return List of code lines ending with the expression that creates the node,
+     *  or an empty list if the node can't be created directly
+     */
+    private List<String> generateDirectCreation(final ResultingSubtreeDescriptor descriptor) {
+        final LiteralDescriptor literal =
+            this.classes.findLiteral(descriptor.getType(), this.language);
+        final List<String> code;
+        if (literal == null) {
+            code = this.generateDirectRegularNodeCreation(descriptor);
+        } else {
+            code = this.generateDirectLiteralCreation(descriptor, literal);
+        }
+        return code;
+    }
+
+    /**
+     * Generates code that creates a literal directly from static data. This is possible
+     *  if the value that the literal gets from the data is known at generation time,
+     *  so the data is not converted from a string each time the node is created.
+     * @param descriptor Descriptor of the node
+     * @param literal Descriptor of the literal
+     * @return List containing the expression that creates the node,
+     *  or an empty list if the node can't be created directly
+     */
+    private List<String> generateDirectLiteralCreation(
+        final ResultingSubtreeDescriptor descriptor, final LiteralDescriptor literal) {
+        final List<String> code = new ArrayList<>(1);
+        do {
+            if (!(descriptor.getData() instanceof StaticString)
+                || !descriptor.getChildren().isEmpty()) {
+                break;
+            }
+            final String value =
+                LiteralValues.toJavaCode(literal, (StaticString) descriptor.getData());
+            if (value.isEmpty()) {
+                break;
+            }
+            final Set<String> used = new TreeSet<>();
+            final String call = String.format(
+                "%s.of(%s, %s)",
+                this.classes.composeClassName(literal.getName(), this.language, used),
+                this.composeFragmentArgument(used),
+                value
+            );
+            if (call.length() > ResultingSubtreeBuilderGenerator.MAX_CALL_LENGTH) {
+                break;
+            }
+            code.add(call);
+            this.imports.addAll(used);
+        } while (false);
+        return code;
+    }
+
+    /**
+     * Generates code that creates a regular node directly. This is possible if the node
+     *  is a regular node
+     *  without data and the right side lists exactly as many children as the node has.
+     *  The number of children and their types are checked at runtime, since a hole may
+     *  contain any number of nodes, and nodes of the expected types may have been created
+     *  in some other way. If there are children, the code opens an {@code if} statement
+     *  which the caller closes with a branch that uses the builder.
+     * @param descriptor Descriptor of the node
+     * @return List of code lines ending with the expression that creates the node,
+     *  or an empty list if the node can't be created directly
+     */
+    private List<String> generateDirectRegularNodeCreation(
+        final ResultingSubtreeDescriptor descriptor) {
+        final List<String> code = new ArrayList<>(8);
+        final RegularNodeDescriptor rule =
+            this.classes.findRegularNode(descriptor.getType(), this.language);
+        final List<RightSideItem> items = descriptor.getChildren();
+        do {
+            if (rule == null || descriptor.getData() != null
+                || rule.getExtChildTypes().size() != items.size()
+                || items.size() > ResultingSubtreeBuilderGenerator.MAX_CHILDREN
+                || !RegularNodeGenerator.hasStaticFactory(rule)) {
+                break;
+            }
+            final Set<String> used = new TreeSet<>();
+            final String type = this.classes.composeClassName(
+                rule.getName(), this.language, used
             );
+            final List<String> checks = new ArrayList<>(items.size() + 1);
+            checks.add(String.format("children.size() == %d", items.size()));
+            final List<String> locals = new ArrayList<>(items.size());
+            final List<String> args = new ArrayList<>(items.size() + 1);
+            args.add(this.composeFragmentArgument(used));
+            final NameGenerator variables = new NameGenerator();
+            for (int index = 0; index < items.size(); index = index + 1) {
+                final String child = this.classes.composeClassName(
+                    rule.getExtChildTypes().get(index).getType(), rule.getLanguage(), used
+                );
+                final String variable = variables.nextName();
+                final String node = String.format("children.get(%d)", index);
+                checks.add(String.format("%s instanceof %s", node, child));
+                locals.add(String.format("final %s %s = (%s) %s;", child, variable, child, node));
+                args.add(variable);
+            }
+            final String call = String.format("%s.of(%s)", type, String.join(", ", args));
+            if (call.length() > ResultingSubtreeBuilderGenerator.MAX_CALL_LENGTH) {
+                break;
+            }
+            if (!items.isEmpty()) {
+                code.add(String.format("if (%s) {", String.join(" && ", checks)));
+                code.addAll(locals);
+            }
+            code.add(call);
+            this.imports.addAll(used);
+        } while (false);
+        return code;
+    }
+
+    /**
+     * Composes the argument of the static 'of()' method that passes the fragment
+     *  to the created node. Only the root node is associated with the fragment.
+     * @param used Set to which the names of classes to be imported are added
+     * @return Java expression
+     */
+    private String composeFragmentArgument(final Set<String> used) {
+        final String argument;
+        if (this.parent == null) {
+            argument = "fragment";
+        } else {
+            used.add("org.cqfn.astranaut.core.base.EmptyFragment");
+            argument = "EmptyFragment.INSTANCE";
         }
-        method.setBody(String.join("\n", code));
-        return method;
+        return argument;
     }
 
     /**
@@ -231,10 +467,7 @@ final class ResultingSubtreeBuilderGenerator {
             String.format(
                 "final List<Node> children = extracted.getNodes(%s);",
                 numbers.toString()
-            ),
-            "if (!builder.setChildrenList(children)) {",
-            ResultingSubtreeBuilderGenerator.BREAK,
-            "}"
+            )
         );
     }
 
@@ -268,10 +501,7 @@ final class ResultingSubtreeBuilderGenerator {
         }
         return Arrays.asList(
             call,
-            "final List<Node> children = Collections.singletonList(child);",
-            "if (!builder.setChildrenList(children)) {",
-            ResultingSubtreeBuilderGenerator.BREAK,
-            "}"
+            "final List<Node> children = Collections.singletonList(child);"
         );
     }
 
@@ -319,12 +549,7 @@ final class ResultingSubtreeBuilderGenerator {
             builder.append("))");
         }
         builder.append(".make();");
-        return Arrays.asList(
-            builder.toString(),
-            "if (!builder.setChildrenList(children)) {",
-            ResultingSubtreeBuilderGenerator.BREAK,
-            "}"
-        );
+        return Collections.singletonList(builder.toString());
     }
 
     /**
@@ -335,7 +560,10 @@ final class ResultingSubtreeBuilderGenerator {
         final ResultingSubtreeBuilderGenerator obj = new ResultingSubtreeBuilderGenerator(
             this.klass,
             this.names,
-            this.flags
+            this.flags,
+            this.classes,
+            this.language,
+            this.imports
         );
         obj.parent = this;
         return obj;
@@ -29,7 +29,6 @@ import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import org.cqfn.astranaut.dsl.LeftSideItem;
-import org.cqfn.astranaut.dsl.ResultingSubtreeDescriptor;
 import org.cqfn.astranaut.dsl.TransformationDescriptor;
 
 /**
@@ -69,7 +68,7 @@ final class SimpleConditionGenerator implements ConditionGenerator  {
         final List<String> code = new ArrayList<>(16);
         final StringBuilder condition = new StringBuilder(128);
         condition.append("final boolean matched = ");
-        final List<LeftSideItem> left = this.rule.getLeft();
+        final List<LeftSideItem> left = this.rule.getMatchedItems();
         for (int index = 0; index < left.size(); index = index + 1) {
             if (index > 0) {
                 condition.append(" && ");
@@ -96,16 +95,15 @@ final class SimpleConditionGenerator implements ConditionGenerator  {
                 "}"
             )
         );
-        final boolean fragment = this.rule.getRight() instanceof ResultingSubtreeDescriptor;
-        if (fragment && left.size() < 2) {
-            code.add("final Fragment fragment = list.get(index).getFragment();");
-        } else if (fragment) {
-            code.add(
-                String.format(
-                    "final Fragment fragment = Fragment.fromNodes(list.subList(index, index + %d));",
-                    left.size()
-                )
-            );
+        return code;
+    }
+
+    @Override
+    public List<String> generateGuards(final GuardGenerator guards) {
+        final List<String> code = new ArrayList<>(8);
+        final List<LeftSideItem> left = this.rule.getMatchedItems();
+        for (int index = 0; index < left.size(); index = index + 1) {
+            guards.generate(left.get(index), index, code);
         }
         return code;
     }
@@ -26,7 +26,9 @@ package org.cqfn.astranaut.codegen.java;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import org.cqfn.astranaut.dsl.CharacterClass;
 import org.cqfn.astranaut.dsl.SymbolDescriptor;
+import org.cqfn.astranaut.parser.SymbolCategoryToken;
 import org.cqfn.astranaut.parser.SymbolicToken;
 
 /**
@@ -55,15 +57,17 @@ public final class SymbolMatcherGenerator extends LeftSideItemGenerator {
         );
         final Klass klass = new Klass(context.generateClassName(), brief);
         LeftSideItemGenerator.generateInstanceAndConstructor(klass);
-        this.generateMatchMethod(klass);
+        this.generateMatchMethod(klass, context);
         return klass;
     }
 
     /**
      * Generates and adds a {@code match} method to the given class.
      * @param klass The class to which the {@code match} method will be added
+     * @param context Generation context
      */
-    private void generateMatchMethod(final Klass klass) {
+    private void generateMatchMethod(final Klass klass,
+        final LeftSideGenerationContext context) {
         final Method method = new Method("boolean", "match");
         klass.addMethod(method);
         method.makePublic();
@@ -72,15 +76,25 @@ public final class SymbolMatcherGenerator extends LeftSideItemGenerator {
         final List<String> code = new ArrayList<>(16);
         code.add("final String data = node.getData();");
         final SymbolicToken token = this.item.getToken();
+        final String type = context.composeTypeCheck(klass, "node", "Char");
         String condition;
-        if (token.getFirstSymbol() == token.getLastSymbol()) {
+        if (token == null || token instanceof SymbolCategoryToken) {
+            SymbolMatcherGenerator.generateLookup(klass, this.item.getCharacterClass());
             condition = String.format(
-                "node.belongsToGroup(\"Char\") && data.length() == 1 && data.charAt(0) == %s",
+                "%s && data.length() == 1 && %s.contains(data.charAt(0))",
+                type,
+                klass.getName()
+            );
+        } else if (token.getFirstSymbol() == token.getLastSymbol()) {
+            condition = String.format(
+                "%s && data.length() == 1 && data.charAt(0) == %s",
+                type,
                 token.getFirstSymbolAsQuotedString()
             );
         } else {
             condition = String.format(
-                "node.belongsToGroup(\"Char\") && data.length() == 1 && data.charAt(0) >= %s && data.charAt(0) <= %s",
+                "%s && data.length() == 1 && data.charAt(0) >= %s && data.charAt(0) <= %s",
+                type,
                 token.getFirstSymbolAsQuotedString(),
                 token.getLastSymbolAsQuotedString()
             );
@@ -103,4 +117,144 @@ public final class SymbolMatcherGenerator extends LeftSideItemGenerator {
         }
         method.setBody(String.join("\n", code));
     }
+
+    /**
+     * Generates fields and methods that check whether a character belongs
+     *  to a character class. Characters of the Latin-1 range are checked by one lookup
+     *  in a bitmap, other characters are checked by their Unicode category
+     *  and by binary search in sorted ranges.
+     * @param klass The class to which the fields and methods will be added
+     * @param chars Character class
+     */
+    private static void generateLookup(final Klass klass, final CharacterClass chars) {
+        final List<String> words = new ArrayList<>(4);
+        for (final long word : chars.getBitmap()) {
+            words.add(String.format("0x%sL", Long.toHexString(word)));
+        }
+        final Field bitmap = new Field(
+            "long[]",
+            "BITMAP",
+            "Bitmap of matching characters from the Latin-1 range"
+        );
+        bitmap.makePrivate();
+        bitmap.makeStatic();
+        bitmap.makeFinal(String.format("{%s}", String.join(", ", words)));
+        klass.addField(bitmap);
+        final Method method = new Method(
+            Strings.TYPE_BOOLEAN,
+            "contains",
+            "Checks whether a character matches the pattern"
+        );
+        method.makePrivate();
+        method.makeStatic();
+        method.addArgument("char", "symbol", "Character");
+        method.setReturnsDescription("Checking result, {@code true} if the character matches");
+        final List<String> other = new ArrayList<>(2);
+        if (chars.getCategories() != 0) {
+            other.add(
+                String.format(
+                    "(0x%s >> Character.getType(symbol) & 1) != 0",
+                    Integer.toHexString(chars.getCategories())
+                )
+            );
+        }
+        if (chars.getRanges().length > 0) {
+            other.add(String.format("%s.findRange(symbol)", klass.getName()));
+            klass.addMethod(SymbolMatcherGenerator.generateRangeSearch(chars.getRanges()));
+        }
+        if (other.isEmpty()) {
+            other.add("false");
+        }
+        method.setBody(
+            String.join(
+                "\n",
+                "final boolean result;",
+                String.format("if (symbol < %d) {", CharacterClass.BITMAP_SIZE),
+                String.format(
+                    "result = (%s.BITMAP[symbol >> 6] & 1L << symbol) != 0;",
+                    klass.getName()
+                ),
+                "} else {",
+                String.format("result = %s;", String.join(" || ", other)),
+                "}",
+                "return result;"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Generates a method that searches for a character in sorted ranges
+     *  using binary search.
+     * @param ranges Sorted non-overlapping ranges stored as pairs (first, last)
+     * @return Generated method
+     */
+    private static Method generateRangeSearch(final char... ranges) {
+        final Method method = new Method(
+            Strings.TYPE_BOOLEAN,
+            "findRange",
+            "Searches for a range containing a character outside the Latin-1 range"
+        );
+        method.makePrivate();
+        method.makeStatic();
+        method.addArgument("char", "symbol", "Character");
+        method.setReturnsDescription("Searching result, {@code true} if a range is found");
+        final List<String> code = new ArrayList<>(24);
+        final StringBuilder literal = new StringBuilder(64);
+        for (int index = 0; index < ranges.length; index = index + 1) {
+            if (index > 0 && index % 8 == 0) {
+                code.add(
+                    String.format(
+                        "%s\"%s\"",
+                        SymbolMatcherGenerator.getConcatenationPrefix(code),
+                        literal.toString()
+                    )
+                );
+                literal.setLength(0);
+            }
+            literal.append(String.format("\\u%04x", (int) ranges[index]));
+        }
+        code.add(
+            String.format(
+                "%s\"%s\";",
+                SymbolMatcherGenerator.getConcatenationPrefix(code),
+                literal.toString()
+            )
+        );
+        code.addAll(
+            Arrays.asList(
+                "int low = 0;",
+                "int high = ranges.length() / 2 - 1;",
+                "boolean found = false;",
+                "while (!found && low <= high) {",
+                "final int middle = (low + high) / 2;",
+                "if (symbol < ranges.charAt(middle * 2)) {",
+                "high = middle - 1;",
+                "} else if (symbol > ranges.charAt(middle * 2 + 1)) {",
+                "low = middle + 1;",
+                "} else {",
+                "found = true;",
+                "}",
+                "}",
+                "return found;"
+            )
+        );
+        method.setBody(String.join("\n", code));
+        return method;
+    }
+
+    /**
+     * Returns the beginning of a line declaring the string of ranges.
+     * @param code Lines of code generated so far
+     * @return Declaration of the string for the first line, concatenation operator for others
+     */
+    private static String getConcatenationPrefix(final List<String> code) {
+        final String prefix;
+        if (code.isEmpty()) {
+            prefix = "final String ranges = ";
+        } else {
+            prefix = "+ ";
+        }
+        return prefix;
+    }
 }
@@ -28,7 +28,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
+import org.cqfn.astranaut.dsl.LeftSideItem;
+import org.cqfn.astranaut.dsl.LiteralDescriptor;
 import org.cqfn.astranaut.dsl.Null;
+import org.cqfn.astranaut.dsl.PatternDescriptor;
 import org.cqfn.astranaut.dsl.PatternMatchingMode;
 import org.cqfn.astranaut.dsl.ResultingSubtreeDescriptor;
 import org.cqfn.astranaut.dsl.Rule;
@@ -61,14 +65,36 @@ public final class TransformationGenerator extends RuleGenerator {
      */
     private final TransformationGeneratorFlags flags;
 
+    /**
+     * Names of node classes used to create the resulting nodes, which are to be imported.
+     */
+    private final Set<String> imports;
+
+    /**
+     * Name of the generated class, or an empty string if the next converter name is used.
+     */
+    private final String name;
+
     /**
      * Constructor.
      * @param rule The transformation rule from which the source code is generated
      */
     public TransformationGenerator(final TransformationDescriptor rule) {
+        this(rule, "");
+    }
+
+    /**
+     * Constructor.
+     * @param rule The transformation rule from which the source code is generated
+     * @param name Name of the generated class, or an empty string if the next converter name
+     *  is used
+     */
+    public TransformationGenerator(final TransformationDescriptor rule, final String name) {
         this.rule = rule;
-        this.complex = rule.hasOptionalOrRepeated() && rule.getLeft().size() > 1;
+        this.name = name;
+        this.complex = rule.hasOptionalOrRepeated() && rule.getMatchedItems().size() > 1;
         this.flags = new TransformationGeneratorFlags();
+        this.imports = new TreeSet<>();
     }
 
     @Override
@@ -78,8 +104,14 @@ public final class TransformationGenerator extends RuleGenerator {
 
     @Override
     public Set<CompilationUnit> createUnits(final Context context) {
+        final String cname;
+        if (this.name.isEmpty()) {
+            cname = context.getNextConverterName();
+        } else {
+            cname = this.name;
+        }
         final Klass klass = new Klass(
-            context.getNextConverterName(),
+            cname,
             String.format(
                 "Converter implementing the rule '%s'",
                 this.rule.toString()
@@ -88,7 +120,11 @@ public final class TransformationGenerator extends RuleGenerator {
         klass.makePublic();
         klass.makeFinal();
         klass.setVersion(context.getVersion());
-        klass.setImplementsList("Converter");
+        if (this.rule.isScoped()) {
+            klass.setImplementsList("ScopedConverter");
+        } else {
+            klass.setImplementsList("Converter");
+        }
         final Field instance = new Field("Converter", "INSTANCE", "The instance");
         instance.makePublic();
         instance.makeStatic();
@@ -96,18 +132,18 @@ public final class TransformationGenerator extends RuleGenerator {
         klass.addField(instance);
         final Constructor ctor = klass.createConstructor();
         ctor.makePrivate();
-        final Set<String> matchers = this.createConvertMethod(context, klass);
+        final GuardGenerator guards = new GuardGenerator(context.getNodeClasses());
+        final Set<String> matchers = this.createConvertMethod(context, klass, guards);
         this.createGetMinConsumedMethod(klass);
         this.createIsRightToLeftMethod(klass);
+        if (this.rule.isScoped()) {
+            this.createScopeCheckingMethods(klass);
+        }
         final CompilationUnit unit = new CompilationUnit(
             context.getLicense(),
             context.getPackage(),
             klass
         );
-        if (this.complex) {
-            unit.addImport("java.util.Deque");
-            unit.addImport("java.util.LinkedList");
-        }
         unit.addImport("java.util.List");
         unit.addImport("java.util.Optional");
         if (this.flags.isCollectionsClassNeeded()) {
@@ -129,16 +165,24 @@ public final class TransformationGenerator extends RuleGenerator {
         unit.addImport("org.cqfn.astranaut.core.base.Node");
         if (this.rule.getRight() instanceof ResultingSubtreeDescriptor) {
             unit.addImport("org.cqfn.astranaut.core.base.DummyNode");
+        }
+        if (this.flags.isBuilderInterfaceNeeded()) {
             unit.addImport("org.cqfn.astranaut.core.base.Builder");
         }
-        final Package mpkg = context
-            .getPackage()
-            .getParent()
-            .getParent()
-            .getSubpackage("common", "matchers");
+        final Package root = context.getPackage().getParent().getParent();
+        if (this.rule.isScoped()) {
+            unit.addImport(String.format("%s.ScopedConverter", root));
+        }
+        final Package mpkg = root.getSubpackage("common", "matchers");
         for (final String matcher : matchers) {
             unit.addImport(String.format("%s.%s", mpkg, matcher));
         }
+        for (final String name : guards.getImports()) {
+            unit.addImport(name);
+        }
+        for (final String name : this.imports) {
+            unit.addImport(name);
+        }
         return Collections.singleton(unit);
     }
 
@@ -146,9 +190,11 @@ public final class TransformationGenerator extends RuleGenerator {
      * Creates a "convert" method.
      * @param context Context
      * @param klass The class to which the method will be added
+     * @param guards Generator of checks performed before the matching
      * @return Matcher names that were used for the rule
      */
-    private Set<String> createConvertMethod(final Context context, final Klass klass) {
+    private Set<String> createConvertMethod(final Context context, final Klass klass,
+        final GuardGenerator guards) {
         final Method method = new Method(
             "Optional<ConversionResult>",
             "convert"
@@ -157,6 +203,15 @@ public final class TransformationGenerator extends RuleGenerator {
         method.addArgument(Strings.TYPE_NODE_LIST, "list");
         method.addArgument(Strings.TYPE_INT, "index");
         method.addArgument(Strings.TYPE_FACTORY, "factory");
+        final List<LeftSideItem> items = this.rule.getMatchedItems();
+        final ConditionGenerator cgen;
+        if (items.size() == 1 && items.get(0).getMatchingMode() == PatternMatchingMode.REPEATED) {
+            cgen = new RepeatedNodeConditionGenerator(this.rule, context);
+        } else if (this.complex) {
+            cgen = new ComplexConditionGenerator(this.rule, context);
+        } else {
+            cgen = new SimpleConditionGenerator(this.rule, context);
+        }
         final List<String> code = new ArrayList<>(16);
         code.addAll(
             Arrays.asList(
@@ -164,21 +219,29 @@ public final class TransformationGenerator extends RuleGenerator {
                 "do {",
                 String.format("if (index + %d > list.size()) {", this.rule.getMinConsumed()),
                 "break;",
-                "}",
-                "final Extracted extracted = new Extracted();"
+                "}"
             )
         );
-        final ConditionGenerator cgen;
-        if (this.rule.getLeft().size() == 1
-            && this.rule.getLeft().get(0).getMatchingMode() == PatternMatchingMode.REPEATED) {
-            cgen = new RepeatedNodeConditionGenerator(this.rule, context);
-        } else if (this.complex) {
-            cgen = new ComplexConditionGenerator(this.rule, context, klass);
-        } else {
-            cgen = new SimpleConditionGenerator(this.rule, context);
+        code.addAll(cgen.generateGuards(guards));
+        code.add("final Extracted extracted = new Extracted();");
+        final Set<String> matchers = new TreeSet<>();
+        final List<LeftSideItem> behind = this.rule.getLookbehindItems();
+        if (!behind.isEmpty()) {
+            code.add(String.format("final int behind = index - %d;", behind.size()));
+            TransformationGenerator.createNeighbourChecks(
+                context, behind, "behind", false, code, matchers
+            );
         }
         code.addAll(cgen.generate());
-        this.createNodeCreator(klass, code);
+        matchers.addAll(cgen.getMatchers());
+        final List<LeftSideItem> ahead = this.rule.getLookaheadItems();
+        if (!ahead.isEmpty()) {
+            code.add(String.format("final int ahead = index + %s;", this.getConsumed()));
+            TransformationGenerator.createNeighbourChecks(
+                context, ahead, "ahead", true, code, matchers
+            );
+        }
+        this.createNodeCreator(context, klass, code);
         code.addAll(
             Arrays.asList(
                 "} while (false);",
@@ -187,7 +250,66 @@ public final class TransformationGenerator extends RuleGenerator {
         );
         method.setBody(String.join("\n", code));
         klass.addMethod(method);
-        return cgen.getMatchers();
+        return matchers;
+    }
+
+    /**
+     * Creates code that matches lookahead or lookbehind items with the neighbouring nodes.
+     *  A positive item requires a matching node, a negative one is also satisfied if there
+     *  is no node at the position (beginning or end of the list).
+     * @param context Context
+     * @param items Lookahead or lookbehind items
+     * @param start Name of the variable containing the position of the first neighbouring node
+     * @param forward Whether the neighbouring nodes follow the matched ones
+     * @param code List with lines of generated source code
+     * @param matchers Matcher names that were used for the rule
+     */
+    private static void createNeighbourChecks(final Context context,
+        final List<LeftSideItem> items, final String start, final boolean forward,
+        final List<String> code, final Set<String> matchers) {
+        for (int offset = 0; offset < items.size(); offset = offset + 1) {
+            final LeftSideItem item = items.get(offset);
+            final String matcher = context.getMatchers().get(item.toString(false)).getName();
+            matchers.add(matcher);
+            final String position;
+            if (offset == 0) {
+                position = start;
+            } else {
+                position = String.format("%s + %d", start, offset);
+            }
+            final String match = String.format(
+                "%s.INSTANCE.match(list.get(%s), extracted)",
+                matcher,
+                position
+            );
+            final String bounds;
+            if (item.isNegationFlagSet() && forward) {
+                bounds = "%s < list.size() && !%s";
+            } else if (item.isNegationFlagSet()) {
+                bounds = "%s >= 0 && !%s";
+            } else if (forward) {
+                bounds = "%s >= list.size() || !%s";
+            } else {
+                bounds = "%s < 0 || !%s";
+            }
+            code.add(String.format("if (%s) {", String.format(bounds, position, match)));
+            code.add(TransformationGenerator.BREAK);
+            code.add("}");
+        }
+    }
+
+    /**
+     * Returns the expression that evaluates the number of consumed nodes in the generated code.
+     * @return Variable name or a constant
+     */
+    private String getConsumed() {
+        final String consumed;
+        if (this.rule.hasOptionalOrRepeated()) {
+            consumed = "consumed";
+        } else {
+            consumed = String.valueOf(this.rule.getMinConsumed());
+        }
+        return consumed;
     }
 
     /**
@@ -220,18 +342,63 @@ public final class TransformationGenerator extends RuleGenerator {
         }
     }
 
+    /**
+     * Creates methods that find the positions of the child list the scoped rule
+     *  may be applied to.
+     * @param klass The class to which the methods will be added
+     */
+    private void createScopeCheckingMethods(final Klass klass) {
+        final Method start = new Method(Strings.TYPE_INT, "getScopeStart");
+        start.makePublic();
+        start.addArgument(Strings.TYPE_NODE, "parent");
+        start.addArgument(Strings.TYPE_NODE_LIST, "list");
+        start.setBody(
+            String.join(
+                "\n",
+                "int start = 0;",
+                String.format(
+                    "if (parent == null || !%s.isInScope(parent)) {",
+                    klass.getName()
+                ),
+                "int pos = 0;",
+                String.format(
+                    "while (pos < list.size() && !%s.isInScope(list.get(pos))) {",
+                    klass.getName()
+                ),
+                "pos = pos + 1;",
+                "}",
+                "start = pos + 1;",
+                "}",
+                "return start;"
+            )
+        );
+        klass.addMethod(start);
+        final Method scope = new Method(
+            Strings.TYPE_BOOLEAN,
+            "isInScope",
+            "Checks whether the node belongs to one of the types the rule is scoped to"
+        );
+        scope.makePrivate();
+        scope.makeStatic();
+        scope.addArgument(Strings.TYPE_NODE, "node", "Node");
+        scope.setReturnsDescription("Checking result, {@code true} if the node is in scope");
+        final List<String> groups = new ArrayList<>(this.rule.getScope().size());
+        for (final String type : this.rule.getScope()) {
+            groups.add(String.format("node.belongsToGroup(\"%s\")", type));
+        }
+        scope.setBody(String.format("return %s;", String.join(" || ", groups)));
+        klass.addMethod(scope);
+    }
+
     /**
      * Creates code that creates the resulting node.
+     * @param context Context
      * @param klass The class to which the 'convert' method will be added
      * @param code List with lines of generated source code
      */
-    private void createNodeCreator(final Klass klass, final List<String> code) {
-        final String consumed;
-        if (this.rule.hasOptionalOrRepeated()) {
-            consumed = "consumed";
-        } else {
-            consumed = String.valueOf(this.rule.getMinConsumed());
-        }
+    private void createNodeCreator(final Context context, final Klass klass,
+        final List<String> code) {
+        final String consumed = this.getConsumed();
         if (this.rule.getRight() instanceof UntypedHole) {
             code.addAll(
                 Arrays.asList(
@@ -256,26 +423,40 @@ public final class TransformationGenerator extends RuleGenerator {
             final ResultingSubtreeBuilderGenerator gen = new ResultingSubtreeBuilderGenerator(
                 klass,
                 new NameGenerator("root"),
-                this.flags
+                this.flags,
+                context.getNodeClasses(),
+                this.rule.getLanguage()
             );
             final Method builder = gen.generate((ResultingSubtreeDescriptor) this.rule.getRight());
-            if (gen.isExtractedParameterNeeded()) {
+            this.imports.addAll(gen.getImports());
+            if (consumed.equals("1")) {
+                code.add("final Fragment fragment = list.get(index).getFragment();");
+            } else {
+                final String nodes = String.format("list.subList(index, index + %s)", consumed);
                 code.add(
-                    String.format(
-                        "final Node node = %s.%s(factory, fragment, extracted);",
-                        klass.getName(),
-                        builder.getName()
-                    )
+                    String.format("final Fragment fragment = Fragment.fromNodes(%s);", nodes)
+                );
+            }
+            final String call;
+            if (gen.isExtractedParameterNeeded()) {
+                call = String.format(
+                    "%s.%s(factory, fragment, extracted)",
+                    klass.getName(),
+                    builder.getName()
                 );
             } else {
-                code.add(
-                    String.format(
-                        "final Node node = %s.%s(factory, fragment);",
-                        klass.getName(),
-                        builder.getName()
-                    )
+                call = String.format(
+                    "%s.%s(factory, fragment)",
+                    klass.getName(),
+                    builder.getName()
                 );
             }
+            final List<String> passing = this.createValuePassing(context.getNodeClasses(), call);
+            if (passing.isEmpty()) {
+                code.add(String.format("final Node node = %s;", call));
+            } else {
+                code.addAll(passing);
+            }
             code.addAll(
                 Arrays.asList(
                     "if (node == DummyNode.INSTANCE) {",
@@ -289,4 +470,100 @@ public final class TransformationGenerator extends RuleGenerator {
             );
         }
     }
+
+    /**
+     * Generates code that creates a resulting literal from the value of a literal matched
+     *  by the rule, if the data of the resulting literal is extracted from the matched one
+     *  and both literals store values of the same type in the same way. The value is passed
+     *  in native form, without converting it to a string and back. If the matched node
+     *  is not an instance of the generated class, the node is created by the builder.
+     * @param classes Classes and interfaces generated for node descriptors
+     * @param call Java expression that creates the node using the builder
+     * @return List of code lines that create the node, or an empty list if the value
+     *  can't be passed
+     */
+    private List<String> createValuePassing(final NodeClasses classes, final String call) {
+        final List<String> code = new ArrayList<>(8);
+        final ResultingSubtreeDescriptor right = (ResultingSubtreeDescriptor) this.rule.getRight();
+        final String language = this.rule.getLanguage();
+        final LiteralDescriptor target = classes.findLiteral(right.getType(), language);
+        final List<LeftSideItem> items = this.rule.getMatchedItems();
+        do {
+            if (target == null || this.complex || !(right.getData() instanceof UntypedHole)
+                || !right.getChildren().isEmpty()) {
+                break;
+            }
+            final UntypedHole hole = (UntypedHole) right.getData();
+            if (this.countDataHoles(hole.getNumber()) != 1) {
+                break;
+            }
+            PatternDescriptor pattern = null;
+            int position = -1;
+            for (int index = 0; index < items.size(); index = index + 1) {
+                final LeftSideItem item = items.get(index);
+                if (item.getMatchingMode() != PatternMatchingMode.NORMAL) {
+                    pattern = null;
+                    break;
+                }
+                if (item instanceof PatternDescriptor && !item.isNegationFlagSet()
+                    && hole.equals(((PatternDescriptor) item).getData())) {
+                    pattern = (PatternDescriptor) item;
+                    position = index;
+                }
+            }
+            if (pattern == null) {
+                break;
+            }
+            final LiteralDescriptor source = classes.findLiteral(pattern.getType(), language);
+            if (source == null || !LiteralValues.areCompatible(source, target)) {
+                break;
+            }
+            final Set<String> used = new TreeSet<>();
+            final String first = classes.composeClassName(source.getName(), language, used);
+            final String second = classes.composeClassName(target.getName(), language, used);
+            this.imports.addAll(used);
+            final String node;
+            if (position == 0) {
+                node = "list.get(index)";
+            } else {
+                node = String.format("list.get(index + %d)", position);
+            }
+            code.addAll(
+                Arrays.asList(
+                    String.format("final Node source = %s;", node),
+                    "final Node node;",
+                    String.format("if (source instanceof %s) {", first),
+                    String.format(
+                        "node = %s.of(fragment, ((%s) source).getValue());",
+                        second,
+                        first
+                    ),
+                    "} else {",
+                    String.format("node = %s;", call),
+                    "}"
+                )
+            );
+        } while (false);
+        return code;
+    }
+
+    /**
+     * Counts how many times the data with the specified number is extracted
+     *  by the left side of the rule.
+     * @param number Number of the untyped hole
+     * @return Number of items, including nested ones, that extract the data
+     */
+    private int countDataHoles(final int number) {
+        final String hole = String.format("<#%d>", number);
+        int count = 0;
+        for (final LeftSideItem item : this.rule.getLeft()) {
+            final String text = item.toString(true);
+            int index = text.indexOf(hole);
+            while (index >= 0) {
+                count = count + 1;
+                index = text.indexOf(hole, index + hole.length());
+            }
+        }
+        return count;
+    }
 }
@@ -38,6 +38,11 @@ final class TransformationGeneratorFlags {
      */
     private boolean lutils;
 
+    /**
+     * Flag indicating that we need to import the 'Builder' interface.
+     */
+    private boolean builder;
+
     /**
      * Sets the flag indicating that we need to import the 'Collections' class.
      */
@@ -52,6 +57,13 @@ final class TransformationGeneratorFlags {
         this.lutils = true;
     }
 
+    /**
+     * Sets the flag indicating that we need to import the 'Builder' interface.
+     */
+    void needBuilder() {
+        this.builder = true;
+    }
+
     /**
      * Returns the flag indicating that we need to import the 'Collections' class.
      * @return The flag
@@ -67,4 +79,12 @@ final class TransformationGeneratorFlags {
     boolean isListUtilsClassNeeded() {
         return this.lutils;
     }
+
+    /**
+     * Returns the flag indicating that we need to import the 'Builder' interface.
+     * @return The flag
+     */
+    boolean isBuilderInterfaceNeeded() {
+        return this.builder;
+    }
 }
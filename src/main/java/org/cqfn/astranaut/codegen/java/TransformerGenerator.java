@@ -24,9 +24,28 @@
 package org.cqfn.astranaut.codegen.java;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.cqfn.astranaut.dsl.AndExpression;
+import org.cqfn.astranaut.dsl.ConversionRule;
+import org.cqfn.astranaut.dsl.DispatchTableDescriptor;
+import org.cqfn.astranaut.dsl.LeftSideItem;
+import org.cqfn.astranaut.dsl.NodeDescriptor;
+import org.cqfn.astranaut.dsl.OperatorTableDescriptor;
+import org.cqfn.astranaut.dsl.OrExpression;
+import org.cqfn.astranaut.dsl.PatternDescriptor;
+import org.cqfn.astranaut.dsl.PatternMatchingMode;
 import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.dsl.Rule;
+import org.cqfn.astranaut.dsl.SymbolDescriptor;
+import org.cqfn.astranaut.dsl.TransformationDescriptor;
+import org.cqfn.astranaut.dsl.TypedHole;
 
 /**
  * Generates transformers for languages.
@@ -73,12 +92,12 @@ public final class TransformerGenerator {
         klass.makePublic();
         klass.makeFinal();
         klass.setVersion(context.getVersion());
-        klass.setSuperclass("DefaultTransformer");
+        klass.setSuperclass("DispatchingTransformer");
         final Constructor ctor = klass.createConstructor();
         ctor.makePrivate();
         ctor.setBody(
             String.format(
-                "super(%s.collectConverters(), %sFactory.INSTANCE);",
+                "super(%s.createConverters(), %sFactory.INSTANCE);",
                 classname,
                 capitalized
             )
@@ -93,17 +112,28 @@ public final class TransformerGenerator {
         instance.makeFinal(String.format("new %s()", classname));
         klass.addField(instance);
         final Package pkg = context.getPackage();
-        this.createMethodThatCollectConverters(target, pkg, klass);
+        this.createMethodThatCreatesConverters(language, target, pkg, klass);
+        final boolean kinds = this.createMethodThatSelectsCandidates(
+            language,
+            context.getNodeClasses(),
+            klass
+        );
         final CompilationUnit unit = new CompilationUnit(
             context.getLicense(),
             pkg,
             klass
         );
+        unit.addImport("java.util.Arrays");
         unit.addImport("java.util.List");
-        unit.addImport("java.util.LinkedList");
+        unit.addImport("org.cqfn.astranaut.core.base.Node");
         unit.addImport("org.cqfn.astranaut.core.base.Transformer");
         unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.Converter");
-        unit.addImport("org.cqfn.astranaut.core.algorithms.conversion.DefaultTransformer");
+        unit.addImport(
+            String.format("%s.DispatchingTransformer", pkg.getParent().getParent().toString())
+        );
+        if (kinds) {
+            unit.addImport(context.getNodeClasses().getMarker());
+        }
         unit.addImport(
             String.format(
                 "%s.%sFactory",
@@ -115,40 +145,333 @@ public final class TransformerGenerator {
     }
 
     /**
-     * Creates a method that collect converters from specified packages.
+     * Creates a method that lists converter objects explicitly, in the order the rules
+     *  are declared. Converters of common rules come first, as they are inherited by
+     *  all languages. The generated code does not look for converters at runtime.
+     * @param language Language name
      * @param target Target language
      * @param pkg Package
      * @param klass The class in which the method is created
      */
-    private void createMethodThatCollectConverters(final String target,
+    private void createMethodThatCreatesConverters(final String language, final String target,
         final Package pkg, final Klass klass) {
         final Method method = new Method(
             "List<Converter>",
-            "collectConverters",
-            String.format("Collects converter objects for %s", target)
+            "createConverters",
+            String.format("Creates a list of converter objects for %s", target)
         );
         method.makePrivate();
         method.makeStatic();
         method.setReturnsDescription("List of converter objects");
-        final List<String> code = new ArrayList<>(4);
-        code.add("final List<Converter> list = new LinkedList<>();");
-        if (!target.equals("common cases")
-            && !this.program.getTransformationDescriptorsByLanguage("common").isEmpty()) {
-            code.add(
-                String.format(
-                    "Converter.collectConverters(\"%s\", list);",
-                    pkg.getParent().getParent().getSubpackage("common", "rules").toString()
-                )
+        final List<String> names = new ArrayList<>(0);
+        if (!language.equals("common")) {
+            TransformerGenerator.addConverterNames(
+                names,
+                pkg.getParent().getParent().getSubpackage("common", "rules").toString()
+                    .concat("."),
+                this.program.getConversionRulesByLanguage("common").size()
             );
         }
+        TransformerGenerator.addConverterNames(
+            names,
+            "",
+            this.program.getConversionRulesByLanguage(language).size()
+        );
+        final List<String> code = new ArrayList<>(names.size() + 2);
         code.add(
-            String.format(
-                "Converter.collectConverters(\"%s\", list);",
-                pkg.toString()
-            )
+            String.format("final Converter[] converters = new Converter[%d];", names.size())
         );
-        code.add("return list;");
+        for (int index = 0; index < names.size(); index = index + 1) {
+            code.add(
+                String.format("converters[%d] = %s.INSTANCE;", index, names.get(index))
+            );
+        }
+        code.add("return Arrays.asList(converters);");
         method.setBody(String.join("\n", code));
         klass.addMethod(method);
     }
+
+    /**
+     * Creates fields containing flags of the converters that can start at nodes of some types,
+     *  and a method that selects these flags for a node.
+     *  The converters are selected statically, based on the first item of the left side
+     *  of each rule and on the hierarchy of the node types described in the program.
+     *  Generated nodes are selected by their kinds, and other nodes by their type names.
+     *  Nodes of other types (for example, characters) may start only the rules whose first
+     *  item does not require a described type. Types with the same flags
+     *  as the other types are not listed.
+     * @param language Language name
+     * @param classes Classes and interfaces generated for node descriptors
+     * @param klass The class in which the fields and the method are created
+     * @return Whether the method checks the kinds of nodes
+     */
+    private boolean createMethodThatSelectsCandidates(final String language,
+        final NodeClasses classes, final Klass klass) {
+        final List<ConversionRule> rules = new ArrayList<>(0);
+        if (!language.equals("common")) {
+            rules.addAll(this.program.getConversionRulesByLanguage("common"));
+        }
+        rules.addAll(this.program.getConversionRulesByLanguage(language));
+        final Map<String, Set<String>> groups = this.collectGroups();
+        final List<Set<String>> firsts = new ArrayList<>(rules.size());
+        final List<Integer> fallback = new ArrayList<>(rules.size());
+        for (int index = 0; index < rules.size(); index = index + 1) {
+            final Set<String> types = TransformerGenerator.getFirstTypes(rules.get(index));
+            firsts.add(types);
+            if (types == null || !groups.keySet().containsAll(types)) {
+                fallback.add(index);
+            }
+        }
+        final Map<List<Integer>, Set<String>> sets = new LinkedHashMap<>();
+        sets.put(fallback, Collections.emptySet());
+        final Map<List<Integer>, List<String>> names = new LinkedHashMap<>();
+        for (final Map.Entry<String, Set<String>> entry : groups.entrySet()) {
+            final List<Integer> numbers = TransformerGenerator.selectRules(
+                firsts, entry.getValue()
+            );
+            if (!numbers.equals(fallback)) {
+                sets.computeIfAbsent(numbers, key -> new TreeSet<>()).add(entry.getKey());
+                names.computeIfAbsent(numbers, key -> new ArrayList<>(1))
+                    .add(String.format("\"%s\"", entry.getKey()));
+            }
+        }
+        final Map<List<Integer>, List<String>> kinds = new LinkedHashMap<>();
+        for (final Map.Entry<NodeDescriptor, Integer> entry : classes.getKinds().entrySet()) {
+            final Set<String> topology = new TreeSet<>();
+            for (final NodeDescriptor base : entry.getKey().getTopology()) {
+                topology.add(base.getName());
+            }
+            final List<Integer> numbers = TransformerGenerator.selectRules(firsts, topology);
+            if (!numbers.equals(fallback)) {
+                sets.computeIfAbsent(numbers, key -> new TreeSet<>())
+                    .add(entry.getKey().getName());
+                kinds.computeIfAbsent(numbers, key -> new ArrayList<>(1))
+                    .add(String.valueOf(entry.getValue()));
+            }
+        }
+        final NumberedLabelGenerator labels = new NumberedLabelGenerator("CANDIDATES");
+        final Map<List<Integer>, String> fields = new LinkedHashMap<>();
+        for (final Map.Entry<List<Integer>, Set<String>> entry : sets.entrySet()) {
+            final String name = labels.getLabel();
+            klass.addField(
+                TransformerGenerator.createCandidatesField(name, entry, rules.size())
+            );
+            fields.put(entry.getKey(), String.format("%s.%s", klass.getName(), name));
+        }
+        final String other = fields.get(fallback);
+        final List<String> code = new ArrayList<>(sets.size() * 3 + 16);
+        code.add("final boolean[] candidates;");
+        if (kinds.isEmpty()) {
+            TransformerGenerator.createSwitch("node.getTypeName()", names, fields, other, code);
+        } else {
+            code.add(String.format("if (node instanceof %s) {", NodeClasses.MARKER));
+            TransformerGenerator.createSwitch(
+                String.format("((%s) node).getKind()", NodeClasses.MARKER),
+                kinds,
+                fields,
+                other,
+                code
+            );
+            code.add("} else {");
+            TransformerGenerator.createSwitch("node.getTypeName()", names, fields, other, code);
+            code.add("}");
+        }
+        code.add("return candidates;");
+        final Method method = new Method("boolean[]", "getCandidates");
+        method.makeProtected();
+        method.addArgument(Strings.TYPE_NODE, "node");
+        if (sets.size() > 1) {
+            method.setBody(String.join("\n", code));
+        } else {
+            method.setBody(String.format("return %s;", other));
+        }
+        klass.addMethod(method);
+        return !kinds.isEmpty();
+    }
+
+    /**
+     * Selects the rules that can start at a node belonging to the specified groups.
+     * @param firsts Names of types at which each rule can start, {@code null} for any type
+     * @param groups Names of groups to which the node belongs
+     * @return Numbers of the selected rules
+     */
+    private static List<Integer> selectRules(final List<Set<String>> firsts,
+        final Set<String> groups) {
+        final List<Integer> numbers = new ArrayList<>(firsts.size());
+        for (int index = 0; index < firsts.size(); index = index + 1) {
+            final Set<String> types = firsts.get(index);
+            if (types == null || !Collections.disjoint(types, groups)) {
+                numbers.add(index);
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Creates a {@code switch} statement that assigns the flags of the converters
+     *  to the 'candidates' variable. If there are no cases, just assigns the default flags.
+     * @param selector Java expression by which the cases are selected
+     * @param cases Case labels mapped to numbers of converters
+     * @param fields Names of fields containing flags mapped to numbers of converters
+     * @param other Name of the field containing the default flags
+     * @param code List with lines of generated source code
+     */
+    private static void createSwitch(final String selector,
+        final Map<List<Integer>, List<String>> cases, final Map<List<Integer>, String> fields,
+        final String other, final List<String> code) {
+        if (cases.isEmpty()) {
+            code.add(String.format("candidates = %s;", other));
+        } else {
+            code.add(String.format("switch (%s) {", selector));
+            for (final Map.Entry<List<Integer>, List<String>> entry : cases.entrySet()) {
+                for (final String label : entry.getValue()) {
+                    code.add(String.format("case %s:", label));
+                }
+                code.add(String.format("candidates = %s;", fields.get(entry.getKey())));
+                code.add("break;");
+            }
+            code.add("default:");
+            code.add(String.format("candidates = %s;", other));
+            code.add("break;");
+            code.add("}");
+        }
+    }
+
+    /**
+     * Collects the names of groups to which nodes of each type described in the program
+     *  belong, that is, the names of the types from the inheritance topology.
+     *  Types with the same name from different languages are merged.
+     * @return Map of group names, sorted by type name
+     */
+    private Map<String, Set<String>> collectGroups() {
+        final Map<String, Set<String>> groups = new TreeMap<>();
+        for (final Rule rule : this.program.getAllRules()) {
+            if (rule instanceof NodeDescriptor) {
+                final NodeDescriptor descriptor = (NodeDescriptor) rule;
+                final Set<String> names = groups.computeIfAbsent(
+                    descriptor.getName(),
+                    key -> new TreeSet<>()
+                );
+                for (final NodeDescriptor base : descriptor.getTopology()) {
+                    names.add(base.getName());
+                }
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Creates a field containing flags of the converters that can start at nodes
+     *  of some types.
+     * @param name Name of the field
+     * @param entry Numbers of converters mapped to names of types
+     * @param count Total number of converters
+     * @return Field
+     */
+    private static Field createCandidatesField(final String name,
+        final Map.Entry<List<Integer>, Set<String>> entry, final int count) {
+        final Set<String> types = entry.getValue();
+        final String brief;
+        if (types.isEmpty()) {
+            brief = "Flags of the converters that can start at nodes of other types";
+        } else if (types.size() == 1) {
+            brief = String.format(
+                "Flags of the converters that can start at nodes of the '%s' type",
+                types.iterator().next()
+            );
+        } else {
+            brief = String.format(
+                "Flags of the converters that can start at nodes of %d types",
+                types.size()
+            );
+        }
+        final Field field = new Field("boolean[]", name, brief);
+        field.makePrivate();
+        field.makeStatic();
+        final StringBuilder builder = new StringBuilder(64);
+        builder.append("DispatchingTransformer.select(").append(count);
+        for (final Integer number : entry.getKey()) {
+            builder.append(", ").append(number);
+        }
+        builder.append(')');
+        field.makeFinal(builder.toString());
+        return field;
+    }
+
+    /**
+     * Returns the names of types of nodes at which the conversion rule can start,
+     *  i.e. the types of nodes that can match the first consumed node.
+     * @param rule Conversion rule
+     * @return Set of type names or {@code null} if the rule can start at a node of any type
+     */
+    private static Set<String> getFirstTypes(final ConversionRule rule) {
+        final Set<String> types;
+        if (rule instanceof TransformationDescriptor) {
+            final LeftSideItem first = ((TransformationDescriptor) rule).getMatchedItems().get(0);
+            if (first.getMatchingMode() == PatternMatchingMode.NORMAL) {
+                types = TransformerGenerator.getTypesOfItem(first);
+            } else {
+                types = null;
+            }
+        } else if (rule instanceof DispatchTableDescriptor) {
+            types = Collections.singleton(((DispatchTableDescriptor) rule).getType());
+        } else if (rule instanceof OperatorTableDescriptor) {
+            types = Collections.singleton(((OperatorTableDescriptor) rule).getOperand());
+        } else {
+            types = null;
+        }
+        return types;
+    }
+
+    /**
+     * Returns the names of types of nodes that can match an item of the left side of a rule.
+     * @param item Item of the left side
+     * @return Set of type names or {@code null} if a node of any type can match the item
+     */
+    private static Set<String> getTypesOfItem(final LeftSideItem item) {
+        Set<String> types = null;
+        if (item instanceof PatternDescriptor) {
+            types = Collections.singleton(((PatternDescriptor) item).getType());
+        } else if (item instanceof TypedHole) {
+            types = Collections.singleton(((TypedHole) item).getType());
+        } else if (item instanceof SymbolDescriptor) {
+            types = Collections.singleton("Char");
+        } else if (item instanceof AndExpression) {
+            for (final LeftSideItem operand : ((AndExpression) item).getItems()) {
+                types = TransformerGenerator.getTypesOfItem(operand);
+                if (types != null) {
+                    break;
+                }
+            }
+        } else if (item instanceof OrExpression) {
+            types = new TreeSet<>();
+            for (final LeftSideItem operand : ((OrExpression) item).getItems()) {
+                final Set<String> subset = TransformerGenerator.getTypesOfItem(operand);
+                if (subset == null) {
+                    types = null;
+                    break;
+                }
+                types.addAll(subset);
+            }
+        }
+        if (item.isNegationFlagSet()) {
+            types = null;
+        }
+        return types;
+    }
+
+    /**
+     * Adds names of converter classes to the list. Converters are named in the same way
+     *  as when they are generated, i.e. 'Converter0', 'Converter1', and so on.
+     * @param names List of names
+     * @param prefix Prefix of the name, i.e. package name with a dot or an empty string
+     * @param count Number of converters
+     */
+    private static void addConverterNames(final List<String> names, final String prefix,
+        final int count) {
+        final NumberedLabelGenerator labels = new NumberedLabelGenerator("Converter");
+        for (int index = 0; index < count; index = index + 1) {
+            names.add(prefix.concat(labels.getLabel()));
+        }
+    }
 }
@@ -53,15 +53,17 @@ public final class TypedHoleMatcherGenerator extends LeftSideItemGenerator {
         );
         final Klass klass = new Klass(context.generateClassName(), brief);
         LeftSideItemGenerator.generateInstanceAndConstructor(klass);
-        this.generateMatchMethod(klass);
+        this.generateMatchMethod(klass, context);
         return klass;
     }
 
     /**
      * Generates and adds a {@code match} method to the given class.
      * @param klass The class to which the {@code match} method will be added
+     * @param context Generation context
      */
-    private void generateMatchMethod(final Klass klass) {
+    private void generateMatchMethod(final Klass klass,
+        final LeftSideGenerationContext context) {
         final Method method = new Method("boolean", "match");
         klass.addMethod(method);
         method.makePublic();
@@ -73,9 +75,9 @@ public final class TypedHoleMatcherGenerator extends LeftSideItemGenerator {
         }
         final List<String> code = Arrays.asList(
             String.format(
-                "final boolean matches = %snode.belongsToGroup(\"%s\");",
+                "final boolean matches = %s%s;",
                 negative,
-                this.item.getType()
+                context.composeTypeCheck(klass, "node", this.item.getType())
             ),
             "if (matches) {",
             String.format("extracted.addNode(%d, node);", this.item.getNumber()),
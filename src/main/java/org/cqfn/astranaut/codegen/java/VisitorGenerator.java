@@ -0,0 +1,301 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.cqfn.astranaut.dsl.NodeDescriptor;
+
+/**
+ * Generates, for a language, a visitor of nodes and a walker that traverses trees
+ *  and passes their nodes to the visitor.
+ * @since 1.0.0
+ */
+public final class VisitorGenerator {
+    /**
+     * Creates compilation units that contain the visitor and the walker.
+     *  Nothing is created if there are no generated nodes that the visitor could process.
+     * @param language Language for which the visitor is generated
+     * @param context Data required to generate Java source code
+     * @return Compilation units
+     */
+    public List<CompilationUnit> createUnits(final String language, final Context context) {
+        final Map<NodeDescriptor, Integer> kinds = context.getNodeClasses().getKinds();
+        final List<NodeDescriptor> own = new ArrayList<>(kinds.size());
+        final List<NodeDescriptor> all = new ArrayList<>(kinds.size());
+        boolean common = false;
+        for (final NodeDescriptor descriptor : kinds.keySet()) {
+            final String owner = descriptor.getLanguage();
+            if (owner.equals(language)) {
+                own.add(descriptor);
+                all.add(descriptor);
+            } else if (owner.equals("common")) {
+                common = true;
+                all.add(descriptor);
+            }
+        }
+        final List<CompilationUnit> units = new ArrayList<>(2);
+        if (!all.isEmpty()) {
+            final String name = VisitorGenerator.getVisitorName(language);
+            units.add(VisitorGenerator.createVisitor(language, common, own, context));
+            units.add(VisitorGenerator.createWalker(name, language, all, context));
+        }
+        return units;
+    }
+
+    /**
+     * Returns the name of the visitor of nodes of the specified language.
+     * @param language Language name
+     * @return Name of the visitor interface
+     */
+    public static String getVisitorName(final String language) {
+        return language
+            .substring(0, 1)
+            .toUpperCase(Locale.ENGLISH)
+            .concat(language.substring(1))
+            .concat("Visitor");
+    }
+
+    /**
+     * Returns the name of the method of the visitor that processes nodes of the specified type.
+     * @param type Name of the type
+     * @return Name of the method
+     */
+    public static String getVisitMethodName(final String type) {
+        return "visit".concat(type);
+    }
+
+    /**
+     * Creates compilation unit that contains the visitor.
+     * @param language Language for which the visitor is generated
+     * @param common Flag indicating that the visitor extends the visitor of common nodes
+     * @param descriptors Descriptors of nodes of the language
+     * @param context Data required to generate Java source code
+     * @return Compilation unit
+     */
+    private static CompilationUnit createVisitor(final String language, final boolean common,
+        final List<NodeDescriptor> descriptors, final Context context) {
+        final String name = VisitorGenerator.getVisitorName(language);
+        final Interface iface = new Interface(
+            name,
+            String.format(
+                "Visitor that processes nodes of the '%s' language, one method per node type",
+                name.substring(0, name.length() - 7)
+            )
+        );
+        iface.makePublic();
+        iface.setVersion(context.getVersion());
+        if (common) {
+            iface.setExtendsList(VisitorGenerator.getVisitorName("common"));
+        }
+        for (final NodeDescriptor descriptor : descriptors) {
+            final MethodSignature method = new MethodSignature(
+                Strings.TYPE_VOID,
+                VisitorGenerator.getVisitMethodName(descriptor.getName()),
+                String.format("Processes a node of the '%s' type", descriptor.getName())
+            );
+            method.addArgument(descriptor.getName(), "node", "Node to be processed");
+            iface.addMethodSignature(method);
+        }
+        final CompilationUnit unit = new CompilationUnit(
+            context.getLicense(),
+            context.getPackage(),
+            iface
+        );
+        if (common) {
+            unit.addImport(
+                String.format(
+                    "%s.%s",
+                    VisitorGenerator.getNodesPackage("common", context),
+                    VisitorGenerator.getVisitorName("common")
+                )
+            );
+        }
+        return unit;
+    }
+
+    /**
+     * Creates compilation unit that contains the walker.
+     * @param visitor Name of the visitor
+     * @param language Language for which the walker is generated
+     * @param descriptors Descriptors of nodes that are passed to the visitor
+     * @param context Data required to generate Java source code
+     * @return Compilation unit
+     */
+    private static CompilationUnit createWalker(final String visitor, final String language,
+        final List<NodeDescriptor> descriptors, final Context context) {
+        final String name = visitor.replace("Visitor", "Walker");
+        final Klass klass = new Klass(
+            name,
+            String.join(
+                " ",
+                "Walker that traverses trees without recursion and passes generated nodes",
+                "to a visitor. Nodes of other types are skipped, but their children are traversed"
+            )
+        );
+        klass.makePublic();
+        klass.makeFinal();
+        klass.setVersion(context.getVersion());
+        final Field field = new Field(visitor, "visitor", "Visitor that processes the nodes");
+        field.makePrivate();
+        field.makeFinal("");
+        klass.addField(field);
+        final Constructor ctor = klass.createConstructor();
+        ctor.makePublic();
+        ctor.addArgument(visitor, "visitor", "Visitor that processes the nodes");
+        ctor.setBody("this.visitor = visitor;");
+        VisitorGenerator.createPreOrderMethod(klass);
+        VisitorGenerator.createPostOrderMethod(klass);
+        VisitorGenerator.createVisitMethod(descriptors, klass);
+        final CompilationUnit unit = new CompilationUnit(
+            context.getLicense(),
+            context.getPackage(),
+            klass
+        );
+        unit.addImport("java.util.ArrayDeque");
+        unit.addImport("java.util.Deque");
+        unit.addImport("org.cqfn.astranaut.core.base.Node");
+        unit.addImport(context.getNodeClasses().getMarker());
+        for (final NodeDescriptor descriptor : descriptors) {
+            if (!descriptor.getLanguage().equals(language)) {
+                unit.addImport(
+                    String.format(
+                        "%s.%s",
+                        VisitorGenerator.getNodesPackage(descriptor.getLanguage(), context),
+                        descriptor.getName()
+                    )
+                );
+            }
+        }
+        return unit;
+    }
+
+    /**
+     * Creates a method that traverses a tree in pre-order.
+     * @param klass Class describing the walker
+     */
+    private static void createPreOrderMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_VOID,
+            "walkPreOrder",
+            "Traverses a tree, passing each node to the visitor before its children"
+        );
+        method.makePublic();
+        method.addArgument(Strings.TYPE_NODE, "root", "Root node of the tree");
+        method.setBody(
+            String.join(
+                "\n",
+                "final Deque<Node> stack = new ArrayDeque<>();",
+                "stack.push(root);",
+                "while (!stack.isEmpty()) {",
+                "final Node node = stack.pop();",
+                "this.visit(node);",
+                "for (int index = node.getChildCount() - 1; index >= 0; index = index - 1) {",
+                "stack.push(node.getChild(index));",
+                "}",
+                "}"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that traverses a tree in post-order.
+     * @param klass Class describing the walker
+     */
+    private static void createPostOrderMethod(final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_VOID,
+            "walkPostOrder",
+            "Traverses a tree, passing each node to the visitor after its children"
+        );
+        method.makePublic();
+        method.addArgument(Strings.TYPE_NODE, "root", "Root node of the tree");
+        method.setBody(
+            String.join(
+                "\n",
+                "final Deque<Node> stack = new ArrayDeque<>();",
+                "final Deque<Integer> positions = new ArrayDeque<>();",
+                "stack.push(root);",
+                "positions.push(0);",
+                "while (!stack.isEmpty()) {",
+                "final Node node = stack.peek();",
+                "final int position = positions.pop();",
+                "if (position < node.getChildCount()) {",
+                "positions.push(position + 1);",
+                "stack.push(node.getChild(position));",
+                "positions.push(0);",
+                "} else {",
+                "stack.pop();",
+                "this.visit(node);",
+                "}",
+                "}"
+            )
+        );
+        klass.addMethod(method);
+    }
+
+    /**
+     * Creates a method that passes a node to the visitor, selecting the node type by its kind.
+     * @param descriptors Descriptors of nodes that are passed to the visitor
+     * @param klass Class describing the walker
+     */
+    private static void createVisitMethod(final List<NodeDescriptor> descriptors,
+        final Klass klass) {
+        final Method method = new Method(
+            Strings.TYPE_VOID,
+            "visit",
+            "Passes a node to the visitor if the node is generated"
+        );
+        method.makePrivate();
+        method.addArgument(Strings.TYPE_NODE, "node", "Node");
+        final List<String> code = new ArrayList<>(descriptors.size() * 3 + 8);
+        code.add(String.format("if (node instanceof %s) {", NodeClasses.MARKER));
+        code.add(String.format("switch (((%s) node).getKind()) {", NodeClasses.MARKER));
+        for (final NodeDescriptor descriptor : descriptors) {
+            final String type = descriptor.getName();
+            code.add(String.format("case %s.KIND:", type));
+            code.add(String.format("((%s) node).accept(this.visitor);", type));
+            code.add("break;");
+        }
+        code.add("default:");
+        code.add("break;");
+        code.add("}");
+        code.add("}");
+        method.setBody(String.join("\n", code));
+        klass.addMethod(method);
+    }
+
+    /**
+     * Returns the package containing nodes of the specified language.
+     * @param language Language name
+     * @param context Data required to generate Java source code
+     * @return Package
+     */
+    private static Package getNodesPackage(final String language, final Context context) {
+        return context.getPackage().getParent().getParent().getSubpackage(language, "nodes");
+    }
+}
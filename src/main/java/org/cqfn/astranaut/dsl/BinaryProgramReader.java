@@ -0,0 +1,516 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.cqfn.astranaut.io.BinaryInput;
+import org.cqfn.astranaut.io.MalformedInput;
+import org.cqfn.astranaut.parser.CharSequenceToken;
+import org.cqfn.astranaut.parser.StringToken;
+import org.cqfn.astranaut.parser.SymbolCategoryToken;
+import org.cqfn.astranaut.parser.SymbolRangeToken;
+import org.cqfn.astranaut.parser.SymbolToken;
+import org.cqfn.astranaut.parser.SymbolicToken;
+
+/**
+ * Reader of parsed DSL programs stored in the compact binary format. The stream starts with
+ *  the signature {@code APRG} and the format version (one byte), followed by the number
+ *  of rules and the rules themselves. Each rule, pattern item, data descriptor and token
+ *  starts with a byte indicating its kind, followed by the arguments of the constructor
+ *  that creates it, in the order the parser passes them. All strings are stored
+ *  in a dictionary filled while reading: an index equal to the size of the dictionary
+ *  introduces a new entry and is followed by the string itself.
+ *  The program is read as the parser produces it, so it must be analyzed before use.
+ * @since 1.0.0
+ */
+public final class BinaryProgramReader {
+    /**
+     * Signature of the format.
+     */
+    static final String SIGNATURE = "APRG";
+
+    /**
+     * Version of the format. It is increased whenever the stored data of rules changes,
+     *  so that entries written in an older format are rejected rather than misread.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * Kind of abstract node descriptors.
+     */
+    static final int ABSTRACT_NODE = 0;
+
+    /**
+     * Kind of regular node descriptors.
+     */
+    static final int REGULAR_NODE = 1;
+
+    /**
+     * Kind of list node descriptors.
+     */
+    static final int LIST_NODE = 2;
+
+    /**
+     * Kind of literal descriptors.
+     */
+    static final int LITERAL = 3;
+
+    /**
+     * Kind of transformation descriptors.
+     */
+    static final int TRANSFORMATION = 4;
+
+    /**
+     * Kind of operator tables.
+     */
+    static final int OPERATOR_TABLE = 5;
+
+    /**
+     * Kind of pattern descriptors.
+     */
+    static final int PATTERN = 6;
+
+    /**
+     * Kind of typed holes.
+     */
+    static final int TYPED_HOLE = 7;
+
+    /**
+     * Kind of untyped holes.
+     */
+    static final int UNTYPED_HOLE = 8;
+
+    /**
+     * Kind of symbol descriptors.
+     */
+    static final int SYMBOL = 9;
+
+    /**
+     * Kind of logical AND expressions.
+     */
+    static final int AND = 10;
+
+    /**
+     * Kind of logical OR expressions.
+     */
+    static final int OR = 11;
+
+    /**
+     * Kind of resulting subtree descriptors.
+     */
+    static final int SUBTREE = 12;
+
+    /**
+     * Kind of static strings.
+     */
+    static final int STATIC_STRING = 13;
+
+    /**
+     * Kind of absent items, that is, null node on the right side or absent data.
+     */
+    static final int NULL = 14;
+
+    /**
+     * Kind of string tokens.
+     */
+    static final int STRING_TOKEN = 15;
+
+    /**
+     * Kind of single character tokens.
+     */
+    static final int SYMBOL_TOKEN = 16;
+
+    /**
+     * Kind of character range tokens.
+     */
+    static final int RANGE_TOKEN = 17;
+
+    /**
+     * Kind of character category tokens.
+     */
+    static final int CATEGORY_TOKEN = 18;
+
+    /**
+     * Binary input.
+     */
+    private final BinaryInput input;
+
+    /**
+     * Strings that have already been introduced.
+     */
+    private final List<String> strings;
+
+    /**
+     * Constructor.
+     * @param input Binary input from which the program is read
+     */
+    public BinaryProgramReader(final BinaryInput input) {
+        this.input = input;
+        this.strings = new ArrayList<>(256);
+    }
+
+    /**
+     * Reads a program.
+     * @return Program that is not analyzed yet
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the stream is not in the binary program format
+     */
+    public Program read() throws IOException, MalformedInput {
+        this.readHeader();
+        final int count = this.input.readVarInt();
+        final List<Rule> rules = new ArrayList<>(Math.min(count, 1024));
+        try {
+            for (int index = 0; index < count; index = index + 1) {
+                rules.add(this.readRule());
+            }
+        } catch (final IllegalArgumentException | IllegalStateException ignored) {
+            throw new MalformedInput("The stream contains an invalid rule");
+        }
+        return new Program(rules);
+    }
+
+    /**
+     * Reads and checks the signature and the version of the format.
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the stream is not in the binary program format
+     */
+    private void readHeader() throws IOException, MalformedInput {
+        for (int index = 0; index < BinaryProgramReader.SIGNATURE.length(); index = index + 1) {
+            if (this.input.readByte() != BinaryProgramReader.SIGNATURE.charAt(index)) {
+                throw new MalformedInput("The stream is not in the binary program format");
+            }
+        }
+        final int version = this.input.readByte();
+        if (version != BinaryProgramReader.VERSION) {
+            throw new MalformedInput(
+                String.format("Unsupported version of the binary program format: %d", version)
+            );
+        }
+    }
+
+    /**
+     * Reads a rule.
+     * @return Rule
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the rule is malformed
+     */
+    private Rule readRule() throws IOException, MalformedInput {
+        final int kind = this.input.readByte();
+        final Rule rule;
+        if (kind == BinaryProgramReader.TRANSFORMATION) {
+            final List<LeftSideItem> left = this.readLeftSideItems();
+            final TransformationDescriptor descriptor =
+                new TransformationDescriptor(left, this.readRightSideItem());
+            if (this.input.readByte() != 0) {
+                descriptor.setRightToLeftDirection();
+            }
+            final List<String> scope = this.readStrings();
+            if (!scope.isEmpty()) {
+                descriptor.setScope(scope);
+            }
+            descriptor.setLanguage(this.readString());
+            rule = descriptor;
+        } else if (kind == BinaryProgramReader.OPERATOR_TABLE) {
+            final String operand = this.readString();
+            final int count = this.input.readVarInt();
+            final List<OperatorDescriptor> operators = new ArrayList<>(Math.min(count, 1024));
+            for (int index = 0; index < count; index = index + 1) {
+                final LeftSideItem pattern = this.readLeftSideItem();
+                final String result = this.readString();
+                final int precedence = this.input.readVarInt();
+                operators.add(
+                    new OperatorDescriptor(
+                        pattern, result, precedence, this.input.readByte() != 0
+                    )
+                );
+            }
+            final OperatorTableDescriptor table = new OperatorTableDescriptor(operand, operators);
+            table.setLanguage(this.readString());
+            rule = table;
+        } else {
+            final NodeDescriptor descriptor = this.readNodeDescriptor(kind);
+            descriptor.setLanguage(this.readString());
+            rule = descriptor;
+        }
+        return rule;
+    }
+
+    /**
+     * Reads a node descriptor.
+     * @param kind Kind of the descriptor
+     * @return Node descriptor
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the descriptor is malformed
+     */
+    private NodeDescriptor readNodeDescriptor(final int kind) throws IOException, MalformedInput {
+        final String name = this.readString();
+        final NodeDescriptor descriptor;
+        if (kind == BinaryProgramReader.ABSTRACT_NODE) {
+            descriptor = new AbstractNodeDescriptor(name, this.readStrings());
+        } else if (kind == BinaryProgramReader.REGULAR_NODE) {
+            final int count = this.input.readVarInt();
+            final List<ChildDescriptorExt> children = new ArrayList<>(Math.min(count, 1024));
+            for (int index = 0; index < count; index = index + 1) {
+                final boolean optional = this.input.readByte() != 0;
+                final String tag = this.readString();
+                children.add(new ChildDescriptorExt(optional, tag, this.readString()));
+            }
+            descriptor = new RegularNodeDescriptor(name, children);
+        } else if (kind == BinaryProgramReader.LIST_NODE) {
+            descriptor = new ListNodeDescriptor(name, this.readString());
+        } else if (kind == BinaryProgramReader.LITERAL) {
+            final LiteralDescriptor.Constructor ctor = new LiteralDescriptor.Constructor(name);
+            ctor.setType(this.readString());
+            ctor.setInitial(this.readString());
+            ctor.setSerializer(this.readString());
+            ctor.setParser(this.readString());
+            ctor.setException(this.readString());
+            descriptor = ctor.createDescriptor();
+        } else {
+            throw new MalformedInput(String.format("Unknown kind of rule: %d", kind));
+        }
+        return descriptor;
+    }
+
+    /**
+     * Reads a list of left side items.
+     * @return List of items
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If some item is malformed
+     */
+    private List<LeftSideItem> readLeftSideItems() throws IOException, MalformedInput {
+        final int count = this.input.readVarInt();
+        final List<LeftSideItem> items = new ArrayList<>(Math.min(count, 1024));
+        for (int index = 0; index < count; index = index + 1) {
+            items.add(this.readLeftSideItem());
+        }
+        return items;
+    }
+
+    /**
+     * Reads a left side item.
+     * @return Item
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the item is malformed or is not a left side item
+     */
+    private LeftSideItem readLeftSideItem() throws IOException, MalformedInput {
+        final PatternItem item = this.readItem();
+        if (!(item instanceof LeftSideItem)) {
+            throw new MalformedInput("A left side item is expected");
+        }
+        return (LeftSideItem) item;
+    }
+
+    /**
+     * Reads an item of a pattern. Left side items are followed by their matching mode
+     *  and negation flag.
+     * @return Item
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the item is malformed
+     */
+    private PatternItem readItem() throws IOException, MalformedInput {
+        final int kind = this.input.readByte();
+        final PatternItem item;
+        if (kind == BinaryProgramReader.UNTYPED_HOLE) {
+            item = UntypedHole.getInstance(this.input.readVarInt());
+        } else {
+            final LeftSideItem left = this.readLeftSideItemBody(kind);
+            final int mode = this.input.readByte();
+            if (mode >= PatternMatchingMode.values().length) {
+                throw new MalformedInput(String.format("Unknown matching mode: %d", mode));
+            }
+            left.setMatchingMode(PatternMatchingMode.values()[mode]);
+            if (this.input.readByte() != 0) {
+                left.setNegationFlag();
+            }
+            item = (PatternItem) left;
+        }
+        return item;
+    }
+
+    /**
+     * Reads a left side item without its matching mode and negation flag.
+     * @param kind Kind of the item
+     * @return Item
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the item is malformed
+     */
+    private LeftSideItem readLeftSideItemBody(final int kind) throws IOException, MalformedInput {
+        final LeftSideItem item;
+        if (kind == BinaryProgramReader.PATTERN) {
+            final String type = this.readString();
+            final LeftDataDescriptor data = (LeftDataDescriptor) this.readData();
+            final int count = this.input.readVarInt();
+            final List<PatternItem> children = new ArrayList<>(Math.min(count, 1024));
+            for (int index = 0; index < count; index = index + 1) {
+                children.add(this.readItem());
+            }
+            item = new PatternDescriptor(type, data, children);
+        } else if (kind == BinaryProgramReader.TYPED_HOLE) {
+            final String type = this.readString();
+            item = new TypedHole(type, this.input.readVarInt());
+        } else if (kind == BinaryProgramReader.SYMBOL) {
+            final CharSequenceToken token = this.readToken();
+            final DataDescriptor data = this.readData();
+            if (!(token instanceof SymbolicToken)
+                || data != null && !(data instanceof UntypedHole)) {
+                throw new MalformedInput("Malformed symbol descriptor");
+            }
+            item = new SymbolDescriptor((SymbolicToken) token, (UntypedHole) data);
+        } else if (kind == BinaryProgramReader.AND) {
+            item = new AndExpression(this.readLeftSideItems());
+        } else if (kind == BinaryProgramReader.OR) {
+            item = new OrExpression(this.readLeftSideItems());
+        } else {
+            throw new MalformedInput(String.format("Unknown kind of pattern item: %d", kind));
+        }
+        return item;
+    }
+
+    /**
+     * Reads a right side item.
+     * @return Item
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the item is malformed
+     */
+    private RightSideItem readRightSideItem() throws IOException, MalformedInput {
+        final int kind = this.input.readByte();
+        final RightSideItem item;
+        if (kind == BinaryProgramReader.SUBTREE) {
+            final String type = this.readString();
+            final RightDataDescriptor data = (RightDataDescriptor) this.readData();
+            final int count = this.input.readVarInt();
+            final List<RightSideItem> children = new ArrayList<>(Math.min(count, 1024));
+            for (int index = 0; index < count; index = index + 1) {
+                children.add(this.readRightSideItem());
+            }
+            item = new ResultingSubtreeDescriptor(type, data, children);
+        } else if (kind == BinaryProgramReader.UNTYPED_HOLE) {
+            item = UntypedHole.getInstance(this.input.readVarInt());
+        } else if (kind == BinaryProgramReader.NULL) {
+            item = Null.INSTANCE;
+        } else {
+            throw new MalformedInput(String.format("Unknown kind of right side item: %d", kind));
+        }
+        return item;
+    }
+
+    /**
+     * Reads a data descriptor, that is, an untyped hole or a static string.
+     * @return Data descriptor or {@code null} if there is no data
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the descriptor is malformed
+     */
+    private DataDescriptor readData() throws IOException, MalformedInput {
+        final int kind = this.input.readByte();
+        final DataDescriptor data;
+        if (kind == BinaryProgramReader.UNTYPED_HOLE) {
+            data = UntypedHole.getInstance(this.input.readVarInt());
+        } else if (kind == BinaryProgramReader.STATIC_STRING) {
+            data = new StaticString(this.readToken());
+        } else if (kind == BinaryProgramReader.NULL) {
+            data = null;
+        } else {
+            throw new MalformedInput(String.format("Unknown kind of data: %d", kind));
+        }
+        return data;
+    }
+
+    /**
+     * Reads a token describing a string, a character, a range or a category of characters.
+     * @return Token
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the token is malformed
+     */
+    private CharSequenceToken readToken() throws IOException, MalformedInput {
+        final int kind = this.input.readByte();
+        final CharSequenceToken token;
+        if (kind == BinaryProgramReader.STRING_TOKEN) {
+            final char quote = (char) this.input.readByte();
+            token = new StringToken(quote, this.readString());
+        } else if (kind == BinaryProgramReader.SYMBOL_TOKEN) {
+            token = new SymbolToken(this.readChar());
+        } else if (kind == BinaryProgramReader.RANGE_TOKEN) {
+            final char first = this.readChar();
+            token = new SymbolRangeToken(first, this.readChar());
+        } else if (kind == BinaryProgramReader.CATEGORY_TOKEN) {
+            final String name = this.readString();
+            if (!SymbolCategoryToken.isSupported(name)) {
+                throw new MalformedInput(String.format("Unknown category: '%s'", name));
+            }
+            token = new SymbolCategoryToken(name);
+        } else {
+            throw new MalformedInput(String.format("Unknown kind of token: %d", kind));
+        }
+        return token;
+    }
+
+    /**
+     * Reads a character.
+     * @return Character
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the value is not a character
+     */
+    private char readChar() throws IOException, MalformedInput {
+        final int value = this.input.readVarInt();
+        if (value > Character.MAX_VALUE) {
+            throw new MalformedInput(String.format("Invalid character code: %d", value));
+        }
+        return (char) value;
+    }
+
+    /**
+     * Reads a list of strings.
+     * @return List of strings
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If some string is malformed
+     */
+    private List<String> readStrings() throws IOException, MalformedInput {
+        final int count = this.input.readVarInt();
+        final List<String> list = new ArrayList<>(Math.min(count, 1024));
+        for (int index = 0; index < count; index = index + 1) {
+            list.add(this.readString());
+        }
+        return list;
+    }
+
+    /**
+     * Reads the index of a string from the dictionary. If the index is equal to the size
+     *  of the dictionary, the string follows the index and is added to the dictionary.
+     * @return String
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the index is out of range
+     */
+    private String readString() throws IOException, MalformedInput {
+        final int index = this.input.readVarInt();
+        if (index == this.strings.size()) {
+            this.strings.add(this.input.readString());
+        } else if (index > this.strings.size()) {
+            throw new MalformedInput(String.format("Unknown string index: %d", index));
+        }
+        return this.strings.get(index);
+    }
+}
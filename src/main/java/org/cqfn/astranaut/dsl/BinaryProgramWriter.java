@@ -0,0 +1,300 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.parser.CharSequenceToken;
+import org.cqfn.astranaut.parser.StringToken;
+import org.cqfn.astranaut.parser.SymbolCategoryToken;
+import org.cqfn.astranaut.parser.SymbolRangeToken;
+import org.cqfn.astranaut.parser.SymbolToken;
+
+/**
+ * Writer of parsed DSL programs in the compact binary format, see {@link BinaryProgramReader}.
+ * @since 1.0.0
+ */
+public final class BinaryProgramWriter {
+    /**
+     * Binary output.
+     */
+    private final BinaryOutput output;
+
+    /**
+     * Strings that have already been introduced, with their indexes.
+     */
+    private final Map<String, Integer> strings;
+
+    /**
+     * Constructor.
+     * @param output Binary output to which the program is written
+     */
+    public BinaryProgramWriter(final BinaryOutput output) {
+        this.output = output;
+        this.strings = new HashMap<>();
+    }
+
+    /**
+     * Writes a program as it is produced by the parser, that is, before rule fusion
+     *  and grouping. Links between rules built by the analyzer are not written.
+     *  Buffered data is not flushed.
+     * @param program Program
+     * @throws IOException If the output can't be written
+     */
+    public void write(final Program program) throws IOException {
+        for (final char chr : BinaryProgramReader.SIGNATURE.toCharArray()) {
+            this.output.writeByte(chr);
+        }
+        this.output.writeByte(BinaryProgramReader.VERSION);
+        final List<Rule> rules = program.getAllRules();
+        this.output.writeVarInt(rules.size());
+        for (final Rule rule : rules) {
+            this.writeRule(rule);
+        }
+    }
+
+    /**
+     * Writes a rule.
+     * @param rule Rule
+     * @throws IOException If the output can't be written
+     */
+    private void writeRule(final Rule rule) throws IOException {
+        if (rule instanceof NodeDescriptor) {
+            this.writeNodeDescriptor((NodeDescriptor) rule);
+        } else if (rule instanceof TransformationDescriptor) {
+            this.output.writeByte(BinaryProgramReader.TRANSFORMATION);
+            final TransformationDescriptor descriptor = (TransformationDescriptor) rule;
+            this.writeItems(descriptor.getLeft());
+            this.writeRightSideItem(descriptor.getRight());
+            this.output.writeByte(descriptor.isRightToLeft() ? 1 : 0);
+            this.writeStrings(descriptor.getScope());
+        } else if (rule instanceof OperatorTableDescriptor) {
+            this.output.writeByte(BinaryProgramReader.OPERATOR_TABLE);
+            final OperatorTableDescriptor table = (OperatorTableDescriptor) rule;
+            this.writeString(table.getOperand());
+            this.output.writeVarInt(table.getOperators().size());
+            for (final OperatorDescriptor operator : table.getOperators()) {
+                this.writeItem(operator.getPattern());
+                this.writeString(operator.getResult());
+                this.output.writeVarInt(operator.getPrecedence());
+                this.output.writeByte(operator.isRightAssociative() ? 1 : 0);
+            }
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Can't write the rule '%s'", rule.toString())
+            );
+        }
+        this.writeString(rule.getLanguage());
+    }
+
+    /**
+     * Writes a node descriptor.
+     * @param descriptor Node descriptor
+     * @throws IOException If the output can't be written
+     */
+    private void writeNodeDescriptor(final NodeDescriptor descriptor) throws IOException {
+        if (descriptor instanceof AbstractNodeDescriptor) {
+            this.output.writeByte(BinaryProgramReader.ABSTRACT_NODE);
+            this.writeString(descriptor.getName());
+            this.writeStrings(((AbstractNodeDescriptor) descriptor).getSubtypes());
+        } else if (descriptor instanceof RegularNodeDescriptor) {
+            this.output.writeByte(BinaryProgramReader.REGULAR_NODE);
+            this.writeString(descriptor.getName());
+            final List<ChildDescriptorExt> children =
+                ((RegularNodeDescriptor) descriptor).getExtChildTypes();
+            this.output.writeVarInt(children.size());
+            for (final ChildDescriptorExt child : children) {
+                this.output.writeByte(child.isOptional() ? 1 : 0);
+                this.writeString(child.getTag());
+                this.writeString(child.getType());
+            }
+        } else if (descriptor instanceof ListNodeDescriptor) {
+            this.output.writeByte(BinaryProgramReader.LIST_NODE);
+            this.writeString(descriptor.getName());
+            this.writeString(((ListNodeDescriptor) descriptor).getChildType());
+        } else {
+            this.output.writeByte(BinaryProgramReader.LITERAL);
+            this.writeString(descriptor.getName());
+            for (final String parameter
+                : ((LiteralDescriptor) descriptor).getDeclaredParameters()) {
+                this.writeString(parameter);
+            }
+        }
+    }
+
+    /**
+     * Writes a list of pattern items.
+     * @param items Items
+     * @throws IOException If the output can't be written
+     */
+    private void writeItems(final List<?> items) throws IOException {
+        this.output.writeVarInt(items.size());
+        for (final Object item : items) {
+            this.writeItem(item);
+        }
+    }
+
+    /**
+     * Writes an item of a pattern, that is, a left side item or an untyped hole.
+     *  Left side items are followed by their matching mode and negation flag.
+     * @param item Item
+     * @throws IOException If the output can't be written
+     */
+    private void writeItem(final Object item) throws IOException {
+        if (item instanceof PatternDescriptor) {
+            this.output.writeByte(BinaryProgramReader.PATTERN);
+            final PatternDescriptor pattern = (PatternDescriptor) item;
+            this.writeString(pattern.getType());
+            this.writeData(pattern.getData());
+            this.writeItems(pattern.getChildren());
+        } else if (item instanceof TypedHole) {
+            this.output.writeByte(BinaryProgramReader.TYPED_HOLE);
+            this.writeString(((TypedHole) item).getType());
+            this.output.writeVarInt(((TypedHole) item).getNumber());
+        } else if (item instanceof UntypedHole) {
+            this.output.writeByte(BinaryProgramReader.UNTYPED_HOLE);
+            this.output.writeVarInt(((UntypedHole) item).getNumber());
+        } else if (item instanceof SymbolDescriptor) {
+            this.output.writeByte(BinaryProgramReader.SYMBOL);
+            final SymbolDescriptor symbol = (SymbolDescriptor) item;
+            this.writeToken(symbol.getToken());
+            this.writeData(symbol.getData());
+        } else if (item instanceof AndExpression) {
+            this.output.writeByte(BinaryProgramReader.AND);
+            this.writeItems(((LogicalExpression) item).getItems());
+        } else if (item instanceof OrExpression) {
+            this.output.writeByte(BinaryProgramReader.OR);
+            this.writeItems(((LogicalExpression) item).getItems());
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Can't write the pattern item '%s'", item.toString())
+            );
+        }
+        if (item instanceof LeftSideItem) {
+            final LeftSideItem left = (LeftSideItem) item;
+            this.output.writeByte(left.getMatchingMode().ordinal());
+            this.output.writeByte(left.isNegationFlagSet() ? 1 : 0);
+        }
+    }
+
+    /**
+     * Writes a right side item.
+     * @param item Item
+     * @throws IOException If the output can't be written
+     */
+    private void writeRightSideItem(final RightSideItem item) throws IOException {
+        if (item instanceof ResultingSubtreeDescriptor) {
+            this.output.writeByte(BinaryProgramReader.SUBTREE);
+            final ResultingSubtreeDescriptor subtree = (ResultingSubtreeDescriptor) item;
+            this.writeString(subtree.getType());
+            this.writeData(subtree.getData());
+            this.output.writeVarInt(subtree.getChildren().size());
+            for (final RightSideItem child : subtree.getChildren()) {
+                this.writeRightSideItem(child);
+            }
+        } else if (item instanceof UntypedHole) {
+            this.output.writeByte(BinaryProgramReader.UNTYPED_HOLE);
+            this.output.writeVarInt(((UntypedHole) item).getNumber());
+        } else {
+            this.output.writeByte(BinaryProgramReader.NULL);
+        }
+    }
+
+    /**
+     * Writes a data descriptor.
+     * @param data Data descriptor, may be {@code null}
+     * @throws IOException If the output can't be written
+     */
+    private void writeData(final DataDescriptor data) throws IOException {
+        if (data instanceof UntypedHole) {
+            this.output.writeByte(BinaryProgramReader.UNTYPED_HOLE);
+            this.output.writeVarInt(((UntypedHole) data).getNumber());
+        } else if (data instanceof StaticString) {
+            this.output.writeByte(BinaryProgramReader.STATIC_STRING);
+            this.writeToken(((StaticString) data).getToken());
+        } else {
+            this.output.writeByte(BinaryProgramReader.NULL);
+        }
+    }
+
+    /**
+     * Writes a token describing a string, a character, a range or a category of characters.
+     * @param token Token
+     * @throws IOException If the output can't be written
+     */
+    private void writeToken(final CharSequenceToken token) throws IOException {
+        if (token instanceof StringToken) {
+            this.output.writeByte(BinaryProgramReader.STRING_TOKEN);
+            this.output.writeByte(((StringToken) token).getQuote());
+            this.writeString(((StringToken) token).getValue());
+        } else if (token instanceof SymbolToken) {
+            this.output.writeByte(BinaryProgramReader.SYMBOL_TOKEN);
+            this.output.writeVarInt(((SymbolToken) token).getSymbol());
+        } else if (token instanceof SymbolRangeToken) {
+            this.output.writeByte(BinaryProgramReader.RANGE_TOKEN);
+            this.output.writeVarInt(((SymbolRangeToken) token).getFirstSymbol());
+            this.output.writeVarInt(((SymbolRangeToken) token).getLastSymbol());
+        } else if (token instanceof SymbolCategoryToken) {
+            this.output.writeByte(BinaryProgramReader.CATEGORY_TOKEN);
+            this.writeString(((SymbolCategoryToken) token).getName());
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Can't write the token '%s'", String.valueOf(token))
+            );
+        }
+    }
+
+    /**
+     * Writes a list of strings.
+     * @param list List of strings
+     * @throws IOException If the output can't be written
+     */
+    private void writeStrings(final List<String> list) throws IOException {
+        this.output.writeVarInt(list.size());
+        for (final String value : list) {
+            this.writeString(value);
+        }
+    }
+
+    /**
+     * Writes the index of a string from the dictionary. If the string is not yet
+     *  in the dictionary, it is added, and the new index is followed by the string itself.
+     * @param value String
+     * @throws IOException If the output can't be written
+     */
+    private void writeString(final String value) throws IOException {
+        final Integer index = this.strings.get(value);
+        if (index == null) {
+            final int created = this.strings.size();
+            this.strings.put(value, created);
+            this.output.writeVarInt(created);
+            this.output.writeString(value);
+        } else {
+            this.output.writeVarInt(index);
+        }
+    }
+}
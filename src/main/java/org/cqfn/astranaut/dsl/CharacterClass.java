@@ -0,0 +1,239 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.cqfn.astranaut.parser.SymbolCategoryToken;
+import org.cqfn.astranaut.parser.SymbolicToken;
+
+/**
+ * Set of characters matched by symbolic patterns, compiled for fast lookup.
+ *  Characters of the Latin-1 range are looked up in a bitmap, other characters are searched
+ *  in sorted ranges (by binary search) and checked against Unicode categories.
+ * @since 1.0.0
+ */
+public final class CharacterClass {
+    /**
+     * Number of characters covered by the bitmap.
+     */
+    public static final int BITMAP_SIZE = 256;
+
+    /**
+     * Bitmap of characters from the Latin-1 range, 64 characters per element.
+     */
+    private final long[] bitmap;
+
+    /**
+     * Sorted non-overlapping ranges of characters outside the Latin-1 range,
+     *  stored as pairs (first, last).
+     */
+    private final char[] ranges;
+
+    /**
+     * Bit mask of character types (see {@link Character#getType(char)}) whose characters
+     *  outside the Latin-1 range belong to the class.
+     */
+    private final int categories;
+
+    /**
+     * Constructor.
+     * @param bitmap Bitmap of characters from the Latin-1 range
+     * @param ranges Sorted non-overlapping ranges of other characters
+     * @param categories Bit mask of character types
+     */
+    private CharacterClass(final long[] bitmap, final char[] ranges, final int categories) {
+        this.bitmap = bitmap;
+        this.ranges = ranges;
+        this.categories = categories;
+    }
+
+    /**
+     * Creates a character class from a token describing a symbol, a range of symbols
+     *  or a category of symbols.
+     * @param token Token
+     * @return Character class
+     */
+    public static CharacterClass create(final SymbolicToken token) {
+        final CharacterClass result;
+        if (token instanceof SymbolCategoryToken) {
+            result = CharacterClass.fromCategories(((SymbolCategoryToken) token).getMask());
+        } else {
+            result = CharacterClass.fromRange(token.getFirstSymbol(), token.getLastSymbol());
+        }
+        return result;
+    }
+
+    /**
+     * Creates a character class containing a range of characters.
+     * @param first First character of the range
+     * @param last Last character of the range
+     * @return Character class
+     */
+    public static CharacterClass fromRange(final char first, final char last) {
+        final long[] bitmap = new long[CharacterClass.BITMAP_SIZE / 64];
+        for (int code = first; code <= last && code < CharacterClass.BITMAP_SIZE;
+            code = code + 1) {
+            bitmap[code >> 6] |= 1L << code;
+        }
+        final char[] ranges;
+        if (last >= CharacterClass.BITMAP_SIZE) {
+            ranges = new char[] {
+                (char) Math.max(first, CharacterClass.BITMAP_SIZE),
+                last,
+            };
+        } else {
+            ranges = new char[0];
+        }
+        return new CharacterClass(bitmap, ranges, 0);
+    }
+
+    /**
+     * Creates a character class containing all characters of the specified types.
+     * @param mask Bit mask of character types (see {@link Character#getType(char)})
+     * @return Character class
+     */
+    public static CharacterClass fromCategories(final int mask) {
+        final long[] bitmap = new long[CharacterClass.BITMAP_SIZE / 64];
+        for (int code = 0; code < CharacterClass.BITMAP_SIZE; code = code + 1) {
+            if ((mask >> Character.getType(code) & 1) != 0) {
+                bitmap[code >> 6] |= 1L << code;
+            }
+        }
+        return new CharacterClass(bitmap, new char[0], mask);
+    }
+
+    /**
+     * Combines this class with another one.
+     * @param other Another character class
+     * @return Character class containing characters of both classes
+     */
+    public CharacterClass union(final CharacterClass other) {
+        final long[] bitmap = new long[this.bitmap.length];
+        for (int index = 0; index < bitmap.length; index = index + 1) {
+            bitmap[index] = this.bitmap[index] | other.bitmap[index];
+        }
+        final List<char[]> pairs = new ArrayList<>(
+            (this.ranges.length + other.ranges.length) / 2
+        );
+        CharacterClass.addPairs(pairs, this.ranges);
+        CharacterClass.addPairs(pairs, other.ranges);
+        pairs.sort((first, second) -> Character.compare(first[0], second[0]));
+        final List<char[]> merged = new ArrayList<>(pairs.size());
+        for (final char[] pair : pairs) {
+            final char[] previous;
+            if (merged.isEmpty()) {
+                previous = null;
+            } else {
+                previous = merged.get(merged.size() - 1);
+            }
+            if (previous != null && pair[0] <= previous[1] + 1) {
+                previous[1] = (char) Math.max(previous[1], pair[1]);
+            } else {
+                merged.add(pair);
+            }
+        }
+        final char[] ranges = new char[merged.size() * 2];
+        for (int index = 0; index < merged.size(); index = index + 1) {
+            ranges[index * 2] = merged.get(index)[0];
+            ranges[index * 2 + 1] = merged.get(index)[1];
+        }
+        return new CharacterClass(bitmap, ranges, this.categories | other.categories);
+    }
+
+    /**
+     * Checks whether the class contains a character.
+     * @param symbol Character
+     * @return Checking result, {@code true} if the character belongs to the class
+     */
+    public boolean contains(final char symbol) {
+        final boolean result;
+        if (symbol < CharacterClass.BITMAP_SIZE) {
+            result = (this.bitmap[symbol >> 6] & 1L << symbol) != 0;
+        } else {
+            result = (this.categories >> Character.getType(symbol) & 1) != 0
+                || this.findRange(symbol);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the bitmap of characters from the Latin-1 range, 64 characters per element.
+     * @return Copy of the bitmap
+     */
+    public long[] getBitmap() {
+        return Arrays.copyOf(this.bitmap, this.bitmap.length);
+    }
+
+    /**
+     * Returns sorted non-overlapping ranges of characters outside the Latin-1 range.
+     * @return Copy of the ranges stored as pairs (first, last)
+     */
+    public char[] getRanges() {
+        return Arrays.copyOf(this.ranges, this.ranges.length);
+    }
+
+    /**
+     * Returns the bit mask of character types whose characters outside the Latin-1 range
+     *  belong to the class.
+     * @return Bit mask
+     */
+    public int getCategories() {
+        return this.categories;
+    }
+
+    /**
+     * Searches for a range containing a character using binary search.
+     * @param symbol Character
+     * @return Searching result, {@code true} if the character is in one of the ranges
+     */
+    private boolean findRange(final char symbol) {
+        int low = 0;
+        int high = this.ranges.length / 2 - 1;
+        boolean found = false;
+        while (!found && low <= high) {
+            final int middle = (low + high) / 2;
+            if (symbol < this.ranges[middle * 2]) {
+                high = middle - 1;
+            } else if (symbol > this.ranges[middle * 2 + 1]) {
+                low = middle + 1;
+            } else {
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Splits ranges into pairs and adds them to a list.
+     * @param pairs List of pairs
+     * @param ranges Ranges stored as pairs (first, last)
+     */
+    private static void addPairs(final List<char[]> pairs, final char... ranges) {
+        for (int index = 0; index < ranges.length; index = index + 2) {
+            pairs.add(new char[] {ranges[index], ranges[index + 1]});
+        }
+    }
+}
@@ -23,8 +23,6 @@
  */
 package org.cqfn.astranaut.dsl;
 
-import java.util.LinkedList;
-import java.util.List;
 import org.cqfn.astranaut.core.base.ChildDescriptor;
 
 /**
@@ -154,24 +152,23 @@ public final class ChildDescriptorExt {
      *  if no common parent exists.
      */
     private ChildDescriptorExt createFromFirstCommonParent(final ChildDescriptorExt other) {
-        final List<NodeDescriptor> first = this.rule.getTopology();
-        final List<NodeDescriptor> second = other.rule.getTopology();
-        final List<NodeDescriptor> common = new LinkedList<>(first);
-        for (final NodeDescriptor item : first) {
-            if (!second.contains(item)) {
-                common.remove(item);
+        NodeDescriptor common = null;
+        for (final NodeDescriptor item : this.rule.getTopology()) {
+            if (other.rule.inheritsFrom(item)) {
+                common = item;
+                break;
             }
         }
         final ChildDescriptorExt result;
-        if (common.isEmpty()) {
+        if (common == null) {
             result = null;
         } else {
             result = new ChildDescriptorExt(
                 this.optional || other.optional,
                 this.tag,
-                common.get(0).getName()
+                common.getName()
             );
-            result.rule = common.get(0);
+            result.rule = common;
         }
         return result;
     }
@@ -0,0 +1,189 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.cqfn.astranaut.codegen.java.DispatchTableGenerator;
+import org.cqfn.astranaut.codegen.java.RuleGenerator;
+import org.cqfn.astranaut.core.algorithms.conversion.ConversionResult;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Node;
+
+/**
+ * Conversion rule that combines several consecutive single-node transformation rules
+ *  whose patterns differ only by static data, for example {@code Op<'+'> -> Plus}
+ *  and {@code Op<'-'> -> Minus}. Instead of trying the rules one by one, the rule
+ *  is selected by a lookup on the data of the node.
+ * @since 1.0.0
+ */
+public final class DispatchTableDescriptor implements ConversionRule {
+    /**
+     * Combined rules, in the order they are declared.
+     */
+    private final List<TransformationDescriptor> rules;
+
+    /**
+     * Static data of the combined rules, in the same order.
+     */
+    private final List<StaticString> keys;
+
+    /**
+     * Rules mapped by static data.
+     */
+    private final Map<String, TransformationDescriptor> table;
+
+    /**
+     * Additional dependencies.
+     */
+    private final Set<NodeDescriptor> dependencies;
+
+    /**
+     * Constructor.
+     * @param rules Combined rules, at least two, each consisting of a single pattern
+     *  without children, with static data that differs from rule to rule
+     */
+    public DispatchTableDescriptor(final List<TransformationDescriptor> rules) {
+        if (rules.size() < 2) {
+            throw new IllegalArgumentException();
+        }
+        this.rules = Collections.unmodifiableList(new ArrayList<>(rules));
+        this.keys = new ArrayList<>(rules.size());
+        this.table = new HashMap<>();
+        for (final TransformationDescriptor rule : rules) {
+            final StaticString key = DispatchTableDescriptor.getKey(rule);
+            if (this.table.containsKey(key.getValue())) {
+                throw new IllegalArgumentException();
+            }
+            this.keys.add(key);
+            this.table.put(key.getValue(), rule);
+        }
+        this.dependencies = new HashSet<>();
+    }
+
+    /**
+     * Returns the combined rules.
+     * @return List of transformation descriptors, in the order they are declared
+     */
+    public List<TransformationDescriptor> getRules() {
+        return this.rules;
+    }
+
+    /**
+     * Returns static data of the combined rules.
+     * @return List of static strings, in the same order as the rules
+     */
+    public List<StaticString> getKeys() {
+        return Collections.unmodifiableList(this.keys);
+    }
+
+    /**
+     * Returns the type of nodes the combined rules are applied to.
+     * @return Type name
+     */
+    public String getType() {
+        return ((PatternDescriptor) this.rules.get(0).getMatchedItems().get(0)).getType();
+    }
+
+    @Override
+    public String getLanguage() {
+        return this.rules.get(0).getLanguage();
+    }
+
+    @Override
+    public void addDependency(final NodeDescriptor descriptor) {
+        this.dependencies.add(descriptor);
+    }
+
+    @Override
+    public Set<NodeDescriptor> getDependencies() {
+        final Set<NodeDescriptor> set = new HashSet<>(this.dependencies);
+        for (final TransformationDescriptor rule : this.rules) {
+            set.addAll(rule.getDependencies());
+        }
+        return Collections.unmodifiableSet(set);
+    }
+
+    @Override
+    public RuleGenerator createGenerator() {
+        return new DispatchTableGenerator(this);
+    }
+
+    @Override
+    public Optional<ConversionResult> convert(final List<Node> list, final int index,
+        final Factory factory) {
+        Optional<ConversionResult> result = Optional.empty();
+        if (index < list.size()) {
+            final TransformationDescriptor rule = this.table.get(list.get(index).getData());
+            if (rule != null) {
+                result = rule.convert(list, index, factory);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int getMinConsumed() {
+        return 1;
+    }
+
+    @Override
+    public boolean isRightToLeft() {
+        return this.rules.get(0).isRightToLeft();
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        boolean flag = false;
+        for (final TransformationDescriptor rule : this.rules) {
+            if (flag) {
+                builder.append("; ");
+            }
+            flag = true;
+            builder.append(rule.toString());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the static data of the rule, which is the key to select the rule.
+     * @param rule Transformation rule
+     * @return Static string
+     */
+    private static StaticString getKey(final TransformationDescriptor rule) {
+        final List<LeftSideItem> items = rule.getMatchedItems();
+        if (items.size() != 1 || !(items.get(0) instanceof PatternDescriptor)
+            || !((PatternDescriptor) items.get(0)).hasStaticDataOnly()) {
+            throw new IllegalArgumentException();
+        }
+        return (StaticString) ((PatternDescriptor) items.get(0)).getData();
+    }
+}
@@ -232,6 +232,29 @@ public final class LiteralDescriptor extends NonAbstractNodeDescriptor {
         return code;
     }
 
+    /**
+     * Checks whether the literal stores a value of a primitive type and converts it
+     *  to and from a string in the default way, that is, no serializer and no parser
+     *  are declared.
+     * @return Checking result
+     */
+    public boolean hasDefaultConversions() {
+        return LiteralDescriptor.PRIMITIVES.containsKey(this.type)
+            && this.serializer.isEmpty() && this.parser.isEmpty();
+    }
+
+    /**
+     * Returns the parameters exactly as they are declared in the DSL, without defaults
+     *  for primitive types: the type, the initial data, the serializer, the parser
+     *  and the exception (empty strings if not declared).
+     * @return Array of five strings
+     */
+    String[] getDeclaredParameters() {
+        return new String[] {
+            this.type, this.initial, this.serializer, this.parser, this.exception,
+        };
+    }
+
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
@@ -137,6 +137,10 @@ public abstract class LogicalExpression implements LeftSideItem, PatternItem {
             builder.append('[');
         } else if (this.mode == PatternMatchingMode.REPEATED) {
             builder.append('{');
+        } else if (this.mode == PatternMatchingMode.LOOKAHEAD) {
+            builder.append('>');
+        } else if (this.mode == PatternMatchingMode.LOOKBEHIND) {
+            builder.append('<');
         }
         builder.append(this.toShortString());
         if (this.mode == PatternMatchingMode.OPTIONAL) {
@@ -23,15 +23,17 @@
  */
 package org.cqfn.astranaut.dsl;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import org.cqfn.astranaut.core.utils.Pair;
 import org.cqfn.astranaut.exceptions.BaseException;
 
 /**
@@ -67,6 +69,11 @@ public abstract class NodeDescriptor implements Rule {
      */
     private List<NodeDescriptor> topology;
 
+    /**
+     * Descriptors from the inheritance topology (cached set).
+     */
+    private Set<NodeDescriptor> ancestors;
+
     /**
      * Constructor.
      * @param name Name of the type of the node (left side of the rule)
@@ -122,14 +129,41 @@ public abstract class NodeDescriptor implements Rule {
      * Adds a base descriptor, that is, the descriptor of the abstract node
      *  from which this node inherits.
      * @param descriptor Base descriptor
-     * @throws CycleException If a loop in the inheritance hierarchy occurs when adding
+     * @throws BaseException If a loop in the inheritance hierarchy occurs when adding
      */
-    public void addBaseDescriptor(final AbstractNodeDescriptor descriptor) throws CycleException {
-        if (this.checkForCycle(descriptor)) {
-            throw new CycleException(descriptor);
+    public void addBaseDescriptor(final AbstractNodeDescriptor descriptor) throws BaseException {
+        NodeDescriptor.addBaseDescriptors(
+            Collections.singletonList(new Pair<>(this, descriptor))
+        );
+    }
+
+    /**
+     * Adds several base descriptors at once. The inheritance hierarchy is checked for loops
+     *  in one pass over the descriptors reachable from the new links, so linking a whole
+     *  grammar this way takes time proportional to its size.
+     *  If a loop is found, no links are added.
+     * @param links List of links, where the key is a node and the value is
+     *  its new base descriptor
+     * @throws BaseException If a loop in the inheritance hierarchy occurs when adding
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static void addBaseDescriptors(
+        final List<Pair<NodeDescriptor, AbstractNodeDescriptor>> links) throws BaseException {
+        final Map<NodeDescriptor, List<AbstractNodeDescriptor>> added = new HashMap<>();
+        for (final Pair<NodeDescriptor, AbstractNodeDescriptor> link : links) {
+            added.computeIfAbsent(link.getKey(), key -> new ArrayList<>(1)).add(link.getValue());
+        }
+        final AbstractNodeDescriptor cycle = NodeDescriptor.findCycle(added);
+        if (cycle != null) {
+            throw new CycleException(cycle);
+        }
+        for (final Pair<NodeDescriptor, AbstractNodeDescriptor> link : links) {
+            final NodeDescriptor node = link.getKey();
+            node.bases.add(link.getValue());
+            node.dependencies.add(link.getValue());
+            node.topology = null;
+            node.ancestors = null;
         }
-        this.bases.add(descriptor);
-        this.dependencies.add(descriptor);
     }
 
     /**
@@ -147,13 +181,27 @@ public abstract class NodeDescriptor implements Rule {
      */
     public List<NodeDescriptor> getTopology() {
         if (this.topology == null) {
-            this.topology = new LinkedList<>();
-            final Set<NodeDescriptor> visited = new HashSet<>();
-            this.buildTopology(this.topology, visited);
+            final List<NodeDescriptor> list = new ArrayList<>(this.bases.size() + 1);
+            this.buildTopology(list, new HashSet<>());
+            Collections.reverse(list);
+            this.topology = Collections.unmodifiableList(list);
         }
         return this.topology;
     }
 
+    /**
+     * Checks whether the descriptor is this one or one of its direct or indirect
+     *  base descriptors.
+     * @param descriptor Descriptor
+     * @return Checking result, {@code true} if the descriptor is in the inheritance topology
+     */
+    public boolean inheritsFrom(final NodeDescriptor descriptor) {
+        if (this.ancestors == null) {
+            this.ancestors = new HashSet<>(this.getTopology());
+        }
+        return this.ancestors.contains(descriptor);
+    }
+
     /**
      * Checks if the given tag exists in the current descriptor or any of its base descriptors.
      * @param tag The tag to search for
@@ -161,68 +209,122 @@ public abstract class NodeDescriptor implements Rule {
      *  or one of its base descriptors, {@code false} otherwise.
      */
     public boolean hasTag(final String tag) {
-        final Map<String, ChildDescriptorExt> tags = this.getTags();
-        boolean result = tags.containsKey(tag);
-        if (!result) {
-            result = this.baseHasTag(tag);
-        }
-        return result;
+        return this.getTags().containsKey(tag) || this.baseHasTag(tag);
     }
 
     /**
      * Checks if the given tag exists in any of the base descriptors.
-     * It iterates over all base descriptors and checks if the tag is present in any of them.
+     * It iterates over all direct and indirect base descriptors and checks
+     *  if the tag is present in any of them.
      * @param tag The tag to search for.
      * @return Checking result, {@code true} if the tag exists in any of the base descriptors,
      *  {@code false} otherwise.
      */
     public boolean baseHasTag(final String tag) {
+        final List<NodeDescriptor> list = this.getTopology();
         boolean result = false;
-        for (final AbstractNodeDescriptor base : this.bases) {
-            if (base.hasTag(tag)) {
-                result = true;
-                break;
-            }
+        for (int index = 1; index < list.size() && !result; index = index + 1) {
+            result = list.get(index).getTags().containsKey(tag);
         }
         return result;
     }
 
     /**
-     * Checks that the new base descriptor being added will not create a loop
-     *  in the inheritance hierarchy, which is not allowed.
-     * @param descriptor Base descriptor
-     * @return Checking result ({@code  true} if adding a new descriptor will make a loop)
+     * Looks for a loop in the inheritance hierarchy that would appear after adding new links.
+     *  Performs a non-recursive depth-first search over the base descriptors, starting
+     *  from the nodes that get new base descriptors. Each descriptor is visited once.
+     * @param added New base descriptors of nodes
+     * @return The new base descriptor which closes a loop or {@code null} if there is no loop
      */
-    private boolean checkForCycle(final NodeDescriptor descriptor) {
-        boolean result = false;
-        if (descriptor == this) {
-            result = true;
-        } else {
-            for (final NodeDescriptor base : descriptor.bases) {
-                result = this.checkForCycle(base);
-                if (result) {
-                    break;
+    private static AbstractNodeDescriptor findCycle(
+        final Map<NodeDescriptor, List<AbstractNodeDescriptor>> added) {
+        final Set<NodeDescriptor> finished = new HashSet<>();
+        final Set<NodeDescriptor> path = new HashSet<>();
+        final Deque<NodeDescriptor> nodes = new ArrayDeque<>();
+        final Deque<Integer> indexes = new ArrayDeque<>();
+        AbstractNodeDescriptor cycle = null;
+        for (final NodeDescriptor start : added.keySet()) {
+            if (finished.contains(start)) {
+                continue;
+            }
+            nodes.push(start);
+            indexes.push(0);
+            path.add(start);
+            while (!nodes.isEmpty() && cycle == null) {
+                final NodeDescriptor node = nodes.peek();
+                final int index = indexes.pop();
+                final List<AbstractNodeDescriptor> extra =
+                    added.getOrDefault(node, Collections.emptyList());
+                final int count = node.bases.size();
+                if (index < count + extra.size()) {
+                    indexes.push(index + 1);
+                    final AbstractNodeDescriptor base;
+                    if (index < count) {
+                        base = node.bases.get(index);
+                    } else {
+                        base = extra.get(index - count);
+                    }
+                    if (path.contains(base)) {
+                        cycle = NodeDescriptor.findNewLink(added, nodes, base);
+                    } else if (!finished.contains(base)) {
+                        nodes.push(base);
+                        indexes.push(0);
+                        path.add(base);
+                    }
+                } else {
+                    nodes.pop();
+                    path.remove(node);
+                    finished.add(node);
                 }
             }
+            if (cycle != null) {
+                break;
+            }
+        }
+        return cycle;
+    }
+
+    /**
+     * Finds the new link that closes a loop. The loop consists of the descriptors from
+     *  the top of the search stack down to the given descriptor, the existing hierarchy
+     *  has no loops, so at least one link of the loop is new.
+     * @param added New base descriptors of nodes
+     * @param stack Stack of the depth-first search, the top is the last descriptor of the loop
+     * @param first The first descriptor of the loop
+     * @return The new base descriptor which closes the loop
+     */
+    private static AbstractNodeDescriptor findNewLink(
+        final Map<NodeDescriptor, List<AbstractNodeDescriptor>> added,
+        final Deque<NodeDescriptor> stack, final AbstractNodeDescriptor first) {
+        AbstractNodeDescriptor result = first;
+        NodeDescriptor base = first;
+        for (final NodeDescriptor node : stack) {
+            if (added.getOrDefault(node, Collections.emptyList()).contains(base)) {
+                result = (AbstractNodeDescriptor) base;
+                break;
+            }
+            if (node == first) {
+                break;
+            }
+            base = node;
         }
         return result;
     }
 
     /**
      * Recursively performs topological sorting of the inheritance graph.
+     *  Descriptors are added in reverse order, that is, the list must be reversed afterwards.
      * @param list List to which the sorted descriptors will be added
      * @param visited Visited descriptors, it is necessary not to process them repeatedly
      */
     private void buildTopology(final List<NodeDescriptor> list,
         final Set<NodeDescriptor> visited) {
         if (!visited.contains(this)) {
-            final ListIterator<AbstractNodeDescriptor> iterator =
-                this.bases.listIterator(this.bases.size());
-            while (iterator.hasPrevious()) {
-                final NodeDescriptor base = iterator.previous();
+            for (int index = this.bases.size() - 1; index >= 0; index = index - 1) {
+                final NodeDescriptor base = this.bases.get(index);
                 base.buildTopology(list, visited);
             }
-            list.add(0, this);
+            list.add(this);
             visited.add(this);
         }
     }
@@ -23,11 +23,13 @@
  */
 package org.cqfn.astranaut.dsl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.cqfn.astranaut.core.base.Type;
 import org.cqfn.astranaut.core.utils.MapUtils;
+import org.cqfn.astranaut.core.utils.Pair;
 
 /**
  * Descriptor of a non-abstract node, that is, a node that can be instantiated.
@@ -37,6 +39,12 @@ import org.cqfn.astranaut.core.utils.MapUtils;
  * @since 1.0.0
  */
 public abstract class NonAbstractNodeDescriptor extends NodeDescriptor implements Type {
+    /**
+     * Names of the types from the inheritance topology (cached list), together with
+     *  the topology from which they were obtained.
+     */
+    private Pair<List<NodeDescriptor>, List<String>> hierarchy;
+
     /**
      * Constructor.
      * @param name Name of the type of the node (left side of the rule)
@@ -47,8 +55,17 @@ public abstract class NonAbstractNodeDescriptor extends NodeDescriptor implement
 
     @Override
     public final List<String> getHierarchy() {
-        return this.getTopology().stream().map(NodeDescriptor::getName)
-            .collect(Collectors.toList());
+        final List<NodeDescriptor> topology = this.getTopology();
+        Pair<List<NodeDescriptor>, List<String>> cached = this.hierarchy;
+        if (cached == null || cached.getKey() != topology) {
+            final List<String> names = new ArrayList<>(topology.size());
+            for (final NodeDescriptor descriptor : topology) {
+                names.add(descriptor.getName());
+            }
+            cached = new Pair<>(topology, Collections.unmodifiableList(names));
+            this.hierarchy = cached;
+        }
+        return cached.getValue();
     }
 
     @Override
@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+/**
+ * Describes one binary operator of an operator table: the pattern matching the operator node,
+ *  the type of the node built from the operator and its two operands, the precedence
+ *  and the associativity.
+ * @since 1.0.0
+ */
+public final class OperatorDescriptor {
+    /**
+     * Pattern matching the operator node.
+     */
+    private final LeftSideItem pattern;
+
+    /**
+     * Type of the resulting node.
+     */
+    private final String result;
+
+    /**
+     * Precedence of the operator, a greater value binds tighter.
+     */
+    private final int precedence;
+
+    /**
+     * Flag indicating that the operator is right-associative.
+     */
+    private final boolean right;
+
+    /**
+     * Constructor.
+     * @param pattern Pattern matching the operator node
+     * @param result Type of the resulting node
+     * @param precedence Precedence of the operator, a greater value binds tighter
+     * @param right Flag indicating that the operator is right-associative
+     */
+    public OperatorDescriptor(final LeftSideItem pattern, final String result,
+        final int precedence, final boolean right) {
+        this.pattern = pattern;
+        this.result = result;
+        this.precedence = precedence;
+        this.right = right;
+    }
+
+    /**
+     * Returns the pattern matching the operator node.
+     * @return Left side item
+     */
+    public LeftSideItem getPattern() {
+        return this.pattern;
+    }
+
+    /**
+     * Returns the type of the node built from the operator and its operands.
+     * @return Type name
+     */
+    public String getResult() {
+        return this.result;
+    }
+
+    /**
+     * Returns the precedence of the operator.
+     * @return Precedence, a greater value binds tighter
+     */
+    public int getPrecedence() {
+        return this.precedence;
+    }
+
+    /**
+     * Checks whether the operator is right-associative.
+     * @return Checking result, {@code true} if the operator is right-associative
+     */
+    public boolean isRightAssociative() {
+        return this.right;
+    }
+
+    /**
+     * Checks whether this operator, standing to the left of another one, must be applied first,
+     *  that is, binds its right operand tighter than the next operator binds its left operand.
+     * @param next Operator that follows this one
+     * @return Checking result, {@code true} if this operator is applied first
+     */
+    public boolean precedes(final OperatorDescriptor next) {
+        return this.precedence > next.precedence
+            || this.precedence == next.precedence && !next.right;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s", this.pattern.toString(), this.result);
+    }
+}
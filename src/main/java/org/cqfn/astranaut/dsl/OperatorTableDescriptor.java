@@ -0,0 +1,248 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import org.cqfn.astranaut.codegen.java.OperatorTableGenerator;
+import org.cqfn.astranaut.codegen.java.RuleGenerator;
+import org.cqfn.astranaut.core.algorithms.conversion.ConversionResult;
+import org.cqfn.astranaut.core.algorithms.conversion.Extracted;
+import org.cqfn.astranaut.core.base.Builder;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Fragment;
+import org.cqfn.astranaut.core.base.Node;
+
+/**
+ * Operator table describing binary operators with their precedence, associativity and resulting
+ *  node types. A whole chain of operands separated by operators, such as {@code a + b * c - d},
+ *  is converted into a tree of nodes by a single linear precedence-climbing pass, instead of
+ *  being collapsed by many rewrite rules, one pair of operands at a time.
+ *  If the chain ends with an operator whose right operand is not built yet, only the operators
+ *  that must be applied before that operator are applied, and if others remain, the chain
+ *  is not converted until the operand is built.
+ * @since 1.0.0
+ */
+public final class OperatorTableDescriptor implements ConversionRule {
+    /**
+     * Type of operand nodes.
+     */
+    private final String operand;
+
+    /**
+     * Operators, from the ones that bind tightest to the ones that bind loosest.
+     */
+    private final List<OperatorDescriptor> operators;
+
+    /**
+     * Name of the programming language for which this operator table is described.
+     */
+    private String language;
+
+    /**
+     * Set of nodes on which this rule depends.
+     */
+    private final Set<NodeDescriptor> dependencies;
+
+    /**
+     * Constructor.
+     * @param operand Type of operand nodes
+     * @param operators Operators, from the ones that bind tightest to the ones
+     *  that bind loosest
+     */
+    public OperatorTableDescriptor(final String operand,
+        final List<OperatorDescriptor> operators) {
+        if (operators.isEmpty()) {
+            throw new IllegalArgumentException("The operator table must contain operators");
+        }
+        this.operand = operand;
+        this.operators = Collections.unmodifiableList(new ArrayList<>(operators));
+        this.language = "common";
+        this.dependencies = new HashSet<>();
+    }
+
+    /**
+     * Returns the type of operand nodes.
+     * @return Type name
+     */
+    public String getOperand() {
+        return this.operand;
+    }
+
+    /**
+     * Returns the operators, from the ones that bind tightest to the ones that bind loosest.
+     * @return List of operator descriptors
+     */
+    public List<OperatorDescriptor> getOperators() {
+        return this.operators;
+    }
+
+    /**
+     * Sets the name of the programming language for which this operator table is described.
+     * @param value Name of the programming language
+     */
+    public void setLanguage(final String value) {
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        this.language = value.toLowerCase(Locale.ENGLISH);
+    }
+
+    @Override
+    public String getLanguage() {
+        return this.language;
+    }
+
+    @Override
+    public void addDependency(final NodeDescriptor descriptor) {
+        this.dependencies.add(descriptor);
+    }
+
+    @Override
+    public Set<NodeDescriptor> getDependencies() {
+        return Collections.unmodifiableSet(this.dependencies);
+    }
+
+    @Override
+    public RuleGenerator createGenerator() {
+        return new OperatorTableGenerator(this);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append(this.operand).append(" => {");
+        OperatorDescriptor previous = null;
+        for (final OperatorDescriptor operator : this.operators) {
+            if (previous != null && previous.getPrecedence() != operator.getPrecedence()) {
+                builder.append("}, {");
+            } else if (previous != null) {
+                builder.append(", ");
+            }
+            if (operator.isRightAssociative()
+                && (previous == null || previous.getPrecedence() != operator.getPrecedence())) {
+                builder.append("..., ");
+            }
+            builder.append(operator.toString());
+            previous = operator;
+        }
+        builder.append('}');
+        return builder.toString();
+    }
+
+    @Override
+    public Optional<ConversionResult> convert(final List<Node> list, final int index,
+        final Factory factory) {
+        Optional<ConversionResult> result = Optional.empty();
+        do {
+            if (index + this.getMinConsumed() > list.size()
+                || !list.get(index).belongsToGroup(this.operand)) {
+                break;
+            }
+            final Deque<Node> operands = new LinkedList<>();
+            final Deque<OperatorDescriptor> stack = new LinkedList<>();
+            operands.push(list.get(index));
+            int position = index + 1;
+            boolean valid = true;
+            OperatorDescriptor dangling = null;
+            while (valid && position < list.size()) {
+                final OperatorDescriptor operator = this.findOperator(list.get(position));
+                if (operator == null) {
+                    break;
+                }
+                if (position + 1 == list.size()
+                    || !list.get(position + 1).belongsToGroup(this.operand)) {
+                    dangling = operator;
+                    break;
+                }
+                while (valid && !stack.isEmpty() && stack.peek().precedes(operator)) {
+                    valid = OperatorTableDescriptor.reduce(operands, stack, factory);
+                }
+                stack.push(operator);
+                operands.push(list.get(position + 1));
+                position = position + 2;
+            }
+            while (valid && !stack.isEmpty()
+                && (dangling == null || stack.peek().precedes(dangling))) {
+                valid = OperatorTableDescriptor.reduce(operands, stack, factory);
+            }
+            if (!valid || !stack.isEmpty() || position == index + 1) {
+                break;
+            }
+            result = Optional.of(new ConversionResult(operands.pop(), position - index));
+        } while (false);
+        return result;
+    }
+
+    @Override
+    public int getMinConsumed() {
+        return 3;
+    }
+
+    /**
+     * Finds the operator whose pattern matches the node.
+     * @param node Node
+     * @return Operator descriptor or {@code null} if the node is not an operator
+     */
+    private OperatorDescriptor findOperator(final Node node) {
+        OperatorDescriptor result = null;
+        for (final OperatorDescriptor operator : this.operators) {
+            if (operator.getPattern().matchNode(node, new Extracted())) {
+                result = operator;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Applies the operator on the top of the stack to the two topmost operands and pushes
+     *  the resulting node back to the operand stack.
+     * @param operands Stack of operands
+     * @param stack Stack of operators
+     * @param factory Factory for creating nodes
+     * @return Result, {@code true} if the resulting node was created
+     */
+    private static boolean reduce(final Deque<Node> operands,
+        final Deque<OperatorDescriptor> stack, final Factory factory) {
+        final Node right = operands.pop();
+        final Node left = operands.pop();
+        final List<Node> children = Arrays.asList(left, right);
+        final Builder builder = factory.createBuilder(stack.pop().getResult());
+        builder.setFragment(Fragment.fromNodes(children));
+        final boolean result = builder.setChildrenList(children) && builder.isValid();
+        if (result) {
+            operands.push(builder.createNode());
+        }
+        return result;
+    }
+}
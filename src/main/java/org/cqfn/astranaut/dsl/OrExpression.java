@@ -23,7 +23,12 @@
  */
 package org.cqfn.astranaut.dsl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.BiPredicate;
 import org.cqfn.astranaut.codegen.java.LeftSideItemGenerator;
 import org.cqfn.astranaut.codegen.java.OrExpressionMatcherGenerator;
 import org.cqfn.astranaut.core.algorithms.conversion.Extracted;
@@ -35,6 +40,17 @@ import org.cqfn.astranaut.core.base.Node;
  * @since 1.0.0
  */
 public final class OrExpression extends LogicalExpression {
+    /**
+     * Alternatives grouped for matching, created on first request.
+     */
+    private List<List<LeftSideItem>> groups;
+
+    /**
+     * Checks performed by the interpreter, one per group of alternatives,
+     *  created on first request.
+     */
+    private List<BiPredicate<Node, Extracted>> checks;
+
     /**
      * Constructor.
      * @param items List of patterns that are combined in this expression
@@ -50,9 +66,12 @@ public final class OrExpression extends LogicalExpression {
 
     @Override
     public boolean matchNode(final Node node, final Extracted extracted) {
+        if (this.checks == null) {
+            this.checks = this.createChecks();
+        }
         boolean matches = false;
-        for (final LeftSideItem item : this.getItems()) {
-            if (item.matchNode(node, extracted)) {
+        for (final BiPredicate<Node, Extracted> check : this.checks) {
+            if (check.test(node, extracted)) {
                 matches = true;
                 break;
             }
@@ -60,8 +79,106 @@ public final class OrExpression extends LogicalExpression {
         return matches;
     }
 
+    /**
+     * Returns the alternatives split into groups, keeping their order. Consecutive patterns
+     *  of the same type that differ only by static data (for example, {@code Op<'+'>},
+     *  {@code Op<'-'>}) form a single group, which is matched by one lookup on the data
+     *  of the node. Consecutive symbolic descriptors (for example, {@code 'a..z'},
+     *  {@code 'A..Z'}, {@code '_'}) are combined into one descriptor with a single
+     *  character class, which forms a group of its own, as does any other alternative.
+     * @return List of groups, each containing at least one alternative
+     */
+    public List<List<LeftSideItem>> getGroupedItems() {
+        if (this.groups == null) {
+            final List<List<LeftSideItem>> list = new ArrayList<>(this.getItems().size());
+            List<LeftSideItem> current = Collections.emptyList();
+            for (final LeftSideItem item : this.getItems()) {
+                if (OrExpression.canBeGrouped(current, item)) {
+                    current.add(item);
+                } else {
+                    current = new ArrayList<>(1);
+                    current.add(item);
+                    list.add(current);
+                }
+            }
+            for (int index = 0; index < list.size(); index = index + 1) {
+                final List<LeftSideItem> group = list.get(index);
+                if (group.size() > 1 && group.get(0) instanceof SymbolDescriptor) {
+                    final List<SymbolDescriptor> symbols = new ArrayList<>(group.size());
+                    for (final LeftSideItem item : group) {
+                        symbols.add((SymbolDescriptor) item);
+                    }
+                    list.set(index, Collections.singletonList(SymbolDescriptor.combine(symbols)));
+                }
+            }
+            this.groups = Collections.unmodifiableList(list);
+        }
+        return this.groups;
+    }
+
     @Override
     public char getSymbol() {
         return '|';
     }
+
+    /**
+     * Creates checks performed by the interpreter, one per group of alternatives.
+     * @return List of checks
+     */
+    private List<BiPredicate<Node, Extracted>> createChecks() {
+        final List<List<LeftSideItem>> list = this.getGroupedItems();
+        final List<BiPredicate<Node, Extracted>> result = new ArrayList<>(list.size());
+        for (final List<LeftSideItem> group : list) {
+            if (group.size() == 1) {
+                result.add(group.get(0)::matchNode);
+            } else {
+                final String type = ((PatternDescriptor) group.get(0)).getType();
+                final Set<String> values = new HashSet<>();
+                for (final LeftSideItem item : group) {
+                    values.add(((StaticString) ((PatternDescriptor) item).getData()).getValue());
+                }
+                result.add(
+                    (node, extracted) -> node.belongsToGroup(type)
+                        && node.getChildCount() == 0
+                        && values.contains(node.getData())
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the alternative can be added to the group of patterns
+     *  that differ only by static data, or to the group of symbolic descriptors.
+     * @param group Current group
+     * @param item Alternative
+     * @return Checking result
+     */
+    private static boolean canBeGrouped(final List<LeftSideItem> group,
+        final LeftSideItem item) {
+        boolean result = false;
+        if (!group.isEmpty() && item instanceof PatternDescriptor
+            && group.get(0) instanceof PatternDescriptor) {
+            final PatternDescriptor first = (PatternDescriptor) group.get(0);
+            final PatternDescriptor next = (PatternDescriptor) item;
+            result = first.hasStaticDataOnly() && next.hasStaticDataOnly()
+                && first.getType().equals(next.getType());
+        } else if (!group.isEmpty() && item instanceof SymbolDescriptor
+            && group.get(0) instanceof SymbolDescriptor) {
+            result = OrExpression.canBeCombined((SymbolDescriptor) group.get(0))
+                && OrExpression.canBeCombined((SymbolDescriptor) item)
+                && String.valueOf(((SymbolDescriptor) group.get(0)).getData())
+                    .equals(String.valueOf(((SymbolDescriptor) item).getData()));
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the symbolic descriptor can be combined with others.
+     * @param item Symbolic descriptor
+     * @return Checking result
+     */
+    private static boolean canBeCombined(final SymbolDescriptor item) {
+        return !item.isNegationFlagSet() && item.getMatchingMode() == PatternMatchingMode.NORMAL;
+    }
 }
@@ -127,6 +127,16 @@ public final class PatternDescriptor implements PatternItem, LeftSideItem {
         return found;
     }
 
+    /**
+     * Checks whether the pattern is a positive pattern without children whose only
+     *  condition besides the node type is a static string the data must be equal to.
+     *  Such patterns can be selected by a lookup on the data of the node.
+     * @return Check result, {@code true} if the pattern only checks the type and static data
+     */
+    public boolean hasStaticDataOnly() {
+        return !this.negation && this.children.isEmpty() && this.data instanceof StaticString;
+    }
+
     @Override
     public void setMatchingMode(final PatternMatchingMode value) {
         this.mode = value;
@@ -216,6 +226,10 @@ public final class PatternDescriptor implements PatternItem, LeftSideItem {
             builder.append('[');
         } else if (this.mode == PatternMatchingMode.REPEATED) {
             builder.append('{');
+        } else if (this.mode == PatternMatchingMode.LOOKAHEAD) {
+            builder.append('>');
+        } else if (this.mode == PatternMatchingMode.LOOKBEHIND) {
+            builder.append('<');
         }
         builder.append(this.toShortString());
         if (this.mode == PatternMatchingMode.OPTIONAL) {
@@ -43,5 +43,17 @@ public enum PatternMatchingMode {
      * However, if this pattern is the only one in the transformation descriptor,
      * it must match at least once.
      */
-    REPEATED;
+    REPEATED,
+
+    /**
+     * The descriptor must match the node that follows the matched nodes, but this node
+     *  is not consumed. If the descriptor is negative, it also matches the end of the list.
+     */
+    LOOKAHEAD,
+
+    /**
+     * The descriptor must match the node that precedes the matched nodes, but this node
+     *  is not consumed. If the descriptor is negative, it also matches the beginning of the list.
+     */
+    LOOKBEHIND;
 }
@@ -39,6 +39,7 @@ import org.cqfn.astranaut.core.base.Factory;
 import org.cqfn.astranaut.core.base.Provider;
 import org.cqfn.astranaut.core.base.Transformer;
 import org.cqfn.astranaut.core.base.Type;
+import org.cqfn.astranaut.interpreter.ScopedTransformer;
 
 /**
  * Program, that is, a set of rules described in DSL.
@@ -65,6 +66,11 @@ public final class Program implements Provider {
      */
     private final Map<String, List<TransformationDescriptor>> converters;
 
+    /**
+     * Cached result for getConversionRulesByLanguage().
+     */
+    private final Map<String, List<ConversionRule>> rules;
+
     /**
      * Cached result for getFactory().
      */
@@ -78,6 +84,7 @@ public final class Program implements Provider {
         this.all = Collections.unmodifiableList(new ArrayList<>(all));
         this.nodes = new TreeMap<>();
         this.converters = new TreeMap<>();
+        this.rules = new TreeMap<>();
         this.factories = new TreeMap<>();
     }
 
@@ -185,6 +192,45 @@ public final class Program implements Provider {
         return result;
     }
 
+    /**
+     * Returns an immutable list of all conversion rules (transformation descriptors
+     *  and operator tables), regardless of language.
+     * @return An immutable list of all conversion rules
+     */
+    public List<ConversionRule> getAllConversionRules() {
+        final List<ConversionRule> list = new ArrayList<>(0);
+        for (final Rule rule : this.all) {
+            if (rule instanceof ConversionRule) {
+                list.add((ConversionRule) rule);
+            }
+        }
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Returns an immutable list of conversion rules (transformation descriptors
+     *  and operator tables) for the specified language, in the order they are declared.
+     *  The list is cached for performance.
+     * @param language The language to get the conversion rules for
+     * @return An immutable list of conversion rules
+     */
+    public List<ConversionRule> getConversionRulesByLanguage(final String language) {
+        final List<ConversionRule> result;
+        if (this.rules.containsKey(language)) {
+            result = this.rules.get(language);
+        } else {
+            final List<ConversionRule> list = new ArrayList<>(0);
+            for (final Rule rule : this.all) {
+                if (rule instanceof ConversionRule && rule.getLanguage().equals(language)) {
+                    list.add((ConversionRule) rule);
+                }
+            }
+            result = Collections.unmodifiableList(list);
+            this.rules.put(language, result);
+        }
+        return result;
+    }
+
     @Override
     public Factory getFactory(final String language) {
         final String lowercase;
@@ -218,11 +264,17 @@ public final class Program implements Provider {
         } else {
             lowercase = language.toLowerCase(Locale.ENGLISH);
         }
-        return new DefaultTransformer(
-            this.getTransformationDescriptorsByLanguage(lowercase)
-                .stream()
-                .map(d -> (Converter) d).collect(Collectors.toList()),
-            this.getFactory(lowercase)
-        );
+        final List<ConversionRule> list = this.getConversionRulesByLanguage(lowercase);
+        final Transformer transformer;
+        if (this.getTransformationDescriptorsByLanguage(lowercase).stream()
+            .anyMatch(TransformationDescriptor::isScoped)) {
+            transformer = new ScopedTransformer(list, this.getFactory(lowercase));
+        } else {
+            transformer = new DefaultTransformer(
+                list.stream().map(rule -> (Converter) rule).collect(Collectors.toList()),
+                this.getFactory(lowercase)
+            );
+        }
+        return transformer;
     }
 }
@@ -0,0 +1,440 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Optimization pass that fuses chained single-node transformation rules.
+ *  If a rule rewrites one node into a leaf node of type T, and the only rule that can
+ *  ever consume T is a later rule rewriting a single T node into a node of type U,
+ *  a fused rule rewriting the original node directly into U is inserted before the first
+ *  rule. Both original rules are kept: if the fused rule cannot build its node, they are
+ *  applied exactly as before, so the resulting tree remains the same, while the intermediate
+ *  node and the extra rewriting pass disappear.
+ * @since 1.0.0
+ */
+public final class RuleFusion {
+    /**
+     * Name of the language whose rules are applied before the rules of any other language.
+     */
+    private static final String COMMON = "common";
+
+    /**
+     * Program to be optimized.
+     */
+    private final Program program;
+
+    /**
+     * Constructor.
+     * @param program Program to be optimized
+     */
+    public RuleFusion(final Program program) {
+        this.program = program;
+    }
+
+    /**
+     * Performs the pass.
+     * @return A new program containing fused rules, or the same program if nothing was fused
+     */
+    public Program apply() {
+        final List<Rule> all = new ArrayList<>(this.program.getAllRules());
+        boolean changed = false;
+        for (final String language : this.program.getAllLanguages()) {
+            changed = this.fuseRules(all, language) || changed;
+        }
+        final Program result;
+        if (changed) {
+            result = new Program(all);
+        } else {
+            result = this.program;
+        }
+        return result;
+    }
+
+    /**
+     * Fuses transformation rules of the specified language, while possible.
+     * @param all List of all rules, fused rules are inserted into it
+     * @param language Name of the language
+     * @return Result, {@code true} if at least one fused rule was inserted
+     */
+    private boolean fuseRules(final List<Rule> all, final String language) {
+        final Set<Rule> processed = new HashSet<>();
+        final int limit = all.size();
+        int count = 0;
+        boolean found;
+        do {
+            found = false;
+            final List<ConversionRule> rules = RuleFusion.selectRules(all, language);
+            for (int index = 0; !found && index < rules.size(); index = index + 1) {
+                final ConversionRule rule = rules.get(index);
+                if (rule.getLanguage().equals(language) && processed.add(rule)
+                    && rule instanceof TransformationDescriptor) {
+                    final TransformationDescriptor fused =
+                        this.fuseWithConsumer(rules, index);
+                    if (fused != null) {
+                        all.add(all.indexOf(rule), fused);
+                        count = count + 1;
+                        found = true;
+                    }
+                }
+            }
+        } while (found && count < limit);
+        return count > 0;
+    }
+
+    /**
+     * Tries to fuse a rule with the only rule that consumes its result.
+     * @param rules Conversion rules in the order they are applied
+     * @param index Index of the first rule
+     * @return Fused rule or {@code null} if rules can't be fused
+     */
+    private TransformationDescriptor fuseWithConsumer(final List<ConversionRule> rules,
+        final int index) {
+        final TransformationDescriptor first = (TransformationDescriptor) rules.get(index);
+        TransformationDescriptor fused = null;
+        do {
+            final ResultingSubtreeDescriptor leaf = this.getProducedLeaf(first);
+            if (leaf == null) {
+                break;
+            }
+            final Set<String> groups = RuleFusion.getGroups(
+                this.program, leaf.getType(), first.getLanguage()
+            );
+            int position = index + 1;
+            while (position < rules.size() && !RuleFusion.mayMatch(rules.get(position), groups)) {
+                position = position + 1;
+            }
+            if (position == rules.size()
+                || !(rules.get(position) instanceof TransformationDescriptor)) {
+                break;
+            }
+            final TransformationDescriptor second = (TransformationDescriptor) rules.get(position);
+            final ResultingSubtreeDescriptor composite = RuleFusion.compose(leaf, second, groups);
+            if (composite == null) {
+                break;
+            }
+            final Set<String> result = RuleFusion.getGroups(
+                this.program, composite.getType(), first.getLanguage()
+            );
+            boolean conflict = false;
+            for (int other = 0; !conflict && other < position; other = other + 1) {
+                conflict = RuleFusion.mayMatch(rules.get(other), groups)
+                    || RuleFusion.mayMatch(rules.get(other), result);
+            }
+            if (conflict) {
+                break;
+            }
+            fused = new TransformationDescriptor(first.getLeft(), composite);
+            fused.setLanguage(first.getLanguage());
+            if (first.isRightToLeft()) {
+                fused.setRightToLeftDirection();
+            }
+            for (final NodeDescriptor descriptor : first.getDependencies()) {
+                fused.addDependency(descriptor);
+            }
+            for (final NodeDescriptor descriptor : second.getDependencies()) {
+                fused.addDependency(descriptor);
+            }
+        } while (false);
+        return fused;
+    }
+
+    /**
+     * Returns the leaf node the rule produces, if the rule rewrites exactly one node
+     *  into a node without children, and creating that node never fails.
+     * @param rule Transformation rule
+     * @return Descriptor of the resulting leaf node or {@code null} if the rule doesn't fit
+     */
+    private ResultingSubtreeDescriptor getProducedLeaf(final TransformationDescriptor rule) {
+        ResultingSubtreeDescriptor leaf = null;
+        do {
+            if (!RuleFusion.isSingleNodeRule(rule)
+                || !(rule.getRight() instanceof ResultingSubtreeDescriptor)) {
+                break;
+            }
+            final ResultingSubtreeDescriptor right = (ResultingSubtreeDescriptor) rule.getRight();
+            if (!right.getChildren().isEmpty()) {
+                break;
+            }
+            final NodeDescriptor descriptor = this.program.getNodeDescriptorByNameAndLanguage(
+                right.getType(), rule.getLanguage()
+            );
+            final boolean literal = descriptor instanceof LiteralDescriptor
+                && RuleFusion.keepsData((LiteralDescriptor) descriptor, rule, right.getData());
+            final boolean regular = descriptor instanceof RegularNodeDescriptor
+                && ((RegularNodeDescriptor) descriptor).getChildTypes().isEmpty()
+                && right.getData() == null;
+            if (literal || regular) {
+                leaf = right;
+            }
+        } while (false);
+        return leaf;
+    }
+
+    /**
+     * Returns names of all types the node of the specified type belongs to.
+     * @param program Program
+     * @param type Name of the node type
+     * @param language Name of the language
+     * @return Set of type names, empty if the type is unknown
+     */
+    static Set<String> getGroups(final Program program, final String type,
+        final String language) {
+        final Set<String> groups = new HashSet<>();
+        final NodeDescriptor descriptor =
+            program.getNodeDescriptorByNameAndLanguage(type, language);
+        if (descriptor != null) {
+            for (final NodeDescriptor base : descriptor.getTopology()) {
+                groups.add(base.getName());
+            }
+        }
+        return groups;
+    }
+
+    /**
+     * Selects conversion rules in the order they are applied to trees of the specified
+     *  language, that is, rules of the common language followed by the language ones.
+     * @param all List of all rules
+     * @param language Name of the language
+     * @return List of conversion rules
+     */
+    static List<ConversionRule> selectRules(final List<Rule> all, final String language) {
+        final List<ConversionRule> rules = new ArrayList<>(all.size());
+        if (!language.equals(RuleFusion.COMMON)) {
+            RuleFusion.selectRules(all, RuleFusion.COMMON, rules);
+        }
+        RuleFusion.selectRules(all, language, rules);
+        return rules;
+    }
+
+    /**
+     * Selects conversion rules of the specified language.
+     * @param all List of all rules
+     * @param language Name of the language
+     * @param rules List where the selected rules are added
+     */
+    private static void selectRules(final List<Rule> all, final String language,
+        final List<ConversionRule> rules) {
+        for (final Rule rule : all) {
+            if (rule instanceof ConversionRule && rule.getLanguage().equals(language)) {
+                rules.add((ConversionRule) rule);
+            }
+        }
+    }
+
+    /**
+     * Checks whether the rule consumes exactly one node and depends on nothing else
+     *  (neither on neighbours nor on the parent node).
+     * @param rule Transformation rule
+     * @return Checking result
+     */
+    static boolean isSingleNodeRule(final TransformationDescriptor rule) {
+        return !rule.isScoped()
+            && rule.getLookbehindItems().isEmpty()
+            && rule.getLookaheadItems().isEmpty()
+            && rule.getMatchedItems().size() == 1
+            && rule.getMatchedItems().get(0).getMatchingMode() == PatternMatchingMode.NORMAL;
+    }
+
+    /**
+     * Checks whether the literal node keeps the data exactly as it was set, that is,
+     *  setting the data never fails and reading it back returns the same string.
+     *  This is true for literals without a parser, and for characters if the data
+     *  is known to be a single character.
+     * @param descriptor Literal descriptor
+     * @param rule Rule that creates the literal
+     * @param data Data that is set
+     * @return Checking result
+     */
+    private static boolean keepsData(final LiteralDescriptor descriptor,
+        final TransformationDescriptor rule, final RightDataDescriptor data) {
+        boolean result = descriptor.getParser().isEmpty();
+        if (!result && "char".equals(descriptor.getDataType())
+            && "#.charAt(0)".equals(descriptor.getParser())
+            && "String.valueOf(#)".equals(descriptor.getSerializer())) {
+            final LeftSideItem item = rule.getMatchedItems().get(0);
+            if (data instanceof StaticString) {
+                result = ((StaticString) data).getValue().length() == 1;
+            } else if (data instanceof UntypedHole && item instanceof SymbolDescriptor
+                && !item.isNegationFlagSet()) {
+                final UntypedHole hole = ((SymbolDescriptor) item).getData();
+                result = hole != null && hole.getNumber() == ((UntypedHole) data).getNumber();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Composes the right side of the consuming rule with the leaf node produced
+     *  by the first rule, if the consuming rule unconditionally rewrites that leaf
+     *  and uses nothing but its data.
+     * @param leaf Leaf node produced by the first rule
+     * @param rule Consuming rule
+     * @param groups Names of all types the leaf node belongs to
+     * @return Composed resulting subtree or {@code null} if the rules can't be fused
+     */
+    private static ResultingSubtreeDescriptor compose(final ResultingSubtreeDescriptor leaf,
+        final TransformationDescriptor rule, final Set<String> groups) {
+        ResultingSubtreeDescriptor composite = null;
+        do {
+            if (!RuleFusion.isSingleNodeRule(rule)
+                || !(rule.getRight() instanceof ResultingSubtreeDescriptor)) {
+                break;
+            }
+            final LeftSideItem item = rule.getMatchedItems().get(0);
+            if (item.isNegationFlagSet()) {
+                break;
+            }
+            int number = -1;
+            if (item instanceof PatternDescriptor) {
+                final PatternDescriptor pattern = (PatternDescriptor) item;
+                if (!groups.contains(pattern.getType()) || !pattern.getChildren().isEmpty()
+                    || pattern.getData() != null && !(pattern.getData() instanceof UntypedHole)) {
+                    break;
+                }
+                if (pattern.getData() != null) {
+                    number = ((UntypedHole) pattern.getData()).getNumber();
+                }
+            } else if (!(item instanceof TypedHole)
+                || !groups.contains(((TypedHole) item).getType())) {
+                break;
+            }
+            composite = RuleFusion.substitute(
+                (ResultingSubtreeDescriptor) rule.getRight(),
+                number,
+                leaf.getData()
+            );
+        } while (false);
+        return composite;
+    }
+
+    /**
+     * Replaces the data hole in the resulting subtree with the data of the leaf node.
+     * @param subtree Resulting subtree
+     * @param number Number of the data hole, or -1 if the data is not extracted
+     * @param data Data of the leaf node, may be {@code null}
+     * @return New resulting subtree or {@code null} if it refers to anything except the data
+     */
+    private static ResultingSubtreeDescriptor substitute(final ResultingSubtreeDescriptor subtree,
+        final int number, final RightDataDescriptor data) {
+        ResultingSubtreeDescriptor result = null;
+        do {
+            RightDataDescriptor replaced = subtree.getData();
+            if (replaced instanceof UntypedHole) {
+                if (((UntypedHole) replaced).getNumber() != number || data == null) {
+                    break;
+                }
+                replaced = data;
+            }
+            final List<RightSideItem> children = new ArrayList<>(subtree.getChildren().size());
+            for (final RightSideItem child : subtree.getChildren()) {
+                if (!(child instanceof ResultingSubtreeDescriptor)) {
+                    break;
+                }
+                final ResultingSubtreeDescriptor descriptor = RuleFusion.substitute(
+                    (ResultingSubtreeDescriptor) child, number, data
+                );
+                if (descriptor == null) {
+                    break;
+                }
+                children.add(descriptor);
+            }
+            if (children.size() == subtree.getChildren().size()) {
+                result = new ResultingSubtreeDescriptor(subtree.getType(), replaced, children);
+            }
+        } while (false);
+        return result;
+    }
+
+    /**
+     * Checks whether the conversion rule may match a node belonging to the specified types,
+     *  either consuming it, looking at it as a neighbour or using it as a scope marker.
+     * @param rule Conversion rule
+     * @param groups Names of all types the node belongs to
+     * @return Checking result, {@code false} only if the rule never matches such a node
+     */
+    static boolean mayMatch(final ConversionRule rule, final Set<String> groups) {
+        boolean result = false;
+        if (rule instanceof TransformationDescriptor) {
+            final TransformationDescriptor descriptor = (TransformationDescriptor) rule;
+            for (final String type : descriptor.getScope()) {
+                result = result || groups.contains(type);
+            }
+            for (final LeftSideItem item : descriptor.getLeft()) {
+                result = result || RuleFusion.mayMatch(item, groups);
+            }
+        } else if (rule instanceof DispatchTableDescriptor) {
+            for (final ConversionRule nested : ((DispatchTableDescriptor) rule).getRules()) {
+                result = result || RuleFusion.mayMatch(nested, groups);
+            }
+        } else if (rule instanceof OperatorTableDescriptor) {
+            final OperatorTableDescriptor table = (OperatorTableDescriptor) rule;
+            result = groups.contains(table.getOperand());
+            for (final OperatorDescriptor operator : table.getOperators()) {
+                result = result || RuleFusion.mayMatch(operator.getPattern(), groups);
+            }
+        } else {
+            result = true;
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the item of the left side may match a node belonging
+     *  to the specified types.
+     * @param item Item of the left side
+     * @param groups Names of all types the node belongs to
+     * @return Checking result, {@code false} only if the item never matches such a node
+     */
+    private static boolean mayMatch(final LeftSideItem item, final Set<String> groups) {
+        final boolean result;
+        if (item instanceof LogicalExpression) {
+            boolean any = item.isNegationFlagSet();
+            for (final LeftSideItem nested : ((LogicalExpression) item).getItems()) {
+                any = any || RuleFusion.mayMatch(nested, groups);
+            }
+            result = any;
+        } else if (item instanceof PatternDescriptor) {
+            final PatternDescriptor pattern = (PatternDescriptor) item;
+            final boolean belongs = groups.contains(pattern.getType());
+            if (item.isNegationFlagSet()) {
+                result = !belongs || pattern.getData() != null
+                    || !pattern.getChildren().isEmpty();
+            } else {
+                result = belongs;
+            }
+        } else if (item instanceof TypedHole) {
+            result = groups.contains(((TypedHole) item).getType()) ^ item.isNegationFlagSet();
+        } else if (item instanceof SymbolDescriptor) {
+            result = item.isNegationFlagSet() || groups.contains("Char");
+        } else {
+            result = true;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Optimization pass that combines consecutive single-node transformation rules whose
+ *  patterns differ only by static data (for example, {@code Op<'+'> -> Plus},
+ *  {@code Op<'-'> -> Minus}) into dispatch tables, so that a node is checked
+ *  by one lookup on its data instead of trying each rule in turn.
+ *  Rules are combined only if the result of the transformation can't depend
+ *  on the order in which the combined rules are tried.
+ * @since 1.0.0
+ */
+public final class RuleGrouping {
+    /**
+     * Program to be optimized.
+     */
+    private final Program program;
+
+    /**
+     * Constructor.
+     * @param program Program to be optimized
+     */
+    public RuleGrouping(final Program program) {
+        this.program = program;
+    }
+
+    /**
+     * Performs the pass.
+     * @return A new program containing dispatch tables, or the same program
+     *  if nothing was combined
+     */
+    public Program apply() {
+        final List<Rule> all = new ArrayList<>(this.program.getAllRules());
+        boolean changed = false;
+        for (final String language : this.program.getAllLanguages()) {
+            changed = this.groupRules(all, language) || changed;
+        }
+        final Program result;
+        if (changed) {
+            result = new Program(all);
+        } else {
+            result = this.program;
+        }
+        return result;
+    }
+
+    /**
+     * Combines transformation rules of the specified language into dispatch tables.
+     * @param all List of all rules, combined rules are replaced by dispatch tables
+     * @param language Name of the language
+     * @return Result, {@code true} if at least one dispatch table was created
+     */
+    private boolean groupRules(final List<Rule> all, final String language) {
+        final List<ConversionRule> rules = RuleFusion.selectRules(all, language);
+        boolean changed = false;
+        int index = 0;
+        while (index < rules.size()) {
+            final List<TransformationDescriptor> group =
+                RuleGrouping.collectGroup(rules, index, language);
+            if (group.size() > 1 && !this.hasConflicts(rules, index, group)) {
+                final int position = all.indexOf(group.get(0));
+                all.removeAll(group);
+                all.add(position, new DispatchTableDescriptor(group));
+                changed = true;
+                index = index + group.size();
+            } else {
+                index = index + 1;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Checks whether combining the rules may change the result of the transformation,
+     *  that is, whether a node created by one of the combined rules may be matched
+     *  by one of the combined rules or by a rule that is tried before them.
+     * @param rules Conversion rules in the order they are applied
+     * @param index Index of the first combined rule
+     * @param group Combined rules
+     * @return Checking result, {@code true} if the rules can't be combined
+     */
+    private boolean hasConflicts(final List<ConversionRule> rules, final int index,
+        final List<TransformationDescriptor> group) {
+        final Set<String> groups = new HashSet<>();
+        for (final TransformationDescriptor rule : group) {
+            groups.addAll(
+                RuleFusion.getGroups(
+                    this.program,
+                    ((ResultingSubtreeDescriptor) rule.getRight()).getType(),
+                    rule.getLanguage()
+                )
+            );
+        }
+        boolean conflict = false;
+        for (int other = 0; !conflict && other < index + group.size(); other = other + 1) {
+            conflict = RuleFusion.mayMatch(rules.get(other), groups);
+        }
+        return conflict;
+    }
+
+    /**
+     * Collects the longest run of consecutive rules, starting from the specified one,
+     *  that can be combined into a dispatch table.
+     * @param rules Conversion rules in the order they are applied
+     * @param index Index of the first rule
+     * @param language Name of the language
+     * @return List of rules, may contain less than two rules
+     */
+    private static List<TransformationDescriptor> collectGroup(
+        final List<ConversionRule> rules, final int index, final String language) {
+        final List<TransformationDescriptor> group = new ArrayList<>(1);
+        final Set<String> values = new HashSet<>();
+        PatternDescriptor first = null;
+        for (int position = index; position < rules.size(); position = position + 1) {
+            final ConversionRule rule = rules.get(position);
+            if (!rule.getLanguage().equals(language) || !RuleGrouping.isDispatchable(rule)) {
+                break;
+            }
+            final TransformationDescriptor descriptor = (TransformationDescriptor) rule;
+            final PatternDescriptor pattern =
+                (PatternDescriptor) descriptor.getMatchedItems().get(0);
+            if (first == null) {
+                first = pattern;
+            } else if (!first.getType().equals(pattern.getType())
+                || descriptor.isRightToLeft() != group.get(0).isRightToLeft()) {
+                break;
+            }
+            if (!values.add(((StaticString) pattern.getData()).getValue())) {
+                break;
+            }
+            group.add(descriptor);
+        }
+        return group;
+    }
+
+    /**
+     * Checks whether the rule can be selected by static data, that is, whether it replaces
+     *  a single node matched by a pattern without children, with static data,
+     *  with a new node.
+     * @param rule Conversion rule
+     * @return Checking result
+     */
+    private static boolean isDispatchable(final ConversionRule rule) {
+        boolean result = false;
+        if (rule instanceof TransformationDescriptor) {
+            final TransformationDescriptor descriptor = (TransformationDescriptor) rule;
+            result = RuleFusion.isSingleNodeRule(descriptor)
+                && descriptor.getRight() instanceof ResultingSubtreeDescriptor
+                && descriptor.getMatchedItems().get(0) instanceof PatternDescriptor
+                && ((PatternDescriptor) descriptor.getMatchedItems().get(0))
+                    .hasStaticDataOnly();
+        }
+        return result;
+    }
+}
@@ -43,6 +43,14 @@ public final class StaticString implements LeftDataDescriptor, RightDataDescript
         this.token = token;
     }
 
+    /**
+     * Returns the token from which this descriptor is generated.
+     * @return Token
+     */
+    public CharSequenceToken getToken() {
+        return this.token;
+    }
+
     /**
      * Gets the value of the static string.
      * @return The string value
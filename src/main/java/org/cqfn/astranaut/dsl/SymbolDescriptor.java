@@ -23,6 +23,8 @@
  */
 package org.cqfn.astranaut.dsl;
 
+import java.util.List;
+import java.util.stream.Collectors;
 import org.cqfn.astranaut.codegen.java.LeftSideItemGenerator;
 import org.cqfn.astranaut.codegen.java.SymbolMatcherGenerator;
 import org.cqfn.astranaut.core.algorithms.conversion.Extracted;
@@ -32,6 +34,8 @@ import org.cqfn.astranaut.parser.SymbolicToken;
 /**
  * Descriptor describing a single character, possibly with an untyped hole to extract
  *  the character's value This is used to describe the left side of a transformation rule.
+ *  The set of matching characters is compiled into a character class, so that checking
+ *  a character costs one lookup.
  * @since 1.0.0
  */
 public final class SymbolDescriptor implements PatternItem, LeftSideItem {
@@ -40,6 +44,16 @@ public final class SymbolDescriptor implements PatternItem, LeftSideItem {
      */
     private final SymbolicToken token;
 
+    /**
+     * Set of characters that match the descriptor.
+     */
+    private final CharacterClass chars;
+
+    /**
+     * Textual representation of the set of characters.
+     */
+    private final String text;
+
     /**
      * Untyped hole for extracting the value of a symbol.
      */
@@ -61,19 +75,59 @@ public final class SymbolDescriptor implements PatternItem, LeftSideItem {
      * @param data Untyped hole for extracting the value of a symbol
      */
     public SymbolDescriptor(final SymbolicToken token, final UntypedHole data) {
+        this(token, CharacterClass.create(token), token.toString(), data);
+    }
+
+    /**
+     * Constructor.
+     * @param token Token describing a character or range of characters, may be {@code null}
+     * @param chars Set of characters that match the descriptor
+     * @param text Textual representation of the set of characters
+     * @param data Untyped hole for extracting the value of a symbol
+     */
+    private SymbolDescriptor(final SymbolicToken token, final CharacterClass chars,
+        final String text, final UntypedHole data) {
         this.token = token;
+        this.chars = chars;
+        this.text = text;
         this.data = data;
         this.mode = PatternMatchingMode.NORMAL;
     }
 
+    /**
+     * Combines several descriptors that are alternatives of an OR expression into one
+     *  descriptor matching the union of their character classes. The descriptors
+     *  must not be negated and must share the same hole (or have no hole).
+     * @param items Descriptors to be combined
+     * @return Combined descriptor
+     */
+    public static SymbolDescriptor combine(final List<SymbolDescriptor> items) {
+        CharacterClass union = items.get(0).chars;
+        for (int index = 1; index < items.size(); index = index + 1) {
+            union = union.union(items.get(index).chars);
+        }
+        final String text = items.stream()
+            .map(item -> item.text)
+            .collect(Collectors.joining(" | "));
+        return new SymbolDescriptor(null, union, text, items.get(0).data);
+    }
+
     /**
      * Returns token describing a character or range of characters.
-     * @return Token
+     * @return Token or {@code null} if the descriptor combines several alternatives
      */
     public SymbolicToken getToken() {
         return this.token;
     }
 
+    /**
+     * Returns the set of characters that match the descriptor.
+     * @return Character class
+     */
+    public CharacterClass getCharacterClass() {
+        return this.chars;
+    }
+
     /**
      * Returns the data associated with this symbol.
      * @return The data descriptor
@@ -134,9 +188,7 @@ public final class SymbolDescriptor implements PatternItem, LeftSideItem {
             if (string.length() != 1) {
                 break;
             }
-            final char symbol = string.charAt(0);
-            matches = symbol >= this.token.getFirstSymbol()
-                && symbol <= this.token.getLastSymbol();
+            matches = this.chars.contains(string.charAt(0));
         } while (false);
         if (this.negation) {
             matches = !matches;
@@ -156,7 +208,7 @@ public final class SymbolDescriptor implements PatternItem, LeftSideItem {
         if (this.negation) {
             builder.append('~');
         }
-        builder.append(this.token.toString());
+        builder.append(this.text);
         if (this.data != null) {
             builder.append('<').append(this.data.toString()).append('>');
         }
@@ -173,6 +225,10 @@ public final class SymbolDescriptor implements PatternItem, LeftSideItem {
             builder.append('[');
         } else if (this.mode == PatternMatchingMode.REPEATED) {
             builder.append('{');
+        } else if (this.mode == PatternMatchingMode.LOOKAHEAD) {
+            builder.append('>');
+        } else if (this.mode == PatternMatchingMode.LOOKBEHIND) {
+            builder.append('<');
         }
         builder.append(this.toShortString());
         if (this.mode == PatternMatchingMode.OPTIONAL) {
@@ -23,6 +23,7 @@
  */
 package org.cqfn.astranaut.dsl;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashSet;
@@ -34,7 +35,6 @@ import java.util.Set;
 import org.cqfn.astranaut.codegen.java.RuleGenerator;
 import org.cqfn.astranaut.codegen.java.TransformationGenerator;
 import org.cqfn.astranaut.core.algorithms.conversion.ConversionResult;
-import org.cqfn.astranaut.core.algorithms.conversion.Converter;
 import org.cqfn.astranaut.core.algorithms.conversion.Extracted;
 import org.cqfn.astranaut.core.base.DummyNode;
 import org.cqfn.astranaut.core.base.Factory;
@@ -48,12 +48,27 @@ import org.cqfn.astranaut.core.base.NullNode;
  * @since 1.0.0
  */
 @SuppressWarnings("PMD.TooManyMethods")
-public final class TransformationDescriptor implements Rule, Converter {
+public final class TransformationDescriptor implements ConversionRule {
     /**
      * Left side of the rule, that is, at least one pattern or typed hole.
      */
     private final List<LeftSideItem> left;
 
+    /**
+     * Items of the left side that are matched with the nodes preceding the consumed nodes.
+     */
+    private final List<LeftSideItem> behind;
+
+    /**
+     * Items of the left side that are matched with the consumed nodes.
+     */
+    private final List<LeftSideItem> matched;
+
+    /**
+     * Items of the left side that are matched with the nodes following the consumed nodes.
+     */
+    private final List<LeftSideItem> ahead;
+
     /**
      * Right side of the rule, that is, the description of the resulting subtree.
      */
@@ -69,6 +84,12 @@ public final class TransformationDescriptor implements Rule, Converter {
      */
     private boolean direction;
 
+    /**
+     * Names of the parent node types in whose child lists the rule is applied.
+     *  If empty, the rule is applied everywhere.
+     */
+    private List<String> scope;
+
     /**
      * Set of nodes on which this node depends. These can be child or base node types.
      */
@@ -81,8 +102,12 @@ public final class TransformationDescriptor implements Rule, Converter {
      */
     public TransformationDescriptor(final List<LeftSideItem> left, final RightSideItem right) {
         this.left = TransformationDescriptor.checkLeftSide(left);
+        this.behind = TransformationDescriptor.selectItems(left, PatternMatchingMode.LOOKBEHIND);
+        this.matched = TransformationDescriptor.selectMatchedItems(left);
+        this.ahead = TransformationDescriptor.selectItems(left, PatternMatchingMode.LOOKAHEAD);
         this.right = right;
         this.language = "common";
+        this.scope = Collections.emptyList();
         this.dependencies = new HashSet<>();
     }
 
@@ -94,6 +119,33 @@ public final class TransformationDescriptor implements Rule, Converter {
         return this.left;
     }
 
+    /**
+     * Returns items of the left side that are matched with the consumed nodes,
+     *  that is, all items except lookahead and lookbehind ones.
+     * @return List of left descriptors
+     */
+    public List<LeftSideItem> getMatchedItems() {
+        return this.matched;
+    }
+
+    /**
+     * Returns lookbehind items, that is, items matched with the nodes preceding
+     *  the consumed nodes, in the order they are written.
+     * @return List of left descriptors, may be empty
+     */
+    public List<LeftSideItem> getLookbehindItems() {
+        return this.behind;
+    }
+
+    /**
+     * Returns lookahead items, that is, items matched with the nodes following
+     *  the consumed nodes, in the order they are written.
+     * @return List of left descriptors, may be empty
+     */
+    public List<LeftSideItem> getLookaheadItems() {
+        return this.ahead;
+    }
+
     /**
      * Returns right side of the rule.
      * @return A hole or description of the resulting subtree.
@@ -109,7 +161,7 @@ public final class TransformationDescriptor implements Rule, Converter {
      */
     public boolean hasOptionalOrRepeated() {
         boolean found = false;
-        for (final LeftSideItem item : this.left) {
+        for (final LeftSideItem item : this.matched) {
             if (item.getMatchingMode() != PatternMatchingMode.NORMAL) {
                 found = true;
                 break;
@@ -137,6 +189,54 @@ public final class TransformationDescriptor implements Rule, Converter {
         this.direction = true;
     }
 
+    /**
+     * Restricts the rule to child lists of nodes of the specified types.
+     * @param types Names of the parent node types
+     */
+    public void setScope(final List<String> types) {
+        this.scope = Collections.unmodifiableList(new ArrayList<>(types));
+    }
+
+    /**
+     * Returns the names of the parent node types in whose child lists the rule is applied.
+     * @return List of type names, empty if the rule is applied everywhere
+     */
+    public List<String> getScope() {
+        return this.scope;
+    }
+
+    /**
+     * Checks whether the rule is restricted to child lists of some parent node types.
+     * @return Checking result, {@code true} if the rule is scoped
+     */
+    public boolean isScoped() {
+        return !this.scope.isEmpty();
+    }
+
+    /**
+     * Returns the first position of the child list to which the rule may be applied.
+     *  A scoped rule is applied everywhere in the list if the parent node belongs to one
+     *  of the scope types or, when the parent is unknown or does not fit, after the first
+     *  node of the list that belongs to one of the scope types (scope marker produced
+     *  by an earlier rule). The position does not depend on the index being matched,
+     *  so it is computed once per list rather than once per index.
+     * @param parent Node whose children are rewritten, or {@code null} if it is unknown
+     * @param list Child list
+     * @return Index of the first position the rule may be applied to, greater than
+     *  the size of the list if there is no such position
+     */
+    public int getScopeStart(final Node parent, final List<Node> list) {
+        int start = 0;
+        if (!this.scope.isEmpty() && (parent == null || !this.isInScope(parent))) {
+            int position = 0;
+            while (position < list.size() && !this.isInScope(list.get(position))) {
+                position = position + 1;
+            }
+            start = position + 1;
+        }
+        return start;
+    }
+
     @Override
     public String getLanguage() {
         return this.language;
@@ -160,6 +260,9 @@ public final class TransformationDescriptor implements Rule, Converter {
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
+        for (final String type : this.scope) {
+            builder.append('@').append(type).append(' ');
+        }
         if (this.direction) {
             builder.append("..., ");
         }
@@ -184,12 +287,22 @@ public final class TransformationDescriptor implements Rule, Converter {
                 break;
             }
             final Extracted extracted = new Extracted();
+            if (!TransformationDescriptor.matchNeighbours(
+                this.behind, list, index - this.behind.size(), extracted
+            )) {
+                break;
+            }
             final Deque<Node> queue = new LinkedList<>(list.subList(index, list.size()));
             final int size = queue.size();
             if (!this.matchNodes(queue, extracted)) {
                 break;
             }
             final int consumed = size - queue.size();
+            if (!TransformationDescriptor.matchNeighbours(
+                this.ahead, list, index + consumed, extracted
+            )) {
+                break;
+            }
             final Node node;
             if (this.right instanceof UntypedHole) {
                 node = extracted.getNodes(((UntypedHole) this.right).getNumber()).get(0);
@@ -210,7 +323,7 @@ public final class TransformationDescriptor implements Rule, Converter {
 
     @Override
     public int getMinConsumed() {
-        return TransformationDescriptor.calcMinConsumed(this.left);
+        return TransformationDescriptor.calcMinConsumed(this.matched);
     }
 
     @Override
@@ -218,20 +331,115 @@ public final class TransformationDescriptor implements Rule, Converter {
         return this.direction;
     }
 
+    /**
+     * Checks whether the node belongs to one of the scope types.
+     * @param node Node
+     * @return Checking result, {@code true} if the node belongs to any scope type
+     */
+    private boolean isInScope(final Node node) {
+        boolean found = false;
+        for (final String type : this.scope) {
+            if (node.belongsToGroup(type)) {
+                found = true;
+                break;
+            }
+        }
+        return found;
+    }
+
     /**
      * Checks the left side of the rule (list of items) for correctness.
      * @param left Left size of the rule as a list of left items
      * @return Unmodifiable list of left items
      */
     private static List<LeftSideItem> checkLeftSide(final List<LeftSideItem> left) {
-        if (TransformationDescriptor.calcMinConsumed(left) < 1) {
+        if (TransformationDescriptor.calcMinConsumed(
+            TransformationDescriptor.selectMatchedItems(left)
+        ) < 1) {
             throw new IllegalArgumentException(
                 "At least one node on the left must be guaranteed to be consumed"
             );
         }
+        int section = 0;
+        for (final LeftSideItem item : left) {
+            final PatternMatchingMode mode = item.getMatchingMode();
+            final int current;
+            if (mode == PatternMatchingMode.LOOKBEHIND) {
+                current = 0;
+            } else if (mode == PatternMatchingMode.LOOKAHEAD) {
+                current = 2;
+            } else {
+                current = 1;
+            }
+            if (current < section) {
+                throw new IllegalArgumentException(
+                    "Lookbehind items must come first and lookahead items must come last"
+                );
+            }
+            section = current;
+        }
         return Collections.unmodifiableList(left);
     }
 
+    /**
+     * Selects items of the left side that have the specified matching mode.
+     * @param left Left side of the rule as a list of left items
+     * @param mode Matching mode
+     * @return Unmodifiable list of selected items
+     */
+    private static List<LeftSideItem> selectItems(final List<LeftSideItem> left,
+        final PatternMatchingMode mode) {
+        final List<LeftSideItem> items = new ArrayList<>(0);
+        for (final LeftSideItem item : left) {
+            if (item.getMatchingMode() == mode) {
+                items.add(item);
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Selects items of the left side that are matched with the consumed nodes,
+     *  that is, all items except lookahead and lookbehind ones.
+     * @param left Left side of the rule as a list of left items
+     * @return Unmodifiable list of selected items
+     */
+    private static List<LeftSideItem> selectMatchedItems(final List<LeftSideItem> left) {
+        final List<LeftSideItem> items = new ArrayList<>(left.size());
+        for (final LeftSideItem item : left) {
+            final PatternMatchingMode mode = item.getMatchingMode();
+            if (mode != PatternMatchingMode.LOOKAHEAD && mode != PatternMatchingMode.LOOKBEHIND) {
+                items.add(item);
+            }
+        }
+        return Collections.unmodifiableList(items);
+    }
+
+    /**
+     * Matches lookahead or lookbehind items with the neighbouring nodes without consuming them.
+     *  A positive item requires a matching node, a negative one is also satisfied if there
+     *  is no node at the position (beginning or end of the list).
+     * @param items Lookahead or lookbehind items
+     * @param list List of nodes
+     * @param start Position of the node matched with the first item, may be out of the list
+     * @param extracted Extracted nodes and data
+     * @return Matching result, {@code true} if all items are matched
+     */
+    private static boolean matchNeighbours(final List<LeftSideItem> items, final List<Node> list,
+        final int start, final Extracted extracted) {
+        boolean matches = true;
+        for (int offset = 0; matches && offset < items.size(); offset = offset + 1) {
+            final LeftSideItem item = items.get(offset);
+            final int position = start + offset;
+            if (position >= 0 && position < list.size()) {
+                matches = item.matchNode(list.get(position), extracted);
+            } else {
+                matches = item.isNegationFlagSet();
+            }
+        }
+        return matches;
+    }
+
     /**
      * Calculates the minimum number of elements consumed by this transformation rule,
      *  based on the matching mode of each item.
@@ -262,8 +470,8 @@ public final class TransformationDescriptor implements Rule, Converter {
      */
     private boolean matchNodes(final Deque<Node> queue, final Extracted extracted) {
         final boolean matches;
-        if (this.left.size() == 1
-            && this.left.get(0).getMatchingMode() == PatternMatchingMode.REPEATED) {
+        if (this.matched.size() == 1
+            && this.matched.get(0).getMatchingMode() == PatternMatchingMode.REPEATED) {
             matches = this.matchRepeatedPattern(queue, extracted);
         } else {
             matches = this.matchListOfDifferentNodes(queue, extracted);
@@ -279,7 +487,7 @@ public final class TransformationDescriptor implements Rule, Converter {
      *  were extracted
      */
     private boolean matchRepeatedPattern(final Deque<Node> queue, final Extracted extracted) {
-        final LeftSideItem lsi = this.left.get(0);
+        final LeftSideItem lsi = this.matched.get(0);
         boolean flag = false;
         while (!queue.isEmpty()) {
             final Node node = queue.poll();
@@ -303,7 +511,7 @@ public final class TransformationDescriptor implements Rule, Converter {
      */
     private boolean matchListOfDifferentNodes(final Deque<Node> queue, final Extracted extracted) {
         boolean matches = true;
-        for (final LeftSideItem lsi : this.left) {
+        for (final LeftSideItem lsi : this.matched) {
             final PatternMatchingMode pmm = lsi.getMatchingMode();
             if (pmm == PatternMatchingMode.OPTIONAL) {
                 TransformationDescriptor.matchOptionalNode(lsi, queue, extracted);
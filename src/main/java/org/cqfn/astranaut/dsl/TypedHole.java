@@ -125,6 +125,10 @@ public final class TypedHole implements Hole, LeftSideItem {
             builder.append('[');
         } else if (this.mode == PatternMatchingMode.REPEATED) {
             builder.append('{');
+        } else if (this.mode == PatternMatchingMode.LOOKAHEAD) {
+            builder.append('>');
+        } else if (this.mode == PatternMatchingMode.LOOKBEHIND) {
+            builder.append('<');
         }
         if (this.negation) {
             builder.append('~');
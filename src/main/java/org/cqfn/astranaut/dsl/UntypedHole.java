@@ -23,8 +23,8 @@
  */
 package org.cqfn.astranaut.dsl;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A non-typed hole, identified only by its number.
@@ -37,7 +37,7 @@ public final class UntypedHole
      * A cache to store commonly used UntypedHoles (e.g., #0, #1, etc.)
      *  This reduces the number of duplicate objects.
      */
-    private static final Map<Integer, UntypedHole> CACHE = new HashMap<>();
+    private static final Map<Integer, UntypedHole> CACHE = new ConcurrentHashMap<>();
 
     /**
      * The unique number associated with this hole. For example, #0, #1, etc.
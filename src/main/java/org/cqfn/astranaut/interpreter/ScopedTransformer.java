@@ -0,0 +1,220 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.interpreter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cqfn.astranaut.core.algorithms.conversion.ConversionResult;
+import org.cqfn.astranaut.core.base.Builder;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.NullNode;
+import org.cqfn.astranaut.core.base.Transformer;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.dsl.ConversionRule;
+import org.cqfn.astranaut.dsl.TransformationDescriptor;
+
+/**
+ * Transformer that knows the parent node while rewriting its children and therefore
+ *  is able to apply rules restricted to child lists of specific parent node types.
+ *  The tree is processed bottom-up. In each child list, rules are tried in the order they are
+ *  declared, each rule slides over the list in its own direction, and after any successful
+ *  conversion the search starts again from the first rule, until no rule applies.
+ *  If the node can't contain the rewritten list of children, the rewrite is discarded
+ *  and logged, but the conversions made in its descendants are kept.
+ * @since 1.0.0
+ */
+public final class ScopedTransformer implements Transformer {
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER = Logger.getLogger(ScopedTransformer.class.getName());
+
+    /**
+     * Conversion rules.
+     */
+    private final List<ConversionRule> rules;
+
+    /**
+     * Factory that creates resulting nodes.
+     */
+    private final Factory factory;
+
+    /**
+     * Constructor.
+     * @param rules Conversion rules
+     * @param factory Factory that creates resulting nodes
+     */
+    public ScopedTransformer(final List<ConversionRule> rules, final Factory factory) {
+        this.rules = rules;
+        this.factory = factory;
+    }
+
+    @Override
+    public Tree transform(final Tree tree) {
+        return new Tree(this.transform(tree.getRoot()));
+    }
+
+    /**
+     * Transforms the node: first its descendants, and then the list of its children.
+     * @param node Node to be transformed
+     * @return Transformed node or the same node if nothing has changed
+     */
+    private Node transform(final Node node) {
+        final int count = node.getChildCount();
+        final List<Node> descendants = new ArrayList<>(count);
+        boolean changed = false;
+        for (int index = 0; index < count; index = index + 1) {
+            final Node child = node.getChild(index);
+            final Node transformed = this.transform(child);
+            descendants.add(transformed);
+            changed = changed || transformed != child;
+        }
+        final List<Node> children = new ArrayList<>(descendants);
+        boolean rewritten = false;
+        while (this.convertOnce(node, children)) {
+            rewritten = true;
+        }
+        Node result = null;
+        if (rewritten) {
+            result = ScopedTransformer.rebuild(node, children);
+            if (result == null) {
+                LOGGER.log(
+                    Level.WARNING,
+                    String.format(
+                        "The rewritten children %s are rejected by the '%s' node, %s",
+                        children,
+                        node.getTypeName(),
+                        "only the conversions of its descendants are kept"
+                    )
+                );
+            }
+        }
+        if (result == null && changed) {
+            result = ScopedTransformer.rebuild(node, descendants);
+            if (result == null) {
+                LOGGER.log(
+                    Level.WARNING,
+                    String.format(
+                        "The transformed children %s are rejected by the '%s' node",
+                        descendants,
+                        node.getTypeName()
+                    )
+                );
+            }
+        }
+        if (result == null) {
+            result = node;
+        }
+        return result;
+    }
+
+    /**
+     * Creates a node of the same type, with the same fragment and data,
+     *  but with other children.
+     * @param node Original node
+     * @param children New list of children
+     * @return New node or {@code null} if the node can't contain such children
+     */
+    private static Node rebuild(final Node node, final List<Node> children) {
+        final Builder builder = node.getType().createBuilder();
+        builder.setFragment(node.getFragment());
+        Node result = null;
+        if (builder.setData(node.getData()) && builder.setChildrenList(children)
+            && builder.isValid()) {
+            result = builder.createNode();
+        }
+        return result;
+    }
+
+    /**
+     * Applies the first rule that matches some position of the child list.
+     * @param parent Node whose children are rewritten
+     * @param children List of children, modified in place
+     * @return Conversion result, {@code true} if the list has been changed
+     */
+    private boolean convertOnce(final Node parent, final List<Node> children) {
+        boolean converted = false;
+        for (final ConversionRule rule : this.rules) {
+            final int size = children.size();
+            final int start = ScopedTransformer.getScopeStart(rule, parent, children);
+            for (int step = 0; !converted && step < size; step = step + 1) {
+                final int index;
+                if (rule.isRightToLeft()) {
+                    index = size - 1 - step;
+                } else {
+                    index = step;
+                }
+                converted = index >= start
+                    && ScopedTransformer.replace(
+                        children, index, rule.convert(children, index, this.factory)
+                    );
+            }
+            if (converted) {
+                break;
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Returns the first position of the child list to which the rule may be applied.
+     *  Only transformation descriptors can be scoped, other rules are applied everywhere.
+     * @param rule Conversion rule
+     * @param parent Node whose children are rewritten
+     * @param children List of children
+     * @return Index of the first position the rule may be applied to
+     */
+    private static int getScopeStart(final ConversionRule rule, final Node parent,
+        final List<Node> children) {
+        int start = 0;
+        if (rule instanceof TransformationDescriptor) {
+            start = ((TransformationDescriptor) rule).getScopeStart(parent, children);
+        }
+        return start;
+    }
+
+    /**
+     * Replaces the consumed nodes of the list with the resulting node.
+     * @param children List of children, modified in place
+     * @param index Index of the first consumed node
+     * @param conversion Result of the conversion, may be empty
+     * @return Replacement result, {@code true} if the list has been changed
+     */
+    private static boolean replace(final List<Node> children, final int index,
+        final Optional<ConversionResult> conversion) {
+        final boolean replaced = conversion.isPresent();
+        if (replaced) {
+            final ConversionResult result = conversion.get();
+            children.subList(index, index + result.getConsumed()).clear();
+            if (result.getNode() != NullNode.INSTANCE) {
+                children.add(index, result.getNode());
+            }
+        }
+        return replaced;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered reader of binary data (bytes, variable-length integers and strings)
+ *  from a channel.
+ * @since 1.0.0
+ */
+public final class BinaryInput {
+    /**
+     * Size of the buffer.
+     */
+    private static final int BUFFER_SIZE = 65_536;
+
+    /**
+     * Channel from which data is read.
+     */
+    private final ReadableByteChannel channel;
+
+    /**
+     * Buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Flag indicating that the end of the channel was reached.
+     */
+    private boolean eof;
+
+    /**
+     * Constructor.
+     * @param channel Channel from which data is read
+     */
+    public BinaryInput(final ReadableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BinaryInput.BUFFER_SIZE);
+        this.buffer.flip();
+    }
+
+    /**
+     * Checks whether there is more data to read.
+     * @return Checking result, {@code true} if at least one more byte can be read
+     * @throws IOException If the channel can't be read
+     */
+    public boolean hasMore() throws IOException {
+        return this.fill();
+    }
+
+    /**
+     * Reads one byte.
+     * @return Byte value from 0 to 255
+     * @throws IOException If the channel can't be read
+     * @throws MalformedInput If there is no more data
+     */
+    public int readByte() throws IOException, MalformedInput {
+        if (!this.fill()) {
+            throw new MalformedInput("Unexpected end of binary data");
+        }
+        return this.buffer.get() & 0xff;
+    }
+
+    /**
+     * Reads an unsigned integer encoded as a variable-length sequence of bytes,
+     *  7 bits per byte, least significant group first.
+     * @return Integer value
+     * @throws IOException If the channel can't be read
+     * @throws MalformedInput If the encoding is incorrect or there is no more data
+     */
+    public int readVarInt() throws IOException, MalformedInput {
+        int result = 0;
+        int shift = 0;
+        int value;
+        do {
+            if (shift > 28) {
+                throw new MalformedInput("Variable-length integer is too long");
+            }
+            value = this.readByte();
+            result = result | (value & 0x7f) << shift;
+            shift = shift + 7;
+        } while ((value & 0x80) != 0);
+        if (result < 0) {
+            throw new MalformedInput("Variable-length integer is out of range");
+        }
+        return result;
+    }
+
+    /**
+     * Reads a string encoded as its length in bytes (variable-length integer)
+     *  followed by UTF-8 bytes.
+     * @return String
+     * @throws IOException If the channel can't be read
+     * @throws MalformedInput If the encoding is incorrect or there is no more data
+     */
+    public String readString() throws IOException, MalformedInput {
+        final int length = this.readVarInt();
+        final String result;
+        if (length <= this.buffer.remaining()) {
+            result = new String(
+                this.buffer.array(),
+                this.buffer.arrayOffset() + this.buffer.position(),
+                length,
+                StandardCharsets.UTF_8
+            );
+            this.buffer.position(this.buffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            int index = 0;
+            while (index < length) {
+                if (!this.fill()) {
+                    throw new MalformedInput("Unexpected end of binary data");
+                }
+                final int count = Math.min(length - index, this.buffer.remaining());
+                this.buffer.get(bytes, index, count);
+                index = index + count;
+            }
+            result = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    /**
+     * Reads an array of bytes encoded as its length (variable-length integer)
+     *  followed by the bytes themselves.
+     * @return Array of bytes
+     * @throws IOException If the channel can't be read
+     * @throws MalformedInput If the encoding is incorrect or there is no more data
+     */
+    public byte[] readBytes() throws IOException, MalformedInput {
+        final int length = this.readVarInt();
+        final byte[] bytes = new byte[length];
+        int index = 0;
+        while (index < length) {
+            if (!this.fill()) {
+                throw new MalformedInput("Unexpected end of binary data");
+            }
+            final int count = Math.min(length - index, this.buffer.remaining());
+            this.buffer.get(bytes, index, count);
+            index = index + count;
+        }
+        return bytes;
+    }
+
+    /**
+     * Refills the buffer if it is empty.
+     * @return Result, {@code true} if the buffer contains at least one byte
+     * @throws IOException If the channel can't be read
+     */
+    private boolean fill() throws IOException {
+        while (!this.buffer.hasRemaining() && !this.eof) {
+            this.buffer.clear();
+            final int count = this.channel.read(this.buffer);
+            this.buffer.flip();
+            if (count < 0) {
+                this.eof = true;
+            }
+        }
+        return this.buffer.hasRemaining();
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Buffered writer of binary data (bytes, variable-length integers and strings)
+ *  to a channel. The format is the one understood by {@link BinaryInput}.
+ * @since 1.0.0
+ */
+public final class BinaryOutput {
+    /**
+     * Size of the buffer.
+     */
+    private static final int BUFFER_SIZE = 65_536;
+
+    /**
+     * Channel to which data is written.
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * Buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Constructor.
+     * @param channel Channel to which data is written
+     */
+    public BinaryOutput(final WritableByteChannel channel) {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BinaryOutput.BUFFER_SIZE);
+    }
+
+    /**
+     * Writes one byte.
+     * @param value Byte value, only the lower 8 bits are written
+     * @throws IOException If the channel can't be written
+     */
+    public void writeByte(final int value) throws IOException {
+        if (!this.buffer.hasRemaining()) {
+            this.flush();
+        }
+        this.buffer.put((byte) value);
+    }
+
+    /**
+     * Writes an unsigned integer as a variable-length sequence of bytes,
+     *  7 bits per byte, least significant group first.
+     * @param value Non-negative integer value
+     * @throws IOException If the channel can't be written
+     */
+    public void writeVarInt(final int value) throws IOException {
+        int rest = value;
+        while ((rest & ~0x7f) != 0) {
+            this.writeByte(rest & 0x7f | 0x80);
+            rest = rest >>> 7;
+        }
+        this.writeByte(rest);
+    }
+
+    /**
+     * Writes a string as its length in bytes (variable-length integer)
+     *  followed by UTF-8 bytes.
+     * @param value String
+     * @throws IOException If the channel can't be written
+     */
+    public void writeString(final String value) throws IOException {
+        this.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes an array of bytes as its length (variable-length integer)
+     *  followed by the bytes themselves.
+     * @param bytes Array of bytes
+     * @throws IOException If the channel can't be written
+     */
+    public void writeBytes(final byte[] bytes) throws IOException {
+        this.writeVarInt(bytes.length);
+        int index = 0;
+        while (index < bytes.length) {
+            if (!this.buffer.hasRemaining()) {
+                this.flush();
+            }
+            final int count = Math.min(bytes.length - index, this.buffer.remaining());
+            this.buffer.put(bytes, index, count);
+            index = index + count;
+        }
+    }
+
+    /**
+     * Writes all buffered data to the channel.
+     * @throws IOException If the channel can't be written
+     */
+    public void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reader of tokens stored in the compact binary format. The stream starts with
+ *  the signature {@code ATOK} and the format version (one byte), followed by records.
+ *  Each record is the index of the token type (a variable-length integer; an index equal
+ *  to the number of known types introduces a new type and is followed by its name),
+ *  the text of the token (a string) and its offset (a variable-length integer).
+ *  Strings are stored as their length in bytes followed by UTF-8 bytes.
+ * @since 1.0.0
+ */
+public final class BinaryTokenReader implements TokenReader {
+    /**
+     * Signature of the format.
+     */
+    static final String SIGNATURE = "ATOK";
+
+    /**
+     * Version of the format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Binary input.
+     */
+    private final BinaryInput input;
+
+    /**
+     * Token types that have already been introduced.
+     */
+    private final List<String> types;
+
+    /**
+     * Flag indicating that the header has been read.
+     */
+    private boolean header;
+
+    /**
+     * Constructor.
+     * @param channel Channel from which tokens are read
+     */
+    public BinaryTokenReader(final ReadableByteChannel channel) {
+        this.input = new BinaryInput(channel);
+        this.types = new ArrayList<>(16);
+    }
+
+    @Override
+    public SourceToken next() throws IOException, MalformedInput {
+        if (!this.header) {
+            this.readHeader();
+            this.header = true;
+        }
+        SourceToken token = null;
+        if (this.input.hasMore()) {
+            final int index = this.input.readVarInt();
+            if (index == this.types.size()) {
+                this.types.add(this.input.readString());
+            } else if (index > this.types.size()) {
+                throw new MalformedInput(String.format("Unknown token type index: %d", index));
+            }
+            final String text = this.input.readString();
+            final int offset = this.input.readVarInt();
+            token = new SourceToken(this.types.get(index), text, offset);
+        }
+        return token;
+    }
+
+    /**
+     * Reads and checks the signature and the version of the format.
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the stream is not in the binary token format
+     */
+    private void readHeader() throws IOException, MalformedInput {
+        for (int index = 0; index < BinaryTokenReader.SIGNATURE.length(); index = index + 1) {
+            if (this.input.readByte() != BinaryTokenReader.SIGNATURE.charAt(index)) {
+                throw new MalformedInput("The stream is not in the binary token format");
+            }
+        }
+        final int version = this.input.readByte();
+        if (version != BinaryTokenReader.VERSION) {
+            throw new MalformedInput(
+                String.format("Unsupported version of the binary token format: %d", version)
+            );
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writer of tokens in the compact binary format, see {@link BinaryTokenReader}.
+ * @since 1.0.0
+ */
+public final class BinaryTokenWriter {
+    /**
+     * Binary output.
+     */
+    private final BinaryOutput output;
+
+    /**
+     * Token types that have already been introduced, with their indexes.
+     */
+    private final Map<String, Integer> types;
+
+    /**
+     * Flag indicating that the header has been written.
+     */
+    private boolean header;
+
+    /**
+     * Constructor.
+     * @param channel Channel to which tokens are written
+     */
+    public BinaryTokenWriter(final WritableByteChannel channel) {
+        this.output = new BinaryOutput(channel);
+        this.types = new HashMap<>();
+    }
+
+    /**
+     * Writes a token. The header of the format is written before the first token.
+     * @param token Token
+     * @throws IOException If the channel can't be written
+     */
+    public void write(final SourceToken token) throws IOException {
+        this.writeHeader();
+        final Integer index = this.types.get(token.getType());
+        if (index == null) {
+            final int created = this.types.size();
+            this.types.put(token.getType(), created);
+            this.output.writeVarInt(created);
+            this.output.writeString(token.getType());
+        } else {
+            this.output.writeVarInt(index);
+        }
+        this.output.writeString(token.getText());
+        this.output.writeVarInt(token.getOffset());
+    }
+
+    /**
+     * Writes all buffered data to the channel. The header of the format is written
+     *  even if there were no tokens.
+     * @throws IOException If the channel can't be written
+     */
+    public void flush() throws IOException {
+        this.writeHeader();
+        this.output.flush();
+    }
+
+    /**
+     * Writes the signature and the version of the format, if not yet written.
+     * @throws IOException If the channel can't be written
+     */
+    private void writeHeader() throws IOException {
+        if (!this.header) {
+            for (final char chr : BinaryTokenReader.SIGNATURE.toCharArray()) {
+                this.output.writeByte(chr);
+            }
+            this.output.writeByte(BinaryTokenReader.VERSION);
+            this.header = true;
+        }
+    }
+}
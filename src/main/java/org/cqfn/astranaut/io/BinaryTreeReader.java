@@ -0,0 +1,223 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Provider;
+import org.cqfn.astranaut.core.base.Tree;
+
+/**
+ * Reader of syntax trees stored in the compact binary format. The stream starts with
+ *  the signature {@code ATRE} and the format version (one byte), followed by the name of
+ *  the language (a string, empty for the common language) and the nodes in pre-order.
+ *  Each node is the index of its type name, the index of its data and the number of its
+ *  children (variable-length integers). Type names and data are stored in two dictionaries
+ *  filled while reading: an index equal to the size of the dictionary introduces a new entry
+ *  and is followed by the string itself. The data dictionary initially contains
+ *  the empty string with the index 0. Strings are stored as their length in bytes followed
+ *  by UTF-8 bytes.
+ * @since 1.0.0
+ */
+public final class BinaryTreeReader {
+    /**
+     * Signature of the format.
+     */
+    static final String SIGNATURE = "ATRE";
+
+    /**
+     * Version of the format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Binary input.
+     */
+    private final BinaryInput input;
+
+    /**
+     * Provider of factories that create nodes.
+     */
+    private final Provider provider;
+
+    /**
+     * Type names that have already been introduced.
+     */
+    private final List<String> types;
+
+    /**
+     * Data strings that have already been introduced.
+     */
+    private final List<String> strings;
+
+    /**
+     * Constructor.
+     * @param channel Channel from which the tree is read
+     * @param provider Provider of factories that create nodes
+     */
+    public BinaryTreeReader(final ReadableByteChannel channel, final Provider provider) {
+        this.input = new BinaryInput(channel);
+        this.provider = provider;
+        this.types = new ArrayList<>(64);
+        this.strings = new ArrayList<>(1024);
+        this.strings.add("");
+    }
+
+    /**
+     * Reads a tree. Nodes are created bottom-up by the factory of the language stored
+     *  in the stream, without recursion, so the depth of the tree is unlimited.
+     *  If the factory does not know a type or rejects the node, a draft node is created.
+     * @return Tree
+     * @throws IOException If the channel can't be read
+     * @throws MalformedInput If the stream is not in the binary tree format
+     */
+    public Tree read() throws IOException, MalformedInput {
+        this.readHeader();
+        String language = this.input.readString();
+        if (language.isEmpty()) {
+            language = "common";
+        }
+        final Factory factory = this.provider.getFactory(language);
+        final Deque<Frame> stack = new ArrayDeque<>(64);
+        Node root = null;
+        do {
+            final String type = BinaryTreeReader.readIndex(this.input, this.types, "type");
+            final String data = BinaryTreeReader.readIndex(this.input, this.strings, "data");
+            final int count = this.input.readVarInt();
+            if (count > 0) {
+                stack.push(new Frame(type, data, count));
+            } else {
+                Node node = NodeCreator.create(
+                    factory, type, data, Collections.emptyList()
+                );
+                while (!stack.isEmpty() && stack.peek().add(node)) {
+                    final Frame frame = stack.pop();
+                    node = NodeCreator.create(
+                        factory, frame.type, frame.data, frame.children
+                    );
+                }
+                if (stack.isEmpty()) {
+                    root = node;
+                }
+            }
+        } while (root == null);
+        return new Tree(root);
+    }
+
+    /**
+     * Reads and checks the signature and the version of the format.
+     * @throws IOException If the stream can't be read
+     * @throws MalformedInput If the stream is not in the binary tree format
+     */
+    private void readHeader() throws IOException, MalformedInput {
+        for (int index = 0; index < BinaryTreeReader.SIGNATURE.length(); index = index + 1) {
+            if (this.input.readByte() != BinaryTreeReader.SIGNATURE.charAt(index)) {
+                throw new MalformedInput("The stream is not in the binary tree format");
+            }
+        }
+        final int version = this.input.readByte();
+        if (version != BinaryTreeReader.VERSION) {
+            throw new MalformedInput(
+                String.format("Unsupported version of the binary tree format: %d", version)
+            );
+        }
+    }
+
+    /**
+     * Reads the index of a string from a dictionary. If the index is equal to the size
+     *  of the dictionary, the string follows the index and is added to the dictionary.
+     * @param input Binary input
+     * @param dictionary Dictionary of strings that have already been introduced
+     * @param what Name of the dictionary for error messages
+     * @return String
+     * @throws IOException If the channel can't be read
+     * @throws MalformedInput If the index is out of range
+     */
+    private static String readIndex(final BinaryInput input, final List<String> dictionary,
+        final String what) throws IOException, MalformedInput {
+        final int index = input.readVarInt();
+        if (index == dictionary.size()) {
+            dictionary.add(input.readString());
+        } else if (index > dictionary.size()) {
+            throw new MalformedInput(String.format("Unknown %s index: %d", what, index));
+        }
+        return dictionary.get(index);
+    }
+
+    /**
+     * Node whose children are still being read.
+     * @since 1.0.0
+     */
+    private static final class Frame {
+        /**
+         * Type name.
+         */
+        private final String type;
+
+        /**
+         * Data.
+         */
+        private final String data;
+
+        /**
+         * Number of children.
+         */
+        private final int count;
+
+        /**
+         * Children that have already been read.
+         */
+        private final List<Node> children;
+
+        /**
+         * Constructor.
+         * @param type Type name
+         * @param data Data
+         * @param count Number of children
+         */
+        private Frame(final String type, final String data, final int count) {
+            this.type = type;
+            this.data = data;
+            this.count = count;
+            this.children = new ArrayList<>(Math.min(count, 1024));
+        }
+
+        /**
+         * Adds a child.
+         * @param child Child node
+         * @return Result, {@code true} if all children have been read
+         */
+        private boolean add(final Node child) {
+            this.children.add(child);
+            return this.children.size() == this.count;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Tree;
+
+/**
+ * Writer of syntax trees in the compact binary format, see {@link BinaryTreeReader}.
+ * @since 1.0.0
+ */
+public final class BinaryTreeWriter {
+    /**
+     * Binary output.
+     */
+    private final BinaryOutput output;
+
+    /**
+     * Type names that have already been introduced, with their indexes.
+     */
+    private final Map<String, Integer> types;
+
+    /**
+     * Data strings that have already been introduced, with their indexes.
+     */
+    private final Map<String, Integer> strings;
+
+    /**
+     * Constructor.
+     * @param channel Channel to which the tree is written
+     */
+    public BinaryTreeWriter(final WritableByteChannel channel) {
+        this.output = new BinaryOutput(channel);
+        this.types = new HashMap<>();
+        this.strings = new HashMap<>();
+        this.strings.put("", 0);
+    }
+
+    /**
+     * Writes a tree and flushes all buffered data to the channel.
+     *  Nodes are written in pre-order without recursion, so the depth of the tree is unlimited.
+     * @param tree Tree
+     * @throws IOException If the channel can't be written
+     */
+    public void write(final Tree tree) throws IOException {
+        for (final char chr : BinaryTreeReader.SIGNATURE.toCharArray()) {
+            this.output.writeByte(chr);
+        }
+        this.output.writeByte(BinaryTreeReader.VERSION);
+        final Node root = tree.getRoot();
+        this.output.writeString(root.getProperty("language"));
+        final Deque<Node> stack = new ArrayDeque<>(64);
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            final Node node = stack.pop();
+            BinaryTreeWriter.writeIndex(this.output, this.types, node.getTypeName());
+            BinaryTreeWriter.writeIndex(this.output, this.strings, node.getData());
+            final int count = node.getChildCount();
+            this.output.writeVarInt(count);
+            for (int index = count - 1; index >= 0; index = index - 1) {
+                stack.push(node.getChild(index));
+            }
+        }
+        this.output.flush();
+    }
+
+    /**
+     * Writes the index of a string from a dictionary. If the string is not yet
+     *  in the dictionary, it is added, and the new index is followed by the string itself.
+     * @param output Binary output
+     * @param dictionary Dictionary of strings that have already been introduced
+     * @param value String
+     * @throws IOException If the channel can't be written
+     */
+    private static void writeIndex(final BinaryOutput output,
+        final Map<String, Integer> dictionary, final String value) throws IOException {
+        final Integer index = dictionary.get(value);
+        if (index == null) {
+            final int created = dictionary.size();
+            dictionary.put(value, created);
+            output.writeVarInt(created);
+            output.writeString(value);
+        } else {
+            output.writeVarInt(index);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reader of tokens stored in the JSON-lines format, one JSON object per line,
+ *  for example: <code>{"type": "Identifier", "text": "x", "offset": 4}</code>.
+ *  The {@code offset} field is optional, a token without it is placed right after
+ *  the previous one. Other fields with scalar values are ignored, as are blank lines.
+ * @since 1.0.0
+ */
+public final class JsonLinesTokenReader implements TokenReader {
+    /**
+     * Reader from which lines are read.
+     */
+    private final BufferedReader reader;
+
+    /**
+     * Number of the current line.
+     */
+    private int number;
+
+    /**
+     * Offset of the character that follows the previous token.
+     */
+    private int end;
+
+    /**
+     * Current line.
+     */
+    private String line;
+
+    /**
+     * Index of the current character in the current line.
+     */
+    private int index;
+
+    /**
+     * Constructor.
+     * @param reader Reader from which lines are read
+     */
+    public JsonLinesTokenReader(final Reader reader) {
+        this.reader = new BufferedReader(reader);
+    }
+
+    @Override
+    public SourceToken next() throws IOException, MalformedInput {
+        SourceToken token = null;
+        String next = this.reader.readLine();
+        this.number = this.number + 1;
+        while (next != null && next.trim().isEmpty()) {
+            next = this.reader.readLine();
+            this.number = this.number + 1;
+        }
+        if (next != null) {
+            this.line = next;
+            this.index = 0;
+            token = this.parseObject();
+            this.end = token.getOffset() + token.getText().length();
+        }
+        return token;
+    }
+
+    /**
+     * Parses the current line as a JSON object describing a token.
+     * @return Token
+     * @throws MalformedInput If the line is not a correct description of a token
+     */
+    private SourceToken parseObject() throws MalformedInput {
+        String type = null;
+        String text = null;
+        int offset = this.end;
+        this.expect('{');
+        boolean more = this.skipSpaces() != '}';
+        while (more) {
+            final String key = this.parseString();
+            this.expect(':');
+            switch (key) {
+                case "type":
+                    type = this.parseString();
+                    break;
+                case "text":
+                    text = this.parseString();
+                    break;
+                case "offset":
+                    offset = this.parseInteger();
+                    break;
+                default:
+                    this.skipValue();
+                    break;
+            }
+            more = this.skipSpaces() == ',';
+            if (more) {
+                this.index = this.index + 1;
+            }
+        }
+        this.expect('}');
+        if (this.skipSpaces() != 0) {
+            throw this.error("Unexpected characters after the JSON object");
+        }
+        if (type == null || text == null) {
+            throw this.error("Both 'type' and 'text' fields are required");
+        }
+        return new SourceToken(type, text, offset);
+    }
+
+    /**
+     * Parses a JSON string.
+     * @return Value of the string
+     * @throws MalformedInput If the string is not correct
+     */
+    private String parseString() throws MalformedInput {
+        this.expect('"');
+        final StringBuilder builder = new StringBuilder();
+        char chr = this.nextChar();
+        while (chr != '"') {
+            if (chr == '\\') {
+                builder.append(this.parseEscapeSequence());
+            } else {
+                builder.append(chr);
+            }
+            chr = this.nextChar();
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Parses an escape sequence inside a JSON string, the backslash is already consumed.
+     * @return Character
+     * @throws MalformedInput If the escape sequence is not correct
+     */
+    private char parseEscapeSequence() throws MalformedInput {
+        final char chr = this.nextChar();
+        final char result;
+        switch (chr) {
+            case 'b':
+                result = '\b';
+                break;
+            case 'f':
+                result = '\f';
+                break;
+            case 'n':
+                result = '\n';
+                break;
+            case 'r':
+                result = '\r';
+                break;
+            case 't':
+                result = '\t';
+                break;
+            case 'u':
+                if (this.index + 4 > this.line.length()) {
+                    throw this.error("Incomplete escape sequence");
+                }
+                try {
+                    result = (char) Integer.parseInt(
+                        this.line.substring(this.index, this.index + 4),
+                        16
+                    );
+                } catch (final NumberFormatException ignored) {
+                    throw this.error("Invalid escape sequence");
+                }
+                this.index = this.index + 4;
+                break;
+            case '"':
+            case '\\':
+            case '/':
+                result = chr;
+                break;
+            default:
+                throw this.error("Invalid escape sequence");
+        }
+        return result;
+    }
+
+    /**
+     * Parses a non-negative JSON integer.
+     * @return Value of the integer
+     * @throws MalformedInput If the value is not a non-negative integer
+     */
+    private int parseInteger() throws MalformedInput {
+        this.skipSpaces();
+        final int start = this.index;
+        while (this.index < this.line.length() && Character.isDigit(this.line.charAt(this.index))) {
+            this.index = this.index + 1;
+        }
+        final int result;
+        try {
+            result = Integer.parseInt(this.line.substring(start, this.index));
+        } catch (final NumberFormatException ignored) {
+            throw this.error("Non-negative integer expected");
+        }
+        return result;
+    }
+
+    /**
+     * Skips a scalar JSON value (a string, a number, {@code true}, {@code false}
+     *  or {@code null}).
+     * @throws MalformedInput If the value is not a scalar
+     */
+    private void skipValue() throws MalformedInput {
+        final char chr = this.skipSpaces();
+        if (chr == '"') {
+            this.parseString();
+        } else if (chr == '{' || chr == '[' || chr == 0) {
+            throw this.error("Scalar value expected");
+        } else {
+            while (this.index < this.line.length()
+                && ",} \t".indexOf(this.line.charAt(this.index)) < 0) {
+                this.index = this.index + 1;
+            }
+        }
+    }
+
+    /**
+     * Skips whitespace and checks that the next character is the expected one.
+     * @param expected Expected character
+     * @throws MalformedInput If the next character differs
+     */
+    private void expect(final char expected) throws MalformedInput {
+        if (this.skipSpaces() != expected) {
+            throw this.error(String.format("'%c' expected", expected));
+        }
+        this.index = this.index + 1;
+    }
+
+    /**
+     * Skips whitespace.
+     * @return The next character or 0 if the line has ended
+     */
+    private char skipSpaces() {
+        while (this.index < this.line.length()
+            && Character.isWhitespace(this.line.charAt(this.index))) {
+            this.index = this.index + 1;
+        }
+        final char result;
+        if (this.index < this.line.length()) {
+            result = this.line.charAt(this.index);
+        } else {
+            result = 0;
+        }
+        return result;
+    }
+
+    /**
+     * Consumes the next character.
+     * @return Character
+     * @throws MalformedInput If the line has ended
+     */
+    private char nextChar() throws MalformedInput {
+        if (this.index >= this.line.length()) {
+            throw this.error("Unexpected end of line");
+        }
+        final char chr = this.line.charAt(this.index);
+        this.index = this.index + 1;
+        return chr;
+    }
+
+    /**
+     * Creates an exception describing an error in the current line.
+     * @param message Error message
+     * @return Exception
+     */
+    private MalformedInput error(final String message) {
+        return new MalformedInput(String.format("Line %d: %s", this.number, message));
+    }
+}
@@ -0,0 +1,524 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Provider;
+import org.cqfn.astranaut.core.base.Tree;
+
+/**
+ * Streaming reader of syntax trees stored in JSON format. Unlike a reader that first loads
+ *  the whole text into memory, it reads characters through a small buffer and creates nodes
+ *  bottom-up as soon as their descriptions are complete, so only the nodes themselves are kept.
+ *  The expected format is {@code {"language": "...", "root": {...}}}, where each node is
+ *  {@code {"type": "...", "data": "...", "children": [...]}}; the language and the data are
+ *  optional, unknown fields are skipped. The members may follow in any order: if the language
+ *  comes after the root, the nodes that the factory of that language builds differently are
+ *  created again once the whole object is read.
+ * @since 1.0.0
+ */
+public final class JsonTreeReader {
+    /**
+     * Size of the buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Value returned at the end of the input.
+     */
+    private static final int EOF = -1;
+
+    /**
+     * Reader from which characters are read.
+     */
+    private final Reader reader;
+
+    /**
+     * Provider of factories that create nodes.
+     */
+    private final Provider provider;
+
+    /**
+     * Buffer.
+     */
+    private final char[] buffer;
+
+    /**
+     * Index of the next character in the buffer.
+     */
+    private int index;
+
+    /**
+     * Number of characters in the buffer.
+     */
+    private int limit;
+
+    /**
+     * Number of the current line, for error messages.
+     */
+    private int line;
+
+    /**
+     * Constructor.
+     * @param reader Reader from which characters are read
+     * @param provider Provider of factories that create nodes
+     */
+    public JsonTreeReader(final Reader reader, final Provider provider) {
+        this.reader = reader;
+        this.provider = provider;
+        this.buffer = new char[JsonTreeReader.BUFFER_SIZE];
+        this.line = 1;
+    }
+
+    /**
+     * Reads a tree. Nodes are created by the factory of the language specified in the input,
+     *  without recursion, so the depth of the tree is unlimited. If the factory does not know
+     *  a type or rejects the node, a draft node is created. Nothing but whitespace may follow
+     *  the tree.
+     * @return Tree
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the input is not a syntax tree in JSON format
+     */
+    public Tree read() throws IOException, MalformedInput {
+        String language = "common";
+        Factory factory = null;
+        Node root = null;
+        this.expect('{');
+        boolean more = this.skipSpaces() != '}';
+        while (more) {
+            final String key = this.parseString();
+            this.expect(':');
+            if ("language".equals(key)) {
+                language = this.parseString();
+            } else if ("root".equals(key)) {
+                factory = this.provider.getFactory(language);
+                root = this.parseNode(factory);
+            } else {
+                this.skipValue();
+            }
+            more = this.nextMember('}');
+        }
+        if (root == null) {
+            throw this.error("The root node is not specified");
+        }
+        if (this.skipSpaces() != JsonTreeReader.EOF) {
+            throw this.error("Unexpected characters after the tree");
+        }
+        final Factory actual = this.provider.getFactory(language);
+        if (actual != factory) {
+            root = JsonTreeReader.rebuild(root, actual);
+        }
+        return new Tree(root);
+    }
+
+    /**
+     * Creates again, bottom-up and without recursion, the nodes of a tree that another factory
+     *  builds differently: draft nodes, nodes whose type the factory describes in its own way,
+     *  and nodes with replaced children. The remaining nodes are kept as they are.
+     * @param root Root node of the tree
+     * @param factory Factory that creates nodes
+     * @return Root node of the resulting tree
+     */
+    private static Node rebuild(final Node root, final Factory factory) {
+        final Deque<Node> nodes = new ArrayDeque<>(64);
+        final Deque<List<Node>> lists = new ArrayDeque<>(64);
+        nodes.push(root);
+        lists.push(new ArrayList<>(root.getChildCount()));
+        Node result = null;
+        while (result == null) {
+            final Node node = nodes.peek();
+            final List<Node> children = lists.peek();
+            if (children.size() < node.getChildCount()) {
+                final Node child = node.getChild(children.size());
+                nodes.push(child);
+                lists.push(new ArrayList<>(child.getChildCount()));
+            } else {
+                nodes.pop();
+                lists.pop();
+                final Node created = JsonTreeReader.recreate(node, children, factory);
+                if (nodes.isEmpty()) {
+                    result = created;
+                } else {
+                    lists.peek().add(created);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a node again using another factory, unless the factory would build the same node.
+     * @param node Node
+     * @param children Children of the node, already processed
+     * @param factory Factory that creates nodes
+     * @return The same node or a new one
+     */
+    private static Node recreate(final Node node, final List<Node> children,
+        final Factory factory) {
+        boolean same = !(node instanceof DraftNode)
+            && factory.getType(node.getTypeName()) == node.getType();
+        for (int index = 0; same && index < children.size(); index = index + 1) {
+            same = children.get(index) == node.getChild(index);
+        }
+        final Node result;
+        if (same) {
+            result = node;
+        } else {
+            result = NodeCreator.create(factory, node.getTypeName(), node.getData(), children);
+        }
+        return result;
+    }
+
+    /**
+     * Parses a node with all its descendants.
+     * @param factory Factory that creates nodes
+     * @return Node
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the input is malformed
+     */
+    private Node parseNode(final Factory factory) throws IOException, MalformedInput {
+        final Deque<Frame> stack = new ArrayDeque<>(64);
+        this.expect('{');
+        stack.push(new Frame());
+        Node root = null;
+        while (root == null) {
+            final Frame frame = stack.peek();
+            final int chr = this.skipSpaces();
+            if (frame.array && chr == ']') {
+                this.nextChar();
+                frame.array = false;
+            } else if (frame.array) {
+                if (!frame.children.isEmpty()) {
+                    this.expect(',');
+                }
+                this.expect('{');
+                stack.push(new Frame());
+            } else if (chr == '}') {
+                this.nextChar();
+                stack.pop();
+                if (frame.type == null) {
+                    throw this.error("Node type is not specified");
+                }
+                final Node node = NodeCreator.create(
+                    factory, frame.type, frame.data, frame.children
+                );
+                if (stack.isEmpty()) {
+                    root = node;
+                } else {
+                    stack.peek().children.add(node);
+                }
+            } else {
+                this.parseMember(frame);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Parses a member of the object describing a node.
+     * @param frame Node being read
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the input is malformed
+     */
+    private void parseMember(final Frame frame) throws IOException, MalformedInput {
+        if (frame.started) {
+            this.expect(',');
+        }
+        frame.started = true;
+        final String key = this.parseString();
+        this.expect(':');
+        switch (key) {
+            case "type":
+                frame.type = this.parseString();
+                break;
+            case "data":
+                frame.data = this.parseString();
+                break;
+            case "children":
+                this.expect('[');
+                frame.array = true;
+                break;
+            default:
+                this.skipValue();
+                break;
+        }
+    }
+
+    /**
+     * Reads the separator after a member of an object.
+     * @param closing Closing bracket of the object
+     * @return Result, {@code true} if one more member follows
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If neither a comma nor the closing bracket follows
+     */
+    private boolean nextMember(final char closing) throws IOException, MalformedInput {
+        final int chr = this.skipSpaces();
+        if (chr != ',' && chr != closing) {
+            throw this.error(String.format("',' or '%c' expected", closing));
+        }
+        this.nextChar();
+        return chr == ',';
+    }
+
+    /**
+     * Skips a value of any kind, including nested objects and arrays.
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the input is malformed
+     */
+    private void skipValue() throws IOException, MalformedInput {
+        int depth = 0;
+        do {
+            final int chr = this.skipSpaces();
+            if (chr == '"') {
+                this.parseString();
+            } else if (chr == '{' || chr == '[') {
+                this.nextChar();
+                depth = depth + 1;
+            } else if (chr == '}' || chr == ']') {
+                this.nextChar();
+                depth = depth - 1;
+            } else if (chr == ',' || chr == ':') {
+                this.nextChar();
+            } else if (Character.isLetterOrDigit(chr) || chr == '-') {
+                this.skipScalar();
+            } else {
+                throw this.error("Value expected");
+            }
+        } while (depth > 0);
+        if (depth < 0) {
+            throw this.error("Value expected");
+        }
+    }
+
+    /**
+     * Skips a number or a literal such as {@code true}, {@code false} or {@code null}.
+     * @throws IOException If the input can't be read
+     */
+    private void skipScalar() throws IOException {
+        int chr = this.peekChar();
+        while (Character.isLetterOrDigit(chr) || chr == '-' || chr == '+' || chr == '.') {
+            this.nextChar();
+            chr = this.peekChar();
+        }
+    }
+
+    /**
+     * Parses a string in double quotes.
+     * @return String
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the string is malformed
+     */
+    private String parseString() throws IOException, MalformedInput {
+        this.expect('"');
+        final StringBuilder builder = new StringBuilder();
+        int chr = this.nextChar();
+        while (chr != '"') {
+            if (chr == JsonTreeReader.EOF || chr == '\n') {
+                throw this.error("String is not closed");
+            }
+            if (chr == '\\') {
+                builder.append(this.parseEscapeSequence());
+            } else {
+                builder.append((char) chr);
+            }
+            chr = this.nextChar();
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Parses an escape sequence inside a JSON string, the backslash is already consumed.
+     * @return Character
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the escape sequence is not correct
+     */
+    private char parseEscapeSequence() throws IOException, MalformedInput {
+        final int chr = this.nextChar();
+        final char result;
+        switch (chr) {
+            case 'b':
+                result = '\b';
+                break;
+            case 'f':
+                result = '\f';
+                break;
+            case 'n':
+                result = '\n';
+                break;
+            case 'r':
+                result = '\r';
+                break;
+            case 't':
+                result = '\t';
+                break;
+            case 'u':
+                result = this.parseCodeUnit();
+                break;
+            case '"':
+            case '\\':
+            case '/':
+                result = (char) chr;
+                break;
+            default:
+                throw this.error("Invalid escape sequence");
+        }
+        return result;
+    }
+
+    /**
+     * Parses four hexadecimal digits of a unicode escape sequence.
+     * @return Character
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the digits are not correct
+     */
+    private char parseCodeUnit() throws IOException, MalformedInput {
+        int code = 0;
+        for (int count = 0; count < 4; count = count + 1) {
+            final int digit = Character.digit(this.nextChar(), 16);
+            if (digit < 0) {
+                throw this.error("Invalid escape sequence");
+            }
+            code = code * 16 + digit;
+        }
+        return (char) code;
+    }
+
+    /**
+     * Skips whitespace characters and checks that the next character is the expected one.
+     * @param expected Expected character
+     * @throws IOException If the input can't be read
+     * @throws MalformedInput If the next character is not the expected one
+     */
+    private void expect(final char expected) throws IOException, MalformedInput {
+        if (this.skipSpaces() != expected) {
+            throw this.error(String.format("'%c' expected", expected));
+        }
+        this.nextChar();
+    }
+
+    /**
+     * Skips whitespace characters.
+     * @return The next character (not consumed) or {@link JsonTreeReader#EOF}
+     * @throws IOException If the input can't be read
+     */
+    private int skipSpaces() throws IOException {
+        int chr = this.peekChar();
+        while (chr == ' ' || chr == '\t' || chr == '\r' || chr == '\n') {
+            this.nextChar();
+            chr = this.peekChar();
+        }
+        return chr;
+    }
+
+    /**
+     * Returns the next character without consuming it.
+     * @return Character or {@link JsonTreeReader#EOF}
+     * @throws IOException If the input can't be read
+     */
+    private int peekChar() throws IOException {
+        while (this.index == this.limit && this.limit != JsonTreeReader.EOF) {
+            this.limit = this.reader.read(this.buffer);
+            this.index = 0;
+        }
+        final int result;
+        if (this.limit == JsonTreeReader.EOF) {
+            result = JsonTreeReader.EOF;
+        } else {
+            result = this.buffer[this.index];
+        }
+        return result;
+    }
+
+    /**
+     * Consumes the next character.
+     * @return Character or {@link JsonTreeReader#EOF}
+     * @throws IOException If the input can't be read
+     */
+    private int nextChar() throws IOException {
+        final int chr = this.peekChar();
+        if (chr != JsonTreeReader.EOF) {
+            this.index = this.index + 1;
+            if (chr == '\n') {
+                this.line = this.line + 1;
+            }
+        }
+        return chr;
+    }
+
+    /**
+     * Creates an exception with the current line number in the message.
+     * @param message Error message
+     * @return Exception
+     */
+    private MalformedInput error(final String message) {
+        return new MalformedInput(String.format("Line %d: %s", this.line, message));
+    }
+
+    /**
+     * Node whose description is being read.
+     * @since 1.0.0
+     */
+    private static final class Frame {
+        /**
+         * Type name, or {@code null} if not yet read.
+         */
+        private String type;
+
+        /**
+         * Data.
+         */
+        private String data;
+
+        /**
+         * Children that have already been read.
+         */
+        private final List<Node> children;
+
+        /**
+         * Flag indicating that at least one member of the object has been read.
+         */
+        private boolean started;
+
+        /**
+         * Flag indicating that the array of children is being read.
+         */
+        private boolean array;
+
+        /**
+         * Constructor.
+         */
+        private Frame() {
+            this.data = "";
+            this.children = new ArrayList<>(2);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Tree;
+
+/**
+ * Streaming writer of syntax trees in JSON format. The tree is walked without recursion
+ *  and the text goes to the channel through a fixed-size buffer, so no document is built
+ *  in memory: the extra memory depends only on the depth of the tree. The pretty layout
+ *  is the same as the one produced by the JSON serializer of the core library, the compact
+ *  layout has no whitespace at all.
+ * @since 1.0.0
+ */
+public final class JsonTreeWriter {
+    /**
+     * Size of the buffer.
+     */
+    private static final int BUFFER_SIZE = 65_536;
+
+    /**
+     * Writer that encodes characters and sends them to the channel.
+     */
+    private final Writer writer;
+
+    /**
+     * Flag indicating that the output is indented.
+     */
+    private final boolean pretty;
+
+    /**
+     * Constructor.
+     * @param channel Channel to which the tree is written
+     * @param pretty Flag indicating that the output is indented, otherwise it is compact
+     */
+    public JsonTreeWriter(final WritableByteChannel channel, final boolean pretty) {
+        this.writer = new BufferedWriter(
+            Channels.newWriter(channel, StandardCharsets.UTF_8.name()),
+            JsonTreeWriter.BUFFER_SIZE
+        );
+        this.pretty = pretty;
+    }
+
+    /**
+     * Writes a tree and flushes all buffered data to the channel. The channel is not closed.
+     * @param tree Tree
+     * @throws IOException If the channel can't be written
+     */
+    public void write(final Tree tree) throws IOException {
+        final Node root = tree.getRoot();
+        this.writer.write('{');
+        final String language = root.getProperty("language");
+        if (!language.isEmpty() && !"common".equals(language)) {
+            this.newLine(1);
+            this.writeString("language");
+            this.writeColon();
+            this.writeString(language);
+            this.writer.write(',');
+        }
+        this.newLine(1);
+        this.writeString("root");
+        this.writeColon();
+        final Deque<Frame> stack = new ArrayDeque<>(64);
+        this.openNode(root, 1, stack);
+        while (!stack.isEmpty()) {
+            final Frame frame = stack.peek();
+            if (frame.index < frame.node.getChildCount()) {
+                if (frame.index > 0) {
+                    this.writer.write(',');
+                }
+                this.newLine(frame.level + 2);
+                final Node child = frame.node.getChild(frame.index);
+                frame.index = frame.index + 1;
+                this.openNode(child, frame.level + 2, stack);
+            } else {
+                stack.pop();
+                this.newLine(frame.level + 1);
+                this.writer.write(']');
+                this.newLine(frame.level);
+                this.writer.write('}');
+            }
+        }
+        this.newLine(0);
+        this.writer.write('}');
+        this.writer.flush();
+    }
+
+    /**
+     * Writes the beginning of a node: its type, data and the opening bracket of the list
+     *  of children. A node without children is written completely, otherwise a frame
+     *  is pushed onto the stack so that the children are written next.
+     * @param node Node
+     * @param level Indentation level of the node
+     * @param stack Stack of nodes whose children are being written
+     * @throws IOException If the channel can't be written
+     */
+    private void openNode(final Node node, final int level, final Deque<Frame> stack)
+        throws IOException {
+        final String data = node.getData();
+        final int count = node.getChildCount();
+        this.writer.write('{');
+        if (data.isEmpty() && count == 0) {
+            this.writeString("type");
+            this.writeColon();
+            this.writeString(node.getTypeName());
+        } else {
+            this.newLine(level + 1);
+            this.writeString("type");
+            this.writeColon();
+            this.writeString(node.getTypeName());
+            if (!data.isEmpty()) {
+                this.writer.write(',');
+                this.newLine(level + 1);
+                this.writeString("data");
+                this.writeColon();
+                this.writeString(data);
+            }
+            if (count > 0) {
+                this.writer.write(',');
+                this.newLine(level + 1);
+                this.writeString("children");
+                this.writeColon();
+                this.writer.write('[');
+                stack.push(new Frame(node, level));
+            } else {
+                this.newLine(level);
+            }
+        }
+        if (count == 0) {
+            this.writer.write('}');
+        }
+    }
+
+    /**
+     * Escapes the characters of a string that can't appear in a JSON string as is:
+     *  quotes, backslashes and all control characters.
+     * @param value String
+     * @return Escaped string, without enclosing quotes
+     */
+    public static String escape(final String value) {
+        final int length = value.length();
+        final StringBuilder builder = new StringBuilder(length + 16);
+        for (int index = 0; index < length; index = index + 1) {
+            final char chr = value.charAt(index);
+            final String escape = JsonTreeWriter.escape(chr);
+            if (escape == null) {
+                builder.append(chr);
+            } else {
+                builder.append(escape);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes a string in double quotes, escaping special characters.
+     * @param value String
+     * @throws IOException If the channel can't be written
+     */
+    private void writeString(final String value) throws IOException {
+        this.writer.write('"');
+        final int length = value.length();
+        int start = 0;
+        for (int index = 0; index < length; index = index + 1) {
+            final char chr = value.charAt(index);
+            final String escape = JsonTreeWriter.escape(chr);
+            if (escape != null) {
+                this.writer.write(value, start, index - start);
+                this.writer.write(escape);
+                start = index + 1;
+            }
+        }
+        this.writer.write(value, start, length - start);
+        this.writer.write('"');
+    }
+
+    /**
+     * Writes the separator between a key and a value.
+     * @throws IOException If the channel can't be written
+     */
+    private void writeColon() throws IOException {
+        if (this.pretty) {
+            this.writer.write(": ");
+        } else {
+            this.writer.write(':');
+        }
+    }
+
+    /**
+     * Starts a new indented line, only in the pretty layout.
+     * @param level Indentation level
+     * @throws IOException If the channel can't be written
+     */
+    private void newLine(final int level) throws IOException {
+        if (this.pretty) {
+            this.writer.write('\n');
+            for (int index = 0; index < level; index = index + 1) {
+                this.writer.write("  ");
+            }
+        }
+    }
+
+    /**
+     * Returns the escape sequence for a character that can't appear in a JSON string as is.
+     * @param chr Character
+     * @return Escape sequence or {@code null} if the character does not need escaping
+     */
+    private static String escape(final char chr) {
+        final String result;
+        switch (chr) {
+            case '"':
+                result = "\\\"";
+                break;
+            case '\\':
+                result = "\\\\";
+                break;
+            case '\n':
+                result = "\\n";
+                break;
+            case '\r':
+                result = "\\r";
+                break;
+            case '\t':
+                result = "\\t";
+                break;
+            case '\b':
+                result = "\\b";
+                break;
+            case '\f':
+                result = "\\f";
+                break;
+            default:
+                if (chr < ' ') {
+                    result = String.format("\\u%04x", (int) chr);
+                } else {
+                    result = null;
+                }
+                break;
+        }
+        return result;
+    }
+
+    /**
+     * Node whose children are being written.
+     * @since 1.0.0
+     */
+    private static final class Frame {
+        /**
+         * Node.
+         */
+        private final Node node;
+
+        /**
+         * Indentation level of the node.
+         */
+        private final int level;
+
+        /**
+         * Index of the next child to be written.
+         */
+        private int index;
+
+        /**
+         * Constructor.
+         * @param node Node
+         * @param level Indentation level of the node
+         */
+        private Frame(final Node node, final int level) {
+            this.node = node;
+            this.level = level;
+        }
+    }
+}
@@ -21,44 +21,40 @@
  * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
  * SOFTWARE.
  */
-package org.cqfn.astranaut.parser;
+package org.cqfn.astranaut.io;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import org.cqfn.astranaut.exceptions.BaseException;
 
 /**
- * Removes comments from the DSL code.
+ * Exception thrown when input data does not conform to the expected format.
  * @since 1.0.0
  */
-public class CommentsRemover {
+public final class MalformedInput extends BaseException {
     /**
-     * Source code in DSL, possibly containing comments.
+     * Version identifier.
      */
-    private final String code;
+    private static final long serialVersionUID = -1;
 
     /**
-     * Constructor.
-     * @param code Source code in DSL, possibly containing comments
+     * Error message.
      */
-    public CommentsRemover(final String code) {
-        this.code = code;
-    }
+    private final String message;
 
     /**
-     * Return the source code with all comments (single and multi-line) replaced by spaces.
-     * @return Uncommented source code
+     * Constructor.
+     * @param message Error message
      */
-    public String getUncommentedCode() {
-        final String regex = "(?s)/\\*.*?\\*/|//.*?(?=\n|$)";
-        final Pattern pattern = Pattern.compile(regex);
-        final Matcher matcher = pattern.matcher(this.code);
-        final StringBuffer result = new StringBuffer();
-        while (matcher.find()) {
-            final String match = matcher.group();
-            final String replacement = match.replaceAll("[^\\n]", " ");
-            matcher.appendReplacement(result, replacement);
-        }
-        matcher.appendTail(result);
-        return result.toString();
+    public MalformedInput(final String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String getInitiator() {
+        return "Input";
+    }
+
+    @Override
+    public String getErrorMessage() {
+        return this.message;
     }
 }
@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.util.List;
+import org.cqfn.astranaut.core.base.Builder;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Node;
+
+/**
+ * Creates nodes of trees being read from external formats.
+ * @since 1.0.0
+ */
+final class NodeCreator {
+    /**
+     * Private constructor.
+     */
+    private NodeCreator() {
+    }
+
+    /**
+     * Creates a node using a factory, or a draft node if the factory does not know the type
+     *  or rejects the data or the children.
+     * @param factory Factory
+     * @param type Type name
+     * @param data Data
+     * @param children List of children
+     * @return Node
+     */
+    static Node create(final Factory factory, final String type, final String data,
+        final List<Node> children) {
+        Node node = null;
+        if (factory.getType(type) != null) {
+            final Builder builder = factory.createBuilder(type);
+            if (builder.setData(data) && builder.setChildrenList(children)
+                && builder.isValid()) {
+                node = builder.createNode();
+            }
+        }
+        if (node == null) {
+            final DraftNode.Constructor draft = new DraftNode.Constructor();
+            draft.setName(type);
+            draft.setData(data);
+            draft.setChildrenList(children);
+            node = draft.createNode();
+        }
+        return node;
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+/**
+ * A token produced by an external lexer: its type, its text and the offset of its first
+ *  character in the source text.
+ * @since 1.0.0
+ */
+public final class SourceToken {
+    /**
+     * Type of the token, i.e. name of the node type.
+     */
+    private final String type;
+
+    /**
+     * Text of the token.
+     */
+    private final String text;
+
+    /**
+     * Offset of the first character of the token in the source text.
+     */
+    private final int offset;
+
+    /**
+     * Constructor.
+     * @param type Type of the token, i.e. name of the node type
+     * @param text Text of the token
+     * @param offset Offset of the first character of the token in the source text
+     */
+    public SourceToken(final String type, final String text, final int offset) {
+        this.type = type;
+        this.text = text;
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the type of the token.
+     * @return Name of the node type
+     */
+    public String getType() {
+        return this.type;
+    }
+
+    /**
+     * Returns the text of the token.
+     * @return Text
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Returns the offset of the first character of the token in the source text.
+     * @return Offset
+     */
+    public int getOffset() {
+        return this.offset;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s<\"%s\">@%d", this.type, this.text, this.offset);
+    }
+}
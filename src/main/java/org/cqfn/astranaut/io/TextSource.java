@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cqfn.astranaut.core.base.Fragment;
+import org.cqfn.astranaut.core.base.Position;
+import org.cqfn.astranaut.core.base.Source;
+
+/**
+ * Source text that creates positions and fragments by character offsets.
+ *  Rows and columns of positions are numbered starting from 1.
+ * @since 1.0.0
+ */
+public final class TextSource implements Source {
+    /**
+     * The text.
+     */
+    private final String text;
+
+    /**
+     * Offsets of the first characters of lines.
+     */
+    private final int[] lines;
+
+    /**
+     * Constructor.
+     * @param text The text
+     */
+    public TextSource(final String text) {
+        this.text = text;
+        final List<Integer> list = new ArrayList<>(text.length() / 32 + 1);
+        list.add(0);
+        for (int index = 0; index < text.length(); index = index + 1) {
+            if (text.charAt(index) == '\n') {
+                list.add(index + 1);
+            }
+        }
+        this.lines = list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Returns the text.
+     * @return The text
+     */
+    public String getText() {
+        return this.text;
+    }
+
+    /**
+     * Creates a position by the offset of a character.
+     * @param offset Offset of the character
+     * @return Position
+     */
+    public Position createPosition(final int offset) {
+        int low = 0;
+        int high = this.lines.length - 1;
+        while (low < high) {
+            final int middle = (low + high + 1) / 2;
+            if (this.lines[middle] <= offset) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return new TextPosition(offset, low + 1, offset - this.lines[low] + 1);
+    }
+
+    /**
+     * Creates a fragment covering a range of characters.
+     * @param begin Offset of the first character of the fragment
+     * @param end Offset of the character that follows the fragment
+     * @return Fragment
+     */
+    public Fragment createFragment(final int begin, final int end) {
+        return new TextFragment(this.createPosition(begin), this.createPosition(end));
+    }
+
+    @Override
+    public String getFragmentAsString(final Position begin, final Position end) {
+        final String result;
+        if (begin instanceof TextPosition && end instanceof TextPosition
+            && begin.getSource() == this && end.getSource() == this) {
+            result = this.text.substring(
+                ((TextPosition) begin).offset,
+                ((TextPosition) end).offset
+            );
+        } else {
+            result = "";
+        }
+        return result;
+    }
+
+    /**
+     * Position in the source text.
+     * @since 1.0.0
+     */
+    private final class TextPosition implements Position {
+        /**
+         * Offset of the character.
+         */
+        private final int offset;
+
+        /**
+         * Row number.
+         */
+        private final int row;
+
+        /**
+         * Column number.
+         */
+        private final int column;
+
+        /**
+         * Constructor.
+         * @param offset Offset of the character
+         * @param row Row number
+         * @param column Column number
+         */
+        private TextPosition(final int offset, final int row, final int column) {
+            this.offset = offset;
+            this.row = row;
+            this.column = column;
+        }
+
+        @Override
+        public Source getSource() {
+            return TextSource.this;
+        }
+
+        @Override
+        public int getRow() {
+            return this.row;
+        }
+
+        @Override
+        public int getColumn() {
+            return this.column;
+        }
+    }
+
+    /**
+     * Fragment of the source text.
+     * @since 1.0.0
+     */
+    private final class TextFragment implements Fragment {
+        /**
+         * Position of the first character of the fragment.
+         */
+        private final Position begin;
+
+        /**
+         * Position of the character that follows the fragment.
+         */
+        private final Position end;
+
+        /**
+         * Constructor.
+         * @param begin Position of the first character of the fragment
+         * @param end Position of the character that follows the fragment
+         */
+        private TextFragment(final Position begin, final Position end) {
+            this.begin = begin;
+            this.end = end;
+        }
+
+        @Override
+        public Source getSource() {
+            return TextSource.this;
+        }
+
+        @Override
+        public Position getBegin() {
+            return this.begin;
+        }
+
+        @Override
+        public Position getEnd() {
+            return this.end;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.cqfn.astranaut.core.base.Builder;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Fragment;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Tree;
+
+/**
+ * Stream of tokens produced by an external lexer, which is turned into a degenerate tree:
+ *  a root node with one leaf node per token. Transformation rules then start from tokens
+ *  instead of single characters.
+ * @since 1.0.0
+ */
+public final class TokenStream {
+    /**
+     * Reader of tokens.
+     */
+    private final TokenReader reader;
+
+    /**
+     * Source text the tokens were extracted from, or {@code null} if it is not available.
+     */
+    private final String text;
+
+    /**
+     * Constructor.
+     * @param reader Reader of tokens
+     * @param text Source text the tokens were extracted from, or {@code null}
+     *  if it is not available (in that case the text is reconstructed from the tokens)
+     */
+    public TokenStream(final TokenReader reader, final String text) {
+        this.reader = reader;
+        this.text = text;
+    }
+
+    /**
+     * Reads the tokens and turns them into a tree. Each token becomes a leaf node whose type
+     *  is the type of the token and whose data is the text of the token. If the factory
+     *  knows the type, the node is created by the factory, otherwise it is a draft node.
+     *  Each node gets the fragment of the source text that the token covers.
+     * @param factory Factory that creates nodes
+     * @return Tree
+     * @throws IOException If the tokens can't be read
+     * @throws MalformedInput If the tokens are malformed or do not match the source text
+     */
+    public Tree parseIntoTree(final Factory factory) throws IOException, MalformedInput {
+        final List<SourceToken> tokens = new ArrayList<>(1024);
+        SourceToken token = this.reader.next();
+        while (token != null) {
+            tokens.add(token);
+            token = this.reader.next();
+        }
+        final TextSource source;
+        if (this.text == null) {
+            source = new TextSource(TokenStream.reconstructText(tokens));
+        } else {
+            source = new TextSource(this.text);
+            TokenStream.checkTokens(tokens, this.text);
+        }
+        final List<Node> nodes = new ArrayList<>(tokens.size());
+        for (final SourceToken item : tokens) {
+            final Fragment fragment = source.createFragment(
+                item.getOffset(),
+                item.getOffset() + item.getText().length()
+            );
+            nodes.add(TokenStream.createNode(factory, item, fragment));
+        }
+        final DraftNode.Constructor root = new DraftNode.Constructor();
+        root.setName("Root");
+        root.setFragment(source.createFragment(0, source.getText().length()));
+        root.setChildrenList(nodes);
+        return new Tree(root.createNode());
+    }
+
+    /**
+     * Creates a leaf node from a token.
+     * @param factory Factory that creates nodes
+     * @param token Token
+     * @param fragment Fragment of the source text that the token covers
+     * @return Node
+     * @throws MalformedInput If the factory can't create a node of the type of the token
+     *  having the text of the token as data
+     */
+    private static Node createNode(final Factory factory, final SourceToken token,
+        final Fragment fragment) throws MalformedInput {
+        final Builder builder;
+        if (factory.getType(token.getType()) == null) {
+            final DraftNode.Constructor draft = new DraftNode.Constructor();
+            draft.setName(token.getType());
+            builder = draft;
+        } else {
+            builder = factory.createBuilder(token.getType());
+        }
+        builder.setFragment(fragment);
+        if (!builder.setData(token.getText())
+            || !builder.setChildrenList(Collections.emptyList())
+            || !builder.isValid()) {
+            throw new MalformedInput(
+                String.format(
+                    "Can't create a node of type '%s' from the token '%s'",
+                    token.getType(),
+                    token.getText()
+                )
+            );
+        }
+        return builder.createNode();
+    }
+
+    /**
+     * Checks that tokens follow each other and match the source text.
+     * @param tokens List of tokens
+     * @param text Source text
+     * @throws MalformedInput If a token overlaps the previous one or does not match
+     *  the source text
+     */
+    private static void checkTokens(final List<SourceToken> tokens, final String text)
+        throws MalformedInput {
+        int end = 0;
+        for (final SourceToken token : tokens) {
+            final int offset = token.getOffset();
+            if (offset < end) {
+                throw new MalformedInput(
+                    String.format("Token %s overlaps the previous one", token.toString())
+                );
+            }
+            if (!text.startsWith(token.getText(), offset)) {
+                throw new MalformedInput(
+                    String.format("Token %s does not match the source text", token.toString())
+                );
+            }
+            end = offset + token.getText().length();
+        }
+    }
+
+    /**
+     * Reconstructs the source text from tokens, filling gaps between tokens with spaces.
+     * @param tokens List of tokens
+     * @return Source text
+     * @throws MalformedInput If a token overlaps the previous one
+     */
+    private static String reconstructText(final List<SourceToken> tokens) throws MalformedInput {
+        final StringBuilder builder = new StringBuilder();
+        for (final SourceToken token : tokens) {
+            if (token.getOffset() < builder.length()) {
+                throw new MalformedInput(
+                    String.format("Token %s overlaps the previous one", token.toString())
+                );
+            }
+            while (builder.length() < token.getOffset()) {
+                builder.append(' ');
+            }
+            builder.append(token.getText());
+        }
+        return builder.toString();
+    }
+}
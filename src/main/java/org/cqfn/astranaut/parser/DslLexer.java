@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexer that splits the DSL source code into statements in a single pass,
+ *  skipping comments and tracking line numbers.
+ * @since 1.0.0
+ */
+final class DslLexer {
+    /**
+     * Name of the file containing the DSL source code.
+     */
+    private final String filename;
+
+    /**
+     * DSL source code.
+     */
+    private final String code;
+
+    /**
+     * Index of the current character.
+     */
+    private int index;
+
+    /**
+     * Current line number.
+     */
+    private int line;
+
+    /**
+     * Constructor.
+     * @param filename Name of the file containing the DSL source code
+     * @param code DSL source code
+     */
+    DslLexer(final String filename, final String code) {
+        this.filename = filename;
+        this.code = code;
+        this.index = 0;
+        this.line = 1;
+    }
+
+    /**
+     * Splits the source code into statements.
+     * @return List of statements, including import statements
+     */
+    List<Statement> getStatements() {
+        final List<Statement> list = new ArrayList<>(0);
+        final StringBuilder builder = new StringBuilder(128);
+        while (this.index < this.code.length()) {
+            final Statement stmt = this.extractStatement(builder);
+            if (stmt != null) {
+                list.add(stmt);
+            }
+            builder.setLength(0);
+        }
+        return list;
+    }
+
+    /**
+     * Extracts the next statement, that is, the code up to the next semicolon
+     *  or up to the end of the source code.
+     * @param builder Buffer for the statement source code
+     * @return Statement or {@code null} if the statement contains no code
+     */
+    private Statement extractStatement(final StringBuilder builder) {
+        final int length = this.code.length();
+        int begin = 0;
+        int end = 0;
+        boolean finished = false;
+        while (this.index < length && !finished) {
+            final char chr = this.code.charAt(this.index);
+            if (chr == ';') {
+                end = this.line;
+                finished = true;
+                this.index = this.index + 1;
+            } else if (chr == '/' && this.skipComment()) {
+                builder.append("  ");
+            } else {
+                if (chr == '\n') {
+                    this.line = this.line + 1;
+                } else if (!Character.isWhitespace(chr)) {
+                    if (begin == 0) {
+                        begin = this.line;
+                    }
+                    end = this.line;
+                }
+                builder.append(chr);
+                this.index = this.index + 1;
+            }
+        }
+        final Statement stmt;
+        if (begin == 0) {
+            stmt = null;
+        } else {
+            final Statement.Constructor ctor = new Statement.Constructor();
+            ctor.setFilename(this.filename);
+            ctor.setBegin(begin);
+            ctor.setEnd(end);
+            ctor.setCode(builder.toString());
+            stmt = ctor.createStatement();
+        }
+        return stmt;
+    }
+
+    /**
+     * Skips a comment that begins at the current position, if any.
+     *  A single-line comment is skipped up to the line break, which is not consumed.
+     *  A multi-line comment is skipped together with the closing characters;
+     *  if it is not closed, it is not considered a comment.
+     * @return Result of the check, {@code true} if a comment was skipped
+     */
+    private boolean skipComment() {
+        final int next = this.index + 1;
+        boolean skipped = false;
+        if (next < this.code.length() && this.code.charAt(next) == '/') {
+            final int eol = this.code.indexOf('\n', next);
+            if (eol < 0) {
+                this.index = this.code.length();
+            } else {
+                this.index = eol;
+            }
+            skipped = true;
+        } else if (next < this.code.length() && this.code.charAt(next) == '*') {
+            final int close = this.code.indexOf("*/", next + 1);
+            if (close >= 0) {
+                for (int pos = this.index; pos < close; pos = pos + 1) {
+                    if (this.code.charAt(pos) == '\n') {
+                        this.line = this.line + 1;
+                    }
+                }
+                this.index = close + 2;
+                skipped = true;
+            }
+        }
+        return skipped;
+    }
+}
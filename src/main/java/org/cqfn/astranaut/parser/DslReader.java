@@ -25,13 +25,20 @@ package org.cqfn.astranaut.parser;
 
 import java.io.File;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import org.cqfn.astranaut.core.utils.FilesReader;
 import org.cqfn.astranaut.exceptions.BaseException;
 
 /**
  * Reads the DSL source code and separates it into statements.
+ *  Imported files are read and split into statements in the background as soon as
+ *  the import is found, so that independent files are processed in parallel.
  * @since 1.0.0
  */
 public final class DslReader {
@@ -40,6 +47,20 @@ public final class DslReader {
      */
     private final Set<String> files;
 
+    /**
+     * Marker of files that have been taken by {@link #readFile(String)}.
+     */
+    private static final CompletableFuture<List<Statement>> TAKEN =
+        CompletableFuture.completedFuture(null);
+
+    /**
+     * Files seen so far, by absolute file name: statements of imported files that are being
+     *  read in the background, or {@link #TAKEN} for files that are already taken by
+     *  a reader. Shared by the reader of the main file, readers of imported files and
+     *  background tasks, so that each file is read exactly once.
+     */
+    private final Map<String, CompletableFuture<List<Statement>>> pending;
+
     /**
      * Reader of the imported file.
      */
@@ -51,12 +72,12 @@ public final class DslReader {
     private String filename;
 
     /**
-     * Source code lines.
+     * Statements of the source code, including import statements.
      */
-    private String[] lines;
+    private List<Statement> statements;
 
     /**
-     * Current line number.
+     * Index of the current statement.
      */
     private int current;
 
@@ -64,17 +85,20 @@ public final class DslReader {
      * Constructor.
      */
     public DslReader() {
-        this(new TreeSet<>());
+        this(new TreeSet<>(), new ConcurrentHashMap<>());
     }
 
     /**
      * Private constructor.
      * @param files Set of processed file names to avoid processing the same file twice
+     * @param pending Files seen so far, with statements of files being read in the background
      */
-    private DslReader(final Set<String> files) {
+    private DslReader(final Set<String> files,
+        final Map<String, CompletableFuture<List<Statement>>> pending) {
         this.files = files;
+        this.pending = pending;
         this.filename = "";
-        this.lines = new String[0];
+        this.statements = Collections.emptyList();
         this.current = 0;
     }
 
@@ -83,7 +107,7 @@ public final class DslReader {
      * @param code DSL source code
      */
     public void setSourceCode(final String code) {
-        this.setFileNameAndSourceCode("", code);
+        this.setFileNameAndStatements("", new DslLexer("", code).getStatements());
     }
 
     /**
@@ -96,27 +120,31 @@ public final class DslReader {
         if (this.files.contains(absolute)) {
             this.setSourceCode("");
         } else {
-            final FilesReader reader = new FilesReader(absolute);
-            final String code = reader.readAsString(
-                (FilesReader.CustomExceptionCreator<BaseException>) () -> new BaseException() {
-                    private static final long serialVersionUID = -1;
-
-                    @Override
-                    public String getInitiator() {
-                        return "Parser";
-                    }
-
-                    @Override
-                    public String getErrorMessage() {
-                        return String.format("Can't read '%s'", name);
-                    }
-                }
-            );
-            this.setFileNameAndSourceCode(absolute, code);
+            final CompletableFuture<List<Statement>> future =
+                this.pending.put(absolute, DslReader.TAKEN);
+            final List<Statement> list;
+            if (future == null || future == DslReader.TAKEN) {
+                list = new DslLexer(absolute, DslReader.readSourceCode(absolute, name))
+                    .getStatements();
+            } else {
+                list = future.join();
+            }
+            if (list == null) {
+                throw new CannotReadFile(name);
+            }
+            this.setFileNameAndStatements(absolute, list);
             this.files.add(absolute);
         }
     }
 
+    /**
+     * Returns the absolute names of all files read so far, including imported files.
+     * @return Set of file names
+     */
+    public Set<String> getFiles() {
+        return Collections.unmodifiableSet(this.files);
+    }
+
     /**
      * Reads and returns the next statement.
      * @return Statement or {@code null} if there are no more statements
@@ -124,99 +152,181 @@ public final class DslReader {
      */
     public Statement getStatement() throws BaseException {
         Statement stmt = null;
-        if (this.imported != null) {
-            stmt = this.imported.getStatement();
-        }
-        if (stmt == null && this.current < this.lines.length) {
-            stmt = this.extractStatement();
+        while (stmt == null && (this.imported != null
+            || this.current < this.statements.size())) {
+            if (this.imported == null) {
+                final Statement next = this.statements.get(this.current);
+                this.current = this.current + 1;
+                final String name = DslReader.getImportedFileName(next);
+                if (name.isEmpty()) {
+                    stmt = next;
+                } else {
+                    this.imported = new DslReader(this.files, this.pending);
+                    this.imported.readFile(this.resolveImportedFileName(name));
+                }
+            } else {
+                stmt = this.imported.getStatement();
+                if (stmt == null) {
+                    this.imported = null;
+                }
+            }
         }
         return stmt;
     }
 
     /**
-     * Sets the file name and the source code to be divided into statements.
+     * Sets the file name and the statements of the source code and starts reading
+     *  the imported files in the background.
      * @param name Name of the file containing the DSL source code
-     * @param code DSL source code
+     * @param list Statements of the source code, including import statements
      */
-    private void setFileNameAndSourceCode(final String name, final String code) {
+    private void setFileNameAndStatements(final String name, final List<Statement> list) {
         this.filename = name;
-        final String trimmed = code.trim();
-        if (trimmed.isEmpty()) {
-            this.lines = new String[0];
-        } else {
-            final CommentsRemover remover = new CommentsRemover(code);
-            this.lines = remover.getUncommentedCode().split("\n");
-        }
+        this.statements = list;
         this.current = 0;
+        this.imported = null;
+        for (final Statement stmt : list) {
+            final String imported = DslReader.getImportedFileName(stmt);
+            if (!imported.isEmpty()) {
+                final String absolute = DslReader.resolveImportedFileName(name, imported);
+                if (!this.files.contains(absolute)) {
+                    DslReader.prefetch(this.pending, absolute);
+                }
+            }
+        }
     }
 
     /**
-     * Extracts the next statement.
-     * @return Statement or {@code null} if there are no more statements
-     * @throws BaseException If some error occurred while extracting the next statement
+     * Converts the name of the imported file into an absolute one,
+     *  relative to the current file.
+     * @param name Imported file name
+     * @return Absolute file name
      */
-    private Statement extractStatement() throws BaseException {
-        final Statement.Constructor ctor = new Statement.Constructor();
-        ctor.setFilename(this.filename);
-        final StringBuilder builder = new StringBuilder();
-        while (this.current < this.lines.length) {
-            ctor.setEnd(this.current + 1);
-            final String line = this.lines[this.current].trim();
-            if (line.isEmpty()) {
-                this.current = this.current + 1;
-                continue;
-            }
-            if (builder.length() > 0) {
-                builder.append(' ');
-            } else {
-                ctor.setBegin(this.current + 1);
-            }
-            final int index = line.indexOf(';');
-            if (index < 0) {
-                builder.append(line);
-                this.current = this.current + 1;
-            } else {
-                builder.append(line.substring(0, index));
-                this.lines[this.current] = line.substring(index + 1);
-                break;
-            }
-        }
-        final String code = builder.toString().trim();
-        final Statement stmt;
-        if (code.isEmpty()) {
-            stmt = null;
-        } else if (code.startsWith("import ")) {
-            final String name = code.substring(7).trim();
-            stmt = this.getStatementFromImportedFile(name);
-        } else {
-            ctor.setCode(code);
-            stmt = ctor.createStatement();
-        }
-        return stmt;
+    private String resolveImportedFileName(final String name) {
+        return DslReader.resolveImportedFileName(this.filename, name);
     }
 
     /**
-     * Gets the next statement from the imported file.
-     *  If the file does not contain statements, gets the next statement from the current file.
+     * Starts reading the file in the background, if it has not been seen yet, that is,
+     *  it is neither being read in the background nor taken by a reader. The check and
+     *  the start are atomic, so a file that is already taken is never read again and
+     *  no result is left behind for a file that will never be requested.
+     *  The files imported by that file are prefetched as well.
+     *  If the file cannot be read, the result is {@code null}, and the error is reported
+     *  when the statements of the file are requested.
+     * @param pending Files seen so far, with statements of files being read in the background
+     * @param absolute Absolute file name
+     */
+    private static void prefetch(final Map<String, CompletableFuture<List<Statement>>> pending,
+        final String absolute) {
+        pending.computeIfAbsent(
+            absolute,
+            key -> CompletableFuture.supplyAsync(
+                () -> {
+                    List<Statement> list;
+                    try {
+                        list = new DslLexer(key, DslReader.readSourceCode(key, key))
+                            .getStatements();
+                    } catch (final BaseException ignored) {
+                        list = null;
+                    }
+                    if (list != null) {
+                        for (final Statement stmt : list) {
+                            final String imported = DslReader.getImportedFileName(stmt);
+                            if (!imported.isEmpty()) {
+                                DslReader.prefetch(
+                                    pending,
+                                    DslReader.resolveImportedFileName(key, imported)
+                                );
+                            }
+                        }
+                    }
+                    return list;
+                }
+            )
+        );
+    }
+
+    /**
+     * Converts the name of the imported file into an absolute one,
+     *  relative to the importing file.
+     * @param base Name of the importing file
      * @param name Imported file name
-     * @return Statement or {@code null} if there are no more statements
-     * @throws BaseException If some error occurred while extracting the next statement
+     * @return Absolute file name
      */
-    private Statement getStatementFromImportedFile(final String name) throws BaseException {
-        final String absolute;
+    private static String resolveImportedFileName(final String base, final String name) {
         final File file = new File(name);
+        final String absolute;
         if (file.isAbsolute()) {
             absolute = name;
         } else {
-            final File parent = new File(this.filename).getParentFile();
+            final File parent = new File(base).getParentFile();
             absolute = new File(parent, name).getAbsolutePath();
         }
-        this.imported = new DslReader(this.files);
-        this.imported.readFile(absolute);
-        Statement stmt = this.imported.getStatement();
-        if (stmt == null) {
-            stmt = this.extractStatement();
+        return Paths.get(absolute).toAbsolutePath().toString();
+    }
+
+    /**
+     * Extracts the name of the imported file if the statement is an import statement.
+     * @param stmt Statement
+     * @return File name or empty string
+     */
+    private static String getImportedFileName(final Statement stmt) {
+        final String code = stmt.getCode();
+        final String name;
+        if (stmt.getLanguage().isEmpty() && code.startsWith("import ")) {
+            name = code.substring(7).trim();
+        } else {
+            name = "";
+        }
+        return name;
+    }
+
+    /**
+     * Reads the source code from a file.
+     * @param absolute Absolute file name
+     * @param name File name as specified by the user
+     * @return Source code
+     * @throws BaseException If the source code file cannot be read
+     */
+    private static String readSourceCode(final String absolute, final String name)
+        throws BaseException {
+        return new FilesReader(absolute).readAsString(
+            (FilesReader.CustomExceptionCreator<BaseException>) () -> new CannotReadFile(name)
+        );
+    }
+
+    /**
+     * Exception 'Can't read file'.
+     * @since 1.0.0
+     */
+    private static final class CannotReadFile extends BaseException {
+        /**
+         * Version identifier.
+         */
+        private static final long serialVersionUID = -1;
+
+        /**
+         * File name as specified by the user.
+         */
+        private final String name;
+
+        /**
+         * Constructor.
+         * @param name File name as specified by the user
+         */
+        private CannotReadFile(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String getInitiator() {
+            return "Parser";
+        }
+
+        @Override
+        public String getErrorMessage() {
+            return String.format("Can't read '%s'", this.name);
         }
-        return stmt;
     }
 }
@@ -41,12 +41,15 @@ final class LeftSideParser {
         new MapUtils<Class<? extends Token>, LeftSideItemParser>()
             .put(SymbolRangeToken.class, SymbolicDescriptorParser.INSTANCE)
             .put(SymbolToken.class, SymbolicDescriptorParser.INSTANCE)
+            .put(SymbolCategoryToken.class, SymbolicDescriptorParser.INSTANCE)
             .put(OpeningSquareBracket.class, OptionalItemParser.INSTANCE)
             .put(OpeningCurlyBracket.class, RepeatedItemParser.INSTANCE)
             .put(Identifier.class, PatternParser.INSTANCE)
             .put(Tilde.class, NegativeItemParser.INSTANCE)
             .put(VerticalLine.class, OrExpressionParser.INSTANCE)
             .put(Ampersand.class, AndExpressionParser.INSTANCE)
+            .put(ClosingAngleBracket.class, LookaroundItemParser.AHEAD)
+            .put(OpeningAngleBracket.class, LookaroundItemParser.BEHIND)
             .make();
 
     /**
@@ -205,6 +208,9 @@ final class LeftSideParser {
                 item = null;
                 break;
             }
+            if (first instanceof AngleBracket) {
+                throw new InappropriateToken(this.getLocation(), first);
+            }
             final LeftSideItemParser parser = LeftSideParser.PARSERS.get(first.getClass());
             if (parser != null) {
                 item = (PatternItem) parser.parse(this, first);
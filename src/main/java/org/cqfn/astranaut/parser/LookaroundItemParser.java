@@ -0,0 +1,118 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.parser;
+
+import org.cqfn.astranaut.dsl.Hole;
+import org.cqfn.astranaut.dsl.LeftSideItem;
+import org.cqfn.astranaut.dsl.LogicalExpression;
+import org.cqfn.astranaut.dsl.PatternDescriptor;
+import org.cqfn.astranaut.dsl.PatternItem;
+import org.cqfn.astranaut.dsl.PatternMatchingMode;
+
+/**
+ * Parses a sequence of tokens as a lookahead ('>' before the item)
+ *  or lookbehind ('<' before the item) item.
+ * @since 1.0.0
+ */
+final class LookaroundItemParser extends LeftSideItemParser {
+    /**
+     * Instance that parses lookahead items.
+     */
+    public static final LeftSideItemParser AHEAD =
+        new LookaroundItemParser(PatternMatchingMode.LOOKAHEAD);
+
+    /**
+     * Instance that parses lookbehind items.
+     */
+    public static final LeftSideItemParser BEHIND =
+        new LookaroundItemParser(PatternMatchingMode.LOOKBEHIND);
+
+    /**
+     * Matching mode assigned to the parsed item.
+     */
+    private final PatternMatchingMode mode;
+
+    /**
+     * Private constructor.
+     * @param mode Matching mode assigned to the parsed item
+     */
+    private LookaroundItemParser(final PatternMatchingMode mode) {
+        this.mode = mode;
+    }
+
+    @Override
+    public LeftSideItem parse(final LeftSideParser context, final Token first)
+        throws ParsingException {
+        if (context.getNestingLevel() > 0) {
+            throw new CommonParsingException(
+                context.getLocation(),
+                "Lookahead and lookbehind items are not allowed inside patterns"
+            );
+        }
+        final LeftSideItem item = context.parseLeftSideItem();
+        if (item == null) {
+            throw new CommonParsingException(
+                context.getLocation(),
+                String.format("An item is expected after '%s'", first.toString())
+            );
+        }
+        if (item.getMatchingMode() != PatternMatchingMode.NORMAL) {
+            throw new CommonParsingException(
+                context.getLocation(),
+                "Lookahead and lookbehind items can't be optional or repeated"
+            );
+        }
+        if (LookaroundItemParser.containsNodeHoles(item)) {
+            throw new CommonParsingException(
+                context.getLocation(),
+                "Lookahead and lookbehind items can't extract nodes, only data"
+            );
+        }
+        item.setMatchingMode(this.mode);
+        return item;
+    }
+
+    /**
+     * Checks whether an item extracts nodes, that is, contains holes that are not data holes.
+     *  Such holes are not allowed in lookaround items, because the neighbouring nodes
+     *  are not consumed and would appear in the tree twice.
+     * @param item Item of the left side of a rule or a child of a pattern
+     * @return Checking result
+     */
+    private static boolean containsNodeHoles(final Object item) {
+        boolean result = false;
+        if (item instanceof Hole) {
+            result = true;
+        } else if (item instanceof PatternDescriptor) {
+            for (final PatternItem child : ((PatternDescriptor) item).getChildren()) {
+                result = result || LookaroundItemParser.containsNodeHoles(child);
+            }
+        } else if (item instanceof LogicalExpression) {
+            for (final LeftSideItem operand : ((LogicalExpression) item).getItems()) {
+                result = result || LookaroundItemParser.containsNodeHoles(operand);
+            }
+        }
+        return result;
+    }
+}
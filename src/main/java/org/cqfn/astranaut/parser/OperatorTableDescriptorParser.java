@@ -0,0 +1,208 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.parser;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cqfn.astranaut.dsl.LeftSideItem;
+import org.cqfn.astranaut.dsl.OperatorDescriptor;
+import org.cqfn.astranaut.dsl.OperatorTableDescriptor;
+import org.cqfn.astranaut.dsl.PatternMatchingMode;
+
+/**
+ * Parser that parses operator tables, i.e. statements like
+ *  {@code Expression => {'*' Multiplication}, {'+' Addition, '-' Subtraction}}.
+ *  Each group in curly brackets is one precedence level, the first group binds tightest.
+ *  A group that starts with {@code ...,} is right-associative.
+ * @since 1.0.0
+ */
+public final class OperatorTableDescriptorParser {
+    /**
+     * Name of the programming language whose entity this operator table covers.
+     */
+    private final String language;
+
+    /**
+     * Statement containing DSL code.
+     */
+    private final Statement stmt;
+
+    /**
+     * Constructor.
+     * @param language Name of the programming language whose entity this operator table covers
+     * @param stmt Statement containing DSL code
+     */
+    public OperatorTableDescriptorParser(final String language, final Statement stmt) {
+        this.language = language;
+        this.stmt = stmt;
+    }
+
+    /**
+     * Parses DSL code into an operator table.
+     * @return An operator table
+     * @throws ParsingException If the parse fails
+     */
+    @SuppressWarnings("PMD.PreserveStackTrace")
+    public OperatorTableDescriptor parseDescriptor() throws ParsingException {
+        final String[] parts = this.stmt.getCode().split("=>");
+        if (parts.length != 2) {
+            throw new CommonParsingException(
+                this.stmt.getLocation(),
+                "One and only one '=>' separator is allowed"
+            );
+        }
+        final String operand = this.parseOperand(parts[0]);
+        final List<List<LeftSideItem>> patterns = new ArrayList<>(1);
+        final List<List<String>> results = new ArrayList<>(1);
+        final List<Boolean> flags = new ArrayList<>(1);
+        final LeftSideParser parser = new LeftSideParser(
+            new Scanner(this.stmt.getLocation(), parts[1]),
+            new HoleCounter()
+        );
+        Token token = parser.getToken();
+        while (true) {
+            if (!(token instanceof OpeningCurlyBracket)) {
+                throw new CommonParsingException(
+                    this.stmt.getLocation(),
+                    "Each precedence level must be enclosed in curly brackets"
+                );
+            }
+            final List<LeftSideItem> items = new ArrayList<>(1);
+            final List<String> names = new ArrayList<>(1);
+            flags.add(this.parseLevel(parser, items, names));
+            patterns.add(items);
+            results.add(names);
+            token = parser.getToken();
+            if (token == null) {
+                break;
+            }
+            if (!(token instanceof Comma)) {
+                throw new CommonParsingException(
+                    this.stmt.getLocation(),
+                    "Precedence levels must be separated by commas"
+                );
+            }
+            token = parser.getToken();
+        }
+        final List<OperatorDescriptor> operators = new ArrayList<>(patterns.size());
+        for (int level = 0; level < patterns.size(); level = level + 1) {
+            final int precedence = patterns.size() - level;
+            final List<LeftSideItem> items = patterns.get(level);
+            for (int index = 0; index < items.size(); index = index + 1) {
+                operators.add(
+                    new OperatorDescriptor(
+                        items.get(index),
+                        results.get(level).get(index),
+                        precedence,
+                        flags.get(level)
+                    )
+                );
+            }
+        }
+        try {
+            final OperatorTableDescriptor result =
+                new OperatorTableDescriptor(operand, operators);
+            result.setLanguage(this.language);
+            return result;
+        } catch (final IllegalArgumentException exception) {
+            throw new CommonParsingException(
+                this.stmt.getLocation(),
+                exception.getMessage()
+            );
+        }
+    }
+
+    /**
+     * Parses the left side of the operator table, that is, the type of operands.
+     * @param code Source code of the left part
+     * @return Type name
+     * @throws ParsingException If the parse fails
+     */
+    private String parseOperand(final String code) throws ParsingException {
+        final Scanner scanner = new Scanner(this.stmt.getLocation(), code);
+        final Token token = scanner.getToken();
+        if (!(token instanceof Identifier) || scanner.getToken() != null) {
+            throw new CommonParsingException(
+                this.stmt.getLocation(),
+                "The left part of the operator table must be the name of the operand type"
+            );
+        }
+        return token.toString();
+    }
+
+    /**
+     * Parses one precedence level, i.e. operators enclosed in curly brackets.
+     *  The opening bracket has already been read.
+     * @param parser Parser of left side items that issues tokens
+     * @param items Where to store the patterns matching the operators
+     * @param names Where to store the types of resulting nodes
+     * @return Flag indicating that the operators are right-associative
+     * @throws ParsingException If the parse fails
+     */
+    private boolean parseLevel(final LeftSideParser parser, final List<LeftSideItem> items,
+        final List<String> names) throws ParsingException {
+        Token token = parser.getToken();
+        final boolean right = token instanceof Ellipsis;
+        if (right) {
+            token = parser.getToken();
+            if (!(token instanceof Comma)) {
+                throw new CommonParsingException(
+                    this.stmt.getLocation(),
+                    "A comma after '...' is expected"
+                );
+            }
+            token = parser.getToken();
+        }
+        while (true) {
+            final LeftSideItem item = parser.parseLeftSideItem(token);
+            if (item == null || item.getMatchingMode() != PatternMatchingMode.NORMAL) {
+                throw new CommonParsingException(
+                    this.stmt.getLocation(),
+                    "Each operator must be described by exactly one pattern"
+                );
+            }
+            final Token name = parser.getToken();
+            if (!(name instanceof Identifier)) {
+                throw new CommonParsingException(
+                    this.stmt.getLocation(),
+                    "The type of the resulting node is expected after the operator"
+                );
+            }
+            items.add(item);
+            names.add(name.toString());
+            token = parser.getToken();
+            if (token instanceof ClosingCurlyBracket) {
+                break;
+            }
+            if (!(token instanceof Comma)) {
+                throw new CommonParsingException(
+                    this.stmt.getLocation(),
+                    "Operators must be separated by commas, a level must end with '}'"
+                );
+            }
+            token = parser.getToken();
+        }
+        return right;
+    }
+}
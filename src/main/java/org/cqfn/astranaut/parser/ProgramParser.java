@@ -28,10 +28,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.cqfn.astranaut.dsl.NodeDescriptor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.cqfn.astranaut.dsl.Program;
 import org.cqfn.astranaut.dsl.Rule;
-import org.cqfn.astranaut.dsl.TransformationDescriptor;
 import org.cqfn.astranaut.exceptions.BaseException;
 
 /**
@@ -40,6 +42,11 @@ import org.cqfn.astranaut.exceptions.BaseException;
  */
 @SuppressWarnings("PMD.CloseResource")
 public final class ProgramParser {
+    /**
+     * Number of statements parsed by one task when the program is parsed in parallel.
+     */
+    private static final int BATCH_SIZE = 512;
+
     /**
      * Current language.
      */
@@ -60,37 +67,45 @@ public final class ProgramParser {
 
     /**
      * Parses a program written in the DSL language.
+     *  Large programs are split into batches of statements that are parsed in parallel.
      * @param reader Reader that reads the DSL source code and separates it into statements
      * @return Entire program
      * @throws BaseException If there is an error in the program
      */
     public Program parse(final DslReader reader) throws BaseException {
-        final List<Rule> list = new ArrayList<>(0);
-        Statement stmt = reader.getStatement();
-        while (stmt != null) {
-            final String newlang = stmt.getLanguage();
-            if (!newlang.isEmpty()) {
-                this.language = newlang;
-            }
-            final String code = stmt.getCode();
-            if (code.contains("<-")) {
-                final NodeDescriptorParser parser = new NodeDescriptorParser(this.language, stmt);
-                final NodeDescriptor descr = parser.parseDescriptor();
-                list.add(descr);
-                this.locations.put(descr, stmt.getLocation());
-            } else if (code.contains("->")) {
-                final TransformationDescriptorParser parser =
-                    new TransformationDescriptorParser(this.language, stmt);
-                final TransformationDescriptor descr = parser.parseDescriptor();
-                list.add(descr);
-                this.locations.put(descr, stmt.getLocation());
-            } else {
-                throw new CommonParsingException(
-                    stmt.getLocation(),
-                    "The rule does not contain a separator"
-                );
+        final List<Statement> statements = new ArrayList<>(0);
+        final List<String> languages = new ArrayList<>(0);
+        BaseException failure = null;
+        try {
+            Statement stmt = reader.getStatement();
+            while (stmt != null) {
+                final String newlang = stmt.getLanguage();
+                if (!newlang.isEmpty()) {
+                    this.language = newlang;
+                }
+                statements.add(stmt);
+                languages.add(this.language);
+                stmt = reader.getStatement();
             }
-            stmt = reader.getStatement();
+        } catch (final BaseException exception) {
+            failure = exception;
+        }
+        final List<Rule> list;
+        final int threads = Math.min(
+            Runtime.getRuntime().availableProcessors(),
+            statements.size() / ProgramParser.BATCH_SIZE
+        );
+        if (threads > 1) {
+            list = ProgramParser.parseInParallel(statements, languages, threads);
+        } else {
+            list = ProgramParser.parseBatch(statements, languages, 0, statements.size());
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        final int count = list.size();
+        for (int index = 0; index < count; index = index + 1) {
+            this.locations.put(list.get(index), statements.get(index).getLocation());
         }
         return new Program(list);
     }
@@ -102,4 +117,90 @@ public final class ProgramParser {
     public Map<Rule, Location> getLocations() {
         return Collections.unmodifiableMap(this.locations);
     }
+
+    /**
+     * Parses statements in batches in parallel. If several statements contain errors,
+     *  the error from the first one is reported.
+     * @param statements Statements
+     * @param languages Languages of the statements
+     * @param threads Number of threads
+     * @return List of rules in the order of statements
+     * @throws BaseException If there is an error in the program
+     */
+    private static List<Rule> parseInParallel(final List<Statement> statements,
+        final List<String> languages, final int threads) throws BaseException {
+        final int size = statements.size();
+        final List<Future<List<Rule>>> futures =
+            new ArrayList<>(size / ProgramParser.BATCH_SIZE + 1);
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int from = 0; from < size; from = from + ProgramParser.BATCH_SIZE) {
+            final int begin = from;
+            final int end = Math.min(from + ProgramParser.BATCH_SIZE, size);
+            futures.add(
+                pool.submit(() -> ProgramParser.parseBatch(statements, languages, begin, end))
+            );
+        }
+        final List<Rule> list = new ArrayList<>(size);
+        try {
+            for (final Future<List<Rule>> future : futures) {
+                list.addAll(future.get());
+            }
+        } catch (final ExecutionException exception) {
+            final Throwable cause = exception.getCause();
+            if (cause instanceof BaseException) {
+                throw (BaseException) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(exception);
+        } finally {
+            pool.shutdownNow();
+        }
+        return list;
+    }
+
+    /**
+     * Parses a range of statements.
+     * @param statements Statements
+     * @param languages Languages of the statements
+     * @param begin Index of the first statement
+     * @param end Index following the last statement
+     * @return List of rules in the order of statements
+     * @throws BaseException If there is an error in the program
+     */
+    private static List<Rule> parseBatch(final List<Statement> statements,
+        final List<String> languages, final int begin, final int end) throws BaseException {
+        final List<Rule> list = new ArrayList<>(end - begin);
+        for (int index = begin; index < end; index = index + 1) {
+            list.add(ProgramParser.parseStatement(statements.get(index), languages.get(index)));
+        }
+        return list;
+    }
+
+    /**
+     * Parses a single statement.
+     * @param stmt Statement
+     * @param language Language of the statement
+     * @return Rule
+     * @throws BaseException If there is an error in the statement
+     */
+    private static Rule parseStatement(final Statement stmt, final String language)
+        throws BaseException {
+        final String code = stmt.getCode();
+        final Rule rule;
+        if (code.contains("<-")) {
+            rule = new NodeDescriptorParser(language, stmt).parseDescriptor();
+        } else if (code.contains("->")) {
+            rule = new TransformationDescriptorParser(language, stmt).parseDescriptor();
+        } else if (code.contains("=>")) {
+            rule = new OperatorTableDescriptorParser(language, stmt).parseDescriptor();
+        } else {
+            throw new CommonParsingException(
+                stmt.getLocation(),
+                "The rule does not contain a separator"
+            );
+        }
+        return rule;
+    }
 }
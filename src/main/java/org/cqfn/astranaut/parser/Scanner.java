@@ -23,34 +23,15 @@
  */
 package org.cqfn.astranaut.parser;
 
-import java.util.Map;
-import org.cqfn.astranaut.core.utils.MapUtils;
-
 /**
  * Scanner splits the DSL line into tokens.
  * @since 1.0.0
  */
 public final class Scanner {
     /**
-     * Collection of tokens representing a single character.
+     * Tokens representing a single character, indexed by the character code.
      */
-    private static final Map<Character, SingleCharToken> TOKENS =
-        new MapUtils<Character, SingleCharToken>()
-            .put(',', Comma.INSTANCE)
-            .put('@', AtSymbol.INSTANCE)
-            .put('|', VerticalLine.INSTANCE)
-            .put('&', Ampersand.INSTANCE)
-            .put('{', OpeningCurlyBracket.INSTANCE)
-            .put('}', ClosingCurlyBracket.INSTANCE)
-            .put('[', OpeningSquareBracket.INSTANCE)
-            .put(']', ClosingSquareBracket.INSTANCE)
-            .put('<', OpeningAngleBracket.INSTANCE)
-            .put('>', ClosingAngleBracket.INSTANCE)
-            .put('(', OpeningRoundBracket.INSTANCE)
-            .put(')', ClosingRoundBracket.INSTANCE)
-            .put('#', HashSymbol.INSTANCE)
-            .put('~', Tilde.INSTANCE)
-            .make();
+    private static final SingleCharToken[] TOKENS = Scanner.createTokenTable();
 
     /**
      * Location of DSL code.
@@ -103,9 +84,9 @@ public final class Scanner {
                 token = null;
                 break;
             }
-            if (Scanner.TOKENS.containsKey(chr)) {
+            if (chr < Scanner.TOKENS.length && Scanner.TOKENS[chr] != null) {
                 this.nextChar();
-                token = Scanner.TOKENS.get(chr);
+                token = Scanner.TOKENS[chr];
                 break;
             }
             if (Character.isLetter(chr)) {
@@ -196,19 +177,47 @@ public final class Scanner {
      *  escape sequence.
      */
     private Token parseString(final char quote) throws ParsingException {
-        final String string = this.readString(quote);
         final Token token;
-        if (quote == '\'' && string.length() == 1) {
-            token = new SymbolToken(string.charAt(0));
-        } else if (quote == '\'' && string.length() == 4
-            && string.charAt(1) == '.' && string.charAt(2) == '.') {
-            token = new SymbolRangeToken(string.charAt(0), string.charAt(3));
+        if (quote == '\'' && this.line.startsWith("\\p{", this.index + 1)) {
+            token = this.parseCategory();
         } else {
-            token = new StringToken(quote, string);
+            final String string = this.readString(quote);
+            if (quote == '\'' && string.length() == 1) {
+                token = new SymbolToken(string.charAt(0));
+            } else if (quote == '\'' && string.length() == 4
+                && string.charAt(1) == '.' && string.charAt(2) == '.') {
+                token = new SymbolRangeToken(string.charAt(0), string.charAt(3));
+            } else {
+                token = new StringToken(quote, string);
+            }
         }
         return token;
     }
 
+    /**
+     * Parses a sequence of characters as a Unicode category of symbols,
+     *  such as {@code '\p{L}'}.
+     * @return A token
+     * @throws ParsingException If the category is not supported or not properly closed
+     */
+    private Token parseCategory() throws ParsingException {
+        final int start = this.index + 4;
+        final int end = this.line.indexOf('}', start);
+        if (end < 0 || end + 1 >= this.line.length() || this.line.charAt(end + 1) != '\'') {
+            throw new CommonParsingException(this.loc, "Symbol category is not closed");
+        }
+        final String name = this.line.substring(start, end);
+        if (!SymbolCategoryToken.isSupported(name)) {
+            throw new CommonParsingException(
+                this.loc,
+                String.format("Unknown symbol category: '%s'", name)
+            );
+        }
+        this.index = end + 1;
+        this.nextChar();
+        return new SymbolCategoryToken(name);
+    }
+
     /**
      * Reads and parses a quoted string literal, handling escape sequences.
      * @param quote The quotation mark character that started the string (either {@code '}
@@ -274,6 +283,34 @@ public final class Scanner {
         return Ellipsis.INSTANCE;
     }
 
+    /**
+     * Creates a table of tokens representing a single character.
+     * @return Array where the index is the character code
+     */
+    private static SingleCharToken[] createTokenTable() {
+        final SingleCharToken[] table = new SingleCharToken[128];
+        final SingleCharToken[] tokens = {
+            Comma.INSTANCE,
+            AtSymbol.INSTANCE,
+            VerticalLine.INSTANCE,
+            Ampersand.INSTANCE,
+            OpeningCurlyBracket.INSTANCE,
+            ClosingCurlyBracket.INSTANCE,
+            OpeningSquareBracket.INSTANCE,
+            ClosingSquareBracket.INSTANCE,
+            OpeningAngleBracket.INSTANCE,
+            ClosingAngleBracket.INSTANCE,
+            OpeningRoundBracket.INSTANCE,
+            ClosingRoundBracket.INSTANCE,
+            HashSymbol.INSTANCE,
+            Tilde.INSTANCE
+        };
+        for (final SingleCharToken token : tokens) {
+            table[token.getChar()] = token;
+        }
+        return table;
+    }
+
     /**
      * Exception 'Unknown symbol'.
      * @since 1.0.0
@@ -34,7 +34,12 @@ public final class Statement {
     private Location location;
 
     /**
-     * Source code of the statement.
+     * Language marker of the statement or empty string.
+     */
+    private String language;
+
+    /**
+     * Source code of the statement without the language marker and with normalized spaces.
      */
     private String code;
 
@@ -53,15 +58,11 @@ public final class Statement {
     }
 
     /**
-     * Extracts the language marker if it is present in the statement.
+     * Returns the language marker if it is present in the statement.
      * @return Language or empty string
      */
     public String getLanguage() {
-        String language = "";
-        if (this.code.matches("^[a-zA-Z][a-zA-Z0-9]*:.*")) {
-            language = this.code.split(":")[0].trim();
-        }
-        return language;
+        return this.language;
     }
 
     /**
@@ -69,14 +70,7 @@ public final class Statement {
      * @return Source code of the statement
      */
     public String getCode() {
-        final String language = this.getLanguage();
-        String tail = this.code;
-        if (!language.isEmpty()) {
-            tail = this.code.substring(language.length() + 1).trim();
-        }
-        return tail
-            .replaceAll("[\\r\\n]+", " ")
-            .replaceAll("\\s{2,}", " ");
+        return this.code;
     }
 
     @Override
@@ -164,8 +158,81 @@ public final class Statement {
             }
             final Statement stmt = new Statement();
             stmt.location = new Location(this.filename, this.begin, this.end);
-            stmt.code = this.code;
+            final String normalized = Constructor.normalizeSpaces(this.code);
+            final int length = Constructor.getLanguageLength(normalized);
+            if (length > 0) {
+                stmt.language = normalized.substring(0, length);
+                stmt.code = normalized.substring(length + 1).trim();
+            } else {
+                stmt.language = "";
+                stmt.code = normalized;
+            }
             return stmt;
         }
+
+        /**
+         * Replaces line breaks and sequences of several whitespace characters with
+         *  a single space.
+         * @param text Source text
+         * @return Normalized text
+         */
+        private static String normalizeSpaces(final String text) {
+            final int length = text.length();
+            final StringBuilder builder = new StringBuilder(length);
+            int index = 0;
+            while (index < length) {
+                final char chr = text.charAt(index);
+                if (Character.isWhitespace(chr)) {
+                    int next = index + 1;
+                    while (next < length && Character.isWhitespace(text.charAt(next))) {
+                        next = next + 1;
+                    }
+                    if (next - index > 1 || chr == '\r' || chr == '\n') {
+                        builder.append(' ');
+                    } else {
+                        builder.append(chr);
+                    }
+                    index = next;
+                } else {
+                    builder.append(chr);
+                    index = index + 1;
+                }
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Calculates the length of the language marker, i.e. an identifier
+         *  that starts with a letter and is followed by a colon.
+         * @param text Source text
+         * @return Length of the marker or 0 if there is no marker
+         */
+        private static int getLanguageLength(final String text) {
+            final int length = text.length();
+            int index = 0;
+            if (length > 0 && Constructor.isLatinLetter(text.charAt(0))) {
+                index = 1;
+                while (index < length && (Constructor.isLatinLetter(text.charAt(index))
+                    || text.charAt(index) >= '0' && text.charAt(index) <= '9')) {
+                    index = index + 1;
+                }
+            }
+            final int result;
+            if (index > 0 && index < length && text.charAt(index) == ':') {
+                result = index;
+            } else {
+                result = 0;
+            }
+            return result;
+        }
+
+        /**
+         * Checks whether the character is a Latin letter.
+         * @param chr Character
+         * @return Checking result
+         */
+        private static boolean isLatinLetter(final char chr) {
+            return chr >= 'a' && chr <= 'z' || chr >= 'A' && chr <= 'Z';
+        }
     }
 }
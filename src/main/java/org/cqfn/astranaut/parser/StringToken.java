@@ -48,6 +48,14 @@ public final class StringToken extends CharSequenceToken {
         this.value = value;
     }
 
+    /**
+     * Returns the quote character that encloses the string.
+     * @return Single or double quote
+     */
+    public char getQuote() {
+        return this.quote;
+    }
+
     /**
      * Returns value of the token.
      * @return String value of the token
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.parser;
+
+import java.util.Map;
+import org.cqfn.astranaut.core.utils.MapUtils;
+
+/**
+ * Token representing a Unicode category of symbols, for example, {@code '\p{L}'} (letters)
+ *  or {@code '\p{Nd}'} (decimal digits).
+ * @since 1.0.0
+ */
+public final class SymbolCategoryToken extends SymbolicToken {
+    /**
+     * Supported categories, where value is a bit mask of character types
+     *  as returned by {@link Character#getType(char)}.
+     */
+    private static final Map<String, Integer> CATEGORIES =
+        new MapUtils<String, Integer>()
+            .put(
+                "L",
+                1 << Character.UPPERCASE_LETTER | 1 << Character.LOWERCASE_LETTER
+                    | 1 << Character.TITLECASE_LETTER | 1 << Character.MODIFIER_LETTER
+                    | 1 << Character.OTHER_LETTER
+            )
+            .put("Lu", 1 << Character.UPPERCASE_LETTER)
+            .put("Ll", 1 << Character.LOWERCASE_LETTER)
+            .put("Lt", 1 << Character.TITLECASE_LETTER)
+            .put("Lm", 1 << Character.MODIFIER_LETTER)
+            .put("Lo", 1 << Character.OTHER_LETTER)
+            .put(
+                "N",
+                1 << Character.DECIMAL_DIGIT_NUMBER | 1 << Character.LETTER_NUMBER
+                    | 1 << Character.OTHER_NUMBER
+            )
+            .put("Nd", 1 << Character.DECIMAL_DIGIT_NUMBER)
+            .put("Nl", 1 << Character.LETTER_NUMBER)
+            .put("No", 1 << Character.OTHER_NUMBER)
+            .make();
+
+    /**
+     * Name of the category.
+     */
+    private final String name;
+
+    /**
+     * Bit mask of character types that belong to the category.
+     */
+    private final int mask;
+
+    /**
+     * First symbol of the category.
+     */
+    private final char first;
+
+    /**
+     * Last symbol of the category.
+     */
+    private final char last;
+
+    /**
+     * Constructor.
+     * @param name Name of the category, must be one of the supported ones
+     */
+    public SymbolCategoryToken(final String name) {
+        this.name = name;
+        this.mask = SymbolCategoryToken.CATEGORIES.get(name);
+        char lower = Character.MAX_VALUE;
+        char upper = Character.MIN_VALUE;
+        for (int code = Character.MIN_VALUE; code <= Character.MAX_VALUE; code = code + 1) {
+            if ((this.mask >> Character.getType(code) & 1) != 0) {
+                lower = (char) Math.min(lower, code);
+                upper = (char) code;
+            }
+        }
+        this.first = lower;
+        this.last = upper;
+    }
+
+    /**
+     * Checks whether a category is supported.
+     * @param name Name of the category
+     * @return Checking result, {@code true} if the category is supported
+     */
+    public static boolean isSupported(final String name) {
+        return SymbolCategoryToken.CATEGORIES.containsKey(name);
+    }
+
+    /**
+     * Returns the name of the category.
+     * @return Name of the category
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the bit mask of character types that belong to the category,
+     *  i.e. bit {@code n} is set if characters of type {@code n}
+     *  (see {@link Character#getType(char)}) belong to the category.
+     * @return Bit mask
+     */
+    public int getMask() {
+        return this.mask;
+    }
+
+    @Override
+    public char getFirstSymbol() {
+        return this.first;
+    }
+
+    @Override
+    public char getLastSymbol() {
+        return this.last;
+    }
+
+    @Override
+    public String getValueAsString() {
+        return String.format("\\p{%s}", this.name);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("'%s'", this.getValueAsString());
+    }
+}
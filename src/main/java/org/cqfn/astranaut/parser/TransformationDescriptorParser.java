@@ -49,6 +49,11 @@ public final class TransformationDescriptorParser {
      */
     private boolean direction;
 
+    /**
+     * Names of the parent node types to which the rule is restricted.
+     */
+    private final List<String> scope;
+
     /**
      * Constructor.
      * @param language Name of the programming language whose entity this
@@ -58,6 +63,7 @@ public final class TransformationDescriptorParser {
     public TransformationDescriptorParser(final String language, final Statement stmt) {
         this.language = language;
         this.stmt = stmt;
+        this.scope = new ArrayList<>(0);
     }
 
     /**
@@ -86,6 +92,9 @@ public final class TransformationDescriptorParser {
             if (this.direction) {
                 result.setRightToLeftDirection();
             }
+            if (!this.scope.isEmpty()) {
+                result.setScope(this.scope);
+            }
             return result;
         } catch (final IllegalArgumentException exception) {
             throw new CommonParsingException(
@@ -105,7 +114,7 @@ public final class TransformationDescriptorParser {
     private List<LeftSideItem> parseLeftSide(final String code, final HoleCounter holes)
         throws ParsingException {
         final Scanner scanner = new Scanner(this.stmt.getLocation(), code);
-        Token first = scanner.getToken();
+        Token first = this.parseScope(scanner);
         Token next;
         do {
             if (!(first instanceof Ellipsis)) {
@@ -147,6 +156,35 @@ public final class TransformationDescriptorParser {
         return list;
     }
 
+    /**
+     * Parses the scope of the transformation rule, i.e., the list of parent node types
+     *  preceded by '@' symbols, if any.
+     * @param scanner Scanner
+     * @return The first token following the scope
+     * @throws ParsingException  If the parse fails
+     */
+    private Token parseScope(final Scanner scanner) throws ParsingException {
+        Token token = scanner.getToken();
+        while (token instanceof AtSymbol) {
+            final Token name = scanner.getToken();
+            if (!(name instanceof Identifier)) {
+                throw new CommonParsingException(
+                    this.stmt.getLocation(),
+                    "The name of the parent node type is expected after '@'"
+                );
+            }
+            this.scope.add(name.toString());
+            token = scanner.getToken();
+        }
+        if (!this.scope.isEmpty() && token == null) {
+            throw new CommonParsingException(
+                this.stmt.getLocation(),
+                "You need at least one descriptor after the scope"
+            );
+        }
+        return token;
+    }
+
     /**
      * Parses Parses the right side of the transformation rule, i.e., resulting descriptor.
      * @param code Source code of the left part
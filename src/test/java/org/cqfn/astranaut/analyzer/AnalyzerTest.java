@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.analyzer;
+
+import java.util.Map;
+import org.cqfn.astranaut.dsl.ChildDescriptorExt;
+import org.cqfn.astranaut.dsl.NodeDescriptor;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link Analyzer} class.
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.CloseResource")
+class AnalyzerTest {
+    /**
+     * Number of layers in a deep hierarchy.
+     */
+    private static final int DEPTH = 40;
+
+    /**
+     * Number of abstract nodes in each layer of a deep hierarchy.
+     */
+    private static final int WIDTH = 4;
+
+    /**
+     * Number of non-abstract nodes in a wide hierarchy.
+     */
+    private static final int LEAVES = 5000;
+
+    @Test
+    void deepHierarchy() {
+        final StringBuilder code = new StringBuilder(8192);
+        for (int layer = 0; layer < AnalyzerTest.DEPTH; layer = layer + 1) {
+            for (int index = 0; index < AnalyzerTest.WIDTH; index = index + 1) {
+                code.append(AnalyzerTest.getName(layer, index)).append(" <- ");
+                for (int sub = 0; sub < AnalyzerTest.WIDTH; sub = sub + 1) {
+                    if (sub > 0) {
+                        code.append(" | ");
+                    }
+                    code.append(AnalyzerTest.getName(layer + 1, sub));
+                }
+                code.append(";\n");
+            }
+        }
+        for (int index = 0; index < AnalyzerTest.WIDTH; index = index + 1) {
+            code.append(AnalyzerTest.getName(AnalyzerTest.DEPTH, index))
+                .append(" <- left@Child, right@Child;\n");
+        }
+        code.append("Child <- 0;\n");
+        final Program program = AnalyzerTest.analyze(code.toString());
+        Assertions.assertNotNull(program);
+        final NodeDescriptor top = program.getNodeDescriptorByNameAndLanguage(
+            AnalyzerTest.getName(0, 0),
+            "common"
+        );
+        final Map<String, ChildDescriptorExt> tags = top.getTags();
+        Assertions.assertEquals(2, tags.size());
+        Assertions.assertTrue(tags.containsKey("left"));
+        Assertions.assertTrue(tags.containsKey("right"));
+        final NodeDescriptor bottom = program.getNodeDescriptorByNameAndLanguage(
+            AnalyzerTest.getName(AnalyzerTest.DEPTH, 0),
+            "common"
+        );
+        Assertions.assertEquals(
+            AnalyzerTest.DEPTH * AnalyzerTest.WIDTH + 1,
+            bottom.getTopology().size()
+        );
+        Assertions.assertTrue(bottom.baseHasTag("left"));
+        Assertions.assertTrue(bottom.inheritsFrom(top));
+        Assertions.assertFalse(top.inheritsFrom(bottom));
+    }
+
+    @Test
+    void wideHierarchy() {
+        final StringBuilder code = new StringBuilder(65_536);
+        code.append("Base <- ");
+        for (int index = 0; index < AnalyzerTest.LEAVES; index = index + 1) {
+            if (index > 0) {
+                code.append(" | ");
+            }
+            code.append("Middle").append(index % 2).append("Leaf").append(index);
+        }
+        code.append(";\nMiddle0 <- ");
+        for (int index = 0; index < AnalyzerTest.LEAVES; index = index + 2) {
+            if (index > 0) {
+                code.append(" | ");
+            }
+            code.append("Middle0Leaf").append(index);
+        }
+        code.append(";\n");
+        for (int index = 0; index < AnalyzerTest.LEAVES; index = index + 1) {
+            code.append("Middle").append(index % 2).append("Leaf").append(index)
+                .append(" <- value@Child");
+            if (index % 2 == 0) {
+                code.append(", extra@Child");
+            }
+            code.append(";\n");
+        }
+        code.append("Child <- 0;\n");
+        final Program program = AnalyzerTest.analyze(code.toString());
+        Assertions.assertNotNull(program);
+        final NodeDescriptor base =
+            program.getNodeDescriptorByNameAndLanguage("Base", "common");
+        Assertions.assertEquals(1, base.getTags().size());
+        Assertions.assertTrue(base.getTags().containsKey("value"));
+        final NodeDescriptor middle =
+            program.getNodeDescriptorByNameAndLanguage("Middle0", "common");
+        Assertions.assertEquals(2, middle.getTags().size());
+    }
+
+    @Test
+    void cycleInHierarchy() {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode("A <- B | C;\nB <- D | A;\nC <- 0;\nD <- 0;");
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            final Program program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException exception) {
+            oops = true;
+            Assertions.assertTrue(
+                exception.getErrorMessage().startsWith(
+                    "Adding this descriptor would create a cycle"
+                )
+            );
+        }
+        Assertions.assertTrue(oops);
+    }
+
+    /**
+     * Parses and analyzes a program.
+     * @param code Source code of the program
+     * @return Analyzed program or {@code null} if the program contains errors
+     */
+    private static Program analyze(final String code) {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(code);
+        Program program;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            program = null;
+        }
+        return program;
+    }
+
+    /**
+     * Composes the name of an abstract node of a deep hierarchy.
+     * @param layer Layer number
+     * @param index Index of the node in the layer
+     * @return Name of the node
+     */
+    private static String getName(final int layer, final int index) {
+        final String name;
+        if (layer == AnalyzerTest.DEPTH) {
+            name = String.format("Leaf%d", index);
+        } else {
+            name = String.format("Layer%dNode%d", layer, index);
+        }
+        return name;
+    }
+}
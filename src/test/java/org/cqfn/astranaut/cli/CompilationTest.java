@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.cqfn.astranaut.core.base.Node;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that generate the source code from rule sets and compile it against astranaut-core,
+ *  so that generated code that does not compile is found even if it matches a fixture.
+ * @since 1.0.0
+ */
+class CompilationTest extends EndToEndTest {
+    @Test
+    void literalValues(final @TempDir Path temp) {
+        CompilationTest.generateAndCompile("literal_values.dsl", temp);
+    }
+
+    @Test
+    void nodesFromDifferentLanguages(final @TempDir Path temp) {
+        CompilationTest.generateAndCompile("nodes_from_different_languages.dsl", temp);
+    }
+
+    @Test
+    void complexResultingNode(final @TempDir Path temp) {
+        CompilationTest.generateAndCompile("complex_resulting_node.dsl", temp);
+    }
+
+    @Test
+    void dispatchTable(final @TempDir Path temp) {
+        CompilationTest.generateAndCompile("dispatch_table.dsl", temp);
+    }
+
+    @Test
+    void operatorTable(final @TempDir Path temp) {
+        CompilationTest.generateAndCompile("operator_table.dsl", temp);
+    }
+
+    @Test
+    void scopedRules(final @TempDir Path temp) {
+        CompilationTest.generateAndCompile("scoped_rules.dsl", temp);
+    }
+
+    /**
+     * Runs the project in code generation mode and compiles the generated files,
+     *  asserting that the compilation succeeds.
+     * @param rules Name of the file containing the rules (DSL code)
+     * @param dir Temporary folder path
+     */
+    private static void generateAndCompile(final String rules, final Path dir) {
+        final Path output = dir.resolve("output");
+        final Path classes = dir.resolve("classes");
+        final String[] args = {
+            "generate",
+            String.format("src/test/resources/dsl/%s", rules),
+            "--output",
+            output.toFile().getAbsolutePath(),
+            "--package",
+            "org.cqfn.uast.tree",
+            "--license",
+            "LICENSE.txt",
+            "--version",
+            "1.0.0",
+            "--no-cache",
+        };
+        Main.main(args);
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Assertions.assertNotNull(compiler);
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean oops = false;
+        boolean success = false;
+        try (
+            StandardJavaFileManager manager =
+                compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8);
+            Stream<Path> paths = Files.walk(output)
+        ) {
+            Files.createDirectories(classes);
+            final List<File> files = paths
+                .filter(path -> path.toString().endsWith(".java"))
+                .map(Path::toFile)
+                .collect(Collectors.toList());
+            Assertions.assertFalse(files.isEmpty());
+            final List<String> options = Arrays.asList(
+                "-d",
+                classes.toFile().getAbsolutePath(),
+                "-classpath",
+                Paths.get(
+                    Node.class.getProtectionDomain().getCodeSource().getLocation().toURI()
+                ).toString(),
+                "-proc:none",
+                "-nowarn"
+            );
+            success = compiler.getTask(
+                null,
+                manager,
+                diagnostics,
+                options,
+                null,
+                manager.getJavaFileObjectsFromFiles(files)
+            ).call();
+        } catch (final IOException | URISyntaxException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        Assertions.assertTrue(success, diagnostics.getDiagnostics().toString());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * End-to-end tests checking conversion of syntax trees between file formats.
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class ConvertTest extends EndToEndTest {
+    /**
+     * DSL file used in tests.
+     */
+    private static final String DSL =
+        "src/test/resources/dsl/identifiers_numbers_and_operators.dsl";
+
+    /**
+     * Source tree used in tests.
+     */
+    private static final String SOURCE =
+        "src/test/resources/sources/correct_and_strange_chars.json";
+
+    @Test
+    void jsonToBinaryAndBack(final @TempDir Path temp) {
+        final Path binary = temp.resolve("tree.atree");
+        final Path json = temp.resolve("tree.json");
+        final Path direct = temp.resolve("direct.json");
+        boolean oops = false;
+        try {
+            ConvertTest.convert(ConvertTest.SOURCE, binary.toString());
+            ConvertTest.convert(binary.toString(), json.toString());
+            ConvertTest.convert(ConvertTest.SOURCE, direct.toString());
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        Assertions.assertTrue(binary.toFile().length() < json.toFile().length());
+        Assertions.assertEquals(this.getAllFilesContent(direct), this.getAllFilesContent(json));
+    }
+
+    @Test
+    void binaryFlag(final @TempDir Path temp) {
+        final Path binary = temp.resolve("tree.bin");
+        final Path json = temp.resolve("tree.json");
+        boolean oops = false;
+        try {
+            Main.run(
+                "convert",
+                ConvertTest.DSL,
+                "-s",
+                ConvertTest.SOURCE,
+                "-t",
+                binary.toString(),
+                "-b",
+                "--no-cache"
+            );
+            Main.run(
+                "convert",
+                ConvertTest.DSL,
+                "--binary",
+                "-s",
+                binary.toString(),
+                "-t",
+                json.toString(),
+                "--no-cache"
+            );
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        Assertions.assertTrue(json.toFile().exists());
+    }
+
+    @Test
+    void noOutputFile() {
+        Assertions.assertThrows(
+            BaseException.class,
+            () -> Main.run("convert", ConvertTest.DSL, "-s", ConvertTest.SOURCE, "--no-cache")
+        );
+    }
+
+    @Test
+    void malformedBinaryFile(final @TempDir Path temp) {
+        final Path binary = temp.resolve("tree.atree");
+        boolean oops = false;
+        try {
+            Files.copy(Paths.get(ConvertTest.SOURCE), binary);
+        } catch (final IOException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        Assertions.assertThrows(
+            BaseException.class,
+            () -> ConvertTest.convert(binary.toString(), temp.resolve("tree.json").toString())
+        );
+    }
+
+    /**
+     * Runs the project in conversion mode.
+     * @param source Path to the source file
+     * @param target Path to the target file
+     * @throws BaseException If the conversion failed
+     */
+    private static void convert(final String source, final String target) throws BaseException {
+        Main.run("convert", ConvertTest.DSL, "-s", source, "-t", target, "--no-cache");
+    }
+}
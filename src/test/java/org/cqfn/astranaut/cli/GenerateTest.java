@@ -180,6 +180,7 @@ class GenerateTest extends EndToEndTest {
                 "LICENSE.txt",
                 "--version",
                 "1.0.0",
+                "--no-cache",
             };
             boolean wow = false;
             try {
@@ -220,6 +221,7 @@ class GenerateTest extends EndToEndTest {
             "LICENSE.txt",
             "--version",
             "1.0.0",
+            "--no-cache",
         };
         boolean wow = false;
         try {
@@ -459,6 +461,60 @@ class GenerateTest extends EndToEndTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void scopedRules(final @TempDir Path temp) {
+        final String expected = this.loadStringResource("scoped_rules.txt");
+        final String actual = this.run("scoped_rules.dsl", temp);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void lookaround(final @TempDir Path temp) {
+        final String expected = this.loadStringResource("lookaround.txt");
+        final String actual = this.run("lookaround.dsl", temp);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void operatorTable(final @TempDir Path temp) {
+        final String expected = this.loadStringResource("operator_table.txt");
+        final String actual = this.run("operator_table.dsl", temp);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void ruleFusion(final @TempDir Path temp) {
+        final String expected = this.loadStringResource("rule_fusion.txt");
+        final String actual = this.run("rule_fusion.dsl", temp);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void dispatchTable(final @TempDir Path temp) {
+        final String expected = this.loadStringResource("dispatch_table.txt");
+        final String actual = this.run("dispatch_table.dsl", temp);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void characterClasses(final @TempDir Path temp) {
+        final String expected = this.loadStringResource("character_classes.txt");
+        final String actual = this.run("character_classes.dsl", temp);
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void literalValues(final @TempDir Path temp) {
+        final String expected = this.loadStringResource("literal_values.txt");
+        final String actual = this.run("literal_values.dsl", temp);
+        Assertions.assertEquals(expected, actual);
+        Assertions.assertTrue(actual.contains("IntegerLiteral.hasValue(node, 5)"));
+        Assertions.assertTrue(actual.contains("CharLiteral.hasValue(node, (char) 43)"));
+        Assertions.assertTrue(actual.contains("BooleanLiteral.hasValue(node, true)"));
+        Assertions.assertTrue(actual.contains("!IntegerLiteral.hasValue(list.get(index), 5)"));
+        Assertions.assertTrue(actual.contains("return IntegerLiteral.of(fragment, 5);"));
+    }
+
     /**
      * Runs the project in code generation mode and compiles all generated files
      *  into a single listing.
@@ -479,6 +535,7 @@ class GenerateTest extends EndToEndTest {
             "LICENSE.txt",
             "--version",
             "1.0.0",
+            "--no-cache",
         };
         Main.main(args);
         Assertions.assertTrue(output.toFile().exists());
@@ -507,6 +564,7 @@ class GenerateTest extends EndToEndTest {
             "LICENSE.txt",
             "--version",
             "1.0.0",
+            "--no-cache",
         };
         boolean oops = false;
         try {
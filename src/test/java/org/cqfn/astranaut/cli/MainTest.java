@@ -73,6 +73,7 @@ class MainTest {
             output.toFile().getAbsolutePath(),
             "--package",
             "tree",
+            "--no-cache",
         };
         Main.main(args);
         final File generated = temp.resolve("output/tree/common/nodes").toFile();
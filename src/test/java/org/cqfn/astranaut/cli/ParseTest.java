@@ -50,6 +50,7 @@ class ParseTest extends EndToEndTest {
             ast.toFile().getAbsolutePath(),
             "--image",
             image.toFile().getAbsolutePath(),
+            "--no-cache",
         };
         Main.main(args);
         Assertions.assertTrue(ast.toFile().exists());
@@ -71,6 +72,7 @@ class ParseTest extends EndToEndTest {
             ast.toFile().getAbsolutePath(),
             "-i",
             image.toFile().getAbsolutePath(),
+            "--no-cache",
         };
         Main.main(args);
         Assertions.assertTrue(ast.toFile().exists());
@@ -165,6 +167,104 @@ class ParseTest extends EndToEndTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void scopedRules(final @TempDir Path temp) {
+        final String actual = this.run(
+            "scoped_rules.dsl",
+            "identifier_and_comment.txt",
+            temp
+        );
+        final String expected = this.loadStringResource("identifier_and_comment.json");
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void lookaround(final @TempDir Path temp) {
+        final String actual = this.run(
+            "lookaround.dsl",
+            "call_with_field.txt",
+            temp
+        );
+        final String expected = this.loadStringResource("call_with_field.json");
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void operatorTable(final @TempDir Path temp) {
+        final String actual = this.run(
+            "operator_table.dsl",
+            "arithmetic.txt",
+            temp
+        );
+        final String expected = this.loadStringResource("arithmetic.json");
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void ruleFusion(final @TempDir Path temp) {
+        final String actual = this.run(
+            "rule_fusion.dsl",
+            "letters_and_signs.txt",
+            temp
+        );
+        final String expected = this.loadStringResource("letters_and_signs.json");
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void dispatchTable(final @TempDir Path temp) {
+        final String actual = this.run(
+            "dispatch_table.dsl",
+            "keywords_and_operators.txt",
+            temp
+        );
+        final String expected = this.loadStringResource("keywords_and_operators.json");
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void characterClasses(final @TempDir Path temp) {
+        final String actual = this.run(
+            "character_classes.dsl",
+            "unicode_identifiers.txt",
+            temp
+        );
+        final String expected = this.loadStringResource("unicode_identifiers.json");
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void tokensInJsonLinesFormat(final @TempDir Path temp) {
+        final String actual = this.runWithTokens("two_additions.jsonl", temp);
+        final String expected = this.loadStringResource("two_additions_from_tokens.json");
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void tokensInBinaryFormat(final @TempDir Path temp) {
+        final String actual = this.runWithTokens("two_additions.tokens", temp);
+        final String expected = this.loadStringResource("two_additions_from_tokens.json");
+        Assertions.assertEquals(expected, actual);
+    }
+
+    @Test
+    void tokensThatDoNotMatchSource(final @TempDir Path temp) {
+        final Path ast = temp.resolve("ast.json");
+        final String[] args = {
+            "parse",
+            "src/test/resources/dsl/token_stream.dsl",
+            "--tokens",
+            "src/test/resources/sources/two_additions.jsonl",
+            "--source",
+            "src/test/resources/sources/identifier_and_number.txt",
+            "--ast",
+            ast.toFile().getAbsolutePath(),
+            "--no-cache",
+        };
+        Main.main(args);
+        Assertions.assertFalse(ast.toFile().exists());
+    }
+
     /**
      * Runs the project in parsing mode and reads the generated file.
      * @param rules Name of the file containing the rules (DSL code)
@@ -181,6 +281,32 @@ class ParseTest extends EndToEndTest {
             String.format("src/test/resources/sources/%s", source),
             "--ast",
             ast.toFile().getAbsolutePath(),
+            "--no-cache",
+        };
+        Main.main(args);
+        Assertions.assertTrue(ast.toFile().exists());
+        return this.getAllFilesContent(ast);
+    }
+
+    /**
+     * Runs the project in parsing mode starting from tokens produced by an external lexer
+     *  and reads the generated file.
+     * @param tokens Name of the file containing tokens
+     * @param dir Temporary folder path
+     * @return Generated syntax tree
+     */
+    private String runWithTokens(final String tokens, final Path dir) {
+        final Path ast = dir.resolve("ast.json");
+        final String[] args = {
+            "parse",
+            "src/test/resources/dsl/token_stream.dsl",
+            "-k",
+            String.format("src/test/resources/sources/%s", tokens),
+            "-s",
+            "src/test/resources/sources/two_additions.txt",
+            "-t",
+            ast.toFile().getAbsolutePath(),
+            "--no-cache",
         };
         Main.main(args);
         Assertions.assertTrue(ast.toFile().exists());
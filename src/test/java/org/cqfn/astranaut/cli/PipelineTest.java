@@ -0,0 +1,217 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryInput;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.io.BinaryTreeReader;
+import org.cqfn.astranaut.io.BinaryTreeWriter;
+import org.cqfn.astranaut.io.MalformedInput;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link Pipeline} class.
+ * @since 1.0.0
+ */
+class PipelineTest {
+    /**
+     * Tree that is transformed by the rules.
+     */
+    private static final String SOURCE = String.join(
+        "",
+        "{\"root\": {\"type\": \"Root\", \"children\": [",
+        "{\"type\": \"Char\", \"data\": \"x\"}, {\"type\": \"Char\", \"data\": \"abc\"}]}}"
+    );
+
+    /**
+     * Result of the transformation of the tree.
+     */
+    private static final String RESULT = String.join(
+        "",
+        "{\"root\":{\"type\":\"Root\",\"children\":[{\"type\":\"Identifier\",\"data\":\"x\"},",
+        "{\"type\":\"Char\",\"data\":\"abc\"}]}}"
+    );
+
+    /**
+     * Number of records in tests.
+     */
+    private static final int COUNT = 200;
+
+    @Test
+    void jsonLines() {
+        final StringBuilder input = new StringBuilder();
+        final List<String> expected = new ArrayList<>(PipelineTest.COUNT * 2 + 1);
+        for (int index = 0; index < PipelineTest.COUNT; index = index + 1) {
+            input.append(PipelineTest.SOURCE).append('\n');
+            expected.add(PipelineTest.RESULT);
+            input.append("{\"root\": {\"type\": \"Marker\", \"data\": \"")
+                .append(index)
+                .append("\"}}\n\n");
+            expected.add(String.format("{\"root\":{\"type\":\"Marker\",\"data\":\"%d\"}}", index));
+        }
+        input.append("{\"root\": {\"data\": \"x\"}}");
+        expected.add("{\"error\":\"Line 1: Node type is not specified\"}");
+        final byte[] output = PipelineTest.run(
+            input.toString().getBytes(StandardCharsets.UTF_8),
+            false
+        );
+        final String[] lines = new String(output, StandardCharsets.UTF_8).split("\n");
+        Assertions.assertEquals(expected.size(), lines.length);
+        for (int index = 0; index < lines.length; index = index + 1) {
+            Assertions.assertEquals(expected.get(index), lines[index]);
+        }
+    }
+
+    @Test
+    void binaryFrames() {
+        boolean oops = false;
+        try {
+            final ByteArrayOutputStream input = new ByteArrayOutputStream();
+            final BinaryOutput frames = new BinaryOutput(Channels.newChannel(input));
+            for (int index = 0; index < PipelineTest.COUNT; index = index + 1) {
+                final ByteArrayOutputStream frame = new ByteArrayOutputStream();
+                new BinaryTreeWriter(Channels.newChannel(frame)).write(
+                    new Tree(
+                        DraftNode.create(
+                            "Root",
+                            "",
+                            DraftNode.create("Char", "x"),
+                            DraftNode.create("Marker", String.valueOf(index))
+                        )
+                    )
+                );
+                frames.writeBytes(frame.toByteArray());
+            }
+            frames.writeBytes(new byte[] {1, 2, 3});
+            frames.flush();
+            final BinaryInput output = new BinaryInput(
+                Channels.newChannel(
+                    new ByteArrayInputStream(PipelineTest.run(input.toByteArray(), true))
+                )
+            );
+            final Program program = PipelineTest.createProgram();
+            for (int index = 0; index < PipelineTest.COUNT; index = index + 1) {
+                final Tree tree = new BinaryTreeReader(
+                    Channels.newChannel(new ByteArrayInputStream(output.readBytes())),
+                    program
+                ).read();
+                Assertions.assertEquals("Identifier", tree.getRoot().getChild(0).getTypeName());
+                Assertions.assertEquals(
+                    String.valueOf(index),
+                    tree.getRoot().getChild(1).getData()
+                );
+            }
+            final BinaryInput error = new BinaryInput(
+                Channels.newChannel(new ByteArrayInputStream(output.readBytes()))
+            );
+            for (final char chr : Pipeline.ERROR_SIGNATURE.toCharArray()) {
+                Assertions.assertEquals(chr, error.readByte());
+            }
+            Assertions.assertEquals(
+                "The stream is not in the binary tree format",
+                error.readString()
+            );
+            Assertions.assertFalse(error.hasMore());
+            Assertions.assertFalse(output.hasMore());
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void truncatedFrame() {
+        final Program program = PipelineTest.createProgram();
+        final Pipeline pipeline = new Pipeline(
+            program,
+            program.getTransformer("common"),
+            true,
+            2
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> pipeline.run(
+                new ByteArrayInputStream(new byte[] {10, 1, 2}),
+                new ByteArrayOutputStream()
+            )
+        );
+    }
+
+    /**
+     * Runs the pipeline.
+     * @param input Input bytes
+     * @param binary Flag indicating that records are in the compact binary format
+     * @return Output bytes
+     */
+    private static byte[] run(final byte[] input, final boolean binary) {
+        final Program program = PipelineTest.createProgram();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        boolean oops = false;
+        try {
+            new Pipeline(program, program.getTransformer("common"), binary, 4).run(
+                new ByteArrayInputStream(input),
+                output
+            );
+        } catch (final IOException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads and analyzes the program used in tests.
+     * @return Program
+     */
+    private static Program createProgram() {
+        Program program = null;
+        boolean oops = false;
+        try {
+            final DslReader reader = new DslReader();
+            reader.readFile("src/test/resources/dsl/identifiers_numbers_and_operators.dsl");
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return program;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cqfn.astranaut.core.base.Provider;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests covering {@link ProgramCache} class.
+ * @since 1.0.0
+ */
+class ProgramCacheTest {
+    /**
+     * DSL program.
+     */
+    private static final String CODE = "Letter <- 'char';\n'a..z'<#1> -> Letter<#1>;\n";
+
+    @Test
+    void concurrentRequests(final @TempDir Path temp)
+        throws IOException, InterruptedException, ExecutionException {
+        final Path file = temp.resolve("program.dsl");
+        Files.write(file, ProgramCacheTest.CODE.getBytes(StandardCharsets.UTF_8));
+        final ProgramCache cache = new ProgramCache(true, false);
+        final ExecutorService pool = Executors.newFixedThreadPool(8);
+        final List<Future<Provider>> futures = new ArrayList<>(32);
+        for (int index = 0; index < 32; index = index + 1) {
+            futures.add(pool.submit(() -> cache.get(file.toString())));
+        }
+        final List<Provider> providers = new ArrayList<>(32);
+        for (final Future<Provider> future : futures) {
+            providers.add(future.get());
+        }
+        pool.shutdown();
+        for (final Provider provider : providers) {
+            Assertions.assertSame(providers.get(0), provider);
+        }
+    }
+
+    @Test
+    void reloadAfterModification(final @TempDir Path temp) throws IOException, BaseException {
+        final Path file = temp.resolve("program.dsl");
+        Files.write(file, ProgramCacheTest.CODE.getBytes(StandardCharsets.UTF_8));
+        final ProgramCache cache = new ProgramCache(true, false);
+        final Provider first = cache.get(file.toString());
+        Assertions.assertSame(first, cache.get(file.toString()));
+        final File handle = file.toFile();
+        Assertions.assertTrue(handle.setLastModified(handle.lastModified() - 10_000L));
+        final Provider second = cache.get(file.toString());
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(second, cache.get(file.toString()));
+    }
+
+    @Test
+    void retryAfterFailure(final @TempDir Path temp) throws IOException, BaseException {
+        final Path file = temp.resolve("program.dsl");
+        Files.write(file, "Letter <- ".getBytes(StandardCharsets.UTF_8));
+        final ProgramCache cache = new ProgramCache(true, false);
+        Assertions.assertThrows(BaseException.class, () -> cache.get(file.toString()));
+        Assertions.assertThrows(BaseException.class, () -> cache.get(file.toString()));
+        Files.write(file, ProgramCacheTest.CODE.getBytes(StandardCharsets.UTF_8));
+        Assertions.assertNotNull(cache.get(file.toString()));
+    }
+}
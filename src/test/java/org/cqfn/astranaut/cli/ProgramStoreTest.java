@@ -0,0 +1,262 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cqfn.astranaut.dsl.BinaryProgramWriter;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests covering {@link ProgramStore} class.
+ * @since 1.0.0
+ */
+class ProgramStoreTest {
+    /**
+     * Imported DSL file.
+     */
+    private static final String BASE = "Letter <- 'char';\n'a..z'<#1> -> Letter<#1>;\n";
+
+    /**
+     * Main DSL file.
+     */
+    private static final String MAIN = String.join(
+        "\n",
+        "import base.dsl;",
+        "Word <- 'String', '\"\"';",
+        "Letter<#1>, {Letter<#1>} -> Word<#1>;"
+    );
+
+    @Test
+    void reuseAndInvalidation(final @TempDir Path temp) throws IOException, BaseException {
+        final Path main = temp.resolve("main.dsl");
+        final Path base = temp.resolve("base.dsl");
+        Files.write(main, ProgramStoreTest.MAIN.getBytes(StandardCharsets.UTF_8));
+        Files.write(base, ProgramStoreTest.BASE.getBytes(StandardCharsets.UTF_8));
+        final Path folder = temp.resolve("cache");
+        final ProgramStore store = new ProgramStore(folder);
+        final Program first = store.load(main.toString());
+        final File entry = ProgramStoreTest.getSingleEntry(folder);
+        Assertions.assertTrue(entry.setLastModified(1_000_000L));
+        final Program second = store.load(main.toString());
+        Assertions.assertEquals(1_000_000L, entry.lastModified());
+        Assertions.assertEquals(
+            ProgramStoreTest.toString(first),
+            ProgramStoreTest.toString(second)
+        );
+        Files.write(
+            base,
+            ProgramStoreTest.BASE.concat("'A..Z'<#1> -> Letter<#1>;\n")
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        final Program third = store.load(main.toString());
+        Assertions.assertNotEquals(1_000_000L, entry.lastModified());
+        Assertions.assertEquals(
+            first.getAllRules().size() + 1,
+            third.getAllRules().size()
+        );
+        Assertions.assertEquals(entry, ProgramStoreTest.getSingleEntry(folder));
+    }
+
+    @Test
+    void corruptedEntry(final @TempDir Path temp) throws IOException, BaseException {
+        final Path main = temp.resolve("main.dsl");
+        Files.write(main, ProgramStoreTest.MAIN.getBytes(StandardCharsets.UTF_8));
+        Files.write(
+            temp.resolve("base.dsl"),
+            ProgramStoreTest.BASE.getBytes(StandardCharsets.UTF_8)
+        );
+        final Path folder = temp.resolve("cache");
+        final ProgramStore store = new ProgramStore(folder);
+        final Program first = store.load(main.toString());
+        final File entry = ProgramStoreTest.getSingleEntry(folder);
+        Files.write(entry.toPath(), new byte[] {0, 1, 2});
+        final Program second = store.load(main.toString());
+        Assertions.assertEquals(
+            ProgramStoreTest.toString(first),
+            ProgramStoreTest.toString(second)
+        );
+        Assertions.assertTrue(entry.length() > 3);
+    }
+
+    @Test
+    void anotherVersion(final @TempDir Path temp) throws IOException, BaseException {
+        final Path main = temp.resolve("main.dsl");
+        Files.write(main, ProgramStoreTest.MAIN.getBytes(StandardCharsets.UTF_8));
+        Files.write(
+            temp.resolve("base.dsl"),
+            ProgramStoreTest.BASE.getBytes(StandardCharsets.UTF_8)
+        );
+        final Path folder = temp.resolve("cache");
+        final ProgramStore store = new ProgramStore(folder);
+        final Program first = store.load(main.toString());
+        final File entry = ProgramStoreTest.getSingleEntry(folder);
+        final byte[] bytes = Files.readAllBytes(entry.toPath());
+        final int version = ProgramStoreTest.findProgram(bytes) + 4;
+        final byte current = bytes[version];
+        bytes[version] = (byte) (current - 1);
+        Files.write(entry.toPath(), bytes);
+        Assertions.assertTrue(entry.setLastModified(1_000_000L));
+        final Program second = store.load(main.toString());
+        Assertions.assertEquals(
+            ProgramStoreTest.toString(first),
+            ProgramStoreTest.toString(second)
+        );
+        Assertions.assertNotEquals(1_000_000L, entry.lastModified());
+        Assertions.assertEquals(current, Files.readAllBytes(entry.toPath())[version]);
+    }
+
+    @Test
+    void entryRejectedByAnalyzer(final @TempDir Path temp) throws IOException, BaseException {
+        final Path main = temp.resolve("main.dsl");
+        Files.write(main, ProgramStoreTest.MAIN.getBytes(StandardCharsets.UTF_8));
+        Files.write(
+            temp.resolve("base.dsl"),
+            ProgramStoreTest.BASE.getBytes(StandardCharsets.UTF_8)
+        );
+        final Path folder = temp.resolve("cache");
+        final ProgramStore store = new ProgramStore(folder);
+        final Program first = store.load(main.toString());
+        final File entry = ProgramStoreTest.getSingleEntry(folder);
+        final byte[] bytes = Files.readAllBytes(entry.toPath());
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write(bytes, 0, ProgramStoreTest.findProgram(bytes));
+        final DslReader reader = new DslReader();
+        reader.setSourceCode("Word <- Letter;");
+        final BinaryOutput output = new BinaryOutput(Channels.newChannel(stream));
+        new BinaryProgramWriter(output).write(new ProgramParser().parse(reader));
+        output.flush();
+        Files.write(entry.toPath(), stream.toByteArray());
+        Assertions.assertTrue(entry.setLastModified(1_000_000L));
+        final Program second = store.load(main.toString());
+        Assertions.assertEquals(
+            ProgramStoreTest.toString(first),
+            ProgramStoreTest.toString(second)
+        );
+        Assertions.assertNotEquals(1_000_000L, entry.lastModified());
+    }
+
+    @Test
+    void untrustedEntry(final @TempDir Path temp) throws IOException, BaseException {
+        final Path main = temp.resolve("main.dsl");
+        Files.write(main, ProgramStoreTest.MAIN.getBytes(StandardCharsets.UTF_8));
+        Files.write(
+            temp.resolve("base.dsl"),
+            ProgramStoreTest.BASE.getBytes(StandardCharsets.UTF_8)
+        );
+        final Path folder = temp.resolve("cache");
+        final ProgramStore store = new ProgramStore(folder);
+        store.load(main.toString());
+        if (folder.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Assertions.assertEquals(
+                PosixFilePermissions.fromString("rwx------"),
+                Files.getPosixFilePermissions(folder)
+            );
+            final Path entry = ProgramStoreTest.getSingleEntry(folder).toPath();
+            final Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(entry);
+            permissions.add(PosixFilePermission.OTHERS_WRITE);
+            Files.setPosixFilePermissions(entry, permissions);
+            store.load(main.toString());
+            Assertions.assertFalse(
+                Files.getPosixFilePermissions(entry).contains(PosixFilePermission.OTHERS_WRITE)
+            );
+        }
+    }
+
+    @Test
+    void invalidProgram(final @TempDir Path temp) throws IOException {
+        final Path main = temp.resolve("main.dsl");
+        Files.write(main, "Word <- Letter;".getBytes(StandardCharsets.UTF_8));
+        final Path folder = temp.resolve("cache");
+        final ProgramStore store = new ProgramStore(folder);
+        Assertions.assertThrows(BaseException.class, () -> store.load(main.toString()));
+        Assertions.assertFalse(folder.toFile().exists());
+    }
+
+    /**
+     * Returns the only entry in the cache folder.
+     * @param folder Cache folder
+     * @return Entry
+     * @throws IOException If the folder can't be listed
+     */
+    private static File getSingleEntry(final Path folder) throws IOException {
+        final File[] files;
+        try (Stream<Path> stream = Files.list(folder)) {
+            files = stream.map(Path::toFile).toArray(File[]::new);
+        }
+        Assertions.assertEquals(1, files.length);
+        return files[0];
+    }
+
+    /**
+     * Finds the start of the program in the content of a cache entry, that is,
+     *  the signature of the binary program format following the hashes of the files.
+     * @param bytes Content of the entry
+     * @return Index of the signature
+     */
+    private static int findProgram(final byte[] bytes) {
+        final byte[] signature = "APRG".getBytes(StandardCharsets.US_ASCII);
+        int result = -1;
+        for (int index = 0; result < 0 && index + signature.length <= bytes.length;
+            index = index + 1) {
+            boolean equal = true;
+            for (int offset = 0; equal && offset < signature.length; offset = offset + 1) {
+                equal = bytes[index + offset] == signature[offset];
+            }
+            if (equal) {
+                result = index;
+            }
+        }
+        Assertions.assertTrue(result >= 0);
+        return result;
+    }
+
+    /**
+     * Converts all rules of a program to a string.
+     * @param program Program
+     * @return Rules, one per line
+     */
+    private static String toString(final Program program) {
+        return program.getAllRules().stream()
+            .map(Object::toString)
+            .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryInput;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.io.MalformedInput;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests covering {@link Server} and {@link Client} classes.
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.AvoidDuplicateLiterals")
+class ServerTest extends EndToEndTest {
+    /**
+     * The folder with test resources.
+     */
+    private static final String PREFIX = "src/test/resources/";
+
+    /**
+     * The DSL program used by most tests.
+     */
+    private static final String DSL = "dsl/identifiers_numbers_and_operators.dsl";
+
+    /**
+     * The source file used by most tests.
+     */
+    private static final String SOURCE = "sources/two_additions.txt";
+
+    @Test
+    void parseAndTransform(final @TempDir Path temp) throws IOException {
+        final Server server = new Server(new ProgramCache(true, false), 0, temp);
+        server.start();
+        final Path parsed = temp.resolve("parsed.json");
+        final Path transformed = temp.resolve("transformed.json");
+        boolean oops = false;
+        try {
+            this.send(server, temp, "parse", ServerTest.DSL, ServerTest.SOURCE, parsed);
+            this.send(
+                server,
+                temp,
+                "transform",
+                ServerTest.DSL,
+                "sources/correct_and_strange_chars.json",
+                transformed
+            );
+        } catch (final BaseException ignored) {
+            oops = true;
+        } finally {
+            server.stop();
+        }
+        Assertions.assertFalse(oops);
+        Assertions.assertEquals(
+            this.loadStringResource("two_additions.json"),
+            this.getAllFilesContent(parsed)
+        );
+        Assertions.assertEquals(
+            this.loadStringResource("symbol_and_strange_char.json"),
+            this.getAllFilesContent(transformed)
+        );
+    }
+
+    @Test
+    void concurrentRequests(final @TempDir Path temp) throws IOException {
+        final Server server = new Server(new ProgramCache(true, false), 0, temp);
+        server.start();
+        final int count = 8;
+        final ExecutorService pool = Executors.newFixedThreadPool(count);
+        final List<Future<Boolean>> futures = new ArrayList<>(count);
+        for (int index = 0; index < count; index = index + 1) {
+            final Path result = temp.resolve(String.format("result%d.json", index));
+            futures.add(
+                pool.submit(
+                    () -> {
+                        this.send(
+                            server,
+                            temp,
+                            "transform",
+                            ServerTest.DSL,
+                            "sources/correct_and_strange_chars.json",
+                            result
+                        );
+                        return true;
+                    }
+                )
+            );
+        }
+        boolean oops = false;
+        try {
+            for (final Future<Boolean> future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException | ExecutionException ignored) {
+            oops = true;
+        } finally {
+            pool.shutdown();
+            server.stop();
+        }
+        Assertions.assertFalse(oops);
+        final String expected = this.loadStringResource("symbol_and_strange_char.json");
+        for (int index = 0; index < count; index = index + 1) {
+            Assertions.assertEquals(
+                expected,
+                this.getAllFilesContent(temp.resolve(String.format("result%d.json", index)))
+            );
+        }
+    }
+
+    @Test
+    void reloadModifiedProgram(final @TempDir Path temp) throws IOException {
+        final Path dsl = temp.resolve("program.dsl");
+        Files.copy(Paths.get(ServerTest.PREFIX, ServerTest.DSL), dsl);
+        final Server server = new Server(new ProgramCache(true, false), 0, temp);
+        server.start();
+        final Path before = temp.resolve("before.json");
+        final Path after = temp.resolve("after.json");
+        boolean oops = false;
+        try {
+            this.send(
+                server, temp, "parse", dsl.toString(), "sources/two_identifiers.txt", before
+            );
+            Files.copy(
+                Paths.get(ServerTest.PREFIX, "dsl/null_on_the_right.dsl"),
+                dsl,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+            final File file = dsl.toFile();
+            Assertions.assertTrue(file.setLastModified(file.lastModified() + 10_000));
+            this.send(
+                server, temp, "parse", dsl.toString(), "sources/two_identifiers.txt", after
+            );
+        } catch (final BaseException ignored) {
+            oops = true;
+        } finally {
+            server.stop();
+        }
+        Assertions.assertFalse(oops);
+        final String expected = this.loadStringResource("two_identifiers.json");
+        Assertions.assertNotEquals(expected, this.getAllFilesContent(before));
+        Assertions.assertEquals(expected, this.getAllFilesContent(after));
+    }
+
+    @Test
+    void reloadModifiedImport(final @TempDir Path temp) throws IOException {
+        final Path dsl = temp.resolve("program.dsl");
+        Files.write(dsl, "import base.dsl;\n".getBytes(StandardCharsets.UTF_8));
+        final Path base = temp.resolve("base.dsl");
+        Files.copy(Paths.get(ServerTest.PREFIX, ServerTest.DSL), base);
+        final Server server = new Server(new ProgramCache(true, false), 0, temp);
+        server.start();
+        final Path before = temp.resolve("before.json");
+        final Path after = temp.resolve("after.json");
+        boolean oops = false;
+        try {
+            this.send(
+                server, temp, "parse", dsl.toString(), "sources/two_identifiers.txt", before
+            );
+            Files.copy(
+                Paths.get(ServerTest.PREFIX, "dsl/null_on_the_right.dsl"),
+                base,
+                StandardCopyOption.REPLACE_EXISTING
+            );
+            final File file = base.toFile();
+            Assertions.assertTrue(file.setLastModified(file.lastModified() + 10_000));
+            this.send(
+                server, temp, "parse", dsl.toString(), "sources/two_identifiers.txt", after
+            );
+        } catch (final BaseException ignored) {
+            oops = true;
+        } finally {
+            server.stop();
+        }
+        Assertions.assertFalse(oops);
+        final String expected = this.loadStringResource("two_identifiers.json");
+        Assertions.assertNotEquals(expected, this.getAllFilesContent(before));
+        Assertions.assertEquals(expected, this.getAllFilesContent(after));
+    }
+
+    @Test
+    void errorResponse(final @TempDir Path temp) throws IOException {
+        final Server server = new Server(new ProgramCache(true, false), 0, temp);
+        server.start();
+        final Path result = temp.resolve("result.json");
+        try {
+            Assertions.assertThrows(
+                BaseException.class,
+                () -> this.send(
+                    server, temp, "generate", ServerTest.DSL, ServerTest.SOURCE, result
+                )
+            );
+            Assertions.assertThrows(
+                BaseException.class,
+                () -> this.send(
+                    server, temp, "parse", "file.that.does.not.exist", ServerTest.SOURCE, result
+                )
+            );
+        } finally {
+            server.stop();
+        }
+        Assertions.assertFalse(result.toFile().exists());
+    }
+
+    @Test
+    void wrongToken(final @TempDir Path temp) throws IOException, MalformedInput {
+        final Server server = new Server(new ProgramCache(true, false), 0, temp);
+        server.start();
+        final Path file = ServerToken.getFile(temp, server.getPort());
+        final int status;
+        final String message;
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            if (ProgramStore.isPosix(temp)) {
+                Assertions.assertEquals(
+                    "rw-------",
+                    PosixFilePermissions.toString(Files.getPosixFilePermissions(file))
+                );
+            }
+            final BinaryOutput output = new BinaryOutput(
+                Channels.newChannel(socket.getOutputStream())
+            );
+            output.writeString("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+            output.writeString("parse");
+            output.writeString(ServerTest.PREFIX.concat(ServerTest.DSL));
+            output.writeVarInt(0);
+            output.flush();
+            final BinaryInput input = new BinaryInput(
+                Channels.newChannel(socket.getInputStream())
+            );
+            status = input.readByte();
+            message = input.readString();
+            Assertions.assertFalse(input.hasMore());
+        } finally {
+            server.stop();
+        }
+        Assertions.assertEquals(Server.FAILURE, status);
+        Assertions.assertEquals("Authentication failed", message);
+        Assertions.assertFalse(file.toFile().exists());
+        Assertions.assertThrows(
+            BaseException.class,
+            () -> Main.run(
+                "client",
+                "parse",
+                ServerTest.PREFIX.concat(ServerTest.DSL),
+                "--port",
+                String.valueOf(server.getPort()),
+                "--token-dir",
+                temp.toString()
+            )
+        );
+    }
+
+    /**
+     * Sends a request to the server using the client.
+     * @param server Server
+     * @param folder Folder containing the token file of the server
+     * @param action Name of the action
+     * @param dsl Path to the DSL program, relative to the folder with test resources
+     *  unless absolute
+     * @param source Path to the source file, relative to the folder with test resources
+     * @param result Path to the file where the resulting tree is saved
+     * @throws BaseException If the request fails
+     */
+    private void send(final Server server, final Path folder, final String action,
+        final String dsl, final String source, final Path result) throws BaseException {
+        String program = dsl;
+        if (!Paths.get(dsl).isAbsolute()) {
+            program = ServerTest.PREFIX.concat(dsl);
+        }
+        Main.run(
+            "client",
+            action,
+            program,
+            "--port",
+            String.valueOf(server.getPort()),
+            "--token-dir",
+            folder.toString(),
+            "-s",
+            ServerTest.PREFIX.concat(source),
+            "-t",
+            result.toString()
+        );
+    }
+}
@@ -23,6 +23,10 @@
  */
 package org.cqfn.astranaut.cli;
 
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import org.cqfn.astranaut.exceptions.BaseException;
 import org.junit.jupiter.api.Assertions;
@@ -46,6 +50,73 @@ class TransformTest extends EndToEndTest {
         Assertions.assertEquals(expected, actual);
     }
 
+    @Test
+    void binaryInputAndOutput(final @TempDir Path temp) {
+        final String dsl = "src/test/resources/dsl/identifiers_numbers_and_operators.dsl";
+        final Path source = temp.resolve("source.atree");
+        final Path result = temp.resolve("result.atree");
+        final Path ast = temp.resolve("ast.json");
+        boolean oops = false;
+        try {
+            Main.run(
+                "convert",
+                dsl,
+                "-s",
+                "src/test/resources/sources/correct_and_strange_chars.json",
+                "-t",
+                source.toString(),
+                "--no-cache"
+            );
+            Main.run(
+                "transform",
+                dsl,
+                "-s",
+                source.toString(),
+                "-t",
+                result.toString(),
+                "--no-cache"
+            );
+            Main.run("convert", dsl, "-s", result.toString(), "-t", ast.toString(), "--no-cache");
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        final String expected = this.loadStringResource("symbol_and_strange_char.json");
+        Assertions.assertEquals(expected, this.getAllFilesContent(ast));
+    }
+
+    @Test
+    void compactOutputToStdout() {
+        final PrintStream stdout = System.out;
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        boolean oops = false;
+        try {
+            System.setOut(new PrintStream(stream, true, "UTF-8"));
+            Main.run(
+                "transform",
+                "src/test/resources/dsl/identifiers_numbers_and_operators.dsl",
+                "-s",
+                "src/test/resources/sources/correct_and_strange_chars.json",
+                "-t",
+                "-",
+                "--compact",
+                "--no-cache"
+            );
+        } catch (final BaseException | UnsupportedEncodingException ignored) {
+            oops = true;
+        } finally {
+            System.setOut(stdout);
+        }
+        Assertions.assertFalse(oops);
+        final String expected = this.loadStringResource("symbol_and_strange_char.json")
+            .replaceAll("\\s*\n\\s*", "")
+            .replace("\": ", "\":");
+        Assertions.assertEquals(
+            expected,
+            new String(stream.toByteArray(), StandardCharsets.UTF_8)
+        );
+    }
+
     @Test
     void readingNonExistingFile() {
         final String[] args = {
@@ -53,6 +124,7 @@ class TransformTest extends EndToEndTest {
             "src/test/resources/dsl/identifiers_numbers_and_operators.dsl",
             "--source",
             "file.that.does.not.exist",
+            "--no-cache",
         };
         Assertions.assertThrows(BaseException.class, () -> Main.run(args));
     }
@@ -67,6 +139,7 @@ class TransformTest extends EndToEndTest {
             "src/test/resources/sources/correct_and_strange_chars.json",
             "--image",
             image.toFile().getAbsolutePath(),
+            "--no-cache",
         };
         Assertions.assertThrows(BaseException.class, () -> Main.run(args));
     }
@@ -83,6 +156,7 @@ class TransformTest extends EndToEndTest {
             "src/test/resources/sources/correct_and_strange_chars.json",
             "-t",
             ast.toFile().getAbsolutePath(),
+            "--no-cache",
         };
         Assertions.assertThrows(BaseException.class, () -> Main.run(args));
         this.clearWriteProtectedFlag(output);
@@ -100,6 +174,7 @@ class TransformTest extends EndToEndTest {
             "src/test/resources/sources/correct_and_strange_chars.json",
             "--image",
             image.toFile().getAbsolutePath(),
+            "--no-cache",
         };
         Assertions.assertThrows(BaseException.class, () -> Main.run(args));
         this.clearWriteProtectedFlag(output);
@@ -121,6 +196,7 @@ class TransformTest extends EndToEndTest {
             String.format("src/test/resources/sources/%s", source),
             "--ast",
             ast.toFile().getAbsolutePath(),
+            "--no-cache",
         };
         Main.main(args);
         Assertions.assertTrue(ast.toFile().exists());
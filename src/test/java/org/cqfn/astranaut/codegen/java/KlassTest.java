@@ -217,6 +217,26 @@ class KlassTest {
         Assertions.assertTrue(result);
     }
 
+    @Test
+    void simpleAbstractClass() {
+        final String expected = String.join(
+            "\n",
+            Arrays.asList(
+                "/**",
+                " * Abstract empty class.",
+                " */",
+                "public abstract class Test17 {",
+                "}",
+                ""
+            )
+        );
+        final Klass klass = new Klass("Test17", "Abstract empty class");
+        klass.makePublic();
+        klass.makeAbstract();
+        final boolean result = this.testCodegen(klass, expected);
+        Assertions.assertTrue(result);
+    }
+
     @Test
     void classWithFields() {
         final String expected = String.join(
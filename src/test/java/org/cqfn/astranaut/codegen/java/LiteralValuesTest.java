@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import org.cqfn.astranaut.dsl.LiteralDescriptor;
+import org.cqfn.astranaut.dsl.StaticString;
+import org.cqfn.astranaut.parser.StringToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link LiteralValues} class.
+ * @since 1.0.0
+ */
+class LiteralValuesTest {
+    @Test
+    void integerLiteral() {
+        final LiteralDescriptor literal = LiteralValuesTest.createLiteral("int", "");
+        Assertions.assertTrue(LiteralValues.isComparable(literal));
+        Assertions.assertEquals("-5", LiteralValuesTest.convert(literal, "-5", false));
+        Assertions.assertEquals("5", LiteralValuesTest.convert(literal, "05", false));
+        Assertions.assertEquals("", LiteralValuesTest.convert(literal, "05", true));
+        Assertions.assertEquals("", LiteralValuesTest.convert(literal, "x", false));
+    }
+
+    @Test
+    void otherPrimitiveLiterals() {
+        final LiteralDescriptor number = LiteralValuesTest.createLiteral("long", "");
+        Assertions.assertEquals("7L", LiteralValuesTest.convert(number, "7", true));
+        final LiteralDescriptor small = LiteralValuesTest.createLiteral("byte", "");
+        Assertions.assertEquals("(byte) 1", LiteralValuesTest.convert(small, "1", true));
+        final LiteralDescriptor chr = LiteralValuesTest.createLiteral("char", "");
+        Assertions.assertEquals("'a'", LiteralValuesTest.convert(chr, "a", true));
+        Assertions.assertEquals("(char) 43", LiteralValuesTest.convert(chr, "+", false));
+        Assertions.assertEquals("", LiteralValuesTest.convert(chr, "", false));
+        final LiteralDescriptor bool = LiteralValuesTest.createLiteral("boolean", "");
+        Assertions.assertEquals("true", LiteralValuesTest.convert(bool, "true", true));
+        Assertions.assertEquals("", LiteralValuesTest.convert(bool, "TRUE", true));
+        Assertions.assertFalse(
+            LiteralValues.isComparable(LiteralValuesTest.createLiteral("double", ""))
+        );
+    }
+
+    @Test
+    void stringLiteral() {
+        final LiteralDescriptor literal = LiteralValuesTest.createLiteral("String", "");
+        Assertions.assertFalse(LiteralValues.isComparable(literal));
+        Assertions.assertEquals("\"abc\"", LiteralValuesTest.convert(literal, "abc", false));
+        Assertions.assertTrue(LiteralValues.areCompatible(literal, literal));
+    }
+
+    @Test
+    void literalsWithConversions() {
+        final LiteralDescriptor literal =
+            LiteralValuesTest.createLiteral("int", "#.hashCode()");
+        Assertions.assertFalse(literal.hasDefaultConversions());
+        Assertions.assertFalse(LiteralValues.isComparable(literal));
+        Assertions.assertEquals("", LiteralValuesTest.convert(literal, "1", false));
+        final LiteralDescriptor number = LiteralValuesTest.createLiteral("int", "");
+        Assertions.assertTrue(LiteralValues.areCompatible(number, number));
+        Assertions.assertFalse(LiteralValues.areCompatible(number, literal));
+        Assertions.assertFalse(
+            LiteralValues.areCompatible(number, LiteralValuesTest.createLiteral("long", ""))
+        );
+    }
+
+    /**
+     * Converts static data into Java code of a value.
+     * @param literal Descriptor of the literal
+     * @param value Value of the static data
+     * @param exact Whether the value must be converted back exactly to the same string
+     * @return Java code or an empty string
+     */
+    private static String convert(final LiteralDescriptor literal, final String value,
+        final boolean exact) {
+        final StaticString data = new StaticString(new StringToken('\"', value));
+        final String code;
+        if (exact) {
+            code = LiteralValues.toExactJavaCode(literal, data);
+        } else {
+            code = LiteralValues.toJavaCode(literal, data);
+        }
+        return code;
+    }
+
+    /**
+     * Creates a literal descriptor.
+     * @param type Native Java type of the literal
+     * @param parser Line of Java code that parses data, may be empty
+     * @return Literal descriptor
+     */
+    private static LiteralDescriptor createLiteral(final String type, final String parser) {
+        final LiteralDescriptor.Constructor ctor = new LiteralDescriptor.Constructor("Literal");
+        ctor.setType(type);
+        if (!parser.isEmpty()) {
+            ctor.setInitial("0");
+            ctor.setSerializer("String.valueOf(#)");
+            ctor.setParser(parser);
+        }
+        return ctor.createDescriptor();
+    }
+}
@@ -50,4 +50,30 @@ class LongLineBreakerTest {
         final List<Pair<String, Integer>> result = llb.split();
         Assertions.assertTrue(result.isEmpty());
     }
+
+    @Test
+    void splitByAndThenByOrOperators() {
+        final String code =
+            "if (!(list.get(index) instanceof VeryLongTypeName || !(list.get(index) instanceof KindedNode) && list.get(index).belongsToGroup(\"VeryLongTypeName\")) || list.get(index).getChildCount() != 0) {";
+        final LongLineBreaker llb = new LongLineBreaker(code, 3, 0);
+        final List<Pair<String, Integer>> result = llb.split();
+        Assertions.assertEquals(4, result.size());
+        Assertions.assertEquals(
+            "if (!(list.get(index) instanceof VeryLongTypeName",
+            result.get(0).getKey()
+        );
+        Assertions.assertEquals(
+            "|| !(list.get(index) instanceof KindedNode)",
+            result.get(1).getKey()
+        );
+        Assertions.assertEquals(
+            "&& list.get(index).belongsToGroup(\"VeryLongTypeName\"))",
+            result.get(2).getKey()
+        );
+        Assertions.assertEquals(
+            "|| list.get(index).getChildCount() != 0) {",
+            result.get(3).getKey()
+        );
+        Assertions.assertEquals(1, result.get(3).getValue().intValue());
+    }
 }
@@ -117,6 +117,29 @@ class MethodTest {
         Assertions.assertTrue(result);
     }
 
+    @Test
+    void abstractMethod() {
+        final String expected = String.join(
+            "\n",
+            Arrays.asList(
+                "/**",
+                " * Abstract method.",
+                " * @param type Type name",
+                " * @return Some data",
+                " */",
+                "protected abstract String getData(String type);",
+                ""
+            )
+        );
+        final Method method = new Method("String", "getData", "Abstract method");
+        method.makeProtected();
+        method.makeAbstract();
+        method.addArgument("String", "type", "Type name");
+        method.setReturnsDescription("Some data");
+        final boolean result = this.testCodegen(method, expected);
+        Assertions.assertTrue(result);
+    }
+
     @Test
     void staticMethod() {
         final String expected = String.join(
@@ -263,6 +286,32 @@ class MethodTest {
         Assertions.assertTrue(result);
     }
 
+    @Test
+    void methodWithArgumentsThatDoNotFitOnOneLine() {
+        final String expected = String.join(
+            "\n",
+            Arrays.asList(
+                "/**",
+                " * Method with long list of arguments.",
+                " */",
+                "static void process(final String first, final String second, final String third,",
+                "    final String end) {",
+                "    return;",
+                "}",
+                ""
+            )
+        );
+        final Method method = new Method("void", "process", "Method with long list of arguments");
+        method.makeStatic();
+        method.addArgument("String", "first");
+        method.addArgument("String", "second");
+        method.addArgument("String", "third");
+        method.addArgument("String", "end");
+        method.setBody("return;");
+        final boolean result = this.testCodegen(method, expected);
+        Assertions.assertTrue(result);
+    }
+
     @Test
     void methodWithSyntaxError() {
         final Method method = new Method("void", "doSomething");
@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.dsl.ResultingSubtreeDescriptor;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link ResultingSubtreeBuilderGenerator} class, in particular the choice
+ *  between the static 'of()' method of a node class and a builder obtained from the factory.
+ * @since 1.0.0
+ */
+class ResultingSubtreeBuilderGeneratorTest {
+    /**
+     * Name of a node whose static 'of()' method call does not fit on one line.
+     */
+    private static final String LONG = "AdditionOfTwoExpressionsWithAVeryLongNameThatDoesNotFit";
+
+    /**
+     * Node descriptors used in tests.
+     */
+    private static final String[] NODES = {
+        "Expression <- Addition | IntegerLiteral | Name;",
+        "Addition <- left@Expression, right@Expression;",
+        "IntegerLiteral <- 'int';",
+        "Name <- 'String', '\"\"', '#.toLowerCase()', '#.toUpperCase()';",
+        "Wrapper <- node@Expression;",
+        "Pair <- Expression, Expression;",
+        String.join(
+            " ",
+            "Tuple <- Expression, Expression, Expression, Expression, Expression,",
+            "Expression, Expression, Expression, Expression;"
+        ),
+        String.format(
+            "%s <- Expression, Expression;",
+            ResultingSubtreeBuilderGeneratorTest.LONG
+        ),
+    };
+
+    /**
+     * The code that creates a node using a builder.
+     */
+    private static final String BUILDER = "factory.createBuilder(";
+
+    @Test
+    void regularNodeWithFallback() {
+        final String code = ResultingSubtreeBuilderGeneratorTest.generate(
+            "Pair(#1, #2) -> Addition(#1, #2);"
+        );
+        Assertions.assertTrue(
+            code.contains(
+                "children.get(0) instanceof Expression && children.get(1) instanceof Expression"
+            )
+        );
+        Assertions.assertTrue(code.contains("result = Addition.of(fragment, first, second);"));
+        Assertions.assertTrue(code.contains("} else {"));
+        Assertions.assertTrue(code.contains("factory.createBuilder(\"Addition\")"));
+    }
+
+    @Test
+    void nestedNodes() {
+        final String code = ResultingSubtreeBuilderGeneratorTest.generate(
+            "Pair(#1, #2) -> Addition(IntegerLiteral<\"1\">, IntegerLiteral<\"2\">);"
+        );
+        Assertions.assertTrue(code.contains("result = Addition.of(fragment, first, second);"));
+        Assertions.assertTrue(
+            code.contains("return IntegerLiteral.of(EmptyFragment.INSTANCE, 1);")
+        );
+        Assertions.assertTrue(
+            code.contains("return IntegerLiteral.of(EmptyFragment.INSTANCE, 2);")
+        );
+    }
+
+    @Test
+    void literalWithStaticData() {
+        final String code = ResultingSubtreeBuilderGeneratorTest.generate(
+            "Pair(#1, #2) -> IntegerLiteral<\"5\">;"
+        );
+        Assertions.assertTrue(code.contains("return IntegerLiteral.of(fragment, 5);"));
+        Assertions.assertFalse(code.contains(ResultingSubtreeBuilderGeneratorTest.BUILDER));
+    }
+
+    @Test
+    void nodesThatRequireBuilder() {
+        final String[] rules = {
+            "Pair(#1, #2) -> Addition(#1);",
+            "Pair(#1, #2) -> Tuple(#1, #1, #1, #1, #1, #1, #1, #1, #2);",
+            String.format(
+                "Pair(#1, #2) -> %s(#1, #2);",
+                ResultingSubtreeBuilderGeneratorTest.LONG
+            ),
+            "Pair(#1, #2) -> Wrapper(#1);",
+            "Pair(#1, #2) -> Name<\"x\">;",
+            "IntegerLiteral<#1> -> IntegerLiteral<#1>;",
+        };
+        for (final String rule : rules) {
+            final String code = ResultingSubtreeBuilderGeneratorTest.generate(rule);
+            Assertions.assertTrue(code.contains(ResultingSubtreeBuilderGeneratorTest.BUILDER));
+            Assertions.assertFalse(code.contains(".of("));
+        }
+    }
+
+    /**
+     * Generates the method that builds the right side of a transformation rule.
+     * @param rule Transformation rule
+     * @return Source code of the class containing the generated method
+     */
+    private static String generate(final String rule) {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(
+            String.join(
+                "\n",
+                String.join("\n", ResultingSubtreeBuilderGeneratorTest.NODES),
+                rule
+            )
+        );
+        String code = "";
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            final Program program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+            final Klass klass = new Klass("Converter", "Converter");
+            new ResultingSubtreeBuilderGenerator(
+                klass,
+                new NameGenerator("root"),
+                new TransformationGeneratorFlags(),
+                new NodeClasses(program, new Package("org.cqfn.astranaut.test")),
+                "common"
+            ).generate(
+                (ResultingSubtreeDescriptor) program
+                    .getTransformationDescriptorsByLanguage("common")
+                    .get(0)
+                    .getRight()
+            );
+            final SourceCodeBuilder builder = new SourceCodeBuilder();
+            klass.build(0, builder);
+            code = builder.toString();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return code;
+    }
+}
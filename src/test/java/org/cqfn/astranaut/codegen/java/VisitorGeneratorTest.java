@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.codegen.java;
+
+import java.util.List;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link VisitorGenerator} class.
+ * @since 1.0.0
+ */
+class VisitorGeneratorTest {
+    /**
+     * Root package of the generated code.
+     */
+    private static final Package ROOT = new Package("org.cqfn.astranaut.test");
+
+    @Test
+    void names() {
+        Assertions.assertEquals("CommonVisitor", VisitorGenerator.getVisitorName("common"));
+        Assertions.assertEquals("JavaVisitor", VisitorGenerator.getVisitorName("java"));
+        Assertions.assertEquals("visitAddition", VisitorGenerator.getVisitMethodName("Addition"));
+    }
+
+    @Test
+    void commonVisitorAndWalker() {
+        final List<CompilationUnit> units = VisitorGeneratorTest.generate(
+            "common",
+            VisitorGeneratorTest.createNodeClasses()
+        );
+        Assertions.assertEquals(2, units.size());
+        Assertions.assertEquals("CommonVisitor.java", units.get(0).getFileName());
+        Assertions.assertEquals("CommonWalker.java", units.get(1).getFileName());
+        final String visitor = VisitorGeneratorTest.generateCode(units.get(0));
+        Assertions.assertTrue(visitor.contains("public interface CommonVisitor {"));
+        Assertions.assertTrue(visitor.contains("void visitAddition(Addition node);"));
+        Assertions.assertTrue(visitor.contains("void visitIntegerLiteral(IntegerLiteral node);"));
+        Assertions.assertFalse(visitor.contains("visitExpression"));
+        Assertions.assertFalse(visitor.contains("visitSynchronized"));
+        final String walker = VisitorGeneratorTest.generateCode(units.get(1));
+        Assertions.assertTrue(walker.contains("public CommonWalker(final CommonVisitor visitor)"));
+        Assertions.assertTrue(walker.contains("public void walkPreOrder(final Node root)"));
+        Assertions.assertTrue(walker.contains("public void walkPostOrder(final Node root)"));
+        Assertions.assertTrue(walker.contains("import org.cqfn.astranaut.test.KindedNode;"));
+        Assertions.assertTrue(walker.contains("case Addition.KIND:"));
+        Assertions.assertTrue(walker.contains("((IntegerLiteral) node).accept(this.visitor);"));
+        Assertions.assertFalse(walker.contains("Synchronized"));
+        Assertions.assertFalse(walker.contains("Expression"));
+    }
+
+    @Test
+    void languageVisitorAndWalker() {
+        final List<CompilationUnit> units = VisitorGeneratorTest.generate(
+            "java",
+            VisitorGeneratorTest.createNodeClasses()
+        );
+        Assertions.assertEquals(2, units.size());
+        final String visitor = VisitorGeneratorTest.generateCode(units.get(0));
+        Assertions.assertTrue(
+            visitor.contains("import org.cqfn.astranaut.test.common.nodes.CommonVisitor;")
+        );
+        Assertions.assertTrue(
+            visitor.contains("public interface JavaVisitor extends CommonVisitor {")
+        );
+        Assertions.assertTrue(visitor.contains("void visitSynchronized(Synchronized node);"));
+        Assertions.assertFalse(visitor.contains("visitAddition"));
+        Assertions.assertFalse(visitor.contains("visitPass"));
+        final String walker = VisitorGeneratorTest.generateCode(units.get(1));
+        Assertions.assertTrue(walker.contains("public final class JavaWalker {"));
+        Assertions.assertTrue(
+            walker.contains("import org.cqfn.astranaut.test.common.nodes.Addition;")
+        );
+        Assertions.assertTrue(walker.contains("case Addition.KIND:"));
+        Assertions.assertTrue(walker.contains("case Synchronized.KIND:"));
+        Assertions.assertFalse(walker.contains("Pass.KIND"));
+    }
+
+    @Test
+    void noGeneratedNodes() {
+        Assertions.assertTrue(VisitorGeneratorTest.generate("java", new NodeClasses()).isEmpty());
+    }
+
+    /**
+     * Creates the visitor and the walker for a language.
+     * @param language Language name
+     * @param classes Classes generated for node descriptors
+     * @return Compilation units
+     */
+    private static List<CompilationUnit> generate(final String language,
+        final NodeClasses classes) {
+        final Context.Constructor ctor = new Context.Constructor();
+        ctor.setLicense(new License("Copyright (c) 2025 John Doe"));
+        ctor.setPackage(VisitorGeneratorTest.ROOT.getSubpackage(language, "nodes"));
+        ctor.setVersion("1.0.0");
+        ctor.setNodeClasses(classes);
+        return new VisitorGenerator().createUnits(language, ctor.createContext());
+    }
+
+    /**
+     * Generates the source code of a compilation unit, asserting that generation succeeds.
+     * @param unit Compilation unit
+     * @return Source code
+     */
+    private static String generateCode(final CompilationUnit unit) {
+        String code = "";
+        boolean oops = false;
+        try {
+            code = unit.generateJavaCode();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return code;
+    }
+
+    /**
+     * Creates classes for the nodes of a program that describes nodes
+     *  of the common language, of Java and of Python.
+     * @return Classes generated for node descriptors
+     */
+    private static NodeClasses createNodeClasses() {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(
+            String.join(
+                "\n",
+                "Expression <- Addition | IntegerLiteral;",
+                "Addition <- left@Expression, right@Expression;",
+                "IntegerLiteral <- 'int';",
+                "java: Synchronized <- Expression;",
+                "python: Pass <- 0;"
+            )
+        );
+        Program program = null;
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return new NodeClasses(program, VisitorGeneratorTest.ROOT);
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.io.BinaryInput;
+import org.cqfn.astranaut.io.BinaryOutput;
+import org.cqfn.astranaut.io.MalformedInput;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link BinaryProgramWriter} and {@link BinaryProgramReader} classes.
+ * @since 1.0.0
+ */
+class BinaryProgramTest {
+    @Test
+    void allTestPrograms() throws IOException {
+        final File[] files = new File("src/test/resources/dsl").listFiles();
+        Assertions.assertNotNull(files);
+        int count = 0;
+        for (final File file : files) {
+            final Program original = BinaryProgramTest.parse(file.getPath());
+            if (original == null) {
+                continue;
+            }
+            final Program restored = BinaryProgramTest.read(BinaryProgramTest.write(original));
+            Assertions.assertNotNull(restored);
+            BinaryProgramTest.compare(original, restored);
+            count = count + 1;
+        }
+        Assertions.assertTrue(count > 40);
+    }
+
+    @Test
+    void allKindsOfItems() throws IOException {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(
+            String.join(
+                "\n",
+                "Expression <- Identifier | Addition;",
+                "Identifier <- 'String', '\"\"';",
+                "Addition <- left@Expression, [right@Expression];",
+                "Operators <- {Expression};",
+                "Flag <- 'boolean', 'false', 'String.valueOf(#)', 'Boolean.parseBoolean(#)';",
+                "Letter <- 'char';",
+                "|('\\p{L}'<#1>, '_'<#1>) -> Letter<#1>;",
+                "'a..z', 'x', ~'0' -> Identifier<\"abc\">;",
+                "Letter<'\\''>, {Letter<#1>} -> Identifier<#1>;",
+                "@Addition <Identifier, Letter, [Addition(#1, #2)], >~Letter -> #1;",
+                "&(|(Identifier<'a'>, Letter), ~Flag), Addition#1 -> Addition(#1, Identifier);",
+                "..., Identifier#1, Letter<'='>, Expression#2 -> Addition(#1, #2);",
+                "' ' -> 0;",
+                "Expression => {..., '^' Addition}, {'+' Addition, '-' Addition};"
+            )
+        );
+        Program original = null;
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            original = parser.parse(reader);
+            new Analyzer(original, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        final byte[] bytes = BinaryProgramTest.write(original);
+        final Program restored = BinaryProgramTest.read(bytes);
+        Assertions.assertNotNull(restored);
+        BinaryProgramTest.compare(original, restored);
+    }
+
+    @Test
+    void malformedStreams() throws IOException {
+        final Program program = BinaryProgramTest.parse(
+            "src/test/resources/dsl/identifiers_numbers_and_operators.dsl"
+        );
+        Assertions.assertNotNull(program);
+        final byte[] bytes = BinaryProgramTest.write(program);
+        final byte[] truncated = new byte[bytes.length / 2];
+        System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+        Assertions.assertNull(BinaryProgramTest.read(truncated));
+        final byte[] signature = bytes.clone();
+        signature[0] = 'X';
+        Assertions.assertNull(BinaryProgramTest.read(signature));
+        final byte[] version = bytes.clone();
+        version[4] = 99;
+        Assertions.assertNull(BinaryProgramTest.read(version));
+    }
+
+    /**
+     * Parses and analyzes a program.
+     * @param path Path to the file with the DSL program
+     * @return Program or {@code null} if the program contains errors
+     */
+    private static Program parse(final String path) {
+        Program program = null;
+        try {
+            final DslReader reader = new DslReader();
+            reader.readFile(path);
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            program = null;
+        }
+        return program;
+    }
+
+    /**
+     * Writes a program to an array of bytes.
+     * @param program Program
+     * @return Array of bytes
+     * @throws IOException If the program can't be written
+     */
+    private static byte[] write(final Program program) throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        final BinaryOutput output = new BinaryOutput(Channels.newChannel(stream));
+        new BinaryProgramWriter(output).write(program);
+        output.flush();
+        return stream.toByteArray();
+    }
+
+    /**
+     * Reads and analyzes a program from an array of bytes.
+     * @param bytes Array of bytes
+     * @return Program or {@code null} if the bytes do not contain a valid program
+     * @throws IOException If the program can't be read
+     */
+    private static Program read(final byte[] bytes) throws IOException {
+        final BinaryInput input = new BinaryInput(
+            Channels.newChannel(new ByteArrayInputStream(bytes))
+        );
+        Program program;
+        try {
+            program = new BinaryProgramReader(input).read();
+        } catch (final MalformedInput ignored) {
+            program = null;
+        }
+        if (program != null) {
+            boolean oops = false;
+            try {
+                new Analyzer(program, Collections.emptyMap()).analyze();
+            } catch (final BaseException ignored) {
+                oops = true;
+            }
+            Assertions.assertFalse(oops);
+        }
+        return program;
+    }
+
+    /**
+     * Checks that two programs contain the same rules linked in the same way.
+     * @param expected Expected program
+     * @param actual Actual program
+     */
+    private static void compare(final Program expected, final Program actual) {
+        final List<Rule> left = expected.getAllRules();
+        final List<Rule> right = actual.getAllRules();
+        Assertions.assertEquals(left.size(), right.size());
+        for (int index = 0; index < left.size(); index = index + 1) {
+            final Rule first = left.get(index);
+            final Rule second = right.get(index);
+            Assertions.assertEquals(first.getClass(), second.getClass());
+            Assertions.assertEquals(first.toString(), second.toString());
+            Assertions.assertEquals(first.getLanguage(), second.getLanguage());
+            Assertions.assertEquals(
+                BinaryProgramTest.names(first.getDependencies()),
+                BinaryProgramTest.names(second.getDependencies())
+            );
+            if (first instanceof NodeDescriptor) {
+                Assertions.assertEquals(
+                    BinaryProgramTest.names(((NodeDescriptor) first).getBaseDescriptors()),
+                    BinaryProgramTest.names(((NodeDescriptor) second).getBaseDescriptors())
+                );
+                final Map<String, ChildDescriptorExt> tags = ((NodeDescriptor) first).getTags();
+                Assertions.assertEquals(
+                    tags.keySet(),
+                    ((NodeDescriptor) second).getTags().keySet()
+                );
+            }
+        }
+    }
+
+    /**
+     * Collects sorted names of node descriptors.
+     * @param descriptors Collection of node descriptors
+     * @return Sorted list of names
+     */
+    private static List<String> names(final Collection<? extends NodeDescriptor> descriptors) {
+        return descriptors.stream()
+            .map(item -> String.format("%s:%s", item.getLanguage(), item.getName()))
+            .sorted()
+            .collect(Collectors.toList());
+    }
+}
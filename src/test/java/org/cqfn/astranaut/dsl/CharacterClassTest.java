@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link CharacterClass} class.
+ * @since 1.0.0
+ */
+class CharacterClassTest {
+    @Test
+    void range() {
+        final CharacterClass chars = CharacterClass.fromRange('a', 'z');
+        Assertions.assertTrue(chars.contains('a'));
+        Assertions.assertTrue(chars.contains('m'));
+        Assertions.assertTrue(chars.contains('z'));
+        Assertions.assertFalse(chars.contains('A'));
+        Assertions.assertFalse(chars.contains('{'));
+        Assertions.assertFalse(chars.contains('а'));
+        Assertions.assertEquals(0, chars.getRanges().length);
+    }
+
+    @Test
+    void rangeCrossingLatinBoundary() {
+        final CharacterClass chars = CharacterClass.fromRange('ð', 'Đ');
+        Assertions.assertTrue(chars.contains('ð'));
+        Assertions.assertTrue(chars.contains('ÿ'));
+        Assertions.assertTrue(chars.contains('Ā'));
+        Assertions.assertTrue(chars.contains('Đ'));
+        Assertions.assertFalse(chars.contains('ï'));
+        Assertions.assertFalse(chars.contains('đ'));
+        Assertions.assertArrayEquals(new char[] {'Ā', 'Đ'}, chars.getRanges());
+    }
+
+    @Test
+    void union() {
+        final CharacterClass chars = CharacterClass.fromRange('а', 'я')
+            .union(CharacterClass.fromRange('_', '_'))
+            .union(CharacterClass.fromRange('一', '鿿'))
+            .union(CharacterClass.fromRange('А', 'Я'))
+            .union(CharacterClass.fromRange('ѐ', 'џ'));
+        Assertions.assertArrayEquals(
+            new char[] {'А', 'џ', '一', '鿿'},
+            chars.getRanges()
+        );
+        Assertions.assertTrue(chars.contains('_'));
+        Assertions.assertTrue(chars.contains('Ж'));
+        Assertions.assertTrue(chars.contains('ж'));
+        Assertions.assertTrue(chars.contains('ё'));
+        Assertions.assertTrue(chars.contains('水'));
+        Assertions.assertFalse(chars.contains('a'));
+        Assertions.assertFalse(chars.contains('Ѡ'));
+        Assertions.assertFalse(chars.contains('ꀀ'));
+    }
+
+    @Test
+    void categories() {
+        final CharacterClass letters = CharacterClass.fromCategories(
+            1 << Character.UPPERCASE_LETTER | 1 << Character.LOWERCASE_LETTER
+        );
+        Assertions.assertTrue(letters.contains('q'));
+        Assertions.assertTrue(letters.contains('Q'));
+        Assertions.assertTrue(letters.contains('é'));
+        Assertions.assertTrue(letters.contains('Ж'));
+        Assertions.assertFalse(letters.contains('1'));
+        Assertions.assertFalse(letters.contains('一'));
+        final CharacterClass digits = CharacterClass.fromCategories(
+            1 << Character.DECIMAL_DIGIT_NUMBER
+        ).union(letters);
+        Assertions.assertTrue(digits.contains('7'));
+        Assertions.assertTrue(digits.contains('٤'));
+        Assertions.assertTrue(digits.contains('Ж'));
+        Assertions.assertFalse(digits.contains('①'));
+    }
+}
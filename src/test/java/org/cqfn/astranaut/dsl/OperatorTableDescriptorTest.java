@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import org.cqfn.astranaut.core.algorithms.conversion.ConversionResult;
+import org.cqfn.astranaut.core.base.DefaultFactory;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Node;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link OperatorTableDescriptor} class.
+ * @since 1.0.0
+ */
+class OperatorTableDescriptorTest {
+    @Test
+    void testBaseInterface() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new OperatorTableDescriptor("E", Collections.emptyList())
+        );
+        final OperatorTableDescriptor table = OperatorTableDescriptorTest.createTable();
+        Assertions.assertEquals(
+            "E => {..., Caret P}, {Star M}, {Plus A, Minus S}",
+            table.toString()
+        );
+        Assertions.assertEquals("common", table.getLanguage());
+        table.setLanguage("Java");
+        Assertions.assertEquals("java", table.getLanguage());
+        Assertions.assertEquals(3, table.getMinConsumed());
+        Assertions.assertFalse(table.isRightToLeft());
+    }
+
+    @Test
+    void precedenceAndAssociativity() {
+        final OperatorTableDescriptor table = OperatorTableDescriptorTest.createTable();
+        final List<Node> list = Arrays.asList(
+            DraftNode.create("X"),
+            DraftNode.create("E<\"1\">"),
+            DraftNode.create("Minus"),
+            DraftNode.create("E<\"2\">"),
+            DraftNode.create("Minus"),
+            DraftNode.create("E<\"3\">"),
+            DraftNode.create("Plus"),
+            DraftNode.create("E<\"4\">"),
+            DraftNode.create("Star"),
+            DraftNode.create("E<\"5\">"),
+            DraftNode.create("Caret"),
+            DraftNode.create("E<\"6\">"),
+            DraftNode.create("Caret"),
+            DraftNode.create("E<\"7\">"),
+            DraftNode.create("X")
+        );
+        Assertions.assertFalse(table.convert(list, 0, DefaultFactory.EMPTY).isPresent());
+        final Optional<ConversionResult> result = table.convert(list, 1, DefaultFactory.EMPTY);
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertEquals(13, result.get().getConsumed());
+        Assertions.assertEquals(
+            String.join(
+                "",
+                "A(S(S(E<\"1\">, E<\"2\">), E<\"3\">), ",
+                "M(E<\"4\">, P(E<\"5\">, P(E<\"6\">, E<\"7\">))))"
+            ),
+            result.get().getNode().toString()
+        );
+    }
+
+    @Test
+    void danglingOperator() {
+        final OperatorTableDescriptor table = OperatorTableDescriptorTest.createTable();
+        final List<Node> first = Arrays.asList(
+            DraftNode.create("E<\"1\">"),
+            DraftNode.create("Plus"),
+            DraftNode.create("E<\"2\">"),
+            DraftNode.create("Star"),
+            DraftNode.create("X")
+        );
+        Assertions.assertFalse(table.convert(first, 0, DefaultFactory.EMPTY).isPresent());
+        final List<Node> second = Arrays.asList(
+            DraftNode.create("E<\"1\">"),
+            DraftNode.create("Plus"),
+            DraftNode.create("E<\"2\">"),
+            DraftNode.create("Star"),
+            DraftNode.create("E<\"3\">"),
+            DraftNode.create("Minus")
+        );
+        Optional<ConversionResult> result = table.convert(second, 0, DefaultFactory.EMPTY);
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertEquals(5, result.get().getConsumed());
+        Assertions.assertEquals(
+            "A(E<\"1\">, M(E<\"2\">, E<\"3\">))",
+            result.get().getNode().toString()
+        );
+        final List<Node> third = Arrays.asList(
+            DraftNode.create("E<\"1\">"),
+            DraftNode.create("Star"),
+            DraftNode.create("E<\"2\">"),
+            DraftNode.create("Star"),
+            DraftNode.create("X")
+        );
+        result = table.convert(third, 0, DefaultFactory.EMPTY);
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertEquals(3, result.get().getConsumed());
+        Assertions.assertEquals("M(E<\"1\">, E<\"2\">)", result.get().getNode().toString());
+    }
+
+    @Test
+    void noOperator() {
+        final OperatorTableDescriptor table = OperatorTableDescriptorTest.createTable();
+        final List<Node> list = Arrays.asList(
+            DraftNode.create("E"),
+            DraftNode.create("X"),
+            DraftNode.create("E")
+        );
+        Assertions.assertFalse(table.convert(list, 0, DefaultFactory.EMPTY).isPresent());
+    }
+
+    /**
+     * Creates an operator table for testing purposes.
+     * @return Operator table
+     */
+    private static OperatorTableDescriptor createTable() {
+        return new OperatorTableDescriptor(
+            "E",
+            Arrays.asList(
+                OperatorTableDescriptorTest.createOperator("Caret", "P", 3, true),
+                OperatorTableDescriptorTest.createOperator("Star", "M", 2, false),
+                OperatorTableDescriptorTest.createOperator("Plus", "A", 1, false),
+                OperatorTableDescriptorTest.createOperator("Minus", "S", 1, false)
+            )
+        );
+    }
+
+    /**
+     * Creates an operator descriptor for testing purposes.
+     * @param pattern Type of operator nodes
+     * @param result Type of resulting nodes
+     * @param precedence Precedence of the operator
+     * @param right Flag indicating that the operator is right-associative
+     * @return Operator descriptor
+     */
+    private static OperatorDescriptor createOperator(final String pattern, final String result,
+        final int precedence, final boolean right) {
+        return new OperatorDescriptor(
+            new PatternDescriptor(pattern, null, Collections.emptyList()),
+            result,
+            precedence,
+            right
+        );
+    }
+}
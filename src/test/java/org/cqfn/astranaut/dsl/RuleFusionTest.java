@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link RuleFusion} class.
+ * @since 1.0.0
+ */
+class RuleFusionTest {
+    @Test
+    void chainOfRules() {
+        final Program program = RuleFusionTest.createProgram(
+            "SmallLetter <- 'char';",
+            "'a..z'<#1> -> SmallLetter<#1>;",
+            "Letter <- 'String', '\"\"';",
+            "SmallLetter<#1> -> Letter<#1>;",
+            "Word <- 'String', '\"\"';",
+            "Letter<#1> -> Word<#1>;"
+        );
+        final Program optimized = new RuleFusion(program).apply();
+        Assertions.assertNotSame(program, optimized);
+        Assertions.assertEquals(
+            String.join(
+                "\n",
+                "'a..z'<#1> -> Word<#1>",
+                "'a..z'<#1> -> Letter<#1>",
+                "'a..z'<#1> -> SmallLetter<#1>",
+                "SmallLetter<#1> -> Word<#1>",
+                "SmallLetter<#1> -> Letter<#1>",
+                "Letter<#1> -> Word<#1>"
+            ),
+            RuleFusionTest.listRules(optimized)
+        );
+    }
+
+    @Test
+    void consumerMatchesBaseType() {
+        final Program program = RuleFusionTest.createProgram(
+            "Plus <- 0;",
+            "'+' -> Plus;",
+            "Minus <- 0;",
+            "'-' -> Minus;",
+            "Sign <- Plus | Minus;",
+            "Operator <- 'String', '\"\"';",
+            "Sign#1 -> Operator<'sign'>;"
+        );
+        Assertions.assertEquals(
+            String.join(
+                "\n",
+                "'+' -> Operator<'sign'>",
+                "'+' -> Plus",
+                "'-' -> Operator<'sign'>",
+                "'-' -> Minus",
+                "Sign#1 -> Operator<'sign'>"
+            ),
+            RuleFusionTest.listRules(new RuleFusion(program).apply())
+        );
+    }
+
+    @Test
+    void rulesThatCannotBeFused() {
+        final String[] cases = {
+            String.join(
+                "\n",
+                "SmallLetter <- 'char';",
+                "'a..z'<#1> -> SmallLetter<#1>;",
+                "Pair <- 0;",
+                "SmallLetter, SmallLetter -> Pair;",
+                "Letter <- 'String', '\"\"';",
+                "SmallLetter<#1> -> Letter<#1>;"
+            ),
+            String.join(
+                "\n",
+                "Digit <- 'int';",
+                "'0..9'<#1> -> Digit<#1>;",
+                "Number <- 'String', '\"\"';",
+                "Digit<#1> -> Number<#1>;"
+            ),
+            String.join(
+                "\n",
+                "SmallLetter <- 'char';",
+                "'a..z'<#1> -> SmallLetter<#1>;",
+                "Letter <- 'String', '\"\"';",
+                "SmallLetter<#1>, >SmallLetter -> Letter<#1>;"
+            ),
+            String.join(
+                "\n",
+                "SmallLetter <- 'char';",
+                "'a..z'<#1> -> SmallLetter<#1>;",
+                "Other <- 0;",
+                "~SmallLetter -> Other;",
+                "Letter <- 'String', '\"\"';",
+                "SmallLetter<#1> -> Letter<#1>;"
+            ),
+            String.join(
+                "\n",
+                "SmallLetter <- 'char';",
+                "'a..z'<#1> -> SmallLetter<#1>;",
+                "Digit <- 'int';",
+                "@SmallLetter '0..9'<#1> -> Digit<#1>;",
+                "Letter <- 'String', '\"\"';",
+                "SmallLetter<#1> -> Letter<#1>;"
+            ),
+            String.join(
+                "\n",
+                "SmallLetter <- 'char';",
+                "'a..z'<#1> -> SmallLetter<#1>;",
+                "Letter <- 'String', '\"\"';",
+                "Digit <- 'int';",
+                "@Letter '0..9'<#1> -> Digit<#1>;",
+                "SmallLetter<#1> -> Letter<#1>;"
+            ),
+        };
+        for (final String code : cases) {
+            final Program program = RuleFusionTest.createProgram(code);
+            Assertions.assertSame(program, new RuleFusion(program).apply());
+        }
+    }
+
+    /**
+     * Parses and analyzes a program from the DSL source code.
+     * @param lines Lines of the DSL source code
+     * @return Program
+     */
+    private static Program createProgram(final String... lines) {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(String.join("\n", lines));
+        Program program = null;
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return program;
+    }
+
+    /**
+     * Lists transformation rules of the program, one rule per line.
+     * @param program Program
+     * @return Rules as a string
+     */
+    private static String listRules(final Program program) {
+        final List<String> list = program.getAllTransformationDescriptors().stream()
+            .map(Object::toString)
+            .collect(Collectors.toList());
+        return String.join("\n", list);
+    }
+}
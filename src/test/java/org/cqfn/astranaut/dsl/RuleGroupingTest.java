@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.dsl;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.core.algorithms.conversion.Extracted;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link RuleGrouping} class and grouping of alternatives
+ *  in {@link OrExpression} class.
+ * @since 1.0.0
+ */
+class RuleGroupingTest {
+    @Test
+    void rulesThatDifferByData() {
+        final Program program = RuleGroupingTest.createProgram(
+            "Word <- 'String', '\"\"';",
+            "If <- 0;",
+            "While <- 0;",
+            "Return <- 0;",
+            "Word<'if'> -> If;",
+            "Word<'while'> -> While;",
+            "Word<'return'> -> Return;"
+        );
+        final Program optimized = new RuleGrouping(program).apply();
+        Assertions.assertNotSame(program, optimized);
+        final List<ConversionRule> rules = optimized.getAllConversionRules();
+        Assertions.assertEquals(1, rules.size());
+        Assertions.assertTrue(rules.get(0) instanceof DispatchTableDescriptor);
+        Assertions.assertEquals(
+            "Word<'if'> -> If; Word<'while'> -> While; Word<'return'> -> Return",
+            rules.get(0).toString()
+        );
+        Assertions.assertEquals(3, ((DispatchTableDescriptor) rules.get(0)).getKeys().size());
+    }
+
+    @Test
+    void rulesThatCannotBeGrouped() {
+        final String[] cases = {
+            String.join(
+                "\n",
+                "Word <- 'String', '\"\"';",
+                "If <- 0;",
+                "Word<'if'> -> If;",
+                "Word<'if'> -> Word<'else'>;"
+            ),
+            String.join(
+                "\n",
+                "Word <- 'String', '\"\"';",
+                "Keyword <- 'String', '\"\"';",
+                "Word<'if'> -> Keyword<'if'>;",
+                "Keyword<'if'> -> Word<'while'>;",
+                "Word<'while'> -> Keyword<'while'>;"
+            ),
+            String.join(
+                "\n",
+                "Word <- 'String', '\"\"';",
+                "Alias <- 'String', '\"\"';",
+                "Word<'alpha'> -> Word<'beta'>;",
+                "Word<'beta'> -> Alias<'gamma'>;"
+            ),
+            String.join(
+                "\n",
+                "Word <- 'String', '\"\"';",
+                "If <- 0;",
+                "While <- 0;",
+                "Word<'if'> -> If;",
+                "Word<#1>, Word<'while'> -> While;"
+            ),
+        };
+        for (final String code : cases) {
+            final Program program = RuleGroupingTest.createProgram(code);
+            Assertions.assertSame(program, new RuleGrouping(program).apply());
+        }
+    }
+
+    @Test
+    void alternativesThatDifferByData() {
+        final Program program = RuleGroupingTest.createProgram(
+            "Operator <- 'String', '\"\"';",
+            "Additive <- 0;",
+            "|(Operator<'+'>, Operator<'-'>, Operator<'*'>, Additive) -> Additive;"
+        );
+        final OrExpression expression = (OrExpression) program
+            .getAllTransformationDescriptors().get(0).getLeft().get(0);
+        final List<Integer> sizes = expression.getGroupedItems().stream()
+            .map(List::size)
+            .collect(Collectors.toList());
+        Assertions.assertEquals("[3, 1]", sizes.toString());
+        Assertions.assertTrue(
+            expression.matchNode(DraftNode.create("Operator", "-"), new Extracted())
+        );
+        Assertions.assertFalse(
+            expression.matchNode(DraftNode.create("Operator", "/"), new Extracted())
+        );
+        Assertions.assertFalse(
+            expression.matchNode(
+                DraftNode.create("Operator", "+", DraftNode.create("Additive")),
+                new Extracted()
+            )
+        );
+        Assertions.assertTrue(
+            expression.matchNode(DraftNode.create("Additive"), new Extracted())
+        );
+    }
+
+    @Test
+    void symbolicAlternatives() {
+        final Program program = RuleGroupingTest.createProgram(
+            "Letter <- 'char', ' ';",
+            "|('a..z'<#1>, 'A..Z'<#1>, '_'<#1>, '\\p{Nd}') -> Letter<#1>;"
+        );
+        final OrExpression expression = (OrExpression) program
+            .getAllTransformationDescriptors().get(0).getLeft().get(0);
+        final List<List<LeftSideItem>> groups = expression.getGroupedItems();
+        Assertions.assertEquals(2, groups.size());
+        Assertions.assertEquals(1, groups.get(0).size());
+        Assertions.assertEquals(
+            "'a..z' | 'A..Z' | '_'<#1>",
+            groups.get(0).get(0).toString(false)
+        );
+        Assertions.assertTrue(
+            expression.matchNode(DraftNode.create("Char", "Q"), new Extracted())
+        );
+        Assertions.assertTrue(
+            expression.matchNode(DraftNode.create("Char", "_"), new Extracted())
+        );
+        Assertions.assertTrue(
+            expression.matchNode(DraftNode.create("Char", "7"), new Extracted())
+        );
+        Assertions.assertFalse(
+            expression.matchNode(DraftNode.create("Char", "+"), new Extracted())
+        );
+    }
+
+    /**
+     * Parses and analyzes a program from the DSL source code.
+     * @param lines Lines of the DSL source code
+     * @return Program
+     */
+    private static Program createProgram(final String... lines) {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(String.join("\n", lines));
+        Program program = null;
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return program;
+    }
+}
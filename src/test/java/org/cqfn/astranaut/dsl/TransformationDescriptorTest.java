@@ -247,4 +247,79 @@ class TransformationDescriptorTest {
         Assertions.assertTrue(result.isPresent());
         Assertions.assertEquals(4, result.get().getConsumed());
     }
+
+    @Test
+    void scopedRule() {
+        final TransformationDescriptor descriptor = new TransformationDescriptor(
+            Collections.singletonList(
+                new PatternDescriptor("A", null, Collections.emptyList())
+            ),
+            new ResultingSubtreeDescriptor("B", null, Collections.emptyList())
+        );
+        final List<Node> list = Arrays.asList(
+            DraftNode.create("A"),
+            DraftNode.create("S"),
+            DraftNode.create("A")
+        );
+        Assertions.assertFalse(descriptor.isScoped());
+        Assertions.assertEquals(0, descriptor.getScopeStart(null, list));
+        descriptor.setScope(Collections.singletonList("S"));
+        Assertions.assertTrue(descriptor.isScoped());
+        Assertions.assertEquals("@S A -> B", descriptor.toString());
+        Assertions.assertEquals(0, descriptor.getScopeStart(DraftNode.create("S"), list));
+        Assertions.assertEquals(2, descriptor.getScopeStart(DraftNode.create("T"), list));
+        Assertions.assertEquals(2, descriptor.getScopeStart(null, list));
+        Assertions.assertTrue(descriptor.getScopeStart(null, list.subList(2, 3)) > 1);
+    }
+
+    @Test
+    void matchingLookaround() {
+        final List<LeftSideItem> patterns = Arrays.asList(
+            new PatternDescriptor("X", null, Collections.emptyList()),
+            new PatternDescriptor("A", null, Collections.emptyList()),
+            new PatternDescriptor("Y", null, Collections.emptyList())
+        );
+        patterns.get(0).setMatchingMode(PatternMatchingMode.LOOKBEHIND);
+        patterns.get(2).setMatchingMode(PatternMatchingMode.LOOKAHEAD);
+        patterns.get(2).setNegationFlag();
+        final TransformationDescriptor descriptor = new TransformationDescriptor(
+            patterns,
+            new ResultingSubtreeDescriptor("B", null, Collections.emptyList())
+        );
+        Assertions.assertEquals("<X, A, >~Y -> B", descriptor.toString());
+        Assertions.assertEquals(1, descriptor.getMatchedItems().size());
+        final List<Node> list = Arrays.asList(
+            DraftNode.create("A"),
+            DraftNode.create("X"),
+            DraftNode.create("A"),
+            DraftNode.create("Y"),
+            DraftNode.create("X"),
+            DraftNode.create("A")
+        );
+        Assertions.assertFalse(descriptor.convert(list, 0, DefaultFactory.EMPTY).isPresent());
+        Assertions.assertFalse(descriptor.convert(list, 2, DefaultFactory.EMPTY).isPresent());
+        final Optional<ConversionResult> result = descriptor.convert(
+            list,
+            5,
+            DefaultFactory.EMPTY
+        );
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertEquals(1, result.get().getConsumed());
+    }
+
+    @Test
+    void misplacedLookaround() {
+        final List<LeftSideItem> patterns = Arrays.asList(
+            new PatternDescriptor("A", null, Collections.emptyList()),
+            new PatternDescriptor("X", null, Collections.emptyList())
+        );
+        patterns.get(1).setMatchingMode(PatternMatchingMode.LOOKBEHIND);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new TransformationDescriptor(
+                patterns,
+                new ResultingSubtreeDescriptor("B", null, Collections.emptyList())
+            )
+        );
+    }
 }
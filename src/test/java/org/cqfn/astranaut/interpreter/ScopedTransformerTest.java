@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.interpreter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.core.algorithms.conversion.Converter;
+import org.cqfn.astranaut.core.algorithms.conversion.DefaultTransformer;
+import org.cqfn.astranaut.core.base.Builder;
+import org.cqfn.astranaut.core.base.DefaultFactory;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Transformer;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.core.utils.JsonSerializer;
+import org.cqfn.astranaut.core.utils.parsing.FileSource;
+import org.cqfn.astranaut.dsl.PatternDescriptor;
+import org.cqfn.astranaut.dsl.ConversionRule;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.dsl.ResultingSubtreeDescriptor;
+import org.cqfn.astranaut.dsl.TransformationDescriptor;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link ScopedTransformer} class.
+ * @since 1.0.0
+ */
+class ScopedTransformerTest {
+    @Test
+    void ruleScopedToParentType() {
+        final TransformationDescriptor scoped = new TransformationDescriptor(
+            Collections.singletonList(
+                new PatternDescriptor("A", null, Collections.emptyList())
+            ),
+            new ResultingSubtreeDescriptor("B", null, Collections.emptyList())
+        );
+        scoped.setScope(Collections.singletonList("S"));
+        final TransformationDescriptor common = new TransformationDescriptor(
+            Collections.singletonList(
+                new PatternDescriptor("X", null, Collections.emptyList())
+            ),
+            new ResultingSubtreeDescriptor("Y", null, Collections.emptyList())
+        );
+        final ScopedTransformer transformer = new ScopedTransformer(
+            Arrays.asList(scoped, common),
+            DefaultFactory.EMPTY
+        );
+        final Node root = DraftNode.create("R(A,S(A,X),T(A,X))");
+        final Tree result = transformer.transform(new Tree(root));
+        Assertions.assertEquals("R(A, S(B, Y), T(A, Y))", result.getRoot().toString());
+    }
+
+    @Test
+    void ruleScopedByMarker() {
+        final TransformationDescriptor scoped = new TransformationDescriptor(
+            Collections.singletonList(
+                new PatternDescriptor("A", null, Collections.emptyList())
+            ),
+            new ResultingSubtreeDescriptor("B", null, Collections.emptyList())
+        );
+        scoped.setScope(Collections.singletonList("M"));
+        final ScopedTransformer transformer = new ScopedTransformer(
+            Collections.singletonList(scoped),
+            DefaultFactory.EMPTY
+        );
+        final Node root = DraftNode.create("R(A,M,A)");
+        final Tree result = transformer.transform(new Tree(root));
+        Assertions.assertEquals("R(A, M, B)", result.getRoot().toString());
+        final Node same = DraftNode.create("R(A,A)");
+        Assertions.assertSame(same, transformer.transform(new Tree(same)).getRoot());
+    }
+
+    @Test
+    void rewriteRejectedByParent() {
+        final Program program = ScopedTransformerTest.createProgram(
+            "Operand <- Number | Group;",
+            "Number <- 'int';",
+            "Group <- Operand;",
+            "Pair <- Operand, Operand;",
+            "Sum <- Operand, Operand;",
+            "Number<\"0\"> -> Number<\"1\">;",
+            "@Pair Group(#1), Group(#2) -> Sum(#1, #2);"
+        );
+        final Transformer transformer = program.getTransformer("common");
+        Assertions.assertTrue(transformer instanceof ScopedTransformer);
+        final Node root = ScopedTransformerTest.createNode(
+            program.getFactory("common"),
+            DraftNode.create("Pair(Group(Number<\"0\">), Group(Number<\"2\">))")
+        );
+        final Node result = transformer.transform(new Tree(root)).getRoot();
+        Assertions.assertEquals("Pair", result.getTypeName());
+        Assertions.assertEquals("Group", result.getChild(0).getTypeName());
+        Assertions.assertEquals("1", result.getChild(0).getChild(0).getData());
+        Assertions.assertEquals("2", result.getChild(1).getChild(0).getData());
+    }
+
+    @Test
+    void sameResultAsDefaultTransformer() {
+        final String[][] cases = {
+            {"identifiers_numbers_and_operators.dsl", "two_additions.txt"},
+            {"right_to_left_rule.dsl", "chained_assignment.txt"},
+            {"repeated_and_inverted.dsl", "identifiers_and_string.txt"},
+            {"optional_and_inverted.dsl", "identifiers_and_text.txt"},
+            {"regular_and_inverted.dsl", "three_symbols.txt"},
+            {"or_expression.dsl", "identifier_and_number.txt"},
+        };
+        for (final String[] pair : cases) {
+            final DslReader reader = new DslReader();
+            Program program = null;
+            boolean oops = false;
+            try {
+                reader.readFile(String.format("src/test/resources/dsl/%s", pair[0]));
+                final ProgramParser parser = new ProgramParser();
+                program = parser.parse(reader);
+                new Analyzer(program, parser.getLocations()).analyze();
+            } catch (final BaseException ignored) {
+                oops = true;
+            }
+            Assertions.assertFalse(oops);
+            final List<ConversionRule> rules = program.getConversionRulesByLanguage("common");
+            final Factory factory = program.getFactory("common");
+            final Tree tree = new FileSource(
+                String.format("src/test/resources/sources/%s", pair[1])
+            ).parseIntoTree();
+            final Tree expected = new DefaultTransformer(
+                rules.stream().map(rule -> (Converter) rule).collect(Collectors.toList()),
+                factory
+            ).transform(tree);
+            final Tree actual = new ScopedTransformer(rules, factory).transform(tree);
+            Assertions.assertEquals(
+                new JsonSerializer(expected).serialize(),
+                new JsonSerializer(actual).serialize()
+            );
+        }
+    }
+
+    /**
+     * Parses and analyzes a program from the DSL source code.
+     * @param lines Lines of the DSL source code
+     * @return Program
+     */
+    private static Program createProgram(final String... lines) {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(String.join("\n", lines));
+        Program program = null;
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return program;
+    }
+
+    /**
+     * Creates a tree of typed nodes from a tree of draft nodes.
+     * @param factory Factory that creates typed nodes
+     * @param draft Root of the tree of draft nodes
+     * @return Root of the tree of typed nodes
+     */
+    private static Node createNode(final Factory factory, final Node draft) {
+        final List<Node> children = new ArrayList<>(draft.getChildCount());
+        for (int index = 0; index < draft.getChildCount(); index = index + 1) {
+            children.add(ScopedTransformerTest.createNode(factory, draft.getChild(index)));
+        }
+        final Builder builder = factory.createBuilder(draft.getTypeName());
+        Assertions.assertTrue(builder.setData(draft.getData()));
+        Assertions.assertTrue(builder.setChildrenList(children));
+        Assertions.assertTrue(builder.isValid());
+        return builder.createNode();
+    }
+}
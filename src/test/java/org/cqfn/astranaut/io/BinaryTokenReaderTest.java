@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link BinaryTokenReader} and {@link BinaryTokenWriter} classes.
+ * @since 1.0.0
+ */
+class BinaryTokenReaderTest {
+    @Test
+    void writeAndRead() {
+        final StringBuilder builder = new StringBuilder();
+        for (int index = 0; index < 10_000; index = index + 1) {
+            builder.append('x');
+        }
+        final SourceToken[] tokens = {
+            new SourceToken("Identifier", "abc", 0),
+            new SourceToken("Operator", "+", 4),
+            new SourceToken("Identifier", "привет", 6),
+            new SourceToken("Comment", builder.toString(), 100_000),
+            new SourceToken("Operator", "-", 200_000),
+        };
+        boolean oops = false;
+        try {
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            final BinaryTokenWriter writer = new BinaryTokenWriter(Channels.newChannel(stream));
+            for (final SourceToken token : tokens) {
+                writer.write(token);
+            }
+            writer.flush();
+            final TokenReader reader = new BinaryTokenReader(
+                Channels.newChannel(new ByteArrayInputStream(stream.toByteArray()))
+            );
+            for (final SourceToken token : tokens) {
+                Assertions.assertEquals(token.toString(), reader.next().toString());
+            }
+            Assertions.assertNull(reader.next());
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void emptyStream() {
+        boolean oops = false;
+        try {
+            final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            new BinaryTokenWriter(Channels.newChannel(stream)).flush();
+            Assertions.assertEquals(5, stream.size());
+            final TokenReader reader = new BinaryTokenReader(
+                Channels.newChannel(new ByteArrayInputStream(stream.toByteArray()))
+            );
+            Assertions.assertNull(reader.next());
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void malformedStreams() {
+        final byte[][] streams = {
+            "{\"type\": \"Identifier\"}".getBytes(StandardCharsets.UTF_8),
+            {'A', 'T', 'O', 'K', 2},
+            {'A', 'T', 'O', 'K', 1, 1, 1, 'x', 0},
+            {'A', 'T', 'O', 'K', 1, 0, 1, 'T', 5, 'x'},
+            {'A', 'T', 'O', 'K', 1, 0, 1, 'T', 1, 'x', (byte) 0x80},
+        };
+        for (final byte[] stream : streams) {
+            Assertions.assertThrows(
+                MalformedInput.class,
+                () -> new BinaryTokenReader(
+                    Channels.newChannel(new ByteArrayInputStream(stream))
+                ).next()
+            );
+        }
+    }
+}
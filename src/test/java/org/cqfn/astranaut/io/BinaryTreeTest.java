@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.core.utils.JsonSerializer;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link BinaryTreeReader} and {@link BinaryTreeWriter} classes.
+ * @since 1.0.0
+ */
+class BinaryTreeTest {
+    @Test
+    void writeAndRead() {
+        final Program program = BinaryTreeTest.createProgram();
+        final Tree tree = new Tree(
+            DraftNode.create(
+                "Root",
+                "",
+                DraftNode.create(
+                    "Addition",
+                    "",
+                    DraftNode.create("Identifier", "x"),
+                    DraftNode.create("Operator", "="),
+                    DraftNode.create("IntegerLiteral", "привет")
+                ),
+                DraftNode.create("Identifier", "x"),
+                DraftNode.create("Empty", "")
+            )
+        );
+        boolean oops = false;
+        try {
+            final byte[] bytes = BinaryTreeTest.write(tree);
+            final Tree result = new BinaryTreeReader(
+                Channels.newChannel(new ByteArrayInputStream(bytes)),
+                program
+            ).read();
+            Assertions.assertEquals(
+                new JsonSerializer(tree).serialize(),
+                new JsonSerializer(result).serialize()
+            );
+            final Node identifier = result.getRoot().getChild(1);
+            Assertions.assertFalse(identifier instanceof DraftNode);
+            Assertions.assertTrue(result.getRoot().getChild(2) instanceof DraftNode);
+            Assertions.assertTrue(result.getRoot().getChild(0) instanceof DraftNode);
+            Assertions.assertFalse(
+                result.getRoot().getChild(0).getChild(2) instanceof DraftNode
+            );
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void deepTree() {
+        final int depth = 100_000;
+        Node node = DraftNode.create("Leaf", "x");
+        for (int index = 1; index < depth; index = index + 1) {
+            node = DraftNode.create("Wrapper", "", node);
+        }
+        boolean oops = false;
+        try {
+            final byte[] bytes = BinaryTreeTest.write(new Tree(node));
+            Node result = new BinaryTreeReader(
+                Channels.newChannel(new ByteArrayInputStream(bytes)),
+                BinaryTreeTest.createProgram()
+            ).read().getRoot();
+            int count = 1;
+            while (result.getChildCount() > 0) {
+                result = result.getChild(0);
+                count = count + 1;
+            }
+            Assertions.assertEquals(depth, count);
+            Assertions.assertEquals("x", result.getData());
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void malformedStreams() {
+        final byte[][] streams = {
+            {'A', 'T', 'O', 'K', 1},
+            {'A', 'T', 'R', 'E', 2},
+            {'A', 'T', 'R', 'E', 1, 0, 1, 'x', 0, 0},
+            {'A', 'T', 'R', 'E', 1, 0, 0, 1, 'T', 2, 0},
+            {'A', 'T', 'R', 'E', 1, 0, 0, 1, 'T', 0, 1, 0, 0},
+        };
+        final Program program = BinaryTreeTest.createProgram();
+        for (final byte[] stream : streams) {
+            Assertions.assertThrows(
+                MalformedInput.class,
+                () -> new BinaryTreeReader(
+                    Channels.newChannel(new ByteArrayInputStream(stream)),
+                    program
+                ).read()
+            );
+        }
+    }
+
+    /**
+     * Writes a tree to an array of bytes.
+     * @param tree Tree
+     * @return Array of bytes
+     * @throws IOException If the tree can't be written
+     */
+    private static byte[] write(final Tree tree) throws IOException {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        new BinaryTreeWriter(Channels.newChannel(stream)).write(tree);
+        return stream.toByteArray();
+    }
+
+    /**
+     * Creates a program that describes the nodes used in tests.
+     * @return Program
+     */
+    private static Program createProgram() {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(
+            String.join(
+                "\n",
+                "Identifier <- 'String', '\"\"';",
+                "IntegerLiteral <- 'int';",
+                "Operator <- 'String', '\"\"';",
+                "Addition <- Identifier, Identifier;"
+            )
+        );
+        Program program = null;
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return program;
+    }
+}
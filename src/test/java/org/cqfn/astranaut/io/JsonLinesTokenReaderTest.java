@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link JsonLinesTokenReader} class.
+ * @since 1.0.0
+ */
+class JsonLinesTokenReaderTest {
+    @Test
+    void readTokens() {
+        final String code = String.join(
+            "\n",
+            "{\"type\": \"Identifier\", \"text\": \"x\", \"offset\": 2}",
+            "",
+            "{\"offset\":4,\"kind\":null,\"text\":\"\\\"a\\\\b\\u0441\\\"\",\"type\":\"String\"}",
+            "  { \"type\" : \"Semicolon\" , \"text\" : \";\" }  "
+        );
+        final TokenReader reader = new JsonLinesTokenReader(new StringReader(code));
+        boolean oops = false;
+        try {
+            Assertions.assertEquals("Identifier<\"x\">@2", reader.next().toString());
+            final SourceToken token = reader.next();
+            Assertions.assertEquals("String", token.getType());
+            Assertions.assertEquals("\"a\\bс\"", token.getText());
+            Assertions.assertEquals(4, token.getOffset());
+            Assertions.assertEquals("Semicolon<\";\">@10", reader.next().toString());
+            Assertions.assertNull(reader.next());
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void malformedLines() {
+        final String[] lines = {
+            "{\"type\": \"Identifier\"}",
+            "{\"type\": \"Identifier\", \"text\": \"x\"",
+            "{\"type\": \"Identifier\", \"text\": \"x\", \"offset\": -1}",
+            "{\"type\": \"Identifier\", \"text\": \"\\x\"}",
+            "{\"type\": \"Identifier\", \"text\": \"x\", \"more\": [1]}",
+            "{\"type\": \"Identifier\", \"text\": \"x\"} 1",
+            "[]",
+        };
+        for (final String line : lines) {
+            Assertions.assertThrows(
+                MalformedInput.class,
+                () -> new JsonLinesTokenReader(new StringReader(line)).next()
+            );
+        }
+    }
+}
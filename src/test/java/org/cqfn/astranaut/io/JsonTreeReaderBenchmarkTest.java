@@ -0,0 +1,259 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.core.utils.FilesReader;
+import org.cqfn.astranaut.core.utils.JsonDeserializer;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Benchmark of reading a large JSON tree: the streaming {@link JsonTreeReader} against
+ *  the way the tree was read before, that is, loading the whole file into a string and
+ *  passing it to {@link JsonDeserializer} from astranaut-core. The file contains
+ *  200,000 additions of two identifiers, 600,001 nodes in total. Both ways must build trees
+ *  of the same size. The benchmark is skipped unless the {@code benchmark} system property
+ *  is {@code true}: {@code mvn test -Dtest=JsonTreeReaderBenchmarkTest -Dbenchmark=true}.
+ *  Run it with a fixed heap size, for example {@code -DargLine=-Xmx1g}, so that the peak
+ *  heap figures of different runs can be compared.
+ * @since 1.0.0
+ */
+class JsonTreeReaderBenchmarkTest {
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER =
+        Logger.getLogger(JsonTreeReaderBenchmarkTest.class.getName());
+
+    /**
+     * Number of additions in the tree.
+     */
+    private static final int ADDITIONS = 200_000;
+
+    /**
+     * Number of runs that are not measured.
+     */
+    private static final int WARMUP = 3;
+
+    /**
+     * Number of measured runs.
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Number of bytes in a megabyte.
+     */
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void readLargeTree(final @TempDir Path temp) throws IOException, BaseException {
+        final Path file = temp.resolve("tree.json");
+        JsonTreeReaderBenchmarkTest.writeTree(file);
+        final Program program = JsonTreeReaderBenchmarkTest.createProgram();
+        final int expected = JsonTreeReaderBenchmarkTest.ADDITIONS * 3 + 1;
+        final String path = file.toString();
+        final long[] core = JsonTreeReaderBenchmarkTest.measure(
+            expected,
+            () -> new JsonDeserializer(new FilesReader(path).readAsString(), program).convert()
+        );
+        final long[] stream = JsonTreeReaderBenchmarkTest.measure(
+            expected,
+            () -> {
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    return new JsonTreeReader(reader, program).read();
+                }
+            }
+        );
+        LOGGER.log(
+            Level.INFO,
+            String.format(
+                "%d nodes, %d MB: core deserializer %d ms (peak heap %d MB), %s %d ms (%d MB)",
+                expected,
+                Files.size(file) / JsonTreeReaderBenchmarkTest.MEGABYTE,
+                core[0],
+                core[1],
+                "streaming reader",
+                stream[0],
+                stream[1]
+            )
+        );
+    }
+
+    /**
+     * Runs a task several times and returns the median time and the largest peak
+     *  of heap usage.
+     * @param expected Expected number of nodes in the tree that the task reads
+     * @param task Task
+     * @return Median time, in milliseconds, and peak heap usage, in megabytes
+     * @throws IOException If the task fails to read the file
+     * @throws BaseException If the task finds that the file is malformed
+     */
+    private static long[] measure(final int expected, final Task task)
+        throws IOException, BaseException {
+        final long[] times = new long[JsonTreeReaderBenchmarkTest.RUNS];
+        long peak = 0;
+        final int total = JsonTreeReaderBenchmarkTest.WARMUP + JsonTreeReaderBenchmarkTest.RUNS;
+        for (int index = 0; index < total; index = index + 1) {
+            final List<MemoryPoolMXBean> pools = ManagementFactory.getMemoryPoolMXBeans();
+            System.gc();
+            for (final MemoryPoolMXBean pool : pools) {
+                pool.resetPeakUsage();
+            }
+            final long start = System.nanoTime();
+            final Tree tree = task.run();
+            final long time = (System.nanoTime() - start) / 1_000_000L;
+            long used = 0;
+            for (final MemoryPoolMXBean pool : pools) {
+                if (pool.getType() == MemoryType.HEAP) {
+                    used = used + pool.getPeakUsage().getUsed();
+                }
+            }
+            Assertions.assertEquals(expected, JsonTreeReaderBenchmarkTest.count(tree.getRoot()));
+            if (index >= JsonTreeReaderBenchmarkTest.WARMUP) {
+                times[index - JsonTreeReaderBenchmarkTest.WARMUP] = time;
+                peak = Math.max(peak, used / JsonTreeReaderBenchmarkTest.MEGABYTE);
+            }
+        }
+        Arrays.sort(times);
+        return new long[] {times[times.length / 2], peak};
+    }
+
+    /**
+     * Counts the nodes of a tree.
+     * @param root Root node
+     * @return Number of nodes
+     */
+    private static int count(final Node root) {
+        final Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        int count = 0;
+        while (!stack.isEmpty()) {
+            final Node node = stack.pop();
+            count = count + 1;
+            for (int index = 0; index < node.getChildCount(); index = index + 1) {
+                stack.push(node.getChild(index));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Writes a large tree to a JSON file.
+     * @param file File
+     * @throws IOException If the file cannot be written
+     */
+    private static void writeTree(final Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"root\": {\n    \"type\": \"Root\",\n    \"children\": [\n");
+            for (int index = 0; index < JsonTreeReaderBenchmarkTest.ADDITIONS; index = index + 1) {
+                if (index > 0) {
+                    writer.write(",\n");
+                }
+                writer.write(
+                    String.format(
+                        String.join(
+                            "\n",
+                            "      {",
+                            "        \"type\": \"Addition\",",
+                            "        \"children\": [",
+                            "          { \"type\": \"Identifier\", \"data\": \"x%d\" },",
+                            "          { \"type\": \"Identifier\", \"data\": \"y%d\" }",
+                            "        ]",
+                            "      }"
+                        ),
+                        index,
+                        index
+                    )
+                );
+            }
+            writer.write("\n    ]\n  }\n}\n");
+        }
+    }
+
+    /**
+     * Creates a program that describes the nodes of the tree.
+     * @return Program
+     */
+    private static Program createProgram() {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(
+            String.join(
+                "\n",
+                "Identifier <- 'String', '\"\"';",
+                "Addition <- Identifier, Identifier;"
+            )
+        );
+        Program program = null;
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return program;
+    }
+
+    /**
+     * Task to be measured.
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    private interface Task {
+        /**
+         * Reads the tree.
+         * @return Tree
+         * @throws IOException If the file cannot be read
+         * @throws BaseException If the file is malformed
+         */
+        Tree run() throws IOException, BaseException;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.cqfn.astranaut.analyzer.Analyzer;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.core.utils.JsonDeserializer;
+import org.cqfn.astranaut.core.utils.JsonSerializer;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.cqfn.astranaut.parser.DslReader;
+import org.cqfn.astranaut.parser.ProgramParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link JsonTreeReader} class.
+ * @since 1.0.0
+ */
+class JsonTreeReaderTest {
+    @Test
+    void sameResultAsDeserializer() {
+        final StringBuilder builder = new StringBuilder(100_000);
+        builder.append("{\"root\": {\"type\": \"Root\", \"children\": [");
+        for (int index = 0; index < 1000; index = index + 1) {
+            if (index > 0) {
+                builder.append(",\n");
+            }
+            builder.append("{\"type\": \"Addition\", \"children\": [")
+                .append("{\"type\": \"Identifier\", \"data\": \"x")
+                .append(index)
+                .append("\"}, {\"type\": \"Identifier\", \"data\": \"\\\"y\\\"\"}]}");
+        }
+        builder.append("]}}");
+        final String code = builder.toString();
+        final Program program = JsonTreeReaderTest.createProgram();
+        final Tree expected = new JsonDeserializer(code, program).convert();
+        final Tree actual = JsonTreeReaderTest.read(code, program);
+        Assertions.assertEquals(
+            new JsonSerializer(expected).serialize(),
+            new JsonSerializer(actual).serialize()
+        );
+        final Node addition = actual.getRoot().getChild(999);
+        Assertions.assertFalse(addition instanceof DraftNode);
+        Assertions.assertEquals("x999", addition.getChild(0).getData());
+    }
+
+    @Test
+    void fieldsInAnyOrder() {
+        final String code = String.join(
+            "\n",
+            "{",
+            "  \"version\": [1, {\"minor\": 0}, \"x\"],",
+            "  \"language\": \"common\",",
+            "  \"root\": {",
+            "    \"children\": [ ],",
+            "    \"extra\": {\"a\": [true, null, -1.5e3]},",
+            "    \"data\": \"\\u0430\\n\\/\",",
+            "    \"type\": \"Leaf\"",
+            "  },",
+            "  \"count\": 1",
+            "}"
+        );
+        final Node root = JsonTreeReaderTest.read(code, JsonTreeReaderTest.createProgram())
+            .getRoot();
+        Assertions.assertEquals("Leaf", root.getTypeName());
+        Assertions.assertEquals("а\n/", root.getData());
+        Assertions.assertEquals(0, root.getChildCount());
+    }
+
+    @Test
+    void languageAfterRoot() {
+        final String tree = String.join(
+            "",
+            "{\"type\": \"Root\", \"children\": [",
+            "{\"type\": \"Assignment\", \"children\": [",
+            "{\"type\": \"Identifier\", \"data\": \"x\"}, ",
+            "{\"type\": \"Identifier\", \"data\": \"y\"}]}, ",
+            "{\"type\": \"Addition\", \"children\": [",
+            "{\"type\": \"Identifier\", \"data\": \"a\"}, ",
+            "{\"type\": \"Identifier\", \"data\": \"b\"}]}]}"
+        );
+        final Program program = JsonTreeReaderTest.createProgram();
+        final Tree before = JsonTreeReaderTest.read(
+            String.format("{\"language\": \"java\", \"root\": %s}", tree),
+            program
+        );
+        final Tree after = JsonTreeReaderTest.read(
+            String.format("{\"root\": %s, \"language\": \"java\"}\n", tree),
+            program
+        );
+        Assertions.assertEquals(
+            new JsonSerializer(before).serialize(),
+            new JsonSerializer(after).serialize()
+        );
+        final Node root = after.getRoot();
+        Assertions.assertTrue(root instanceof DraftNode);
+        final Node assignment = root.getChild(0);
+        Assertions.assertFalse(assignment instanceof DraftNode);
+        Assertions.assertEquals("Assignment", assignment.getTypeName());
+        Assertions.assertEquals("y", assignment.getChild(1).getData());
+    }
+
+    @Test
+    void deepTree() {
+        final int depth = 100_000;
+        final StringBuilder builder = new StringBuilder(depth * 50);
+        builder.append("{\"root\":");
+        for (int index = 1; index < depth; index = index + 1) {
+            builder.append("{\"type\":\"Wrapper\",\"children\":[");
+        }
+        builder.append("{\"type\":\"Leaf\",\"data\":\"x\"}");
+        for (int index = 1; index < depth; index = index + 1) {
+            builder.append("]}");
+        }
+        builder.append('}');
+        Node node = JsonTreeReaderTest.read(
+            builder.toString(),
+            JsonTreeReaderTest.createProgram()
+        ).getRoot();
+        int count = 1;
+        while (node.getChildCount() > 0) {
+            node = node.getChild(0);
+            count = count + 1;
+        }
+        Assertions.assertEquals(depth, count);
+        Assertions.assertEquals("x", node.getData());
+    }
+
+    @Test
+    void malformedInputs() {
+        final String[] inputs = {
+            "",
+            "[]",
+            "{}",
+            "{\"root\": {\"data\": \"x\"}}",
+            "{\"root\": {\"type\": \"A\",}}",
+            "{\"root\": {\"type\": \"A\" \"data\": \"x\"}}",
+            "{\"root\": {\"type\": \"A\", \"children\": [{\"type\": \"B\"} {\"type\": \"C\"}]}}",
+            "{\"root\": {\"type\": \"A\", \"children\": [1]}}",
+            "{\"root\": {\"type\": \"A\\x\"}}",
+            "{\"root\": {\"type\": \"A\\u00g0\"}}",
+            "{\"root\": {\"type\": \"A",
+            "{\"root\": {\"type\": \"A\"}",
+            "{\"root\": {\"type\": \"A\", \"extra\": }}",
+            "{\"root\": {\"type\": \"A\"}}garbage",
+            "{\"root\": {\"type\": \"A\"}}\n}",
+        };
+        final Program program = JsonTreeReaderTest.createProgram();
+        for (final String input : inputs) {
+            Assertions.assertThrows(
+                MalformedInput.class,
+                () -> new JsonTreeReader(new StringReader(input), program).read()
+            );
+        }
+    }
+
+    /**
+     * Reads a tree from a string, asserting that reading succeeds.
+     * @param code JSON code
+     * @param program Program that provides factories
+     * @return Tree
+     */
+    private static Tree read(final String code, final Program program) {
+        Tree tree = null;
+        boolean oops = false;
+        try {
+            tree = new JsonTreeReader(new StringReader(code), program).read();
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return tree;
+    }
+
+    /**
+     * Creates a program that describes the nodes used in tests.
+     * @return Program
+     */
+    private static Program createProgram() {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(
+            String.join(
+                "\n",
+                "Identifier <- 'String', '\"\"';",
+                "Addition <- Identifier, Identifier;",
+                "java: Assignment <- Identifier, Identifier;"
+            )
+        );
+        Program program = null;
+        boolean oops = false;
+        try {
+            final ProgramParser parser = new ProgramParser();
+            program = parser.parse(reader);
+            new Analyzer(program, parser.getLocations()).analyze();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return program;
+    }
+}
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.cqfn.astranaut.core.base.DefaultFactory;
+import org.cqfn.astranaut.core.base.DraftNode;
+import org.cqfn.astranaut.core.base.Factory;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Provider;
+import org.cqfn.astranaut.core.base.Transformer;
+import org.cqfn.astranaut.core.base.Tree;
+import org.cqfn.astranaut.core.utils.JsonSerializer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link JsonTreeWriter} class.
+ * @since 1.0.0
+ */
+class JsonTreeWriterTest {
+    /**
+     * Tree used in tests.
+     */
+    private static final Tree TREE = new Tree(
+        DraftNode.create("Root(Addition(Identifier<\"x\">, IntegerLiteral<\"1\">), Empty)")
+    );
+
+    @Test
+    void prettyLayout() {
+        Assertions.assertEquals(
+            new JsonSerializer(JsonTreeWriterTest.TREE).serialize(),
+            JsonTreeWriterTest.write(JsonTreeWriterTest.TREE, true)
+        );
+    }
+
+    @Test
+    void compactLayout() {
+        Assertions.assertEquals(
+            String.join(
+                "",
+                "{\"root\":{\"type\":\"Root\",\"children\":[{\"type\":\"Addition\",",
+                "\"children\":[{\"type\":\"Identifier\",\"data\":\"x\"},",
+                "{\"type\":\"IntegerLiteral\",\"data\":\"1\"}]},{\"type\":\"Empty\"}]}}"
+            ),
+            JsonTreeWriterTest.write(JsonTreeWriterTest.TREE, false)
+        );
+    }
+
+    @Test
+    void escapedCharacters() {
+        final String data = "\"a\\b\"\n\t\u0001привет";
+        final Tree tree = new Tree(DraftNode.create("Text", data));
+        final String code = JsonTreeWriterTest.write(tree, false);
+        Assertions.assertEquals(
+            "{\"root\":{\"type\":\"Text\",\"data\":\"\\\"a\\\\b\\\"\\n\\t\\u0001привет\"}}",
+            code
+        );
+        Assertions.assertEquals(
+            "\\\"a\\\\b\\\"\\n\\t\\u0001привет\\r\\u001f",
+            JsonTreeWriter.escape(data.concat("\r\u001f"))
+        );
+        boolean oops = false;
+        try {
+            final Node node = new JsonTreeReader(
+                new StringReader(code),
+                new EmptyProvider()
+            ).read().getRoot();
+            Assertions.assertEquals(data, node.getData());
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void deepTree() {
+        final int depth = 100_000;
+        Node node = DraftNode.create("Leaf", "x");
+        for (int index = 1; index < depth; index = index + 1) {
+            node = DraftNode.create("Wrapper", "", node);
+        }
+        final String code = JsonTreeWriterTest.write(new Tree(node), false);
+        Assertions.assertTrue(code.startsWith("{\"root\":{\"type\":\"Wrapper\",\"children\":["));
+        Assertions.assertTrue(code.contains("[{\"type\":\"Leaf\",\"data\":\"x\"}]}]}"));
+        Assertions.assertTrue(code.endsWith("]}]}}"));
+    }
+
+    /**
+     * Writes a tree to a string.
+     * @param tree Tree
+     * @param pretty Flag indicating that the output is indented
+     * @return JSON code
+     */
+    private static String write(final Tree tree, final boolean pretty) {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        boolean oops = false;
+        try {
+            new JsonTreeWriter(Channels.newChannel(stream), pretty).write(tree);
+        } catch (final IOException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return new String(stream.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Provider that creates draft nodes only.
+     * @since 1.0.0
+     */
+    private static final class EmptyProvider implements Provider {
+        @Override
+        public Factory getFactory(final String language) {
+            return DefaultFactory.EMPTY;
+        }
+
+        @Override
+        public Transformer getTransformer(final String language) {
+            return tree -> tree;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.cqfn.astranaut.core.base.DefaultFactory;
+import org.cqfn.astranaut.core.base.Fragment;
+import org.cqfn.astranaut.core.base.Node;
+import org.cqfn.astranaut.core.base.Position;
+import org.cqfn.astranaut.core.base.Tree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link TokenStream} and {@link TextSource} classes.
+ * @since 1.0.0
+ */
+class TokenStreamTest {
+    /**
+     * Tokens used in tests.
+     */
+    private static final String TOKENS = String.join(
+        "\n",
+        "{\"type\": \"Identifier\", \"text\": \"a\", \"offset\": 0}",
+        "{\"type\": \"Operator\", \"text\": \"=\", \"offset\": 2}",
+        "{\"type\": \"Number\", \"text\": \"12\", \"offset\": 6}"
+    );
+
+    @Test
+    void tokensWithSourceText() {
+        boolean oops = false;
+        try {
+            final Tree tree = new TokenStream(
+                new JsonLinesTokenReader(new StringReader(TokenStreamTest.TOKENS)),
+                "a =\n  12;\n"
+            ).parseIntoTree(DefaultFactory.EMPTY);
+            final Node root = tree.getRoot();
+            Assertions.assertEquals("Root", root.getTypeName());
+            Assertions.assertEquals(3, root.getChildCount());
+            final Node number = root.getChild(2);
+            Assertions.assertEquals("Number", number.getTypeName());
+            Assertions.assertEquals("12", number.getData());
+            final Fragment fragment = number.getFragment();
+            Assertions.assertEquals("12", fragment.getCode());
+            final Position begin = fragment.getBegin();
+            Assertions.assertEquals(2, begin.getRow());
+            Assertions.assertEquals(3, begin.getColumn());
+            Assertions.assertEquals(5, fragment.getEnd().getColumn());
+            Assertions.assertEquals("a =\n  12;\n", root.getFragment().getCode());
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void tokensWithoutSourceText() {
+        boolean oops = false;
+        try {
+            final Tree tree = new TokenStream(
+                new JsonLinesTokenReader(new StringReader(TokenStreamTest.TOKENS)),
+                null
+            ).parseIntoTree(DefaultFactory.EMPTY);
+            Assertions.assertEquals("a =   12", tree.getRoot().getFragment().getCode());
+            final Position begin = tree.getRoot().getChild(2).getFragment().getBegin();
+            Assertions.assertEquals(1, begin.getRow());
+            Assertions.assertEquals(7, begin.getColumn());
+        } catch (final IOException | MalformedInput ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void tokensThatDoNotMatchSourceText() {
+        final String[] texts = {
+            "b = 12",
+            "a =   13",
+            "a",
+        };
+        for (final String text : texts) {
+            Assertions.assertThrows(
+                MalformedInput.class,
+                () -> new TokenStream(
+                    new JsonLinesTokenReader(new StringReader(TokenStreamTest.TOKENS)),
+                    text
+                ).parseIntoTree(DefaultFactory.EMPTY)
+            );
+        }
+        Assertions.assertThrows(
+            MalformedInput.class,
+            () -> new TokenStream(
+                new JsonLinesTokenReader(
+                    new StringReader(
+                        String.join(
+                            "\n",
+                            "{\"type\": \"Identifier\", \"text\": \"abc\", \"offset\": 0}",
+                            "{\"type\": \"Identifier\", \"text\": \"c\", \"offset\": 2}"
+                        )
+                    )
+                ),
+                null
+            ).parseIntoTree(DefaultFactory.EMPTY)
+        );
+    }
+}
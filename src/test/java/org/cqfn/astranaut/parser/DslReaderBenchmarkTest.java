@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.parser;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Benchmark of reading and parsing a large DSL program: the main file imports four parts
+ *  with 100,000 node descriptors and 33,334 literal descriptors in total
+ *  (see {@link SyntheticProgram}). The benchmark is skipped unless the {@code benchmark}
+ *  system property is {@code true}:
+ *  {@code mvn test -Dtest=DslReaderBenchmarkTest -Dbenchmark=true}.
+ *  It uses only the public API of {@link DslReader} and {@link ProgramParser}, so it can be
+ *  copied to an older version of the project to compare the results.
+ * @since 1.0.0
+ */
+class DslReaderBenchmarkTest {
+    /**
+     * Logger.
+     */
+    private static final Logger LOGGER =
+        Logger.getLogger(DslReaderBenchmarkTest.class.getName());
+
+    /**
+     * Number of imported parts.
+     */
+    private static final int PARTS = 4;
+
+    /**
+     * Number of node descriptors in each part.
+     */
+    private static final int NODES = 25_000;
+
+    /**
+     * Number of runs that are not measured.
+     */
+    private static final int WARMUP = 3;
+
+    /**
+     * Number of measured runs.
+     */
+    private static final int RUNS = 5;
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void readAndParse(final @TempDir Path temp) throws IOException, BaseException {
+        final String main = SyntheticProgram.write(
+            temp,
+            DslReaderBenchmarkTest.PARTS,
+            DslReaderBenchmarkTest.NODES
+        ).toString();
+        final int expected = SyntheticProgram.countStatements(
+            DslReaderBenchmarkTest.PARTS,
+            DslReaderBenchmarkTest.NODES
+        );
+        final long read = DslReaderBenchmarkTest.measure(
+            expected,
+            () -> {
+                final DslReader reader = new DslReader();
+                reader.readFile(main);
+                int count = 0;
+                while (reader.getStatement() != null) {
+                    count = count + 1;
+                }
+                return count;
+            }
+        );
+        final long parse = DslReaderBenchmarkTest.measure(
+            expected,
+            () -> {
+                final DslReader reader = new DslReader();
+                reader.readFile(main);
+                return new ProgramParser().parse(reader).getAllRules().size();
+            }
+        );
+        LOGGER.log(
+            Level.INFO,
+            String.format(
+                "%d statements: read in %d ms, read and parsed in %d ms (median of %d runs)",
+                expected,
+                read,
+                parse,
+                DslReaderBenchmarkTest.RUNS
+            )
+        );
+    }
+
+    /**
+     * Runs a task several times and returns the median time.
+     * @param expected Expected result of the task
+     * @param task Task
+     * @return Median time, in milliseconds
+     * @throws BaseException If the task fails
+     */
+    private static long measure(final int expected, final Task task) throws BaseException {
+        final long[] times = new long[DslReaderBenchmarkTest.RUNS];
+        final int total = DslReaderBenchmarkTest.WARMUP + DslReaderBenchmarkTest.RUNS;
+        for (int index = 0; index < total; index = index + 1) {
+            final long start = System.nanoTime();
+            Assertions.assertEquals(expected, task.run());
+            if (index >= DslReaderBenchmarkTest.WARMUP) {
+                times[index - DslReaderBenchmarkTest.WARMUP] =
+                    (System.nanoTime() - start) / 1_000_000L;
+            }
+        }
+        Arrays.sort(times);
+        return times[times.length / 2];
+    }
+
+    /**
+     * Task to be measured.
+     * @since 1.0.0
+     */
+    @FunctionalInterface
+    private interface Task {
+        /**
+         * Runs the task.
+         * @return Number of statements or rules
+         * @throws BaseException If the task fails
+         */
+        int run() throws BaseException;
+    }
+}
@@ -23,7 +23,11 @@
  */
 package org.cqfn.astranaut.parser;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.TreeSet;
@@ -191,4 +195,118 @@ class DslReaderTest {
         }
         Assertions.assertFalse(oops);
     }
+
+    @Test
+    void readFilesImportedSeveralTimes(final @TempDir Path dir) throws IOException {
+        final Path main = SyntheticProgram.write(dir, 3, 100);
+        Files.write(
+            main,
+            "import part2.dsl;\nimport part1.dsl;\n".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        Files.write(
+            dir.resolve("part2.dsl"),
+            "import part0.dsl;\nimport main.dsl;\n".getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.APPEND
+        );
+        final Set<String> codes = new TreeSet<>();
+        int count = 0;
+        boolean oops = false;
+        try {
+            for (int attempt = 0; attempt < 10; attempt = attempt + 1) {
+                final DslReader reader = new DslReader();
+                reader.readFile(main.toString());
+                Statement stmt = reader.getStatement();
+                while (stmt != null) {
+                    codes.add(stmt.getCode());
+                    count = count + 1;
+                    stmt = reader.getStatement();
+                }
+                Assertions.assertEquals(4, reader.getFiles().size());
+            }
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        Assertions.assertEquals(SyntheticProgram.countStatements(3, 100), codes.size());
+        Assertions.assertEquals(codes.size() * 10, count);
+    }
+
+    @Test
+    void skipCommentsAndEmptyStatements() {
+        boolean oops = false;
+        try {
+            final String code =
+                "/* multi-line\n comment */ A <- B; // C <- D;\n;; E <-\n  // F\n  F;\n/* G";
+            final DslReader reader = new DslReader();
+            reader.setSourceCode(code);
+            Statement stmt = reader.getStatement();
+            Assertions.assertEquals("2: A <- B", stmt.toString());
+            stmt = reader.getStatement();
+            Assertions.assertEquals("3-5: E <- F", stmt.toString());
+            stmt = reader.getStatement();
+            Assertions.assertEquals("6: /* G", stmt.toString());
+            stmt = reader.getStatement();
+            Assertions.assertNull(stmt);
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void readFileImportedTwice(final @TempDir Path dir) {
+        final String imported = dir.resolve("imported.dsl").toAbsolutePath().toString();
+        FilesWriter writer = new FilesWriter(imported);
+        boolean okay = writer.writeStringNoExcept("D <- E, F;");
+        Assertions.assertTrue(okay);
+        final String main = dir.resolve("main.dsl").toAbsolutePath().toString();
+        writer = new FilesWriter(main);
+        okay = writer.writeStringNoExcept(
+            "A <- B;\nimport imported.dsl;\nC <- D;\nimport imported.dsl;\nE <- F;"
+        );
+        Assertions.assertTrue(okay);
+        final DslReader reader = new DslReader();
+        boolean oops = false;
+        try {
+            reader.readFile(main);
+            final StringBuilder builder = new StringBuilder();
+            Statement stmt = reader.getStatement();
+            while (stmt != null) {
+                builder.append(stmt.getCode()).append(';');
+                stmt = reader.getStatement();
+            }
+            Assertions.assertEquals("A <- B;D <- E, F;C <- D;E <- F;", builder.toString());
+            Assertions.assertEquals(2, reader.getFiles().size());
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void readNonexistentImportedFile(final @TempDir Path dir) {
+        final String main = dir.resolve("main.dsl").toAbsolutePath().toString();
+        final FilesWriter writer = new FilesWriter(main);
+        final boolean okay = writer.writeStringNoExcept("A <- B;\nimport missing.dsl;");
+        Assertions.assertTrue(okay);
+        final DslReader reader = new DslReader();
+        boolean oops = false;
+        try {
+            reader.readFile(main);
+            final Statement stmt = reader.getStatement();
+            Assertions.assertEquals("A <- B", stmt.getCode());
+            reader.getStatement();
+        } catch (final BaseException exception) {
+            oops = true;
+            Assertions.assertEquals(
+                String.format(
+                    "Can't read '%s'",
+                    dir.resolve("missing.dsl").toAbsolutePath().toString()
+                ),
+                exception.getErrorMessage()
+            );
+        }
+        Assertions.assertTrue(oops);
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.parser;
+
+import org.cqfn.astranaut.dsl.OperatorDescriptor;
+import org.cqfn.astranaut.dsl.OperatorTableDescriptor;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link OperatorTableDescriptorParser} class.
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.CloseResource")
+class OperatorTableDescriptionParsingTest {
+    /**
+     * Some name for a fake programming language, for testing purposes.
+     */
+    private static final String LANGUAGE = "common";
+
+    @Test
+    void severalLevels() {
+        final String code = String.join(
+            ", ",
+            "Expression => {..., '^' Power}",
+            "{Operator<\"*\"> Multiplication}",
+            "{'+' Addition, '-' Subtraction}"
+        );
+        final OperatorTableDescriptor descriptor = this.parseDescriptor(code);
+        Assertions.assertEquals(code, descriptor.toString());
+        Assertions.assertEquals("Expression", descriptor.getOperand());
+        Assertions.assertEquals(4, descriptor.getOperators().size());
+        final OperatorDescriptor power = descriptor.getOperators().get(0);
+        Assertions.assertEquals("Power", power.getResult());
+        Assertions.assertTrue(power.isRightAssociative());
+        final OperatorDescriptor addition = descriptor.getOperators().get(2);
+        final OperatorDescriptor subtraction = descriptor.getOperators().get(3);
+        Assertions.assertFalse(addition.isRightAssociative());
+        Assertions.assertTrue(power.getPrecedence() > addition.getPrecedence());
+        Assertions.assertEquals(addition.getPrecedence(), subtraction.getPrecedence());
+        Assertions.assertTrue(addition.precedes(subtraction));
+        Assertions.assertTrue(power.precedes(addition));
+        Assertions.assertFalse(addition.precedes(power));
+        Assertions.assertFalse(power.precedes(power));
+    }
+
+    @Test
+    void levelWithoutBrackets() {
+        final OperatorTableDescriptorParser parser = this.createParser(
+            "Expression => '+' Addition"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void operatorWithoutResult() {
+        final OperatorTableDescriptorParser parser = this.createParser(
+            "Expression => {'+', '-' Subtraction}"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void optionalOperator() {
+        final OperatorTableDescriptorParser parser = this.createParser(
+            "Expression => {['+'] Addition}"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void badOperand() {
+        final OperatorTableDescriptorParser parser = this.createParser(
+            "Expression#1 => {'+' Addition}"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void unclosedLevel() {
+        final OperatorTableDescriptorParser parser = this.createParser(
+            "Expression => {'+' Addition"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    /**
+     * Creates a {@link OperatorTableDescriptorParser} from the given DSL source code.
+     * @param code The DSL source code to be parsed
+     * @return An instance of {@link OperatorTableDescriptorParser}
+     */
+    private OperatorTableDescriptorParser createParser(final String code) {
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(code);
+        boolean oops = false;
+        OperatorTableDescriptorParser parser = null;
+        try {
+            final Statement stmt = reader.getStatement();
+            parser = new OperatorTableDescriptorParser(
+                OperatorTableDescriptionParsingTest.LANGUAGE,
+                stmt
+            );
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        return parser;
+    }
+
+    /**
+     * Parses a single operator table from the DSL source code.
+     * @param code DSL source code
+     * @return Descriptor
+     */
+    private OperatorTableDescriptor parseDescriptor(final String code) {
+        OperatorTableDescriptor descriptor = null;
+        boolean oops = false;
+        try {
+            descriptor = this.createParser(code).parseDescriptor();
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+        Assertions.assertNotNull(descriptor);
+        Assertions.assertEquals(
+            OperatorTableDescriptionParsingTest.LANGUAGE,
+            descriptor.getLanguage()
+        );
+        return descriptor;
+    }
+}
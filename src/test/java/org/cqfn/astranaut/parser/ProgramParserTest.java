@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.parser;
+
+import java.util.List;
+import java.util.Map;
+import org.cqfn.astranaut.dsl.NodeDescriptor;
+import org.cqfn.astranaut.dsl.Program;
+import org.cqfn.astranaut.dsl.Rule;
+import org.cqfn.astranaut.exceptions.BaseException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests covering {@link ProgramParser} class.
+ * @since 1.0.0
+ */
+@SuppressWarnings("PMD.CloseResource")
+class ProgramParserTest {
+    /**
+     * Number of rules in a large program.
+     */
+    private static final int COUNT = 3000;
+
+    @Test
+    void parseLargeProgram() {
+        final StringBuilder code = new StringBuilder();
+        for (int index = 0; index < ProgramParserTest.COUNT; index = index + 1) {
+            if (index == ProgramParserTest.COUNT / 2) {
+                code.append("java: ");
+            }
+            code.append("Node").append(index).append(" <- Left, Right;\n");
+        }
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(code.toString());
+        final ProgramParser parser = new ProgramParser();
+        boolean oops = false;
+        try {
+            final Program program = parser.parse(reader);
+            final List<Rule> rules = program.getAllRules();
+            final Map<Rule, Location> locations = parser.getLocations();
+            Assertions.assertEquals(ProgramParserTest.COUNT, rules.size());
+            for (int index = 0; index < ProgramParserTest.COUNT; index = index + 1) {
+                final NodeDescriptor rule = (NodeDescriptor) rules.get(index);
+                Assertions.assertEquals("Node".concat(String.valueOf(index)), rule.getName());
+                final String language;
+                if (index < ProgramParserTest.COUNT / 2) {
+                    language = "common";
+                } else {
+                    language = "java";
+                }
+                Assertions.assertEquals(language, rule.getLanguage());
+                Assertions.assertEquals(
+                    String.valueOf(index + 1),
+                    locations.get(rule).toString()
+                );
+            }
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void reportFirstError() {
+        final StringBuilder code = new StringBuilder();
+        for (int index = 0; index < ProgramParserTest.COUNT; index = index + 1) {
+            if (index == ProgramParserTest.COUNT / 2 || index == ProgramParserTest.COUNT - 1) {
+                code.append("Node").append(index).append(";\n");
+            } else {
+                code.append("Node").append(index).append(" <- 0;\n");
+            }
+        }
+        final DslReader reader = new DslReader();
+        reader.setSourceCode(code.toString());
+        boolean oops = false;
+        try {
+            new ProgramParser().parse(reader);
+        } catch (final BaseException exception) {
+            oops = true;
+            Assertions.assertEquals(
+                String.format(
+                    "%d: The rule does not contain a separator",
+                    ProgramParserTest.COUNT / 2 + 1
+                ),
+                exception.getErrorMessage()
+            );
+        }
+        Assertions.assertTrue(oops);
+    }
+}
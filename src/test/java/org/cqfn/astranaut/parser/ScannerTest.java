@@ -337,6 +337,40 @@ class ScannerTest {
         Assertions.assertFalse(oops);
     }
 
+    @Test
+    void symbolCategory() {
+        final String code = "'\\p{Lu}', '\\p{Nd}'";
+        final Scanner scanner = new Scanner(ScannerTest.LOCATION, code);
+        boolean oops = false;
+        try {
+            Token token = scanner.getToken();
+            Assertions.assertTrue(token instanceof SymbolCategoryToken);
+            Assertions.assertEquals("Lu", ((SymbolCategoryToken) token).getName());
+            Assertions.assertEquals('A', ((SymbolCategoryToken) token).getFirstSymbol());
+            Assertions.assertEquals("'\\p{Lu}'", token.toString());
+            Assertions.assertTrue(scanner.getToken() instanceof Comma);
+            token = scanner.getToken();
+            Assertions.assertTrue(token instanceof SymbolCategoryToken);
+            Assertions.assertEquals('0', ((SymbolCategoryToken) token).getFirstSymbol());
+            Assertions.assertNull(scanner.getToken());
+        } catch (final BaseException ignored) {
+            oops = true;
+        }
+        Assertions.assertFalse(oops);
+    }
+
+    @Test
+    void badSymbolCategory() {
+        Assertions.assertThrows(
+            ParsingException.class,
+            () -> new Scanner(ScannerTest.LOCATION, "'\\p{Xy}'").getToken()
+        );
+        Assertions.assertThrows(
+            ParsingException.class,
+            () -> new Scanner(ScannerTest.LOCATION, "'\\p{L'").getToken()
+        );
+    }
+
     @Test
     void stringInSingleQuotes() {
         final String code = "'abc'";
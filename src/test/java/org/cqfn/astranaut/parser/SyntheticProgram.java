@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2025 Ivan Kniazkov
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.cqfn.astranaut.parser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generator of large synthetic DSL programs used by benchmarks. The program consists
+ *  of the main file that imports several parts. Each part contains multi-line node
+ *  descriptors with line and block comments, and a literal descriptor of the Java language
+ *  for every third node.
+ * @since 1.0.0
+ */
+final class SyntheticProgram {
+    /**
+     * Name of the main file.
+     */
+    static final String MAIN = "main.dsl";
+
+    /**
+     * Private constructor.
+     */
+    private SyntheticProgram() {
+    }
+
+    /**
+     * Writes a synthetic program.
+     * @param folder Folder where the files are written
+     * @param parts Number of imported parts
+     * @param nodes Number of node descriptors in each part
+     * @return Path to the main file
+     * @throws IOException If some file can't be written
+     */
+    static Path write(final Path folder, final int parts, final int nodes) throws IOException {
+        final StringBuilder main = new StringBuilder("// synthetic program\n");
+        for (int part = 0; part < parts; part = part + 1) {
+            final String name = String.format("part%d.dsl", part);
+            main.append("import ").append(name).append(";\n");
+            final StringBuilder code = new StringBuilder(nodes * 80);
+            code.append("/*\n * Part ").append(part).append("\n */\n");
+            for (int index = part * nodes; index < (part + 1) * nodes; index = index + 1) {
+                code.append("// rule ").append(index).append('\n')
+                    .append("Node").append(index).append(" <- Left").append(index)
+                    .append(",\n    Right").append(index).append(";  /* tail */\n");
+                if (index % 3 == 0) {
+                    code.append("java: Lit").append(index).append(" <- 'int', '0';\n");
+                }
+            }
+            Files.write(folder.resolve(name), code.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        final Path path = folder.resolve(SyntheticProgram.MAIN);
+        Files.write(path, main.toString().getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    /**
+     * Returns the number of statements (except imports) in a synthetic program.
+     * @param parts Number of imported parts
+     * @param nodes Number of node descriptors in each part
+     * @return Number of statements
+     */
+    static int countStatements(final int parts, final int nodes) {
+        final int total = parts * nodes;
+        return total + (total + 2) / 3;
+    }
+}
@@ -170,6 +170,81 @@ class TransformationDescriptionParsingTest {
         Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
     }
 
+    @Test
+    void scopedRule() {
+        final String code = "@StringLiteral @CharLiteral ..., '#', 'n' -> NewLine";
+        final TransformationDescriptor descriptor = this.parseDescriptor(code);
+        Assertions.assertEquals(code, descriptor.toString());
+        Assertions.assertTrue(descriptor.isScoped());
+        Assertions.assertEquals(2, descriptor.getScope().size());
+    }
+
+    @Test
+    void scopeWithoutTypeName() {
+        final TransformationDescriptorParser parser = this.createParser(
+            "@ AAA -> BBB"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void onlyScope() {
+        final TransformationDescriptorParser parser = this.createParser(
+            "@AAA -> BBB"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void lookaround() {
+        final String code = "<'.', A#1, >~'(' -> B(#1)";
+        final TransformationDescriptor descriptor = this.parseDescriptor(code);
+        Assertions.assertEquals(code, descriptor.toString());
+        Assertions.assertEquals(1, descriptor.getLookbehindItems().size());
+        Assertions.assertEquals(1, descriptor.getMatchedItems().size());
+        Assertions.assertEquals(1, descriptor.getLookaheadItems().size());
+    }
+
+    @Test
+    void misplacedLookahead() {
+        final TransformationDescriptorParser parser = this.createParser(
+            ">AAA, BBB -> CCC"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void lookaheadInsidePattern() {
+        final TransformationDescriptorParser parser = this.createParser(
+            "AAA(>BBB) -> CCC"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void optionalLookbehind() {
+        final TransformationDescriptorParser parser = this.createParser(
+            "<[AAA], BBB -> CCC"
+        );
+        Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+    }
+
+    @Test
+    void nodeHolesInLookaround() {
+        final String[] codes = {
+            "AAA, >BBB#1 -> CCC(#1)",
+            "<BBB(#1), AAA -> CCC(#1)",
+            "AAA, >BBB(CCC(DDD#1)) -> EEE(#1)",
+            "AAA, >~(BBB#1 | CCC) -> DDD(#1)",
+        };
+        for (final String code : codes) {
+            final TransformationDescriptorParser parser = this.createParser(code);
+            Assertions.assertThrows(ParsingException.class, parser::parseDescriptor);
+        }
+        final String code = "<BBB<#1>, AAA#2, >CCC(DDD<#3>) -> EEE<#1>";
+        Assertions.assertEquals(code, this.parseDescriptor(code).toString());
+    }
+
     /**
     * Creates a {@link TransformationDescriptorParser} from the given DSL source code.
     * @param code The DSL source code to be parsed
@@ -68,6 +68,17 @@ public final class This implements Node {
         return Collections.emptyList();
     }
 
+    /**
+     * Creates a node without a builder, the arguments are not checked.
+     * @param fragment Fragment of source code that is associated with the node
+     * @return New node
+     */
+    public static This of(final Fragment fragment) {
+        final This node = new This();
+        node.fragment = fragment;
+        return node;
+    }
+
     /**
      * Type implementation describing 'This' nodes.
      * @since 1.0.0